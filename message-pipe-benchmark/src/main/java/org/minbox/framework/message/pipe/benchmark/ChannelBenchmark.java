@@ -0,0 +1,134 @@
+package org.minbox.framework.message.pipe.benchmark;
+
+import io.grpc.CallOptions;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ServerCalls;
+import org.minbox.framework.message.pipe.core.channel.ChannelSettings;
+import org.minbox.framework.message.pipe.core.channel.GrpcChannelFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the grpc channels calling a loopback echo server
+ * <p>
+ * default: the channel and server built by the grpc builders with the per channel defaults,
+ * as before the {@link GrpcChannelFactory}.
+ * factory-1, factory-4: the channel and server built by {@link GrpcChannelFactory} with 1 and 4 connections.
+ * The latency of a single caller and the throughput of {@link #CALLER_THREADS} concurrent callers are measured
+ * <p>
+ * Usage: java -jar target/benchmarks.jar ChannelBenchmark
+ *
+ * @author 恒宇少年
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ChannelBenchmark {
+    private static final int PORT = 15200;
+    private static final int PAYLOAD_BYTES = 1024;
+    private static final int CALLER_THREADS = 16;
+    private static final long CALL_TIMEOUT_SECONDS = 5;
+    private static final MethodDescriptor<byte[], byte[]> ECHO_METHOD = MethodDescriptor.<byte[], byte[]>newBuilder()
+            .setType(MethodDescriptor.MethodType.UNARY)
+            .setFullMethodName(MethodDescriptor.generateFullMethodName("benchmark.Echo", "echo"))
+            .setRequestMarshaller(BytesMarshaller.INSTANCE)
+            .setResponseMarshaller(BytesMarshaller.INSTANCE)
+            .build();
+    @Param({"default", "factory-1", "factory-4"})
+    private String channelName;
+    private final byte[] payload = new byte[PAYLOAD_BYTES];
+    private Server server;
+    private ManagedChannel channel;
+
+    @Setup
+    public void setup() throws IOException {
+        if ("default".equals(channelName)) {
+            server = addEchoService(ServerBuilder.forPort(PORT)).build().start();
+            channel = ManagedChannelBuilder.forAddress("127.0.0.1", PORT).usePlaintext().build();
+            return;
+        }
+        int connections = Integer.parseInt(channelName.substring(channelName.indexOf('-') + 1));
+        server = addEchoService(GrpcChannelFactory.newServerBuilder(PORT, new ChannelSettings())).build().start();
+        channel = GrpcChannelFactory.newChannel("127.0.0.1", PORT, new ChannelSettings().setConnections(connections));
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public byte[] unaryCall() {
+        return echo();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(CALLER_THREADS)
+    public byte[] concurrentCalls() {
+        return echo();
+    }
+
+    private byte[] echo() {
+        return ClientCalls.blockingUnaryCall(channel, ECHO_METHOD,
+                CallOptions.DEFAULT.withDeadlineAfter(CALL_TIMEOUT_SECONDS, TimeUnit.SECONDS), payload);
+    }
+
+    private static ServerBuilder<?> addEchoService(ServerBuilder<?> builder) {
+        return builder.addService(ServerServiceDefinition.builder("benchmark.Echo")
+                .addMethod(ECHO_METHOD, ServerCalls.asyncUnaryCall((request, responseObserver) -> {
+                    responseObserver.onNext(request);
+                    responseObserver.onCompleted();
+                }))
+                .build());
+    }
+
+    /**
+     * The {@link MethodDescriptor.Marshaller} of raw bytes
+     */
+    private enum BytesMarshaller implements MethodDescriptor.Marshaller<byte[]> {
+        INSTANCE;
+
+        @Override
+        public InputStream stream(byte[] value) {
+            return new ByteArrayInputStream(value);
+        }
+
+        @Override
+        public byte[] parse(InputStream stream) {
+            try {
+                return stream.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.minbox.framework.message.pipe.benchmark;
+
+import org.minbox.framework.message.pipe.core.ClientStatus;
+import org.minbox.framework.message.pipe.core.information.ClientInformation;
+import org.minbox.framework.message.pipe.server.lb.ClientSelectionTable;
+import org.minbox.framework.message.pipe.server.lb.LoadBalanceNode;
+import org.minbox.framework.message.pipe.server.lb.support.RandomWeightedStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compare the client lookup of a batch
+ * <p>
+ * legacy: filter the online clients into a new list and build a {@link TreeMap} of the weights per lookup,
+ * as the lookup before the selection tables.
+ * table: select from the precomputed {@link ClientSelectionTable}
+ * <p>
+ * Usage: java -jar target/benchmarks.jar LoadBalanceBenchmark -prof gc
+ *
+ * @author 恒宇少年
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoadBalanceBenchmark {
+    @Param({"1", "8", "64"})
+    private int clientCount;
+    private final RandomWeightedStrategy strategy = new RandomWeightedStrategy();
+    private List<ClientInformation> clients;
+    private ClientSelectionTable table;
+
+    @Setup
+    public void setup() {
+        clients = new ArrayList<>();
+        for (int i = 0; i < clientCount; i++) {
+            ClientInformation client = new ClientInformation("127.0.0.1", 5200 + i);
+            client.setStatus(ClientStatus.ON_LINE);
+            clients.add(client);
+        }
+        table = ClientSelectionTable.of(1, clients);
+    }
+
+    @Benchmark
+    public ClientInformation legacyLookup() {
+        List<ClientInformation> onlineClients = new ArrayList<>();
+        clients.forEach(client -> {
+            if (ClientStatus.ON_LINE == client.getStatus()) {
+                onlineClients.add(client);
+            }
+        });
+        TreeMap<Double, LoadBalanceNode> nodes = new TreeMap<>();
+        List<LoadBalanceNode> loadBalanceNodes =
+                onlineClients.stream().map(LoadBalanceNode::new).collect(Collectors.toList());
+        loadBalanceNodes.forEach(node -> {
+            double lastWeight = nodes.size() == 0 ? 0 : nodes.lastKey();
+            nodes.put(node.getInitWeight() + lastWeight, node);
+        });
+        Double randomWeight = nodes.lastKey() * Math.random();
+        SortedMap<Double, LoadBalanceNode> tailMap = nodes.tailMap(randomWeight, false);
+        return nodes.get(tailMap.firstKey()).getClient();
+    }
+
+    @Benchmark
+    public ClientInformation tableLookup() {
+        return strategy.lookup(table);
+    }
+}
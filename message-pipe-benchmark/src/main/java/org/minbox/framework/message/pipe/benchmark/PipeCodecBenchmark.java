@@ -0,0 +1,114 @@
+package org.minbox.framework.message.pipe.benchmark;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.minbox.framework.message.pipe.core.Message;
+import org.minbox.framework.message.pipe.core.transport.MessageResponseStatus;
+import org.minbox.framework.message.pipe.server.codec.MessagePipeCodec;
+import org.minbox.framework.message.pipe.server.manager.DeadLetterRecord;
+import org.minbox.framework.message.pipe.server.manager.MessageRetryRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.client.codec.Codec;
+import org.redisson.codec.JsonJacksonCodec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the redisson codecs storing the pipe records
+ * <p>
+ * json: {@link JsonJacksonCodec}, the default codec.
+ * binary: the opt-in {@link MessagePipeCodec}.
+ * Each record is encoded to a {@link ByteBuf} and decoded back as the redisson client does,
+ * the encoded size of each record is printed when the trial is set up
+ * <p>
+ * Usage: java -jar target/benchmarks.jar PipeCodecBenchmark -prof gc
+ *
+ * @author 恒宇少年
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipeCodecBenchmark {
+    private static final int BODY_BYTES = 256;
+    @Param({"json", "binary"})
+    private String codecName;
+    @Param({"message", "retry-record", "dead-letter"})
+    private String recordName;
+    private Codec codec;
+    private Object record;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() {
+        codec = "binary".equals(codecName) ? new MessagePipeCodec() : new JsonJacksonCodec();
+        record = newRecord(recordName);
+        encoded = encode(codec, record);
+        System.out.println(codecName + " " + recordName + " size: " + encoded.length + " bytes");
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return encode(codec, record);
+    }
+
+    @Benchmark
+    public Object decode() {
+        try {
+            return codec.getValueDecoder().decode(Unpooled.wrappedBuffer(encoded), null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Object newRecord(String recordName) {
+        byte[] body = new byte[BODY_BYTES];
+        for (int i = 0; i < body.length; i++) {
+            body[i] = (byte) ('a' + i % 26);
+        }
+        Message message = new Message(body);
+        message.getMetadata().put("tenant", "tenant-1");
+        message.getMetadata().put("enqueueTime", System.currentTimeMillis());
+        switch (recordName) {
+            case "retry-record":
+                MessageRetryRecord retryRecord = MessageRetryRecord.of(message.getMessageId(), message);
+                retryRecord.setRetryCount(1).setMaxRetries(3).setFirstFailureTime(System.currentTimeMillis())
+                        .setLastRetryTime(System.currentTimeMillis()).setLastStatus(MessageResponseStatus.ERROR);
+                return retryRecord;
+            case "dead-letter":
+                return DeadLetterRecord.of(message, "Max retries exceeded", 3);
+            default:
+                return message;
+        }
+    }
+
+    private static byte[] encode(Codec codec, Object record) {
+        ByteBuf buf = null;
+        try {
+            buf = codec.getValueEncoder().encode(record);
+            byte[] bytes = new byte[buf.readableBytes()];
+            buf.readBytes(bytes);
+            return bytes;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (buf != null) {
+                buf.release();
+            }
+        }
+    }
+}
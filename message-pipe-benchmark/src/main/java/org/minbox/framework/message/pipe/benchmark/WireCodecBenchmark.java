@@ -0,0 +1,111 @@
+package org.minbox.framework.message.pipe.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.minbox.framework.message.pipe.core.Message;
+import org.minbox.framework.message.pipe.core.codec.WireCodec;
+import org.minbox.framework.message.pipe.core.codec.WireCodecs;
+import org.minbox.framework.message.pipe.core.transport.MessageRequestBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the wire codecs encoding and decoding a batch request
+ * <p>
+ * legacy-json: a new {@link ObjectMapper} per call, as the json utils before the codec SPI.
+ * The other codecs are the registered {@link WireCodec}s on their shared mappers,
+ * the encoded size of each codec is printed when the trial is set up
+ * <p>
+ * Usage: java -jar target/benchmarks.jar WireCodecBenchmark -prof gc
+ *
+ * @author 恒宇少年
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireCodecBenchmark {
+    private static final String LEGACY_JSON = "legacy-json";
+    private static final int BATCH_SIZE = 100;
+    private static final int BODY_BYTES = 256;
+    @Param({LEGACY_JSON, WireCodecs.JSON, WireCodecs.SMILE, WireCodecs.CBOR})
+    private String codecName;
+    private WireCodec codec;
+    private MessageRequestBody requestBody;
+    private String json;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() {
+        requestBody = newRequestBody();
+        if (LEGACY_JSON.equals(codecName)) {
+            json = legacyEncode(requestBody);
+            System.out.println(codecName + " size: " + json.getBytes(StandardCharsets.UTF_8).length + " bytes");
+            return;
+        }
+        if (!WireCodecs.isSupported(codecName)) {
+            throw new IllegalStateException(codecName + " not on the classpath");
+        }
+        codec = WireCodecs.getCodec(codecName);
+        encoded = codec.encode(requestBody);
+        System.out.println(codecName + " size: " + encoded.length + " bytes");
+    }
+
+    @Benchmark
+    public Object encode() {
+        return codec == null ? legacyEncode(requestBody) : codec.encode(requestBody);
+    }
+
+    @Benchmark
+    public MessageRequestBody decode() {
+        return codec == null ? legacyDecode(json) : codec.decode(encoded, MessageRequestBody.class);
+    }
+
+    private static MessageRequestBody newRequestBody() {
+        List<Message> messages = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            byte[] body = new byte[BODY_BYTES];
+            for (int j = 0; j < body.length; j++) {
+                body[j] = (byte) ('a' + (i + j) % 26);
+            }
+            Message message = new Message(body);
+            message.getMetadata().put("tenant", "tenant-" + i % 8);
+            messages.add(message);
+        }
+        return new MessageRequestBody().setRequestId("1").setClientId("127.0.0.1::5201")
+                .setPipeName("benchmark").setMessages(messages);
+    }
+
+    private static String legacyEncode(MessageRequestBody requestBody) {
+        try {
+            return new ObjectMapper().writeValueAsString(requestBody);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MessageRequestBody legacyDecode(String json) {
+        try {
+            return new ObjectMapper().readValue(json, MessageRequestBody.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
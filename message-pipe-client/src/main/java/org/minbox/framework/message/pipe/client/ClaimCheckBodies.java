@@ -0,0 +1,141 @@
+package org.minbox.framework.message.pipe.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.minbox.framework.message.pipe.client.config.ClientConfiguration;
+import org.minbox.framework.message.pipe.core.Message;
+import org.minbox.framework.message.pipe.core.PipeConstants;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The received bodies of claim-check messages
+ * <p>
+ * The server transfers the body before the batch that contains the claim-check message,
+ * the body is taken when the message is processed and dropped when the batch is completed without it.
+ * The bodies not taken in {@link #BODY_EXPIRE_MILLIS} are evicted, the oldest bodies are also evicted
+ * when the held bytes exceed {@link ClientConfiguration.ClaimCheck#getMaxHeldBytes()},
+ * the server transfers them again on retry
+ *
+ * @author 恒宇少年
+ * @see PipeConstants#CLAIM_CHECK_METADATA_KEY
+ */
+@Slf4j
+class ClaimCheckBodies {
+    private static final long BODY_EXPIRE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private final ClientConfiguration.ClaimCheck settings;
+    /**
+     * The received bodies in the received order: MessageId -> Body
+     */
+    private final Map<String, ReceivedBody> bodies = new LinkedHashMap<>();
+    /**
+     * The total length of the held bodies
+     */
+    private long heldBytes;
+
+    ClaimCheckBodies(ClientConfiguration.ClaimCheck settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Get the maximum length of a single body
+     *
+     * @return The maximum body length
+     */
+    int getMaxBodyBytes() {
+        return settings.getMaxBodyBytes();
+    }
+
+    /**
+     * Store a received body
+     * <p>
+     * The expired bodies and the oldest bodies beyond the held bytes limit are evicted
+     *
+     * @param messageId The claim-check message id
+     * @param body      The whole body
+     */
+    synchronized void put(String messageId, byte[] body) {
+        long currentTime = System.currentTimeMillis();
+        this.remove(messageId);
+        Iterator<Map.Entry<String, ReceivedBody>> iterator = bodies.entrySet().iterator();
+        while (iterator.hasNext()) {
+            ReceivedBody receivedBody = iterator.next().getValue();
+            if (currentTime - receivedBody.receivedTime <= BODY_EXPIRE_MILLIS
+                    && heldBytes + body.length <= settings.getMaxHeldBytes()) {
+                break;
+            }
+            iterator.remove();
+            heldBytes -= receivedBody.body.length;
+        }
+        if (heldBytes + body.length > settings.getMaxHeldBytes()) {
+            log.warn("The body of claim-check message: {} exceeds the held bytes limit, length: {}.", messageId, body.length);
+            return;
+        }
+        bodies.put(messageId, new ReceivedBody(body, currentTime));
+        heldBytes += body.length;
+    }
+
+    /**
+     * Restore the claim-check message with the received body
+     *
+     * @param message The received {@link Message}
+     * @return The original message, the message itself if it is not a claim-check message,
+     * or null if the body has not been received
+     */
+    Message resolve(Message message) {
+        if (!message.getMetadata().containsKey(PipeConstants.CLAIM_CHECK_METADATA_KEY)) {
+            return message;
+        }
+        ReceivedBody receivedBody;
+        synchronized (this) {
+            receivedBody = this.remove(message.getMessageId());
+        }
+        if (receivedBody == null) {
+            return null;
+        }
+        Message original = new Message(message.getMessageId(), receivedBody.body, message.getBodyEncoding());
+        original.getMetadata().putAll(message.getMetadata());
+        original.getMetadata().remove(PipeConstants.CLAIM_CHECK_METADATA_KEY);
+        return original;
+    }
+
+    /**
+     * Drop the bodies of the messages of a completed batch
+     * <p>
+     * The bodies of the skipped duplicates and the unprocessed messages are not taken,
+     * they are transferred again if the messages are redelivered
+     *
+     * @param messages The {@link Message} list of the batch
+     */
+    synchronized void discard(Collection<Message> messages) {
+        if (bodies.isEmpty()) {
+            return;
+        }
+        for (Message message : messages) {
+            if (message.getMetadata().containsKey(PipeConstants.CLAIM_CHECK_METADATA_KEY)) {
+                this.remove(message.getMessageId());
+            }
+        }
+    }
+
+    private ReceivedBody remove(String messageId) {
+        ReceivedBody receivedBody = bodies.remove(messageId);
+        if (receivedBody != null) {
+            heldBytes -= receivedBody.body.length;
+        }
+        return receivedBody;
+    }
+
+    private static class ReceivedBody {
+        private final byte[] body;
+        private final long receivedTime;
+
+        ReceivedBody(byte[] body, long receivedTime) {
+            this.body = body;
+            this.receivedTime = receivedTime;
+        }
+    }
+}
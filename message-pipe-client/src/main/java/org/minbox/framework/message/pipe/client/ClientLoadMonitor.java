@@ -0,0 +1,104 @@
+package org.minbox.framework.message.pipe.client;
+
+import org.minbox.framework.message.pipe.core.information.ClientLoad;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The monitor of the client load reported by heartbeats
+ * <p>
+ * The batch processing latencies are sampled in a fixed size ring,
+ * the percentiles are calculated only when the load is reported.
+ * The process cpu load is read from "com.sun.management.OperatingSystemMXBean" when present,
+ * otherwise it is estimated by the system load average
+ *
+ * @author 恒宇少年
+ * @see ClientLoad
+ */
+public class ClientLoadMonitor {
+    private static final String SUN_OPERATING_SYSTEM_CLASS = "com.sun.management.OperatingSystemMXBean";
+    private static final String PROCESS_CPU_LOAD_METHOD = "getProcessCpuLoad";
+    /**
+     * The number of recent latencies sampled
+     */
+    private static final int LATENCY_SAMPLES = 1024;
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final OperatingSystemMXBean OPERATING_SYSTEM = ManagementFactory.getOperatingSystemMXBean();
+    private static final Method PROCESS_CPU_LOAD = findProcessCpuLoadMethod();
+    private final MessageProcessingExecutor processingExecutor;
+    private final long[] latencyNanos = new long[LATENCY_SAMPLES];
+    private int latencyIndex;
+    private int latencyCount;
+
+    public ClientLoadMonitor(MessageProcessingExecutor processingExecutor) {
+        this.processingExecutor = processingExecutor;
+    }
+
+    /**
+     * Record the latency of a processed batch
+     *
+     * @param nanos The latency from receiving the batch to responding it
+     */
+    public synchronized void recordLatency(long nanos) {
+        latencyNanos[latencyIndex] = nanos;
+        latencyIndex = (latencyIndex + 1) % LATENCY_SAMPLES;
+        if (latencyCount < LATENCY_SAMPLES) {
+            latencyCount++;
+        }
+    }
+
+    /**
+     * Take a snapshot of current load
+     *
+     * @return The {@link ClientLoad} instance
+     */
+    public ClientLoad snapshot() {
+        long[] samples;
+        synchronized (this) {
+            samples = Arrays.copyOf(latencyNanos, latencyCount);
+        }
+        Arrays.sort(samples);
+        return new ClientLoad()
+                .setInFlightBatches(processingExecutor.getInFlightBatches())
+                .setQueuedBatches(processingExecutor.getQueuedBatches())
+                .setLatencyP50Millis(percentileMillis(samples, 0.5))
+                .setLatencyP99Millis(percentileMillis(samples, 0.99))
+                .setCpuLoad(cpuLoad());
+    }
+
+    private static double percentileMillis(long[] sortedSamples, double percentile) {
+        if (sortedSamples.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedSamples.length) - 1;
+        return sortedSamples[Math.max(0, index)] / NANOS_PER_MILLI;
+    }
+
+    private static double cpuLoad() {
+        if (PROCESS_CPU_LOAD != null) {
+            try {
+                double load = (Double) PROCESS_CPU_LOAD.invoke(OPERATING_SYSTEM);
+                if (load >= 0) {
+                    return load;
+                }
+            } catch (ReflectiveOperationException e) {
+                // Fallback to the system load average
+            }
+        }
+        double loadAverage = OPERATING_SYSTEM.getSystemLoadAverage();
+        return loadAverage < 0 ? -1 : Math.min(1, loadAverage / OPERATING_SYSTEM.getAvailableProcessors());
+    }
+
+    private static Method findProcessCpuLoadMethod() {
+        try {
+            Class<?> sunOperatingSystem = Class.forName(SUN_OPERATING_SYSTEM_CLASS);
+            return sunOperatingSystem.isInstance(OPERATING_SYSTEM) ? sunOperatingSystem.getMethod(PROCESS_CPU_LOAD_METHOD) : null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
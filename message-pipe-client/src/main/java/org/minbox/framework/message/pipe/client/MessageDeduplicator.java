@@ -0,0 +1,239 @@
+package org.minbox.framework.message.pipe.client;
+
+import org.minbox.framework.message.pipe.client.config.ClientConfiguration;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The filter of the redelivered messages
+ * <p>
+ * The ids of the processed messages are recorded in a segmented bloom filter,
+ * each segment covers a part of the time window and the oldest segment is cleared when the window slides.
+ * A message that may be contained by the bloom filter is confirmed by an exact LRU cache,
+ * so a false positive of the bloom filter never drops a message, and most new messages
+ * are passed without the lock of the LRU cache
+ *
+ * @author 恒宇少年
+ * @see ClientConfiguration.Deduplication
+ */
+public class MessageDeduplicator {
+    /**
+     * The estimated memory of an entry in the exact LRU cache
+     */
+    private static final int EXACT_ENTRY_BYTES = 128;
+    private final long segmentMillis;
+    private final long windowMillis;
+    private final int hashFunctions;
+    private final Segment[] segments;
+    private volatile int currentSegment;
+    private volatile long currentSegmentStartTime;
+    private final Map<String, Long> exactCache;
+    private final AtomicLong lookupCount = new AtomicLong();
+    private final AtomicLong hitCount = new AtomicLong();
+
+    public MessageDeduplicator(ClientConfiguration.Deduplication settings) {
+        int segmentCount = Math.max(1, settings.getSegments());
+        this.windowMillis = Math.max(1, settings.getWindowSeconds()) * 1000L;
+        this.segmentMillis = Math.max(1, windowMillis / segmentCount);
+        long expectedInsertions = Math.max(1, settings.getExpectedInsertions() / segmentCount);
+        double falsePositiveRate = Math.min(Math.max(settings.getFalsePositiveRate(), 1e-9), 0.5);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(bits);
+        }
+        this.currentSegmentStartTime = System.currentTimeMillis();
+        int exactCacheSize = Math.max(1, settings.getExactCacheSize());
+        this.exactCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > exactCacheSize;
+            }
+        };
+    }
+
+    /**
+     * Check if the message has been processed in the time window
+     *
+     * @param messageId The message id
+     * @return Return "true" if the message is a duplicate
+     */
+    public boolean isDuplicate(String messageId) {
+        lookupCount.incrementAndGet();
+        long hash = hash(messageId);
+        this.slide();
+        boolean mightContain = false;
+        for (Segment segment : segments) {
+            if (segment.mightContain(hash, hashFunctions)) {
+                mightContain = true;
+                break;
+            }
+        }
+        if (!mightContain) {
+            return false;
+        }
+        Long processedTime;
+        synchronized (exactCache) {
+            processedTime = exactCache.get(messageId);
+        }
+        boolean duplicate = processedTime != null && System.currentTimeMillis() - processedTime < windowMillis;
+        if (duplicate) {
+            hitCount.incrementAndGet();
+        }
+        return duplicate;
+    }
+
+    /**
+     * Record the processed message
+     *
+     * @param messageId The message id
+     */
+    public void markProcessed(String messageId) {
+        long hash = hash(messageId);
+        Segment segment = this.slide();
+        segment.put(hash, hashFunctions);
+        synchronized (exactCache) {
+            exactCache.put(messageId, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Get the number of duplicate checks
+     *
+     * @return The lookup count
+     */
+    public long getLookupCount() {
+        return lookupCount.get();
+    }
+
+    /**
+     * Get the number of the dropped duplicates
+     *
+     * @return The hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Get the ratio of the dropped duplicates to the checks
+     *
+     * @return The hit rate, 0 if no check
+     */
+    public double getHitRate() {
+        long lookups = lookupCount.get();
+        return lookups == 0 ? 0 : (double) hitCount.get() / lookups;
+    }
+
+    /**
+     * Get the number of entries in the exact LRU cache
+     *
+     * @return The entry count
+     */
+    public int getExactCacheSize() {
+        synchronized (exactCache) {
+            return exactCache.size();
+        }
+    }
+
+    /**
+     * Get the estimated memory used by the bloom filter and the exact LRU cache
+     *
+     * @return The memory bytes
+     */
+    public long getMemoryBytes() {
+        long bloomFilterBytes = 0;
+        for (Segment segment : segments) {
+            bloomFilterBytes += segment.words.length() * (long) Long.BYTES;
+        }
+        return bloomFilterBytes + (long) this.getExactCacheSize() * EXACT_ENTRY_BYTES;
+    }
+
+    /**
+     * Slide the time window, clear the expired segments
+     *
+     * @return The current segment
+     */
+    private Segment slide() {
+        if (System.currentTimeMillis() - currentSegmentStartTime < segmentMillis) {
+            return segments[currentSegment];
+        }
+        synchronized (this) {
+            return this.slideSegments();
+        }
+    }
+
+    private Segment slideSegments() {
+        long elapsed = System.currentTimeMillis() - currentSegmentStartTime;
+        if (elapsed >= segmentMillis) {
+            long slides = Math.min(elapsed / segmentMillis, segments.length);
+            for (int i = 0; i < slides; i++) {
+                currentSegment = (currentSegment + 1) % segments.length;
+                segments[currentSegment].clear();
+            }
+            currentSegmentStartTime += (elapsed / segmentMillis) * segmentMillis;
+        }
+        return segments[currentSegment];
+    }
+
+    /**
+     * The 64-bit FNV-1a hash of the message id
+     *
+     * @param messageId The message id
+     * @return The hash value
+     */
+    private static long hash(String messageId) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : messageId.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * A bloom filter segment, the bit indexes are derived by double hashing
+     */
+    private static class Segment {
+        private final long bits;
+        private final AtomicLongArray words;
+
+        Segment(long bits) {
+            this.words = new AtomicLongArray(Math.toIntExact(Math.max(1, (bits + 63) / 64)));
+            this.bits = words.length() * 64L;
+        }
+
+        void put(long hash, int hashFunctions) {
+            int hash1 = (int) hash;
+            int hash2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashFunctions; i++) {
+                long bitIndex = Math.floorMod(hash1 + (long) i * hash2, bits);
+                long mask = 1L << bitIndex;
+                words.getAndAccumulate((int) (bitIndex >>> 6), mask, (word, bit) -> word | bit);
+            }
+        }
+
+        boolean mightContain(long hash, int hashFunctions) {
+            int hash1 = (int) hash;
+            int hash2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashFunctions; i++) {
+                long bitIndex = Math.floorMod(hash1 + (long) i * hash2, bits);
+                if ((words.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void clear() {
+            for (int i = 0; i < words.length(); i++) {
+                words.set(i, 0);
+            }
+        }
+    }
+}
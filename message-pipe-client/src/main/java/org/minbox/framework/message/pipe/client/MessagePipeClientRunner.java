@@ -2,10 +2,10 @@ package org.minbox.framework.message.pipe.client;
 
 import io.grpc.BindableService;
 import io.grpc.Server;
-import io.grpc.ServerBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.minbox.framework.message.pipe.client.config.ClientConfiguration;
 import org.minbox.framework.message.pipe.client.registrar.RegistrarService;
+import org.minbox.framework.message.pipe.core.channel.GrpcChannelFactory;
 import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
@@ -66,8 +66,8 @@ public class MessagePipeClientRunner implements InitializingBean, DisposableBean
      * Build the grpc {@link Server} instance
      */
     private void buildServer() {
-        this.rpcServer = ServerBuilder
-                .forPort(configuration.getLocalPort())
+        this.rpcServer = GrpcChannelFactory
+                .newServerBuilder(configuration.getLocalPort(), configuration.getChannelSettings())
                 .addService(this.bindableService)
                 .build();
     }
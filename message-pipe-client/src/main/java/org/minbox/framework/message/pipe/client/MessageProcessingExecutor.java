@@ -0,0 +1,264 @@
+package org.minbox.framework.message.pipe.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.minbox.framework.message.pipe.client.config.ClientConfiguration;
+import org.minbox.framework.message.pipe.core.thread.MessagePipeThreadFactory;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The bounded executor processing the received messages
+ * <p>
+ * The batches are processed off the grpc transport threads,
+ * a batch is rejected immediately instead of waiting when the executor is saturated.
+ * The per pipe executors without batches for {@link ClientConfiguration.ProcessingExecutor#getIdleSeconds()}
+ * are shut down and created again for the next batch of the pipe.
+ * The message credits are shared by all pipes of the client, not divided among the per pipe executors
+ *
+ * @author 恒宇少年
+ * @see ClientConfiguration.ProcessingExecutor
+ */
+@Slf4j
+public class MessageProcessingExecutor {
+    private static final String THREAD_NAME_PREFIX = "message-processing";
+    private static final String VIRTUAL_EXECUTOR_METHOD = "newVirtualThreadPerTaskExecutor";
+    /**
+     * The key of the executor shared by all pipes
+     */
+    private static final String SHARED_EXECUTOR_KEY = "";
+    private final ClientConfiguration.ProcessingExecutor settings;
+    /**
+     * The executors: PipeName -> Executor, only the shared executor if not per pipe
+     */
+    private final ConcurrentMap<String, BoundedExecutor> executors = new ConcurrentHashMap<>();
+    /**
+     * The number of messages holding the credits
+     */
+    private final AtomicInteger pendingMessages = new AtomicInteger();
+    /**
+     * The number of batches holding the credits
+     */
+    private final AtomicInteger pendingBatches = new AtomicInteger();
+    /**
+     * The number of batches waiting for a thread
+     */
+    private final AtomicInteger queuedBatches = new AtomicInteger();
+    /**
+     * The last time of evicting the idle executors
+     */
+    private final AtomicLong lastEvictionTime = new AtomicLong(System.currentTimeMillis());
+
+    public MessageProcessingExecutor(ClientConfiguration.ProcessingExecutor settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Execute the processing of a batch
+     *
+     * @param pipeName The pipe name of the batch
+     * @param task     The processing task
+     * @throws RejectedExecutionException If the executor is saturated or shutdown
+     */
+    public void execute(String pipeName, Runnable task) throws RejectedExecutionException {
+        this.evictIdleExecutors();
+        String key = this.executorKey(pipeName);
+        Runnable queuedTask = () -> {
+            queuedBatches.decrementAndGet();
+            task.run();
+        };
+        queuedBatches.incrementAndGet();
+        try {
+            BoundedExecutor executor = executors.computeIfAbsent(key, k -> this.newBoundedExecutor());
+            // The executor is evicted concurrently, execute on a new one
+            while (!executor.execute(queuedTask)) {
+                executors.remove(key, executor);
+                executor = executors.computeIfAbsent(key, k -> this.newBoundedExecutor());
+            }
+        } catch (RejectedExecutionException e) {
+            queuedBatches.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Hold the credits of a received batch until it is responded
+     *
+     * @param messageCount The number of messages in the batch
+     */
+    public void reserveCredits(int messageCount) {
+        pendingMessages.addAndGet(messageCount);
+        pendingBatches.incrementAndGet();
+    }
+
+    /**
+     * Release the credits of a responded batch
+     *
+     * @param messageCount The number of messages in the batch
+     */
+    public void releaseCredits(int messageCount) {
+        pendingMessages.addAndGet(-messageCount);
+        pendingBatches.decrementAndGet();
+    }
+
+    /**
+     * Get the number of batches being processed
+     *
+     * @return The batches holding the credits and not waiting for a thread
+     */
+    public int getInFlightBatches() {
+        return Math.max(0, pendingBatches.get() - queuedBatches.get());
+    }
+
+    /**
+     * Get the number of batches waiting for a thread
+     *
+     * @return The queued batches
+     */
+    public int getQueuedBatches() {
+        return queuedBatches.get();
+    }
+
+    /**
+     * Get the free message credits of the pipe
+     * <p>
+     * The credits are client-wide, every pipe gets the same free credits unless its executor is saturated
+     *
+     * @param pipeName The pipe name, null for the executor shared by all pipes
+     * @return The free credits, 0 if the executor of the pipe is saturated
+     */
+    public int getAvailableCredits(String pipeName) {
+        BoundedExecutor executor = executors.get(this.executorKey(pipeName));
+        if (executor != null && executor.isSaturated()) {
+            return 0;
+        }
+        return Math.max(0, settings.getMessageCredits() - pendingMessages.get());
+    }
+
+    /**
+     * Shutdown all executors
+     */
+    public void shutdown() {
+        executors.values().forEach(executor -> executor.executorService.shutdown());
+    }
+
+    private String executorKey(String pipeName) {
+        return settings.isPerPipe() && pipeName != null ? pipeName : SHARED_EXECUTOR_KEY;
+    }
+
+    /**
+     * Shutdown the per pipe executors without batches for the idle time
+     * <p>
+     * The executors are checked at most once per idle time
+     */
+    private void evictIdleExecutors() {
+        if (!settings.isPerPipe() || settings.getIdleSeconds() <= 0) {
+            return;
+        }
+        long idleMillis = TimeUnit.SECONDS.toMillis(settings.getIdleSeconds());
+        long now = System.currentTimeMillis();
+        long lastEviction = lastEvictionTime.get();
+        if (now - lastEviction < idleMillis || !lastEvictionTime.compareAndSet(lastEviction, now)) {
+            return;
+        }
+        executors.forEach((key, executor) -> {
+            if (!SHARED_EXECUTOR_KEY.equals(key) && now - executor.lastExecuteTime >= idleMillis && executor.retire()) {
+                executors.remove(key, executor);
+                executor.executorService.shutdown();
+                log.debug("The processing executor of pipe: {} is idle, shutdown.", key);
+            }
+        });
+    }
+
+    private BoundedExecutor newBoundedExecutor() {
+        return new BoundedExecutor(this.newExecutorService(),
+                Math.max(1, settings.getThreads()) + Math.max(0, settings.getQueueCapacity()));
+    }
+
+    private ExecutorService newExecutorService() {
+        int threads = Math.max(1, settings.getThreads());
+        if (ClientConfiguration.ExecutorType.WORK_STEALING == settings.getType()) {
+            return Executors.newWorkStealingPool(threads);
+        }
+        if (ClientConfiguration.ExecutorType.VIRTUAL == settings.getType()) {
+            try {
+                return (ExecutorService) Executors.class.getMethod(VIRTUAL_EXECUTOR_METHOD).invoke(null);
+            } catch (ReflectiveOperationException e) {
+                log.warn("The virtual threads are not supported by current jvm, use the fixed thread pool.");
+            }
+        }
+        return Executors.newFixedThreadPool(threads, new MessagePipeThreadFactory(THREAD_NAME_PREFIX));
+    }
+
+    /**
+     * The {@link ExecutorService} limited by the number of pending tasks
+     * <p>
+     * The executor without pending tasks can be retired, the retired executor accepts no more tasks
+     */
+    private static class BoundedExecutor {
+        /**
+         * The pending tasks of the retired executor
+         */
+        private static final int RETIRED = -1;
+        private final ExecutorService executorService;
+        private final int maxPendingTasks;
+        /**
+         * The number of pending tasks, {@link #RETIRED} after retired
+         */
+        private final AtomicInteger pendingTasks = new AtomicInteger();
+        private volatile long lastExecuteTime = System.currentTimeMillis();
+
+        BoundedExecutor(ExecutorService executorService, int maxPendingTasks) {
+            this.executorService = executorService;
+            this.maxPendingTasks = maxPendingTasks;
+        }
+
+        /**
+         * Execute the task
+         *
+         * @param task The task
+         * @return false if the executor is retired, the task is not executed
+         * @throws RejectedExecutionException If the executor is saturated
+         */
+        boolean execute(Runnable task) throws RejectedExecutionException {
+            int pending;
+            do {
+                pending = pendingTasks.get();
+                if (pending == RETIRED) {
+                    return false;
+                }
+                if (pending >= maxPendingTasks) {
+                    throw new RejectedExecutionException("The message processing executor is saturated.");
+                }
+            } while (!pendingTasks.compareAndSet(pending, pending + 1));
+            lastExecuteTime = System.currentTimeMillis();
+            try {
+                executorService.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        pendingTasks.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                pendingTasks.decrementAndGet();
+                throw e;
+            }
+            return true;
+        }
+
+        boolean isSaturated() {
+            return pendingTasks.get() >= maxPendingTasks;
+        }
+
+        /**
+         * Retire the executor if there are no pending tasks
+         *
+         * @return true if retired
+         */
+        boolean retire() {
+            return pendingTasks.compareAndSet(0, RETIRED);
+        }
+    }
+}
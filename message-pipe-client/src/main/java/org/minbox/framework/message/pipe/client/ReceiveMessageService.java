@@ -1,18 +1,43 @@
 package org.minbox.framework.message.pipe.client;
 
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import lombok.extern.slf4j.Slf4j;
+import org.minbox.framework.message.pipe.client.config.ClientConfiguration;
+import org.minbox.framework.message.pipe.client.process.AsyncMessageProcessor;
+import org.minbox.framework.message.pipe.client.process.BatchMessageProcessor;
 import org.minbox.framework.message.pipe.client.process.MessageProcessor;
 import org.minbox.framework.message.pipe.client.process.MessageProcessorManager;
 import org.minbox.framework.message.pipe.core.Message;
+import org.minbox.framework.message.pipe.core.codec.WireMessages;
 import org.minbox.framework.message.pipe.core.grpc.MessageServiceGrpc;
+import org.minbox.framework.message.pipe.core.grpc.proto.BodyChunk;
+import org.minbox.framework.message.pipe.core.grpc.proto.BodyTransferResponse;
+import org.minbox.framework.message.pipe.core.grpc.proto.DeliveryAck;
+import org.minbox.framework.message.pipe.core.grpc.proto.DeliveryFrame;
+import org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest;
+import org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse;
+import org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchStatus;
 import org.minbox.framework.message.pipe.core.grpc.proto.MessageRequest;
 import org.minbox.framework.message.pipe.core.grpc.proto.MessageResponse;
+import org.minbox.framework.message.pipe.core.information.ClientLoad;
 import org.minbox.framework.message.pipe.core.transport.MessageRequestBody;
 import org.minbox.framework.message.pipe.core.transport.MessageResponseBody;
 import org.minbox.framework.message.pipe.core.transport.MessageResponseStatus;
-import org.minbox.framework.message.pipe.core.untis.JsonUtils;
+import org.minbox.framework.message.pipe.core.transport.ProtobufTransportConverter;
+import org.minbox.framework.message.pipe.core.transport.ProtocolVersion;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Receive messages from the server and process them
@@ -21,67 +46,644 @@ import org.springframework.beans.factory.BeanFactoryAware;
  * @see BeanFactoryAware
  */
 @Slf4j
-public class ReceiveMessageService extends MessageServiceGrpc.MessageServiceImplBase {
+public class ReceiveMessageService extends MessageServiceGrpc.MessageServiceImplBase implements DisposableBean {
     /**
      * The bean name of {@link ReceiveMessageService}
      */
     public static final String BEAN_NAME = "receiveMessageService";
+    /**
+     * The maximum number of unacked frames of each delivery stream
+     * <p>
+     * Frames are requested from the stream only when a processed frame is acked,
+     * the remaining frames wait in the grpc flow control window
+     */
+    private static final int DELIVERY_WINDOW = 16;
     private final MessageProcessorManager messageProcessorManager;
+    /**
+     * Process the received batches off the grpc transport threads
+     */
+    private final MessageProcessingExecutor processingExecutor;
+    /**
+     * The received bodies of claim-check messages
+     */
+    private final ClaimCheckBodies claimCheckBodies;
+    /**
+     * The filter of the redelivered messages, null if not enabled
+     */
+    private final MessageDeduplicator deduplicator;
+    /**
+     * The load reported by heartbeats
+     */
+    private final ClientLoadMonitor loadMonitor;
 
-    public ReceiveMessageService(MessageProcessorManager messageProcessorManager) {
+    public ReceiveMessageService(MessageProcessorManager messageProcessorManager, ClientConfiguration configuration) {
         this.messageProcessorManager = messageProcessorManager;
+        this.processingExecutor = new MessageProcessingExecutor(configuration.getProcessingExecutor());
+        this.loadMonitor = new ClientLoadMonitor(this.processingExecutor);
+        this.claimCheckBodies = new ClaimCheckBodies(configuration.getClaimCheck());
+        this.deduplicator = configuration.getDeduplication().isEnabled() ?
+                new MessageDeduplicator(configuration.getDeduplication()) : null;
     }
 
+    /**
+     * Get the filter of the redelivered messages
+     *
+     * @return The {@link MessageDeduplicator} instance, null if not enabled
+     */
+    public MessageDeduplicator getDeduplicator() {
+        return deduplicator;
+    }
+
+    /**
+     * Process the {@link ProtocolVersion#JSON} message request
+     *
+     * @param request          The {@link MessageRequest} with json string body or codec encoded payload
+     * @param responseObserver The {@link MessageResponse} observer
+     */
     @Override
     public void messageProcessing(MessageRequest request, StreamObserver<MessageResponse> responseObserver) {
-        MessageResponseBody responseBody = new MessageResponseBody();
+        MessageRequestBody requestBody;
         try {
-            String requestJsonBody = request.getBody();
-            MessageRequestBody requestBody = JsonUtils.jsonToObject(requestJsonBody, MessageRequestBody.class);
-            String requestId = requestBody.getRequestId();
-            requestBody.setRequestId(requestId);
-            String pipeName = requestBody.getPipeName();
-            
-            java.util.List<Message> messages = requestBody.getMessages();
-            
-            if (messages != null && !messages.isEmpty()) {
-                // Batch processing
-                int successCount = 0;
-                boolean batchFailed = false;
-                MessageProcessor processor = messageProcessorManager.getMessageProcessor(pipeName);
-                
-                for (Message message : messages) {
-                    try {
-                        boolean result = processor.processing(pipeName, requestId, message);
-                        if (result) {
-                            successCount++;
-                        } else {
-                            batchFailed = true;
-                            break;
-                        }
-                    } catch (Exception e) {
-                        batchFailed = true;
-                        log.error("Error processing message in batch", e);
-                        break;
-                    }
+            requestBody = WireMessages.fromMessageRequest(request, MessageRequestBody.class);
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+            this.respond(new MessageResponseBody().setStatus(MessageResponseStatus.ERROR), request.getCodec(), responseObserver);
+            return;
+        }
+        int messageCount = requestBody.getMessages() != null ? requestBody.getMessages().size() : 0;
+        try {
+            this.submit(requestBody.getPipeName(), requestBody.getRequestId(), messageCount, () -> this.processing(requestBody),
+                    responseBody -> this.respond(responseBody, request.getCodec(), responseObserver),
+                    e -> this.fail(responseObserver, e));
+        } catch (RejectedExecutionException e) {
+            this.rejectExhausted(requestBody.getPipeName(), responseObserver);
+        }
+    }
+
+    /**
+     * Respond with the codec used by the request
+     *
+     * @param responseBody     The {@link MessageResponseBody} instance
+     * @param codec            The codec name of the request
+     * @param responseObserver The {@link MessageResponse} observer
+     */
+    private void respond(MessageResponseBody responseBody, String codec, StreamObserver<MessageResponse> responseObserver) {
+        MessageResponse response = WireMessages.toMessageResponse(responseBody, codec);
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Process the {@link ProtocolVersion#PROTOBUF} message request
+     *
+     * @param request          The typed {@link MessageBatchRequest}
+     * @param responseObserver The {@link MessageBatchResponse} observer
+     */
+    @Override
+    public void batchProcessing(MessageBatchRequest request, StreamObserver<MessageBatchResponse> responseObserver) {
+        try {
+            this.submit(request.getPipeName(), request.getRequestId(), request.getMessagesCount(),
+                    () -> this.processing(request), responseBody -> {
+                        responseObserver.onNext(ProtobufTransportConverter.toBatchResponse(responseBody));
+                        responseObserver.onCompleted();
+                    }, e -> this.fail(responseObserver, e));
+        } catch (RejectedExecutionException e) {
+            this.rejectExhausted(request.getPipeName(), responseObserver);
+        }
+    }
+
+    /**
+     * Process the batch on the processing executor
+     * <p>
+     * The messages hold the credits until the batch is responded,
+     * the free credits of the pipe and the processing time of the batch are carried by the response.
+     * The call is always completed: a failed processing is responded as {@link MessageResponseStatus#ERROR},
+     * the call is failed by the failure handler if the response cannot be written
+     *
+     * @param pipeName     The pipe name of the batch
+     * @param requestId    The request id of the batch
+     * @param messageCount The number of messages in the batch
+     * @param processing   The processing of the batch
+     * @param responder    Respond the processed batch
+     * @param failer       Fail the call when the responder throws
+     * @throws RejectedExecutionException If the processing executor is saturated
+     */
+    private void submit(String pipeName, String requestId, int messageCount,
+                        Supplier<CompletableFuture<MessageResponseBody>> processing,
+                        Consumer<MessageResponseBody> responder, Consumer<Throwable> failer) throws RejectedExecutionException {
+        long receivedNanos = System.nanoTime();
+        processingExecutor.reserveCredits(messageCount);
+        try {
+            processingExecutor.execute(pipeName, () -> {
+                CompletableFuture<MessageResponseBody> future;
+                try {
+                    future = processing.get();
+                } catch (Throwable e) {
+                    future = CompletableFuture.failedFuture(e);
                 }
-                
-                responseBody.setSuccessCount(successCount);
-                responseBody.setStatus(batchFailed ? MessageResponseStatus.ERROR : MessageResponseStatus.SUCCESS);
-                
+                future.whenComplete((responseBody, e) -> this.complete(pipeName, requestId, messageCount, receivedNanos,
+                        responseBody, e, responder, failer));
+            });
+        } catch (RejectedExecutionException e) {
+            processingExecutor.releaseCredits(messageCount);
+            throw e;
+        }
+    }
+
+    /**
+     * Release the credits of the processed batch and respond it
+     *
+     * @param pipeName      The pipe name of the batch
+     * @param requestId     The request id of the batch
+     * @param messageCount  The number of messages in the batch
+     * @param receivedNanos The time the batch was received
+     * @param responseBody  The processed {@link MessageResponseBody}, null if the processing failed
+     * @param e             The processing failure
+     * @param responder     Respond the processed batch
+     * @param failer        Fail the call when the responder throws
+     */
+    private void complete(String pipeName, String requestId, int messageCount, long receivedNanos,
+                          MessageResponseBody responseBody, Throwable e,
+                          Consumer<MessageResponseBody> responder, Consumer<Throwable> failer) {
+        processingExecutor.releaseCredits(messageCount);
+        long processingNanos = System.nanoTime() - receivedNanos;
+        loadMonitor.recordLatency(processingNanos);
+        if (responseBody == null) {
+            log.error("Process the batch: {} of pipe: {} failed.", requestId, pipeName, e);
+            responseBody = new MessageResponseBody().setRequestId(requestId)
+                    .setStatus(MessageResponseStatus.ERROR).setSuccessCount(0);
+        }
+        try {
+            responder.accept(responseBody.setCredits(processingExecutor.getAvailableCredits(pipeName))
+                    .setProcessingMicros(TimeUnit.NANOSECONDS.toMicros(processingNanos)));
+        } catch (Exception responseException) {
+            log.error("Respond the batch: {} of pipe: {} failed.", requestId, pipeName, responseException);
+            try {
+                failer.accept(responseException);
+            } catch (Exception failException) {
+                log.error("Fail the call of batch: {} failed.", requestId, failException);
+            }
+        }
+    }
+
+    /**
+     * Fail the unary call with the status of the exception
+     *
+     * @param responseObserver The response observer
+     * @param e                The exception
+     */
+    private void fail(StreamObserver<?> responseObserver, Throwable e) {
+        responseObserver.onError(Status.fromThrowable(e).asRuntimeException());
+    }
+
+    /**
+     * Get the free message credits of the client
+     *
+     * @return The free credits
+     * @see ClientConfiguration.ProcessingExecutor#getMessageCredits()
+     */
+    public int getAvailableCredits() {
+        return processingExecutor.getAvailableCredits(null);
+    }
+
+    /**
+     * Get current load of the client
+     *
+     * @return The {@link ClientLoad} snapshot
+     */
+    public ClientLoad getLoad() {
+        return loadMonitor.snapshot();
+    }
+
+    /**
+     * Reject the request when the processing executor is saturated
+     * <p>
+     * The server sends the batch to another client
+     *
+     * @param pipeName         The pipe name of the request
+     * @param responseObserver The response observer
+     */
+    private void rejectExhausted(String pipeName, StreamObserver<?> responseObserver) {
+        log.warn("The processing executor is saturated, reject the batch of pipe: {}", pipeName);
+        responseObserver.onError(Status.RESOURCE_EXHAUSTED
+                .withDescription("The processing executor of client is saturated.").asRuntimeException());
+    }
+
+    /**
+     * Process the {@link ProtocolVersion#STREAMING} delivery stream
+     * <p>
+     * Each frame is processed asynchronously and acked with its sequence,
+     * frames of different pipes are processed concurrently
+     *
+     * @param responseObserver The {@link DeliveryAck} stream
+     * @return The {@link DeliveryFrame} stream observer
+     */
+    @Override
+    public StreamObserver<DeliveryFrame> delivery(StreamObserver<DeliveryAck> responseObserver) {
+        ServerCallStreamObserver<DeliveryAck> ackStream = (ServerCallStreamObserver<DeliveryAck>) responseObserver;
+        ackStream.disableAutoRequest();
+        ackStream.request(DELIVERY_WINDOW);
+        return new DeliveryFrameObserver(ackStream);
+    }
+
+    /**
+     * Receive the body of a {@link ProtocolVersion#CLAIM_CHECK} message in chunks
+     * <p>
+     * The body is stored until the batch containing the claim-check message is processed
+     *
+     * @param responseObserver The {@link BodyTransferResponse} observer
+     * @return The {@link BodyChunk} stream observer
+     */
+    @Override
+    public StreamObserver<BodyChunk> transferBody(StreamObserver<BodyTransferResponse> responseObserver) {
+        return new BodyChunkObserver(responseObserver);
+    }
+
+    /**
+     * Process the typed {@link MessageBatchRequest}
+     *
+     * @param request The {@link MessageBatchRequest} instance
+     * @return The {@link CompletableFuture} of {@link MessageResponseBody}
+     */
+    private CompletableFuture<MessageResponseBody> processing(MessageBatchRequest request) {
+        MessageRequestBody requestBody;
+        try {
+            requestBody = ProtobufTransportConverter.fromBatchRequest(request);
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+            return CompletableFuture.completedFuture(new MessageResponseBody().setRequestId(request.getRequestId())
+                    .setStatus(MessageResponseStatus.ERROR));
+        }
+        return this.processing(requestBody);
+    }
+
+    /**
+     * Process a batch of messages in order
+     * <p>
+     * Stop at the first failed message, the number of successfully processed messages is responded.
+     * The returned future is completed by the callback of {@link AsyncMessageProcessor},
+     * otherwise it is completed before returning
+     *
+     * @param requestBody The {@link MessageRequestBody} instance
+     * @return The {@link CompletableFuture} of {@link MessageResponseBody}
+     */
+    private CompletableFuture<MessageResponseBody> processing(MessageRequestBody requestBody) {
+        String requestId = requestBody.getRequestId();
+        String pipeName = requestBody.getPipeName();
+        List<Message> messages = requestBody.getMessages();
+        if (messages == null || messages.isEmpty()) {
+            log.warn("Received empty message batch for pipe: {}", pipeName);
+            return CompletableFuture.completedFuture(new MessageResponseBody().setRequestId(requestId)
+                    .setStatus(MessageResponseStatus.SUCCESS).setSuccessCount(0));
+        }
+        CompletableFuture<Integer> successCount;
+        try {
+            MessageProcessor processor = messageProcessorManager.getMessageProcessor(pipeName);
+            if (processor instanceof AsyncMessageProcessor) {
+                successCount = new CompletableFuture<>();
+                this.asyncProcessing((AsyncMessageProcessor) processor, pipeName, requestId, messages, 0, successCount);
+            } else if (processor instanceof BatchMessageProcessor) {
+                successCount = CompletableFuture.completedFuture(
+                        this.batchProcessing((BatchMessageProcessor) processor, pipeName, requestId, messages));
             } else {
-                log.warn("Received empty message batch for pipe: {}", pipeName);
-                responseBody.setStatus(MessageResponseStatus.SUCCESS);
-                responseBody.setSuccessCount(0);
+                successCount = CompletableFuture.completedFuture(this.processing(processor, pipeName, requestId, messages));
             }
         } catch (Exception e) {
-            responseBody.setStatus(MessageResponseStatus.ERROR);
             log.error(e.getMessage(), e);
-        } finally {
-            String responseJsonBody = JsonUtils.objectToJson(responseBody);
-            MessageResponse response = MessageResponse.newBuilder().setBody(responseJsonBody).build();
-            responseObserver.onNext(response);
+            successCount = CompletableFuture.completedFuture(0);
+        }
+        return successCount.thenApply(count -> {
+            claimCheckBodies.discard(messages);
+            return new MessageResponseBody()
+                    .setRequestId(requestId)
+                    .setSuccessCount(count)
+                    .setStatus(count < messages.size() ? MessageResponseStatus.ERROR : MessageResponseStatus.SUCCESS);
+        });
+    }
+
+    /**
+     * Process the messages one by one
+     * <p>
+     * Stop at the first failed message
+     *
+     * @param processor The {@link MessageProcessor} instance
+     * @param pipeName  The pipe name
+     * @param requestId The message request id
+     * @param messages  The {@link Message} list of the batch
+     * @return The number of messages processed successfully
+     */
+    private int processing(MessageProcessor processor, String pipeName, String requestId, List<Message> messages) {
+        int successCount = 0;
+        for (Message message : messages) {
+            try {
+                if (this.isDuplicate(message)) {
+                    successCount++;
+                    continue;
+                }
+                Message resolvedMessage = claimCheckBodies.resolve(message);
+                if (resolvedMessage == null) {
+                    log.error("The body of claim-check message: {} is not received.", message.getMessageId());
+                    break;
+                }
+                if (!processor.processing(pipeName, requestId, resolvedMessage)) {
+                    break;
+                }
+                this.markProcessed(message);
+                successCount++;
+            } catch (Exception e) {
+                log.error("Error processing message in batch", e);
+                break;
+            }
+        }
+        return successCount;
+    }
+
+    /**
+     * Process the messages with one call of {@link BatchMessageProcessor}
+     * <p>
+     * Only the messages before the first claim-check message whose body is not received are processed,
+     * the duplicates are removed from the processed batch
+     *
+     * @param processor The {@link BatchMessageProcessor} instance
+     * @param pipeName  The pipe name
+     * @param requestId The message request id
+     * @param messages  The {@link Message} list of the batch
+     * @return The number of messages processed successfully
+     */
+    private int batchProcessing(BatchMessageProcessor processor, String pipeName, String requestId, List<Message> messages) {
+        List<Message> resolvedMessages = new ArrayList<>(messages.size());
+        // The index in the batch of each resolved message
+        int[] batchIndexes = new int[messages.size()];
+        int resolvedCount = 0;
+        for (; resolvedCount < messages.size(); resolvedCount++) {
+            Message message = messages.get(resolvedCount);
+            if (this.isDuplicate(message)) {
+                continue;
+            }
+            Message resolvedMessage = claimCheckBodies.resolve(message);
+            if (resolvedMessage == null) {
+                log.error("The body of claim-check message: {} is not received.", message.getMessageId());
+                break;
+            }
+            batchIndexes[resolvedMessages.size()] = resolvedCount;
+            resolvedMessages.add(resolvedMessage);
+        }
+        if (resolvedMessages.isEmpty()) {
+            return resolvedCount;
+        }
+        int processedCount;
+        try {
+            processedCount = processor.processing(pipeName, requestId, Collections.unmodifiableList(resolvedMessages));
+            processedCount = Math.max(0, Math.min(processedCount, resolvedMessages.size()));
+        } catch (Exception e) {
+            log.error("Error processing message batch", e);
+            processedCount = 0;
+        }
+        for (int i = 0; i < processedCount; i++) {
+            this.markProcessed(resolvedMessages.get(i));
+        }
+        return processedCount < resolvedMessages.size() ? batchIndexes[processedCount] : resolvedCount;
+    }
+
+    /**
+     * Check if the message is a processed duplicate
+     *
+     * @param message The {@link Message} instance
+     * @return Return "true" if the deduplication is enabled and the message has been processed
+     */
+    private boolean isDuplicate(Message message) {
+        if (deduplicator == null || !deduplicator.isDuplicate(message.getMessageId())) {
+            return false;
+        }
+        log.debug("The redelivered message: {} is acknowledged without processing.", message.getMessageId());
+        return true;
+    }
+
+    private void markProcessed(Message message) {
+        if (deduplicator != null) {
+            deduplicator.markProcessed(message.getMessageId());
+        }
+    }
+
+    /**
+     * Process the messages one by one with {@link AsyncMessageProcessor}
+     * <p>
+     * The already completed stages are consumed in the loop,
+     * the processing continues from the callback when a stage is not completed yet
+     *
+     * @param processor    The {@link AsyncMessageProcessor} instance
+     * @param pipeName     The pipe name
+     * @param requestId    The message request id
+     * @param messages     The {@link Message} list of the batch
+     * @param index        The index of the next message
+     * @param successCount The future completed with the number of messages processed successfully
+     */
+    private void asyncProcessing(AsyncMessageProcessor processor, String pipeName, String requestId, List<Message> messages,
+                                 int index, CompletableFuture<Integer> successCount) {
+        for (int i = index; i < messages.size(); i++) {
+            Message message = messages.get(i);
+            CompletableFuture<Boolean> result;
+            try {
+                if (this.isDuplicate(message)) {
+                    continue;
+                }
+                Message resolvedMessage = claimCheckBodies.resolve(message);
+                if (resolvedMessage == null) {
+                    log.error("The body of claim-check message: {} is not received.", message.getMessageId());
+                    successCount.complete(i);
+                    return;
+                }
+                result = processor.processingAsync(pipeName, requestId, resolvedMessage).toCompletableFuture();
+            } catch (Exception e) {
+                log.error("Error processing message in batch", e);
+                successCount.complete(i);
+                return;
+            }
+            if (!result.isDone()) {
+                int processed = i;
+                result.whenComplete((success, e) -> {
+                    if (this.isProcessed(success, e)) {
+                        this.markProcessed(message);
+                        this.asyncProcessing(processor, pipeName, requestId, messages, processed + 1, successCount);
+                    } else {
+                        successCount.complete(processed);
+                    }
+                });
+                return;
+            }
+            if (!result.handle(this::isProcessed).join()) {
+                successCount.complete(i);
+                return;
+            }
+            this.markProcessed(message);
+        }
+        successCount.complete(messages.size());
+    }
+
+    private boolean isProcessed(Boolean success, Throwable e) {
+        if (e != null) {
+            log.error("Error processing message in batch", e);
+            return false;
+        }
+        return Boolean.TRUE.equals(success);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        this.processingExecutor.shutdown();
+    }
+
+    /**
+     * The {@link DeliveryFrame} stream observer of a delivery stream
+     */
+    private class DeliveryFrameObserver implements StreamObserver<DeliveryFrame> {
+        private final ServerCallStreamObserver<DeliveryAck> ackStream;
+        private boolean completed;
+
+        DeliveryFrameObserver(ServerCallStreamObserver<DeliveryAck> ackStream) {
+            this.ackStream = ackStream;
+        }
+
+        @Override
+        public void onNext(DeliveryFrame frame) {
+            MessageBatchRequest batch = frame.getBatch();
+            try {
+                submit(batch.getPipeName(), batch.getRequestId(), batch.getMessagesCount(), () -> processing(batch),
+                        responseBody -> this.ack(DeliveryAck.newBuilder()
+                                .setSequence(frame.getSequence())
+                                .setResponse(ProtobufTransportConverter.toBatchResponse(responseBody))
+                                .build()),
+                        e -> this.ack(DeliveryAck.newBuilder()
+                                .setSequence(frame.getSequence())
+                                .setResponse(MessageBatchResponse.newBuilder()
+                                        .setRequestId(batch.getRequestId())
+                                        .setStatus(MessageBatchStatus.ERROR))
+                                .build()));
+            } catch (RejectedExecutionException e) {
+                log.warn("The processing executor is saturated, reject the frame of pipe: {}", batch.getPipeName());
+                MessageBatchResponse exhausted = MessageBatchResponse.newBuilder()
+                        .setRequestId(batch.getRequestId())
+                        .setStatus(MessageBatchStatus.RESOURCE_EXHAUSTED)
+                        .setCredits(processingExecutor.getAvailableCredits(batch.getPipeName()))
+                        .build();
+                this.ack(DeliveryAck.newBuilder().setSequence(frame.getSequence()).setResponse(exhausted).build());
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            log.warn("The delivery stream is broken, Status Code: {}", Status.fromThrowable(t).getCode());
+            synchronized (this) {
+                completed = true;
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            synchronized (this) {
+                if (!completed) {
+                    completed = true;
+                    ackStream.onCompleted();
+                }
+            }
+        }
+
+        /**
+         * Write the ack and request the next frame
+         *
+         * @param ack The {@link DeliveryAck} instance
+         */
+        private void ack(DeliveryAck ack) {
+            synchronized (this) {
+                if (completed || ackStream.isCancelled()) {
+                    return;
+                }
+                ackStream.onNext(ack);
+                ackStream.request(1);
+            }
+        }
+    }
+
+    /**
+     * The {@link BodyChunk} stream observer of a claim-check body transfer
+     */
+    private class BodyChunkObserver implements StreamObserver<BodyChunk> {
+        private final StreamObserver<BodyTransferResponse> responseObserver;
+        private String messageId;
+        private byte[] body;
+        private int received;
+        /**
+         * The transfer has been rejected, the remaining chunks are ignored
+         */
+        private boolean rejected;
+
+        BodyChunkObserver(StreamObserver<BodyTransferResponse> responseObserver) {
+            this.responseObserver = responseObserver;
+        }
+
+        @Override
+        public void onNext(BodyChunk chunk) {
+            if (rejected) {
+                return;
+            }
+            if (body == null) {
+                messageId = chunk.getMessageId();
+                long totalLength = chunk.getTotalLength();
+                if (totalLength < 0 || totalLength > claimCheckBodies.getMaxBodyBytes()) {
+                    this.reject(Status.RESOURCE_EXHAUSTED.withDescription("The body length: " + totalLength +
+                            " of claim-check message: " + messageId + " exceeds the limit: " + claimCheckBodies.getMaxBodyBytes() + "."));
+                    return;
+                }
+                body = new byte[(int) totalLength];
+            } else if (!messageId.equals(chunk.getMessageId())) {
+                this.reject(Status.INVALID_ARGUMENT.withDescription("The chunk of claim-check message: " + chunk.getMessageId() +
+                        " is sent in the body transfer of message: " + messageId + "."));
+                return;
+            }
+            int length = chunk.getData().size();
+            if (received + length > body.length) {
+                this.reject(Status.OUT_OF_RANGE.withDescription("The body of claim-check message: " + messageId +
+                        " exceeds the total length."));
+                return;
+            }
+            chunk.getData().copyTo(body, received);
+            received += length;
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            body = null;
+            log.warn("The body transfer of claim-check message: {} is broken, Status Code: {}",
+                    messageId, Status.fromThrowable(t).getCode());
+        }
+
+        @Override
+        public void onCompleted() {
+            if (rejected) {
+                return;
+            }
+            boolean success = body != null && received == body.length;
+            if (success) {
+                claimCheckBodies.put(messageId, body);
+            } else {
+                log.error("The body of claim-check message: {} is incomplete, expected length: {}, received length: {}",
+                        messageId, body != null ? body.length : 0, received);
+            }
+            body = null;
+            responseObserver.onNext(BodyTransferResponse.newBuilder().setSuccess(success).build());
             responseObserver.onCompleted();
         }
+
+        /**
+         * Reject the transfer, the received chunks are dropped
+         *
+         * @param status The rejected {@link Status}
+         */
+        private void reject(Status status) {
+            rejected = true;
+            body = null;
+            log.error(status.getDescription());
+            responseObserver.onError(status.asRuntimeException());
+        }
     }
 }
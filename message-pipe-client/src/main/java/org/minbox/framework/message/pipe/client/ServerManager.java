@@ -1,7 +1,8 @@
 package org.minbox.framework.message.pipe.client;
 
 import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
+import org.minbox.framework.message.pipe.core.channel.ChannelSettings;
+import org.minbox.framework.message.pipe.core.channel.GrpcChannelFactory;
 import org.minbox.framework.message.pipe.core.information.ServerInformation;
 import org.springframework.util.ObjectUtils;
 
@@ -58,15 +59,15 @@ public class ServerManager {
      * Establish a channel with the server
      *
      * @param serverId The serverId
+     * @param settings The {@link ChannelSettings} of the new channel
      * @return {@link ManagedChannel} instance
+     * @see GrpcChannelFactory
      */
-    public static synchronized ManagedChannel establishChannel(String serverId) {
+    public static synchronized ManagedChannel establishChannel(String serverId, ChannelSettings settings) {
         ServerInformation information = SERVERS.get(serverId);
         ManagedChannel channel = SERVER_CHANNEL.get(serverId);
         if (ObjectUtils.isEmpty(channel)) {
-            channel = ManagedChannelBuilder.forAddress(information.getAddress(), information.getPort())
-                    .usePlaintext()
-                    .build();
+            channel = GrpcChannelFactory.newChannel(information.getAddress(), information.getPort(), settings);
             SERVER_CHANNEL.put(serverId, channel);
         }
         return channel;
@@ -81,6 +82,9 @@ public class ServerManager {
      * @param serverId The serverId
      */
     public static void removeChannel(String serverId) {
-        SERVER_CHANNEL.remove(serverId);
+        ManagedChannel channel = SERVER_CHANNEL.remove(serverId);
+        if (channel != null) {
+            channel.shutdownNow();
+        }
     }
 }
@@ -2,9 +2,16 @@ package org.minbox.framework.message.pipe.client.config;
 
 import lombok.Data;
 import lombok.experimental.Accessors;
+import org.minbox.framework.message.pipe.core.channel.ChannelSettings;
+import org.minbox.framework.message.pipe.core.codec.WireCodecs;
+import org.minbox.framework.message.pipe.core.compress.Compressors;
 import org.minbox.framework.message.pipe.core.untis.InternetAddressUtils;
 import org.springframework.util.ObjectUtils;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * Related configuration items needed to build the client
  *
@@ -51,6 +58,42 @@ public class ClientConfiguration {
      * e.g. "eth0", "en0"
      */
     private String networkInterface;
+    /**
+     * The transport body codec names advertised to the server
+     * <p>
+     * If not configured, all codecs registered in {@link WireCodecs} are advertised
+     */
+    private String[] wireCodecs;
+    /**
+     * The compressor names advertised to the server
+     * <p>
+     * If not configured, all compressors registered in {@link Compressors} are advertised
+     */
+    private String[] compressions;
+    /**
+     * The settings of the local processing message server and the channel to the server
+     *
+     * @see org.minbox.framework.message.pipe.core.channel.GrpcChannelFactory
+     */
+    private ChannelSettings channelSettings = new ChannelSettings();
+    /**
+     * The executor processing the received messages
+     *
+     * @see org.minbox.framework.message.pipe.client.MessageProcessingExecutor
+     */
+    private ProcessingExecutor processingExecutor = new ProcessingExecutor();
+    /**
+     * The filter of the redelivered messages
+     *
+     * @see org.minbox.framework.message.pipe.client.MessageDeduplicator
+     */
+    private Deduplication deduplication = new Deduplication();
+    /**
+     * The limits of the received claim-check message bodies
+     *
+     * @see org.minbox.framework.message.pipe.client.ClaimCheckBodies
+     */
+    private ClaimCheck claimCheck = new ClaimCheck();
 
     /**
      * Get local host
@@ -60,4 +103,144 @@ public class ClientConfiguration {
     public String getLocalHost() {
         return ObjectUtils.isEmpty(localHost) ? InternetAddressUtils.getLocalIpByNetCard(this.networkInterface) : this.localHost;
     }
+
+    /**
+     * Get the codec names advertised to the server
+     *
+     * @return The supported codec names
+     */
+    public List<String> getSupportedWireCodecs() {
+        if (ObjectUtils.isEmpty(wireCodecs)) {
+            return WireCodecs.getSupportedNames();
+        }
+        return Arrays.stream(wireCodecs).filter(WireCodecs::isSupported).collect(Collectors.toList());
+    }
+
+    /**
+     * Get the compressor names advertised to the server
+     *
+     * @return The supported compressor names
+     */
+    public List<String> getSupportedCompressions() {
+        if (ObjectUtils.isEmpty(compressions)) {
+            return Compressors.getSupportedNames();
+        }
+        return Arrays.stream(compressions).filter(Compressors::isSupported).collect(Collectors.toList());
+    }
+
+    /**
+     * The executor configuration of processing the received messages
+     * <p>
+     * The messages are processed off the grpc transport threads, at most {@link #threads} batches are processed
+     * and {@link #queueCapacity} batches wait at the same time,
+     * a batch beyond the limits is rejected with "RESOURCE_EXHAUSTED" so that the server sends it elsewhere
+     */
+    @Data
+    @Accessors(chain = true)
+    public static class ProcessingExecutor {
+        /**
+         * The executor type
+         */
+        private ExecutorType type = ExecutorType.FIXED;
+        /**
+         * The number of batches processed concurrently
+         */
+        private int threads = Runtime.getRuntime().availableProcessors() * 2;
+        /**
+         * The number of batches waiting for processing
+         */
+        private int queueCapacity = 64;
+        /**
+         * Whether each pipe uses its own executor, otherwise all pipes share one executor
+         */
+        private boolean perPipe;
+        /**
+         * The seconds a per pipe executor is kept without batches
+         * <p>
+         * The idle executor is shut down and created again for the next batch of the pipe,
+         * not greater than 0 keeps the executors until the client is shutdown
+         */
+        private int idleSeconds = 300;
+        /**
+         * The number of messages processed and waiting at the same time
+         * <p>
+         * The free message credits are advertised to the server by the responses and heartbeats,
+         * the server sizes the batches to the credits and skips the client without credits.
+         * The credits are shared by all pipes of the client even if {@link #perPipe} is enabled
+         */
+        private int messageCredits = 4096;
+    }
+
+    /**
+     * The configuration of the redelivered messages filter
+     * <p>
+     * The server redelivers the messages after the take lock is lost or the response is lost,
+     * the messages processed in {@link #windowSeconds} are acknowledged as successful without processing again
+     */
+    @Data
+    @Accessors(chain = true)
+    public static class Deduplication {
+        /**
+         * Whether to filter the redelivered messages
+         */
+        private boolean enabled;
+        /**
+         * The time window of the processed messages
+         */
+        private int windowSeconds = 300;
+        /**
+         * The number of bloom filter segments the window is divided into
+         */
+        private int segments = 4;
+        /**
+         * The expected number of the processed messages in the window
+         */
+        private long expectedInsertions = 1000000;
+        /**
+         * The false positive rate of the bloom filter
+         */
+        private double falsePositiveRate = 0.01;
+        /**
+         * The maximum number of message ids in the exact LRU cache
+         */
+        private int exactCacheSize = 100000;
+    }
+
+    /**
+     * The configuration of the received claim-check message bodies
+     * <p>
+     * A body transfer longer than {@link #maxBodyBytes} is rejected,
+     * the oldest received bodies are evicted when the held bodies exceed {@link #maxHeldBytes},
+     * the server transfers an evicted body again when the message is redelivered
+     */
+    @Data
+    @Accessors(chain = true)
+    public static class ClaimCheck {
+        /**
+         * The maximum length of a single body
+         */
+        private int maxBodyBytes = 64 * 1024 * 1024;
+        /**
+         * The maximum total length of the bodies held until their messages are processed
+         */
+        private long maxHeldBytes = 256 * 1024 * 1024;
+    }
+
+    /**
+     * The type of the processing executor
+     */
+    public enum ExecutorType {
+        /**
+         * The fixed thread pool
+         */
+        FIXED,
+        /**
+         * The work-stealing {@link java.util.concurrent.ForkJoinPool}
+         */
+        WORK_STEALING,
+        /**
+         * A virtual thread per batch, requires Java 21, otherwise {@link #FIXED} is used
+         */
+        VIRTUAL
+    }
 }
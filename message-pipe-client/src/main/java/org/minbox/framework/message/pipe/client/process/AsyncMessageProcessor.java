@@ -0,0 +1,33 @@
+package org.minbox.framework.message.pipe.client.process;
+
+import org.minbox.framework.message.pipe.core.Message;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The {@link MessageProcessor} processing messages asynchronously
+ * <p>
+ * No thread is held while the message is processed, e.g. by a reactive downstream service.
+ * The messages of a batch are still processed in order, the next message is processed
+ * after the stage of the previous message is completed with "true",
+ * the batch stops at the first stage completed with "false" or exceptionally
+ *
+ * @author 恒宇少年
+ */
+public interface AsyncMessageProcessor extends MessageProcessor {
+    /**
+     * Execute processing message asynchronously
+     *
+     * @param specificPipeName The specific pipe name, if the regular expression matches,
+     *                         this parameter is the target pipe name
+     * @param requestId        The message request id
+     * @param message          The {@link Message} instance
+     * @return The {@link CompletionStage} completed with "true" after successful execution
+     */
+    CompletionStage<Boolean> processingAsync(String specificPipeName, String requestId, Message message);
+
+    @Override
+    default boolean processing(String specificPipeName, String requestId, Message message) {
+        return Boolean.TRUE.equals(this.processingAsync(specificPipeName, requestId, message).toCompletableFuture().join());
+    }
+}
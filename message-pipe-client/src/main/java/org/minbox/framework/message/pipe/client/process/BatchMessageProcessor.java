@@ -0,0 +1,35 @@
+package org.minbox.framework.message.pipe.client.process;
+
+import org.minbox.framework.message.pipe.core.Message;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The {@link MessageProcessor} processing a whole batch of messages at once
+ * <p>
+ * Suitable for the bulk sinks, e.g. one bulk insert of a database per batch.
+ * The single message {@link #processing(String, String, Message)} is delegated to the batch method
+ *
+ * @author 恒宇少年
+ */
+public interface BatchMessageProcessor extends MessageProcessor {
+    /**
+     * Execute processing a batch of messages
+     * <p>
+     * The messages are processed in order, the messages after the processed messages
+     * are sent again by the server, the first unprocessed message is counted as a failed retry
+     *
+     * @param specificPipeName The specific pipe name, if the regular expression matches,
+     *                         this parameter is the target pipe name
+     * @param requestId        The message request id
+     * @param messages         The {@link Message} list of the batch
+     * @return The number of messages processed successfully from the head of the batch
+     */
+    int processing(String specificPipeName, String requestId, List<Message> messages);
+
+    @Override
+    default boolean processing(String specificPipeName, String requestId, Message message) {
+        return this.processing(specificPipeName, requestId, Collections.singletonList(message)) == 1;
+    }
+}
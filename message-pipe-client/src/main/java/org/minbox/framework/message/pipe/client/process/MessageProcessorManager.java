@@ -1,10 +1,9 @@
 package org.minbox.framework.message.pipe.client.process;
 
 import lombok.extern.slf4j.Slf4j;
-import org.minbox.framework.message.pipe.client.process.proxy.MessageProcessorProxy;
 import org.minbox.framework.message.pipe.core.PipeConstants;
 import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
-import org.minbox.framework.message.pipe.core.untis.RegexUtils;
+import org.minbox.framework.message.pipe.core.pattern.PipeNamePatternIndex;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.ApplicationContext;
@@ -37,52 +36,40 @@ public class MessageProcessorManager implements InitializingBean, ApplicationCon
     public static final String BEAN_NAME = "messageProcessorManager";
     private ApplicationContext applicationContext;
     private final ConcurrentMap<String, MessageProcessor> processorMap = new ConcurrentHashMap<>();
+    /**
+     * The precompiled index of the processor binding pipe name patterns
+     */
+    private final PipeNamePatternIndex<MessageProcessor> processorIndex = new PipeNamePatternIndex<>();
 
     /**
-     * Get {@link MessageProcessor} instance from {@link #processorMap}
-     *
+     * Get {@link MessageProcessor} instance bound to the pipe name
      * <p>
-     * For REGEX type MessageProcessors, this method creates a CGLIB proxy instance
-     * that delegates to the original Spring Bean instance. This ensures that:
-     * 1. All Spring dependency injections (@Autowired, etc.) are properly preserved
-     * 2. The same Spring Bean instance is used for all matching pipeline names
-     * 3. Proxy objects are cached to avoid redundant creation
-     * 4. The solution is thread-safe with atomic cache operations
-     * </p>
+     * The processor is resolved from the precompiled {@link #processorIndex},
+     * the resolution is memoized per pipe name and the reads are lock-free.
+     * The original Spring Bean instance is returned for both SPECIFIC and REGEX processors,
+     * the specific pipe name is passed to each processing call
      *
      * @param pipeName message pipe name
      * @return message pipe binding {@link MessageProcessor}
      */
-    public synchronized MessageProcessor getMessageProcessor(String pipeName) {
+    public MessageProcessor getMessageProcessor(String pipeName) {
         MessageProcessor processor = this.regexGetMessageProcessor(pipeName);
         if (ObjectUtils.isEmpty(processor)) {
             throw new MessagePipeException("Message pipeline: " + pipeName + ", there is no bound MessageProcessor.");
         }
-        // For REGEX type, use computeIfAbsent to atomically create and cache the proxy instance
-        // This prevents race conditions and ensures only one proxy is created per pipeline name
-        if (MessageProcessorType.REGEX == processor.processorType()) {
-            return this.processorMap.computeIfAbsent(pipeName, key -> {
-                // Pass the original Spring Bean instance to create the proxy
-                // The proxy will delegate all method calls to the original instance
-                return MessageProcessorProxy.getProxy(processor);
-            });
-        }
         return processor;
     }
 
     /**
      * Get the message processor matched by the regular expression according to the pipe name
+     * <p>
+     * Match from the precompiled {@link #processorIndex}, the result is memoized per pipe name
      *
      * @param pipeName Specific message pipe name
      * @return The {@link MessageProcessor} instance
      */
     private MessageProcessor regexGetMessageProcessor(String pipeName) {
-        for (String pipeNamePattern : this.processorMap.keySet()) {
-            if (RegexUtils.isMatch(pipeNamePattern, pipeName)) {
-                return this.processorMap.get(pipeNamePattern);
-            }
-        }
-        return null;
+        return this.processorIndex.match(pipeName);
     }
 
     /**
@@ -121,6 +108,7 @@ public class MessageProcessorManager implements InitializingBean, ApplicationCon
             beans.keySet().stream().forEach(beanName -> {
                 MessageProcessor processor = beans.get(beanName);
                 this.processorMap.put(processor.bindingPipeName(), processor);
+                this.processorIndex.put(processor.bindingPipeName(), processor);
             });
         }
     }
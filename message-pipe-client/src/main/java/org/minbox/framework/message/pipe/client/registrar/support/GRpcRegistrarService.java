@@ -4,11 +4,15 @@ import com.google.common.util.concurrent.ListenableFuture;
 import io.grpc.ManagedChannel;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
 import lombok.extern.slf4j.Slf4j;
+import org.minbox.framework.message.pipe.client.ReceiveMessageService;
 import org.minbox.framework.message.pipe.client.ServerManager;
 import org.minbox.framework.message.pipe.client.config.ClientConfiguration;
 import org.minbox.framework.message.pipe.client.process.MessageProcessorManager;
 import org.minbox.framework.message.pipe.client.registrar.RegistrarService;
+import org.minbox.framework.message.pipe.core.codec.WireCodecs;
+import org.minbox.framework.message.pipe.core.codec.WireMessages;
 import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
 import org.minbox.framework.message.pipe.core.grpc.ClientServiceGrpc;
 import org.minbox.framework.message.pipe.core.grpc.proto.ClientHeartBeatRequest;
@@ -18,7 +22,7 @@ import org.minbox.framework.message.pipe.core.thread.MessagePipeThreadFactory;
 import org.minbox.framework.message.pipe.core.transport.ClientHeartBeatResponseBody;
 import org.minbox.framework.message.pipe.core.transport.ClientRegisterResponseBody;
 import org.minbox.framework.message.pipe.core.transport.MessageResponseStatus;
-import org.minbox.framework.message.pipe.core.untis.JsonUtils;
+import org.minbox.framework.message.pipe.core.transport.ProtocolVersion;
 import org.springframework.util.ObjectUtils;
 
 import java.util.concurrent.Executors;
@@ -37,11 +41,29 @@ public class GRpcRegistrarService implements RegistrarService {
     private static final String THREAD_NAME_PREFIX = "heartbeat";
     private final ScheduledExecutorService heartBeatExecutorService;
     private final String pipeNames;
+    /**
+     * Provide the free message credits and the load reported by heartbeats
+     */
+    private final ReceiveMessageService receiveMessageService;
 
     private final AtomicBoolean isHeartBeatStarted = new AtomicBoolean(false);
+    /**
+     * The transport body codec negotiated with the server
+     */
+    private volatile String wireCodec = WireCodecs.JSON;
+    /**
+     * The request stream of the persistent heartbeat stream, null if not opened
+     */
+    private StreamObserver<ClientHeartBeatRequest> heartBeatStream;
+    /**
+     * Whether the server does not support the heartbeat stream
+     */
+    private volatile boolean heartBeatStreamUnsupported;
 
-    public GRpcRegistrarService(ClientConfiguration configuration, MessageProcessorManager messageProcessorManager) {
+    public GRpcRegistrarService(ClientConfiguration configuration, MessageProcessorManager messageProcessorManager,
+                                ReceiveMessageService receiveMessageService) {
         this.configuration = configuration;
+        this.receiveMessageService = receiveMessageService;
         this.pipeNames = messageProcessorManager.getBindingPipeNameString();
         if (configuration.getServerPort() <= 0 || configuration.getServerPort() > 65535) {
             throw new MessagePipeException("MessagePipe Server port must be greater than 0 and less than 65535");
@@ -71,21 +93,26 @@ public class GRpcRegistrarService implements RegistrarService {
         while (!unregister) {
             try {
                 String serverId = ServerManager.putIfNotPresent(configuration.getServerAddress(), configuration.getServerPort());
-                ManagedChannel channel = ServerManager.establishChannel(serverId);
+                ManagedChannel channel = ServerManager.establishChannel(serverId, configuration.getChannelSettings());
                 ClientServiceGrpc.ClientServiceFutureStub stub =
                         ClientServiceGrpc.newFutureStub(channel);
                 ClientRegisterRequest request = ClientRegisterRequest.newBuilder()
                         .setAddress(configuration.getLocalHost())
                         .setPort(configuration.getLocalPort())
                         .setMessagePipeName(pipeNames)
+                        .setProtocolVersion(ProtocolVersion.CURRENT)
+                        .addAllSupportedCodecs(configuration.getSupportedWireCodecs())
+                        .addAllSupportedCompressions(configuration.getSupportedCompressions())
                         .build();
                 ListenableFuture<ClientResponse> listenableFuture = stub.register(request);
-                String responseJsonBody = listenableFuture.get().getBody();
-                ClientRegisterResponseBody responseBody = JsonUtils.jsonToObject(responseJsonBody, ClientRegisterResponseBody.class);
+                ClientResponse response = listenableFuture.get();
+                ClientRegisterResponseBody responseBody = WireMessages.fromClientResponse(response, ClientRegisterResponseBody.class);
                 if (MessageResponseStatus.SUCCESS.equals(responseBody.getStatus())) {
+                    // The server without codec negotiation does not respond the codec
+                    this.wireCodec = WireCodecs.isSupported(response.getCodec()) ? response.getCodec() : WireCodecs.JSON;
                     // Start a heartbeat after successful registration
                     this.heartBeat();
-                    log.info("Registered to Server successfully, ClientId: {}", responseBody.getClientId());
+                    log.info("Registered to Server successfully, ClientId: {}, WireCodec: {}", responseBody.getClientId(), this.wireCodec);
                     unregister = true;
                 }
             } catch (Exception e) {
@@ -108,40 +135,109 @@ public class GRpcRegistrarService implements RegistrarService {
 
     /**
      * Send heart beat to server
+     * <p>
+     * The heartbeats are sent on a persistent stream, so that the server detects the disconnection immediately,
+     * the unary heartbeat is used if the server does not support the stream
      */
     private void heartBeat() {
         if (isHeartBeatStarted.compareAndSet(false, true)) {
-            heartBeatExecutorService.scheduleAtFixedRate(() -> {
-                String serverId = ServerManager.getServerId(configuration.getServerAddress(), configuration.getServerPort());
+            heartBeatExecutorService.scheduleAtFixedRate(this::sendHeartBeat,
+                    5, configuration.getHeartBeatIntervalSeconds(), TimeUnit.SECONDS);
+            log.info("Client heartBeat thread starting successfully，interval：{}，interval timeunit：{}.",
+                    configuration.getHeartBeatIntervalSeconds(), TimeUnit.SECONDS);
+        }
+    }
+
+    private synchronized void sendHeartBeat() {
+        String serverId = ServerManager.getServerId(configuration.getServerAddress(), configuration.getServerPort());
+        try {
+            ManagedChannel channel = ServerManager.establishChannel(serverId, configuration.getChannelSettings());
+            ClientHeartBeatRequest request = ClientHeartBeatRequest.newBuilder()
+                    .setAddress(configuration.getLocalHost())
+                    .setPort(configuration.getLocalPort())
+                    .setCodec(this.wireCodec)
+                    .setCredits(receiveMessageService.getAvailableCredits())
+                    .setLoad(receiveMessageService.getLoad().toReport())
+                    .build();
+            if (!heartBeatStreamUnsupported) {
+                if (heartBeatStream == null) {
+                    heartBeatStream = ClientServiceGrpc.newStub(channel).heartbeatStream(new HeartBeatResponseObserver(serverId));
+                }
+                heartBeatStream.onNext(request);
+                return;
+            }
+            ClientServiceGrpc.ClientServiceBlockingStub stub =
+                    ClientServiceGrpc.newBlockingStub(channel);
+            this.handleHeartBeatResponse(stub.heartbeat(request));
+        } catch (StatusRuntimeException e) {
+            this.handleHeartBeatFailure(serverId, e.getStatus());
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+        }
+    }
+
+    private void handleHeartBeatResponse(ClientResponse response) {
+        ClientHeartBeatResponseBody responseBody = WireMessages.fromClientResponse(response, ClientHeartBeatResponseBody.class);
+        if (MessageResponseStatus.ERROR.equals(responseBody.getStatus())) {
+            log.warn("The client is not registered with the server, re-registration is in progress...");
+            this.register(configuration.getServerAddress(), configuration.getServerPort());
+        }
+    }
+
+    private void handleHeartBeatFailure(String serverId, Status status) {
+        Status.Code code = status.getCode();
+        log.error("Send a heartbeat check exception to Server: {}, Status Code: {}", serverId, code);
+        // The server status is UNAVAILABLE
+        if (Status.Code.UNAVAILABLE == code) {
+            ServerManager.removeChannel(serverId);
+            log.error("The service is unavailable, and the cached channel is deleted.");
+        }
+    }
+
+    /**
+     * The response observer of the heartbeat stream
+     * <p>
+     * The responses are handled on the heartbeat thread, the broken stream is opened again at the next heartbeat
+     */
+    private class HeartBeatResponseObserver implements StreamObserver<ClientResponse> {
+        private final String serverId;
+
+        HeartBeatResponseObserver(String serverId) {
+            this.serverId = serverId;
+        }
+
+        @Override
+        public void onNext(ClientResponse response) {
+            heartBeatExecutorService.execute(() -> {
                 try {
-                    ManagedChannel channel = ServerManager.establishChannel(serverId);
-                    ClientServiceGrpc.ClientServiceBlockingStub stub =
-                            ClientServiceGrpc.newBlockingStub(channel);
-                    ClientHeartBeatRequest request = ClientHeartBeatRequest.newBuilder()
-                            .setAddress(configuration.getLocalHost())
-                            .setPort(configuration.getLocalPort())
-                            .build();
-                    ClientResponse response = stub.heartbeat(request);
-                    String responseJsonBody = response.getBody();
-                    ClientHeartBeatResponseBody responseBody = JsonUtils.jsonToObject(responseJsonBody, ClientHeartBeatResponseBody.class);
-                    if (MessageResponseStatus.ERROR.equals(responseBody.getStatus())) {
-                        log.warn("The client is not registered with the server, re-registration is in progress...");
-                        this.register(configuration.getServerAddress(), configuration.getServerPort());
-                    }
-                } catch (StatusRuntimeException e) {
-                    Status.Code code = e.getStatus().getCode();
-                    log.error("Send a heartbeat check exception to Server: {}, Status Code: {}", serverId, code);
-                    // The server status is UNAVAILABLE
-                    if (Status.Code.UNAVAILABLE == code) {
-                        ServerManager.removeChannel(serverId);
-                        log.error("The service is unavailable, and the cached channel is deleted.");
-                    }
+                    handleHeartBeatResponse(response);
                 } catch (Exception e) {
                     log.error(e.getMessage(), e);
                 }
-            }, 5, configuration.getHeartBeatIntervalSeconds(), TimeUnit.SECONDS);
-            log.info("Client heartBeat thread starting successfully，interval：{}，interval timeunit：{}.",
-                    configuration.getHeartBeatIntervalSeconds(), TimeUnit.SECONDS);
+            });
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            heartBeatExecutorService.execute(() -> {
+                closeHeartBeatStream();
+                Status status = Status.fromThrowable(t);
+                if (Status.Code.UNIMPLEMENTED == status.getCode()) {
+                    heartBeatStreamUnsupported = true;
+                    log.warn("The heartbeat stream is not supported by Server: {}, use the unary heartbeat.", serverId);
+                    return;
+                }
+                handleHeartBeatFailure(serverId, status);
+            });
+        }
+
+        @Override
+        public void onCompleted() {
+            heartBeatExecutorService.execute(GRpcRegistrarService.this::closeHeartBeatStream);
         }
     }
+
+    private synchronized void closeHeartBeatStream() {
+        heartBeatStream = null;
+    }
 }
@@ -2,14 +2,19 @@ package org.minbox.framework.message.pipe.client.registrar.support;
 
 import com.alibaba.nacos.api.NacosFactory;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.NamingMaintainFactory;
+import com.alibaba.nacos.api.naming.NamingMaintainService;
 import com.alibaba.nacos.api.naming.NamingService;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import lombok.extern.slf4j.Slf4j;
+import org.minbox.framework.message.pipe.client.ReceiveMessageService;
 import org.minbox.framework.message.pipe.client.config.ClientConfiguration;
 import org.minbox.framework.message.pipe.client.process.MessageProcessorManager;
 import org.minbox.framework.message.pipe.client.registrar.RegistrarService;
 import org.minbox.framework.message.pipe.core.PipeConstants;
 import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
+import org.minbox.framework.message.pipe.core.thread.MessagePipeThreadFactory;
+import org.minbox.framework.message.pipe.core.transport.ProtocolVersion;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
@@ -19,23 +24,43 @@ import org.springframework.util.ObjectUtils;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Register Client to Nacos Server
+ * <p>
+ * The instance is registered once, the load in its metadata is refreshed at each heartbeat interval
+ * through the {@link NamingMaintainService}, the server reads it with the instance heartbeats
  *
  * @author 恒宇少年
  */
 @Slf4j
 public class NacosRegistrarService implements RegistrarService, InitializingBean, DisposableBean, BeanFactoryAware {
     private static final String NACOS_SERVER_ADDRESS_PATTERN = "%s:%d";
+    private static final String THREAD_NAME_PREFIX = "nacos-load-report";
     private BeanFactory beanFactory;
     private NamingService namingService;
+    /**
+     * Update the load metadata of the registered instance without registering it again
+     */
+    private NamingMaintainService namingMaintainService;
     private final ClientConfiguration configuration;
     private final String pipeNames;
+    /**
+     * Provide the load reported in the instance metadata
+     */
+    private final ReceiveMessageService receiveMessageService;
+    private final ScheduledExecutorService loadReportExecutorService;
 
     public NacosRegistrarService(ClientConfiguration configuration,
-                                 MessageProcessorManager messageProcessorManager) {
+                                 MessageProcessorManager messageProcessorManager,
+                                 ReceiveMessageService receiveMessageService) {
         this.configuration = configuration;
+        this.receiveMessageService = receiveMessageService;
+        this.loadReportExecutorService = Executors.newSingleThreadScheduledExecutor(
+                new MessagePipeThreadFactory(THREAD_NAME_PREFIX));
         this.pipeNames = messageProcessorManager.getBindingPipeNameString();
         if (configuration.getServerPort() <= 0 || configuration.getServerPort() > 65535) {
             throw new MessagePipeException("MessagePipe Server port must be greater than 0 and less than 65535");
@@ -80,21 +105,63 @@ public class NacosRegistrarService implements RegistrarService, InitializingBean
             if (this.namingService == null) {
                 this.namingService = this.createNamingService(serverAddress, serverPort);
             }
-            Instance instance = new Instance();
-            instance.setIp(this.configuration.getLocalHost());
-            instance.setPort(this.configuration.getLocalPort());
-            // metadata map
-            Map<String, String> metadata = new HashMap<>();
-            metadata.put(PipeConstants.PIPE_NAMES_METADATA_KEY, this.pipeNames);
-            instance.setMetadata(metadata);
             // register to nacos server
-            this.namingService.registerInstance(PipeConstants.CLIENT_SERVICE_NAME, instance);
+            this.namingService.registerInstance(PipeConstants.CLIENT_SERVICE_NAME, this.buildInstance());
+            this.startLoadReport(serverAddress, serverPort);
             log.info("Current client registered to nacos server successfully.");
         } catch (Exception e) {
             log.error(e.getMessage(), e);
         }
     }
 
+    /**
+     * Build the registered {@link Instance} with the current load in the metadata
+     *
+     * @return The {@link Instance} of current client
+     */
+    private Instance buildInstance() {
+        Instance instance = new Instance();
+        instance.setIp(this.configuration.getLocalHost());
+        instance.setPort(this.configuration.getLocalPort());
+        // metadata map
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put(PipeConstants.PIPE_NAMES_METADATA_KEY, this.pipeNames);
+        metadata.put(PipeConstants.PROTOCOL_VERSION_METADATA_KEY, String.valueOf(ProtocolVersion.CURRENT));
+        metadata.put(PipeConstants.SUPPORTED_CODECS_METADATA_KEY,
+                String.join(PipeConstants.PIPE_NAME_SPLIT, this.configuration.getSupportedWireCodecs()));
+        metadata.put(PipeConstants.SUPPORTED_COMPRESSIONS_METADATA_KEY,
+                String.join(PipeConstants.PIPE_NAME_SPLIT, this.configuration.getSupportedCompressions()));
+        metadata.put(PipeConstants.CLIENT_LOAD_METADATA_KEY, this.receiveMessageService.getLoad().toMetadataValue());
+        instance.setMetadata(metadata);
+        return instance;
+    }
+
+    /**
+     * Refresh the load metadata of the registered instance at each heartbeat interval
+     * <p>
+     * The instance is updated in place, the server only refreshes the load of the registered client
+     * instead of resetting the client list
+     *
+     * @param serverAddress The nacos server address
+     * @param serverPort    The nacos server port
+     * @throws NacosException If the {@link NamingMaintainService} cannot be created
+     */
+    private void startLoadReport(String serverAddress, int serverPort) throws NacosException {
+        if (this.namingMaintainService != null) {
+            return;
+        }
+        this.namingMaintainService = NamingMaintainFactory.createMaintainService(
+                String.format(NACOS_SERVER_ADDRESS_PATTERN, serverAddress, serverPort));
+        int interval = Math.max(1, this.configuration.getHeartBeatIntervalSeconds());
+        this.loadReportExecutorService.scheduleWithFixedDelay(() -> {
+            try {
+                this.namingMaintainService.updateInstance(PipeConstants.CLIENT_SERVICE_NAME, this.buildInstance());
+            } catch (Exception e) {
+                log.warn("Report the load to nacos server failed: {}", e.getMessage());
+            }
+        }, interval, interval, TimeUnit.SECONDS);
+    }
+
     @Override
     public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
         this.beanFactory = beanFactory;
@@ -111,6 +178,10 @@ public class NacosRegistrarService implements RegistrarService, InitializingBean
 
     @Override
     public void destroy() throws Exception {
+        this.loadReportExecutorService.shutdownNow();
+        if (this.namingMaintainService != null) {
+            this.namingMaintainService.shutDown();
+        }
         this.namingService.deregisterInstance(PipeConstants.CLIENT_SERVICE_NAME, this.configuration.getLocalHost(),
                 this.configuration.getLocalPort());
         log.info("The client is successfully offline from the nacos server.");
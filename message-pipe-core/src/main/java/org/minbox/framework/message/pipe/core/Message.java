@@ -33,7 +33,11 @@ public class Message implements Serializable {
     }
 
     public Message(byte[] body, String bodyEncoding) {
-        this.messageId = UUID.randomUUID().toString();
+        this(UUID.randomUUID().toString(), body, bodyEncoding);
+    }
+
+    public Message(String messageId, byte[] body, String bodyEncoding) {
+        this.messageId = messageId;
         this.bodyEncoding = bodyEncoding;
         this.body = body;
     }
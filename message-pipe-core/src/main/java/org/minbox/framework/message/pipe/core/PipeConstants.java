@@ -26,4 +26,35 @@ public interface PipeConstants {
      * The message id metadata key
      */
     String MESSAGE_ID_METADATA_KEY = "messageId";
+    /**
+     * The key of highest supported protocol version stored in the metadata collection
+     */
+    String PROTOCOL_VERSION_METADATA_KEY = "protocolVersion";
+    /**
+     * The key of supported wire codec names stored in the metadata collection
+     */
+    String SUPPORTED_CODECS_METADATA_KEY = "supportedCodecs";
+    /**
+     * The key of supported compressor names stored in the metadata collection
+     */
+    String SUPPORTED_COMPRESSIONS_METADATA_KEY = "supportedCompressions";
+    /**
+     * The key of the client load stored in the metadata collection, refreshed periodically
+     *
+     * @see org.minbox.framework.message.pipe.core.information.ClientLoad
+     */
+    String CLIENT_LOAD_METADATA_KEY = "clientLoad";
+    /**
+     * The metadata key of claim-check message, the value is the original body length
+     * <p>
+     * The body of claim-check message is stored separately and transferred before the batch
+     */
+    String CLAIM_CHECK_METADATA_KEY = "claimCheckBodyLength";
+    /**
+     * The metadata key of the time the message was written to the pipe, the value is the epoch milliseconds
+     * <p>
+     * Stamped by the server on the stored copy when the message is put, the message of the producer is not changed.
+     * The key is reserved like {@link #CLAIM_CHECK_METADATA_KEY}, the client can read it to measure the freshness
+     */
+    String ENQUEUE_TIME_METADATA_KEY = "enqueueTime";
 }
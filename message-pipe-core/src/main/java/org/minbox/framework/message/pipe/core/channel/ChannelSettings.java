@@ -0,0 +1,49 @@
+package org.minbox.framework.message.pipe.core.channel;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * The settings of grpc channels and servers
+ *
+ * @author 恒宇少年
+ * @see GrpcChannelFactory
+ */
+@Data
+@Accessors(chain = true)
+public class ChannelSettings {
+    /**
+     * The number of connections of each channel
+     * <p>
+     * The calls are spread over the connections in turn,
+     * increase it for the high throughput peers limited by a single HTTP/2 connection
+     */
+    private int connections = 1;
+    /**
+     * The initial HTTP/2 flow control window of each stream
+     */
+    private int flowControlWindowBytes = 4 * 1024 * 1024;
+    /**
+     * The maximum inbound message size
+     */
+    private int maxInboundMessageBytes = 16 * 1024 * 1024;
+    /**
+     * The interval of keepalive pings without read activity, 0 means disabled
+     * <p>
+     * Disabled by default. The servers built by {@link GrpcChannelFactory} permit pings of this interval,
+     * but the peers of the previous versions only permit a ping every 5 minutes and close the connection
+     * with "too_many_pings": enable it only after both the server and the clients are upgraded,
+     * and configure the same interval on both sides
+     */
+    private long keepAliveTimeSeconds;
+    /**
+     * The time to wait for the keepalive ack before the connection is closed
+     */
+    private long keepAliveTimeoutSeconds = 10;
+    /**
+     * Whether to send the keepalive pings when there is no outstanding call
+     * <p>
+     * The servers built by {@link GrpcChannelFactory} permit such pings only if enabled as well
+     */
+    private boolean keepAliveWithoutCalls;
+}
@@ -0,0 +1,162 @@
+package org.minbox.framework.message.pipe.core.channel;
+
+import io.grpc.ManagedChannel;
+import io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.NettyServerBuilder;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The factory of grpc channels and servers
+ * <p>
+ * All channels and servers share one netty event loop group and one bounded offload executor,
+ * instead of the per channel defaults of grpc. The native epoll transport is used when
+ * "io.netty:netty-transport-native-epoll" is present and available, otherwise nio is used.
+ * The buffers are allocated from the pooled direct allocator
+ *
+ * @author 恒宇少年
+ * @see ChannelSettings
+ */
+public class GrpcChannelFactory {
+    private static final String EPOLL_CLASS = "io.netty.channel.epoll.Epoll";
+    private static final String EPOLL_EVENT_LOOP_GROUP_CLASS = "io.netty.channel.epoll.EpollEventLoopGroup";
+    private static final String EPOLL_SOCKET_CHANNEL_CLASS = "io.netty.channel.epoll.EpollSocketChannel";
+    private static final String EPOLL_SERVER_SOCKET_CHANNEL_CLASS = "io.netty.channel.epoll.EpollServerSocketChannel";
+    private static final String EVENT_LOOP_THREAD_NAME_PREFIX = "message-pipe-grpc-event-loop";
+    private static final String OFFLOAD_THREAD_NAME_PREFIX = "message-pipe-grpc-offload";
+    private static final int PROCESSORS = Runtime.getRuntime().availableProcessors();
+    private static final boolean EPOLL_AVAILABLE = isEpollAvailable();
+    private static final EventLoopGroup EVENT_LOOP_GROUP = newEventLoopGroup();
+    private static final ExecutorService OFFLOAD_EXECUTOR =
+            Executors.newFixedThreadPool(Math.max(4, PROCESSORS * 2), new DefaultThreadFactory(OFFLOAD_THREAD_NAME_PREFIX, true));
+
+    private GrpcChannelFactory() {
+    }
+
+    /**
+     * Create a plaintext channel to the address
+     *
+     * @param address  The peer address
+     * @param port     The peer port
+     * @param settings The {@link ChannelSettings}
+     * @return The {@link ManagedChannel}, a {@link PooledManagedChannel} if more than one connection is configured
+     */
+    public static ManagedChannel newChannel(String address, int port, ChannelSettings settings) {
+        int connections = Math.max(1, settings.getConnections());
+        if (connections == 1) {
+            return newConnection(address, port, settings);
+        }
+        ManagedChannel[] channels = new ManagedChannel[connections];
+        for (int i = 0; i < connections; i++) {
+            channels[i] = newConnection(address, port, settings);
+        }
+        return new PooledManagedChannel(channels);
+    }
+
+    /**
+     * Create a server builder on the shared event loop group
+     * <p>
+     * The keepalive pings of the {@link #newChannel} channels of the same {@link ChannelSettings} are permitted
+     *
+     * @param port     The listening port
+     * @param settings The {@link ChannelSettings}
+     * @return The {@link NettyServerBuilder} instance
+     */
+    public static NettyServerBuilder newServerBuilder(int port, ChannelSettings settings) {
+        NettyServerBuilder builder = NettyServerBuilder.forPort(port)
+                .bossEventLoopGroup(EVENT_LOOP_GROUP)
+                .workerEventLoopGroup(EVENT_LOOP_GROUP)
+                .channelType(serverChannelType())
+                .withChildOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .flowControlWindow(settings.getFlowControlWindowBytes())
+                .maxInboundMessageSize(settings.getMaxInboundMessageBytes());
+        if (settings.getKeepAliveTimeSeconds() > 0) {
+            builder.permitKeepAliveTime(settings.getKeepAliveTimeSeconds(), TimeUnit.SECONDS)
+                    .permitKeepAliveWithoutCalls(settings.isKeepAliveWithoutCalls());
+        }
+        return builder;
+    }
+
+    /**
+     * Check if the native epoll transport is used
+     *
+     * @return Return "true" if used
+     */
+    public static boolean isEpollUsed() {
+        return EPOLL_AVAILABLE;
+    }
+
+    private static ManagedChannel newConnection(String address, int port, ChannelSettings settings) {
+        NettyChannelBuilder builder = NettyChannelBuilder.forAddress(address, port)
+                .eventLoopGroup(EVENT_LOOP_GROUP)
+                .channelType(channelType())
+                .withOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .executor(OFFLOAD_EXECUTOR)
+                .flowControlWindow(settings.getFlowControlWindowBytes())
+                .maxInboundMessageSize(settings.getMaxInboundMessageBytes())
+                .usePlaintext();
+        if (settings.getKeepAliveTimeSeconds() > 0) {
+            builder.keepAliveTime(settings.getKeepAliveTimeSeconds(), TimeUnit.SECONDS)
+                    .keepAliveTimeout(settings.getKeepAliveTimeoutSeconds(), TimeUnit.SECONDS)
+                    .keepAliveWithoutCalls(settings.isKeepAliveWithoutCalls());
+        }
+        return builder.build();
+    }
+
+    private static EventLoopGroup newEventLoopGroup() {
+        ThreadFactory threadFactory = new DefaultThreadFactory(EVENT_LOOP_THREAD_NAME_PREFIX, true);
+        if (EPOLL_AVAILABLE) {
+            try {
+                return (EventLoopGroup) Class.forName(EPOLL_EVENT_LOOP_GROUP_CLASS)
+                        .getConstructor(int.class, ThreadFactory.class)
+                        .newInstance(PROCESSORS, threadFactory);
+            } catch (ReflectiveOperationException e) {
+                throw new MessagePipeException("Create the epoll event loop group failed.", e);
+            }
+        }
+        return new NioEventLoopGroup(PROCESSORS, threadFactory);
+    }
+
+    private static Class<? extends Channel> channelType() {
+        return EPOLL_AVAILABLE ? loadClass(EPOLL_SOCKET_CHANNEL_CLASS, Channel.class) : NioSocketChannel.class;
+    }
+
+    private static Class<? extends ServerChannel> serverChannelType() {
+        return EPOLL_AVAILABLE ? loadClass(EPOLL_SERVER_SOCKET_CHANNEL_CLASS, ServerChannel.class) : NioServerSocketChannel.class;
+    }
+
+    private static <T> Class<? extends T> loadClass(String className, Class<T> type) {
+        try {
+            return Class.forName(className, true, GrpcChannelFactory.class.getClassLoader()).asSubclass(type);
+        } catch (ClassNotFoundException e) {
+            throw new MessagePipeException("Load class: " + className + " failed.", e);
+        }
+    }
+
+    /**
+     * Check if the native epoll transport is present and available on current platform
+     *
+     * @return Return "true" if available
+     */
+    private static boolean isEpollAvailable() {
+        try {
+            Class<?> epoll = Class.forName(EPOLL_CLASS, true, GrpcChannelFactory.class.getClassLoader());
+            return (Boolean) epoll.getMethod("isAvailable").invoke(null);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package org.minbox.framework.message.pipe.core.channel;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@link ManagedChannel} spreading calls over several connections
+ * <p>
+ * Each call is started on the next connection in turn,
+ * a long-lived stream stays on the connection it is started on
+ *
+ * @author 恒宇少年
+ * @see ChannelSettings#getConnections()
+ */
+class PooledManagedChannel extends ManagedChannel {
+    private final ManagedChannel[] channels;
+    private final AtomicInteger next = new AtomicInteger();
+    /**
+     * Whether the connection at the index has a pending state registration, guarded by {@link #callbacks}
+     */
+    private final boolean[] watching;
+    /**
+     * The pending callbacks of {@link #notifyWhenStateChanged}
+     */
+    private final List<Runnable> callbacks = new ArrayList<>();
+
+    PooledManagedChannel(ManagedChannel[] channels) {
+        this.channels = channels;
+        this.watching = new boolean[channels.length];
+    }
+
+    @Override
+    public <RequestT, ResponseT> ClientCall<RequestT, ResponseT> newCall(MethodDescriptor<RequestT, ResponseT> methodDescriptor,
+                                                                         CallOptions callOptions) {
+        int index = Math.floorMod(next.getAndIncrement(), channels.length);
+        return channels[index].newCall(methodDescriptor, callOptions);
+    }
+
+    @Override
+    public String authority() {
+        return channels[0].authority();
+    }
+
+    @Override
+    public ManagedChannel shutdown() {
+        for (ManagedChannel channel : channels) {
+            channel.shutdown();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        for (ManagedChannel channel : channels) {
+            if (!channel.isShutdown()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        for (ManagedChannel channel : channels) {
+            if (!channel.isTerminated()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ManagedChannel shutdownNow() {
+        for (ManagedChannel channel : channels) {
+            channel.shutdownNow();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+        for (ManagedChannel channel : channels) {
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            if (remainingNanos <= 0 || !channel.awaitTermination(remainingNanos, TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the best state of the connections
+     *
+     * @param requestConnection Whether to connect the idle connections
+     * @return {@link ConnectivityState#READY} if any connection is ready, otherwise the state of the first connection
+     */
+    @Override
+    public ConnectivityState getState(boolean requestConnection) {
+        ConnectivityState state = null;
+        for (ManagedChannel channel : channels) {
+            ConnectivityState channelState = channel.getState(requestConnection);
+            if (ConnectivityState.READY == channelState) {
+                return channelState;
+            }
+            if (state == null) {
+                state = channelState;
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Notify once when any connection changes its state
+     * <p>
+     * The callback is run immediately if the best state is already different from the source.
+     * Each connection holds at most one pending registration shared by all callbacks,
+     * only the connection that fired is registered again by the next call
+     *
+     * @param source   The best state of the connections
+     * @param callback The callback run once
+     */
+    @Override
+    public void notifyWhenStateChanged(ConnectivityState source, Runnable callback) {
+        if (source != this.getState(false)) {
+            callback.run();
+            return;
+        }
+        List<Integer> registrations = new ArrayList<>(channels.length);
+        synchronized (callbacks) {
+            callbacks.add(callback);
+            for (int i = 0; i < channels.length; i++) {
+                if (!watching[i]) {
+                    watching[i] = true;
+                    registrations.add(i);
+                }
+            }
+        }
+        for (int index : registrations) {
+            ManagedChannel channel = channels[index];
+            channel.notifyWhenStateChanged(channel.getState(false), () -> this.onStateChanged(index));
+        }
+    }
+
+    /**
+     * Run the pending callbacks when the connection at the index changes its state
+     *
+     * @param index The connection index
+     */
+    private void onStateChanged(int index) {
+        List<Runnable> pendingCallbacks;
+        synchronized (callbacks) {
+            watching[index] = false;
+            pendingCallbacks = new ArrayList<>(callbacks);
+            callbacks.clear();
+        }
+        pendingCallbacks.forEach(Runnable::run);
+    }
+
+    @Override
+    public void resetConnectBackoff() {
+        for (ManagedChannel channel : channels) {
+            channel.resetConnectBackoff();
+        }
+    }
+
+    @Override
+    public void enterIdle() {
+        for (ManagedChannel channel : channels) {
+            channel.enterIdle();
+        }
+    }
+}
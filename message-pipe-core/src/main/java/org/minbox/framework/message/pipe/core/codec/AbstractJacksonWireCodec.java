@@ -0,0 +1,50 @@
+package org.minbox.framework.message.pipe.core.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
+
+import java.io.IOException;
+
+/**
+ * The {@link WireCodec} implementation based on jackson {@link ObjectMapper}
+ * <p>
+ * The {@link ObjectMapper} is created once and shared by all threads
+ *
+ * @author 恒宇少年
+ */
+public abstract class AbstractJacksonWireCodec implements WireCodec {
+    private final String name;
+    private final ObjectMapper mapper;
+
+    protected AbstractJacksonWireCodec(String name, ObjectMapper mapper) {
+        this.name = name;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public byte[] encode(Object object) throws MessagePipeException {
+        try {
+            return mapper.writeValueAsBytes(object);
+        } catch (IOException e) {
+            throw new MessagePipeException("Codec: " + name + ", encode " +
+                    (object == null ? null : object.getClass().getName()) + " failed.", e);
+        }
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, Class<T> type) throws MessagePipeException {
+        if (bytes == null || bytes.length == 0) {
+            throw new MessagePipeException("Codec: " + name + ", the bytes to decode " + type.getName() + " is empty.");
+        }
+        try {
+            return mapper.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new MessagePipeException("Codec: " + name + ", decode " + type.getName() + " failed.", e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.minbox.framework.message.pipe.core.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * The cbor {@link WireCodec}
+ * <p>
+ * Available when "jackson-dataformat-cbor" is on the classpath
+ *
+ * @author 恒宇少年
+ */
+public class CborWireCodec extends AbstractJacksonWireCodec {
+
+    public CborWireCodec() {
+        super(WireCodecs.CBOR, new ObjectMapper(new CBORFactory())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+    }
+}
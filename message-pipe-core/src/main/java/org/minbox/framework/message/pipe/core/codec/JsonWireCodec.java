@@ -0,0 +1,18 @@
+package org.minbox.framework.message.pipe.core.codec;
+
+import org.minbox.framework.message.pipe.core.untis.JsonUtils;
+
+/**
+ * The json {@link WireCodec}
+ * <p>
+ * Use the shared {@link com.fasterxml.jackson.databind.ObjectMapper} of {@link JsonUtils},
+ * all clients support this codec
+ *
+ * @author 恒宇少年
+ */
+public class JsonWireCodec extends AbstractJacksonWireCodec {
+
+    public JsonWireCodec() {
+        super(WireCodecs.JSON, JsonUtils.getObjectMapper());
+    }
+}
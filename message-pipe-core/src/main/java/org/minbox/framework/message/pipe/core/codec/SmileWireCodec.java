@@ -0,0 +1,20 @@
+package org.minbox.framework.message.pipe.core.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * The binary json (smile) {@link WireCodec}
+ * <p>
+ * Available when "jackson-dataformat-smile" is on the classpath
+ *
+ * @author 恒宇少年
+ */
+public class SmileWireCodec extends AbstractJacksonWireCodec {
+
+    public SmileWireCodec() {
+        super(WireCodecs.SMILE, new ObjectMapper(new SmileFactory())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+    }
+}
@@ -0,0 +1,45 @@
+package org.minbox.framework.message.pipe.core.codec;
+
+import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
+
+/**
+ * The transport body wire codec
+ * <p>
+ * Encode the transport bodies (e.g. request, response) to bytes before sending,
+ * the codec used with a client is negotiated when the client registers.
+ * Custom implementations can be registered by {@link WireCodecs#register(WireCodec)}
+ * or by {@link java.util.ServiceLoader} with the name of this interface
+ *
+ * @author 恒宇少年
+ * @see WireCodecs
+ */
+public interface WireCodec {
+    /**
+     * Get the unique name of codec
+     * <p>
+     * The name is transferred during the negotiation
+     *
+     * @return The codec name
+     */
+    String getName();
+
+    /**
+     * Encode the object to bytes
+     *
+     * @param object The object to encode
+     * @return The encoded bytes
+     * @throws MessagePipeException If the object cannot be encoded
+     */
+    byte[] encode(Object object) throws MessagePipeException;
+
+    /**
+     * Decode bytes to the object
+     *
+     * @param bytes The encoded bytes
+     * @param type  The object type
+     * @param <T>   The object type
+     * @return The decoded object instance
+     * @throws MessagePipeException If the bytes cannot be decoded
+     */
+    <T> T decode(byte[] bytes, Class<T> type) throws MessagePipeException;
+}
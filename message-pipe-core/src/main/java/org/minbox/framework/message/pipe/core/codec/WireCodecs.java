@@ -0,0 +1,140 @@
+package org.minbox.framework.message.pipe.core.codec;
+
+import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The {@link WireCodec} registry
+ * <p>
+ * The json codec is always registered, smile and cbor are registered when the jackson dataformat is on the classpath,
+ * other implementations are loaded by {@link ServiceLoader}
+ *
+ * @author 恒宇少年
+ */
+public final class WireCodecs {
+    /**
+     * The json codec name, the default codec
+     */
+    public static final String JSON = "json";
+    /**
+     * The smile codec name
+     */
+    public static final String SMILE = "smile";
+    /**
+     * The cbor codec name
+     */
+    public static final String CBOR = "cbor";
+    /**
+     * The default codec preference of the server
+     */
+    public static final String[] DEFAULT_PREFERENCES = {SMILE, CBOR, JSON};
+    private static final String SMILE_FACTORY_CLASS = "com.fasterxml.jackson.dataformat.smile.SmileFactory";
+    private static final String CBOR_FACTORY_CLASS = "com.fasterxml.jackson.dataformat.cbor.CBORFactory";
+    /**
+     * All registered codecs: CodecName -> WireCodec
+     */
+    private static final ConcurrentMap<String, WireCodec> CODECS = new ConcurrentHashMap<>();
+
+    static {
+        register(new JsonWireCodec());
+        if (isPresent(SMILE_FACTORY_CLASS)) {
+            register(new SmileWireCodec());
+        }
+        if (isPresent(CBOR_FACTORY_CLASS)) {
+            register(new CborWireCodec());
+        }
+        try {
+            ServiceLoader.load(WireCodec.class).forEach(WireCodecs::register);
+        } catch (ServiceConfigurationError e) {
+            throw new MessagePipeException("Load WireCodec implementations failed.", e);
+        }
+    }
+
+    private WireCodecs() {
+    }
+
+    /**
+     * Register a {@link WireCodec}
+     * <p>
+     * The registered codec with the same name is replaced
+     *
+     * @param codec The {@link WireCodec} instance
+     */
+    public static void register(WireCodec codec) {
+        if (codec == null || codec.getName() == null || codec.getName().isEmpty()) {
+            throw new MessagePipeException("The WireCodec and its name cannot be empty.");
+        }
+        CODECS.put(codec.getName(), codec);
+    }
+
+    /**
+     * Get the {@link WireCodec} by name
+     *
+     * @param name The codec name, json codec is returned if the name is empty
+     * @return The {@link WireCodec} instance
+     * @throws MessagePipeException If the codec is not registered
+     */
+    public static WireCodec getCodec(String name) throws MessagePipeException {
+        if (name == null || name.isEmpty()) {
+            return CODECS.get(JSON);
+        }
+        WireCodec codec = CODECS.get(name);
+        if (codec == null) {
+            throw new MessagePipeException("The WireCodec: " + name + " is not registered.");
+        }
+        return codec;
+    }
+
+    /**
+     * Check if the codec is registered
+     *
+     * @param name The codec name
+     * @return Return "true" if registered
+     */
+    public static boolean isSupported(String name) {
+        return name != null && CODECS.containsKey(name);
+    }
+
+    /**
+     * Get the names of all registered codecs
+     *
+     * @return The codec names
+     */
+    public static List<String> getSupportedNames() {
+        return new ArrayList<>(CODECS.keySet());
+    }
+
+    /**
+     * Negotiate the codec used with the client
+     * <p>
+     * Select the first codec of preferences supported by both sides,
+     * use {@link #JSON} if there is no common codec
+     *
+     * @param preferences     The codec preferences, in order
+     * @param clientSupported The codec names supported by the client, may be empty
+     * @return The negotiated codec name
+     */
+    public static String negotiate(String[] preferences, Collection<String> clientSupported) {
+        if (preferences == null || clientSupported == null || clientSupported.isEmpty()) {
+            return JSON;
+        }
+        for (String preference : preferences) {
+            if (isSupported(preference) && clientSupported.contains(preference)) {
+                return preference;
+            }
+        }
+        return JSON;
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, WireCodecs.class.getClassLoader());
+            return true;
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+}
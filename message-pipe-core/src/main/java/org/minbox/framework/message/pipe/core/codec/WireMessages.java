@@ -0,0 +1,126 @@
+package org.minbox.framework.message.pipe.core.codec;
+
+import com.google.protobuf.ByteString;
+import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
+import org.minbox.framework.message.pipe.core.grpc.proto.ClientResponse;
+import org.minbox.framework.message.pipe.core.grpc.proto.MessageRequest;
+import org.minbox.framework.message.pipe.core.grpc.proto.MessageResponse;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encode the transport bodies into the grpc messages by {@link WireCodec}
+ * <p>
+ * The {@link WireCodecs#JSON} codec keeps using the string "body" field, so that the clients
+ * without codec negotiation are compatible, other codecs use the "payload" and "codec" fields
+ *
+ * @author 恒宇少年
+ */
+public final class WireMessages {
+
+    private WireMessages() {
+    }
+
+    /**
+     * Create a {@link MessageRequest}
+     *
+     * @param body  The request body
+     * @param codec The codec name
+     * @return The {@link MessageRequest} instance
+     */
+    public static MessageRequest toMessageRequest(Object body, String codec) {
+        MessageRequest.Builder builder = MessageRequest.newBuilder();
+        if (isJson(codec)) {
+            return builder.setBody(encodeToString(body)).build();
+        }
+        return builder.setPayload(encode(body, codec)).setCodec(codec).build();
+    }
+
+    /**
+     * Decode the body of {@link MessageRequest}
+     *
+     * @param request The {@link MessageRequest} instance
+     * @param type    The body type
+     * @param <T>     The body type
+     * @return The body instance
+     */
+    public static <T> T fromMessageRequest(MessageRequest request, Class<T> type) {
+        return decode(request.getBody(), request.getPayload(), request.getCodec(), type);
+    }
+
+    /**
+     * Create a {@link MessageResponse}
+     *
+     * @param body  The response body
+     * @param codec The codec name
+     * @return The {@link MessageResponse} instance
+     */
+    public static MessageResponse toMessageResponse(Object body, String codec) {
+        MessageResponse.Builder builder = MessageResponse.newBuilder();
+        if (isJson(codec)) {
+            return builder.setBody(encodeToString(body)).build();
+        }
+        return builder.setPayload(encode(body, codec)).setCodec(codec).build();
+    }
+
+    /**
+     * Decode the body of {@link MessageResponse}
+     *
+     * @param response The {@link MessageResponse} instance
+     * @param type     The body type
+     * @param <T>      The body type
+     * @return The body instance
+     */
+    public static <T> T fromMessageResponse(MessageResponse response, Class<T> type) {
+        return decode(response.getBody(), response.getPayload(), response.getCodec(), type);
+    }
+
+    /**
+     * Create a {@link ClientResponse}
+     *
+     * @param body  The response body
+     * @param codec The codec name
+     * @return The {@link ClientResponse} instance
+     */
+    public static ClientResponse toClientResponse(Object body, String codec) {
+        ClientResponse.Builder builder = ClientResponse.newBuilder();
+        if (isJson(codec)) {
+            return builder.setBody(encodeToString(body)).build();
+        }
+        return builder.setPayload(encode(body, codec)).setCodec(codec).build();
+    }
+
+    /**
+     * Decode the body of {@link ClientResponse}
+     *
+     * @param response The {@link ClientResponse} instance
+     * @param type     The body type
+     * @param <T>      The body type
+     * @return The body instance
+     */
+    public static <T> T fromClientResponse(ClientResponse response, Class<T> type) {
+        return decode(response.getBody(), response.getPayload(), response.getCodec(), type);
+    }
+
+    private static boolean isJson(String codec) {
+        return codec == null || codec.isEmpty() || WireCodecs.JSON.equals(codec);
+    }
+
+    private static String encodeToString(Object body) {
+        return new String(WireCodecs.getCodec(WireCodecs.JSON).encode(body), StandardCharsets.UTF_8);
+    }
+
+    private static ByteString encode(Object body, String codec) {
+        return ByteString.copyFrom(WireCodecs.getCodec(codec).encode(body));
+    }
+
+    private static <T> T decode(String body, ByteString payload, String codec, Class<T> type) {
+        if (!payload.isEmpty()) {
+            return WireCodecs.getCodec(codec).decode(payload.toByteArray(), type);
+        }
+        if (body.isEmpty()) {
+            throw new MessagePipeException("The body of " + type.getName() + " is empty.");
+        }
+        return WireCodecs.getCodec(WireCodecs.JSON).decode(body.getBytes(StandardCharsets.UTF_8), type);
+    }
+}
@@ -0,0 +1,52 @@
+package org.minbox.framework.message.pipe.core.compress;
+
+import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
+
+/**
+ * The payload compressor
+ * <p>
+ * Used to compress the message body stored in redis and transferred to the client,
+ * the compressor of each pipe is configured by name, clients advertise the supported names when registering.
+ * Custom implementations can be registered by {@link Compressors#register(Compressor)}
+ * or by {@link java.util.ServiceLoader} with the name of this interface
+ *
+ * @author 恒宇少年
+ * @see Compressors
+ */
+public interface Compressor {
+    /**
+     * Get the unique name of compressor
+     * <p>
+     * The name is transferred with the compressed message body
+     *
+     * @return The compressor name
+     */
+    String getName();
+
+    /**
+     * Get the unique id of compressor
+     * <p>
+     * The id is written to the header of compressed redis entries, must be positive
+     *
+     * @return The compressor id
+     */
+    byte getId();
+
+    /**
+     * Compress the bytes
+     *
+     * @param bytes The original bytes
+     * @return The compressed bytes
+     * @throws MessagePipeException If the bytes cannot be compressed
+     */
+    byte[] compress(byte[] bytes) throws MessagePipeException;
+
+    /**
+     * Decompress the bytes
+     *
+     * @param bytes The compressed bytes
+     * @return The original bytes
+     * @throws MessagePipeException If the bytes cannot be decompressed
+     */
+    byte[] decompress(byte[] bytes) throws MessagePipeException;
+}
@@ -0,0 +1,145 @@
+package org.minbox.framework.message.pipe.core.compress;
+
+import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The {@link Compressor} registry
+ * <p>
+ * The gzip compressor is always registered, lz4 and zstd are registered when their library is on the classpath,
+ * other implementations are loaded by {@link ServiceLoader}
+ *
+ * @author 恒宇少年
+ */
+public final class Compressors {
+    /**
+     * The gzip compressor name
+     */
+    public static final String GZIP = "gzip";
+    /**
+     * The lz4 compressor name
+     */
+    public static final String LZ4 = "lz4";
+    /**
+     * The zstd compressor name
+     */
+    public static final String ZSTD = "zstd";
+    private static final String LZ4_FACTORY_CLASS = "net.jpountz.lz4.LZ4Factory";
+    private static final String ZSTD_CLASS = "com.github.luben.zstd.Zstd";
+    /**
+     * All registered compressors: CompressorName -> Compressor
+     */
+    private static final ConcurrentMap<String, Compressor> COMPRESSORS = new ConcurrentHashMap<>();
+    /**
+     * All registered compressors: CompressorId -> Compressor
+     */
+    private static final ConcurrentMap<Byte, Compressor> COMPRESSOR_IDS = new ConcurrentHashMap<>();
+
+    static {
+        register(new GzipCompressor());
+        if (isPresent(LZ4_FACTORY_CLASS)) {
+            register(new Lz4Compressor());
+        }
+        if (isPresent(ZSTD_CLASS)) {
+            register(new ZstdCompressor());
+        }
+        try {
+            ServiceLoader.load(Compressor.class).forEach(Compressors::register);
+        } catch (ServiceConfigurationError e) {
+            throw new MessagePipeException("Load Compressor implementations failed.", e);
+        }
+    }
+
+    private Compressors() {
+    }
+
+    /**
+     * Register a {@link Compressor}
+     * <p>
+     * The registered compressor with the same name is replaced
+     *
+     * @param compressor The {@link Compressor} instance
+     */
+    public static synchronized void register(Compressor compressor) {
+        if (compressor == null || compressor.getName() == null || compressor.getName().isEmpty()) {
+            throw new MessagePipeException("The Compressor and its name cannot be empty.");
+        }
+        if (compressor.getId() <= 0) {
+            throw new MessagePipeException("The id of Compressor: " + compressor.getName() + " must be positive.");
+        }
+        Compressor sameId = COMPRESSOR_IDS.get(compressor.getId());
+        if (sameId != null && !sameId.getName().equals(compressor.getName())) {
+            throw new MessagePipeException("The id of Compressor: " + compressor.getName() +
+                    " is already used by: " + sameId.getName());
+        }
+        Compressor replaced = COMPRESSORS.put(compressor.getName(), compressor);
+        if (replaced != null) {
+            COMPRESSOR_IDS.remove(replaced.getId(), replaced);
+        }
+        COMPRESSOR_IDS.put(compressor.getId(), compressor);
+    }
+
+    /**
+     * Get the {@link Compressor} by name
+     *
+     * @param name The compressor name
+     * @return The {@link Compressor} instance, null if the name is empty
+     * @throws MessagePipeException If the compressor is not registered
+     */
+    public static Compressor getCompressor(String name) throws MessagePipeException {
+        if (name == null || name.isEmpty()) {
+            return null;
+        }
+        Compressor compressor = COMPRESSORS.get(name);
+        if (compressor == null) {
+            throw new MessagePipeException("The Compressor: " + name + " is not registered.");
+        }
+        return compressor;
+    }
+
+    /**
+     * Get the {@link Compressor} by id
+     *
+     * @param id The compressor id
+     * @return The {@link Compressor} instance
+     * @throws MessagePipeException If the compressor is not registered
+     */
+    public static Compressor getCompressor(byte id) throws MessagePipeException {
+        Compressor compressor = COMPRESSOR_IDS.get(id);
+        if (compressor == null) {
+            throw new MessagePipeException("The Compressor with id: " + id + " is not registered.");
+        }
+        return compressor;
+    }
+
+    /**
+     * Check if the compressor is registered
+     *
+     * @param name The compressor name
+     * @return Return "true" if registered
+     */
+    public static boolean isSupported(String name) {
+        return name != null && COMPRESSORS.containsKey(name);
+    }
+
+    /**
+     * Get the names of all registered compressors
+     *
+     * @return The compressor names
+     */
+    public static List<String> getSupportedNames() {
+        return new ArrayList<>(COMPRESSORS.keySet());
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, Compressors.class.getClassLoader());
+            return true;
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+}
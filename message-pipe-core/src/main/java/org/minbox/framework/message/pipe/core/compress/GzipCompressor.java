@@ -0,0 +1,54 @@
+package org.minbox.framework.message.pipe.core.compress;
+
+import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The gzip {@link Compressor}, always available
+ *
+ * @author 恒宇少年
+ */
+public class GzipCompressor implements Compressor {
+    private static final int BUFFER_SIZE = 8192;
+
+    @Override
+    public String getName() {
+        return Compressors.GZIP;
+    }
+
+    @Override
+    public byte getId() {
+        return 1;
+    }
+
+    @Override
+    public byte[] compress(byte[] bytes) throws MessagePipeException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(Math.max(bytes.length / 4, 64));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(outputStream, BUFFER_SIZE)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new MessagePipeException("Compress by gzip failed.", e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Override
+    public byte[] decompress(byte[] bytes) throws MessagePipeException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length * 4);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes), BUFFER_SIZE)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int length;
+            while ((length = gzip.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, length);
+            }
+        } catch (IOException e) {
+            throw new MessagePipeException("Decompress by gzip failed.", e);
+        }
+        return outputStream.toByteArray();
+    }
+}
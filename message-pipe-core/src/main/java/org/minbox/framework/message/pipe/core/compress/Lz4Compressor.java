@@ -0,0 +1,64 @@
+package org.minbox.framework.message.pipe.core.compress;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The lz4 {@link Compressor}
+ * <p>
+ * Registered when "org.lz4:lz4-java" is on the classpath.
+ * The compressed bytes are the original length (4 bytes) followed by the lz4 block
+ *
+ * @author 恒宇少年
+ */
+public class Lz4Compressor implements Compressor {
+    private static final int LENGTH_BYTES = 4;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    public Lz4Compressor() {
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+    }
+
+    @Override
+    public String getName() {
+        return Compressors.LZ4;
+    }
+
+    @Override
+    public byte getId() {
+        return 2;
+    }
+
+    @Override
+    public byte[] compress(byte[] bytes) throws MessagePipeException {
+        try {
+            byte[] compressed = new byte[LENGTH_BYTES + compressor.maxCompressedLength(bytes.length)];
+            ByteBuffer.wrap(compressed).putInt(bytes.length);
+            int length = compressor.compress(bytes, 0, bytes.length, compressed, LENGTH_BYTES);
+            byte[] result = new byte[LENGTH_BYTES + length];
+            System.arraycopy(compressed, 0, result, 0, result.length);
+            return result;
+        } catch (RuntimeException e) {
+            throw new MessagePipeException("Compress by lz4 failed.", e);
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] bytes) throws MessagePipeException {
+        try {
+            int length = ByteBuffer.wrap(bytes).getInt();
+            byte[] result = new byte[length];
+            decompressor.decompress(bytes, LENGTH_BYTES, result, 0, length);
+            return result;
+        } catch (RuntimeException e) {
+            throw new MessagePipeException("Decompress by lz4 failed.", e);
+        }
+    }
+}
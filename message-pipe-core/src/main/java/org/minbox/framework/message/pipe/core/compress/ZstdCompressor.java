@@ -0,0 +1,63 @@
+package org.minbox.framework.message.pipe.core.compress;
+
+import com.github.luben.zstd.Zstd;
+import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
+
+/**
+ * The zstd {@link Compressor}
+ * <p>
+ * Registered when "com.github.luben:zstd-jni" is on the classpath,
+ * the original length is kept in the zstd frame header
+ *
+ * @author 恒宇少年
+ */
+public class ZstdCompressor implements Compressor {
+    /**
+     * The default zstd compression level
+     */
+    private static final int DEFAULT_LEVEL = 3;
+    private final int level;
+
+    public ZstdCompressor() {
+        this(DEFAULT_LEVEL);
+    }
+
+    public ZstdCompressor(int level) {
+        this.level = level;
+    }
+
+    @Override
+    public String getName() {
+        return Compressors.ZSTD;
+    }
+
+    @Override
+    public byte getId() {
+        return 3;
+    }
+
+    @Override
+    public byte[] compress(byte[] bytes) throws MessagePipeException {
+        try {
+            return Zstd.compress(bytes, level);
+        } catch (RuntimeException e) {
+            throw new MessagePipeException("Compress by zstd failed.", e);
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] bytes) throws MessagePipeException {
+        try {
+            // Negative if the content size is unknown (-1) or the frame header is invalid (-2)
+            long length = Zstd.getFrameContentSize(bytes);
+            if (length < 0 || length > Integer.MAX_VALUE) {
+                throw new MessagePipeException("The zstd frame has an invalid content size: " + length);
+            }
+            return length == 0 ? new byte[0] : Zstd.decompress(bytes, (int) length);
+        } catch (MessagePipeException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new MessagePipeException("Decompress by zstd failed.", e);
+        }
+    }
+}
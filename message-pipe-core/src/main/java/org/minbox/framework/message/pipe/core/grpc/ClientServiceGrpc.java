@@ -82,6 +82,37 @@ public final class ClientServiceGrpc {
     return getHeartbeatMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<ClientHeartBeatRequest,
+          ClientResponse> getHeartbeatStreamMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "heartbeatStream",
+      requestType = ClientHeartBeatRequest.class,
+      responseType = ClientResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+  public static io.grpc.MethodDescriptor<ClientHeartBeatRequest,
+          ClientResponse> getHeartbeatStreamMethod() {
+    io.grpc.MethodDescriptor<ClientHeartBeatRequest, ClientResponse> getHeartbeatStreamMethod;
+    if ((getHeartbeatStreamMethod = ClientServiceGrpc.getHeartbeatStreamMethod) == null) {
+      synchronized (ClientServiceGrpc.class) {
+        if ((getHeartbeatStreamMethod = ClientServiceGrpc.getHeartbeatStreamMethod) == null) {
+          ClientServiceGrpc.getHeartbeatStreamMethod = getHeartbeatStreamMethod =
+              io.grpc.MethodDescriptor.<ClientHeartBeatRequest, ClientResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "heartbeatStream"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ClientHeartBeatRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ClientResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new ClientServiceMethodDescriptorSupplier("heartbeatStream"))
+              .build();
+        }
+      }
+    }
+    return getHeartbeatStreamMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -144,6 +175,13 @@ public final class ClientServiceGrpc {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getHeartbeatMethod(), responseObserver);
     }
 
+    /**
+     */
+    public io.grpc.stub.StreamObserver<ClientHeartBeatRequest> heartbeatStream(
+        io.grpc.stub.StreamObserver<ClientResponse> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getHeartbeatStreamMethod(), responseObserver);
+    }
+
     @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
       return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
           .addMethod(
@@ -160,6 +198,13 @@ public final class ClientServiceGrpc {
                       ClientHeartBeatRequest,
                       ClientResponse>(
                   this, METHODID_HEARTBEAT)))
+          .addMethod(
+            getHeartbeatStreamMethod(),
+            io.grpc.stub.ServerCalls.asyncBidiStreamingCall(
+              new MethodHandlers<
+                ClientHeartBeatRequest,
+                ClientResponse>(
+                  this, METHODID_HEARTBEAT_STREAM)))
           .build();
     }
   }
@@ -193,6 +238,14 @@ public final class ClientServiceGrpc {
       io.grpc.stub.ClientCalls.asyncUnaryCall(
           getChannel().newCall(getHeartbeatMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<ClientHeartBeatRequest> heartbeatStream(
+        io.grpc.stub.StreamObserver<ClientResponse> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncBidiStreamingCall(
+          getChannel().newCall(getHeartbeatStreamMethod(), getCallOptions()), responseObserver);
+    }
   }
 
   /**
@@ -257,6 +310,7 @@ public final class ClientServiceGrpc {
 
   private static final int METHODID_REGISTER = 0;
   private static final int METHODID_HEARTBEAT = 1;
+  private static final int METHODID_HEARTBEAT_STREAM = 2;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -293,6 +347,9 @@ public final class ClientServiceGrpc {
     public io.grpc.stub.StreamObserver<Req> invoke(
         io.grpc.stub.StreamObserver<Resp> responseObserver) {
       switch (methodId) {
+        case METHODID_HEARTBEAT_STREAM:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.heartbeatStream(
+              (io.grpc.stub.StreamObserver<ClientResponse>) responseObserver);
         default:
           throw new AssertionError();
       }
@@ -346,6 +403,7 @@ public final class ClientServiceGrpc {
               .setSchemaDescriptor(new ClientServiceFileDescriptorSupplier())
               .addMethod(getRegisterMethod())
               .addMethod(getHeartbeatMethod())
+              .addMethod(getHeartbeatStreamMethod())
               .build();
         }
       }
@@ -1,5 +1,11 @@
 package org.minbox.framework.message.pipe.core.grpc;
 
+import org.minbox.framework.message.pipe.core.grpc.proto.BodyChunk;
+import org.minbox.framework.message.pipe.core.grpc.proto.BodyTransferResponse;
+import org.minbox.framework.message.pipe.core.grpc.proto.DeliveryAck;
+import org.minbox.framework.message.pipe.core.grpc.proto.DeliveryFrame;
+import org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest;
+import org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse;
 import org.minbox.framework.message.pipe.core.grpc.proto.MessageProto;
 import org.minbox.framework.message.pipe.core.grpc.proto.MessageRequest;
 import org.minbox.framework.message.pipe.core.grpc.proto.MessageResponse;
@@ -50,6 +56,99 @@ public final class MessageServiceGrpc {
     return getMessageProcessingMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<MessageBatchRequest,
+          MessageBatchResponse> getBatchProcessingMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "batchProcessing",
+      requestType = MessageBatchRequest.class,
+      responseType = MessageBatchResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<MessageBatchRequest,
+          MessageBatchResponse> getBatchProcessingMethod() {
+    io.grpc.MethodDescriptor<MessageBatchRequest, MessageBatchResponse> getBatchProcessingMethod;
+    if ((getBatchProcessingMethod = MessageServiceGrpc.getBatchProcessingMethod) == null) {
+      synchronized (MessageServiceGrpc.class) {
+        if ((getBatchProcessingMethod = MessageServiceGrpc.getBatchProcessingMethod) == null) {
+          MessageServiceGrpc.getBatchProcessingMethod = getBatchProcessingMethod =
+              io.grpc.MethodDescriptor.<MessageBatchRequest, MessageBatchResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "batchProcessing"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  MessageBatchRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  MessageBatchResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new MessageServiceMethodDescriptorSupplier("batchProcessing"))
+              .build();
+        }
+      }
+    }
+    return getBatchProcessingMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<DeliveryFrame,
+          DeliveryAck> getDeliveryMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "delivery",
+      requestType = DeliveryFrame.class,
+      responseType = DeliveryAck.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+  public static io.grpc.MethodDescriptor<DeliveryFrame,
+          DeliveryAck> getDeliveryMethod() {
+    io.grpc.MethodDescriptor<DeliveryFrame, DeliveryAck> getDeliveryMethod;
+    if ((getDeliveryMethod = MessageServiceGrpc.getDeliveryMethod) == null) {
+      synchronized (MessageServiceGrpc.class) {
+        if ((getDeliveryMethod = MessageServiceGrpc.getDeliveryMethod) == null) {
+          MessageServiceGrpc.getDeliveryMethod = getDeliveryMethod =
+              io.grpc.MethodDescriptor.<DeliveryFrame, DeliveryAck>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "delivery"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DeliveryFrame.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  DeliveryAck.getDefaultInstance()))
+              .setSchemaDescriptor(new MessageServiceMethodDescriptorSupplier("delivery"))
+              .build();
+        }
+      }
+    }
+    return getDeliveryMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<BodyChunk,
+          BodyTransferResponse> getTransferBodyMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "transferBody",
+      requestType = BodyChunk.class,
+      responseType = BodyTransferResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+  public static io.grpc.MethodDescriptor<BodyChunk,
+          BodyTransferResponse> getTransferBodyMethod() {
+    io.grpc.MethodDescriptor<BodyChunk, BodyTransferResponse> getTransferBodyMethod;
+    if ((getTransferBodyMethod = MessageServiceGrpc.getTransferBodyMethod) == null) {
+      synchronized (MessageServiceGrpc.class) {
+        if ((getTransferBodyMethod = MessageServiceGrpc.getTransferBodyMethod) == null) {
+          MessageServiceGrpc.getTransferBodyMethod = getTransferBodyMethod =
+              io.grpc.MethodDescriptor.<BodyChunk, BodyTransferResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "transferBody"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  BodyChunk.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  BodyTransferResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new MessageServiceMethodDescriptorSupplier("transferBody"))
+              .build();
+        }
+      }
+    }
+    return getTransferBodyMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -105,6 +204,27 @@ public final class MessageServiceGrpc {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getMessageProcessingMethod(), responseObserver);
     }
 
+    /**
+     */
+    public void batchProcessing(MessageBatchRequest request,
+        io.grpc.stub.StreamObserver<MessageBatchResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getBatchProcessingMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<DeliveryFrame> delivery(
+        io.grpc.stub.StreamObserver<DeliveryAck> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getDeliveryMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<BodyChunk> transferBody(
+        io.grpc.stub.StreamObserver<BodyTransferResponse> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getTransferBodyMethod(), responseObserver);
+    }
+
     @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
       return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
           .addMethod(
@@ -114,6 +234,27 @@ public final class MessageServiceGrpc {
                       MessageRequest,
                       MessageResponse>(
                   this, METHODID_MESSAGE_PROCESSING)))
+          .addMethod(
+            getBatchProcessingMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                MessageBatchRequest,
+                MessageBatchResponse>(
+                  this, METHODID_BATCH_PROCESSING)))
+          .addMethod(
+            getDeliveryMethod(),
+            io.grpc.stub.ServerCalls.asyncBidiStreamingCall(
+              new MethodHandlers<
+                DeliveryFrame,
+                DeliveryAck>(
+                  this, METHODID_DELIVERY)))
+          .addMethod(
+            getTransferBodyMethod(),
+            io.grpc.stub.ServerCalls.asyncClientStreamingCall(
+              new MethodHandlers<
+                BodyChunk,
+                BodyTransferResponse>(
+                  this, METHODID_TRANSFER_BODY)))
           .build();
     }
   }
@@ -139,6 +280,30 @@ public final class MessageServiceGrpc {
       io.grpc.stub.ClientCalls.asyncUnaryCall(
           getChannel().newCall(getMessageProcessingMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     */
+    public void batchProcessing(MessageBatchRequest request,
+        io.grpc.stub.StreamObserver<MessageBatchResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getBatchProcessingMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<DeliveryFrame> delivery(
+        io.grpc.stub.StreamObserver<DeliveryAck> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncBidiStreamingCall(
+          getChannel().newCall(getDeliveryMethod(), getCallOptions()), responseObserver);
+    }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<BodyChunk> transferBody(
+        io.grpc.stub.StreamObserver<BodyTransferResponse> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncClientStreamingCall(
+          getChannel().newCall(getTransferBodyMethod(), getCallOptions()), responseObserver);
+    }
   }
 
   /**
@@ -161,6 +326,13 @@ public final class MessageServiceGrpc {
       return io.grpc.stub.ClientCalls.blockingUnaryCall(
           getChannel(), getMessageProcessingMethod(), getCallOptions(), request);
     }
+
+    /**
+     */
+    public MessageBatchResponse batchProcessing(MessageBatchRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getBatchProcessingMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -184,9 +356,20 @@ public final class MessageServiceGrpc {
       return io.grpc.stub.ClientCalls.futureUnaryCall(
           getChannel().newCall(getMessageProcessingMethod(), getCallOptions()), request);
     }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<MessageBatchResponse> batchProcessing(
+        MessageBatchRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getBatchProcessingMethod(), getCallOptions()), request);
+    }
   }
 
   private static final int METHODID_MESSAGE_PROCESSING = 0;
+  private static final int METHODID_BATCH_PROCESSING = 1;
+  private static final int METHODID_DELIVERY = 2;
+  private static final int METHODID_TRANSFER_BODY = 3;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -209,6 +392,10 @@ public final class MessageServiceGrpc {
           serviceImpl.messageProcessing((MessageRequest) request,
               (io.grpc.stub.StreamObserver<MessageResponse>) responseObserver);
           break;
+        case METHODID_BATCH_PROCESSING:
+          serviceImpl.batchProcessing((MessageBatchRequest) request,
+              (io.grpc.stub.StreamObserver<MessageBatchResponse>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -219,6 +406,12 @@ public final class MessageServiceGrpc {
     public io.grpc.stub.StreamObserver<Req> invoke(
         io.grpc.stub.StreamObserver<Resp> responseObserver) {
       switch (methodId) {
+        case METHODID_DELIVERY:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.delivery(
+              (io.grpc.stub.StreamObserver<DeliveryAck>) responseObserver);
+        case METHODID_TRANSFER_BODY:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.transferBody(
+              (io.grpc.stub.StreamObserver<BodyTransferResponse>) responseObserver);
         default:
           throw new AssertionError();
       }
@@ -271,6 +464,9 @@ public final class MessageServiceGrpc {
           serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
               .setSchemaDescriptor(new MessageServiceFileDescriptorSupplier())
               .addMethod(getMessageProcessingMethod())
+              .addMethod(getBatchProcessingMethod())
+              .addMethod(getDeliveryMethod())
+              .addMethod(getTransferBodyMethod())
               .build();
         }
       }
@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: MessageService.proto
+
+package org.minbox.framework.message.pipe.core.grpc.proto;
+
+public interface BodyChunkOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.minbox.framework.message.pipe.core.grpc.proto.BodyChunk)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string messageId = 1;</code>
+   * @return The messageId.
+   */
+  String getMessageId();
+  /**
+   * <code>string messageId = 1;</code>
+   * @return The bytes for messageId.
+   */
+  com.google.protobuf.ByteString
+      getMessageIdBytes();
+
+  /**
+   * <code>int64 totalLength = 2;</code>
+   * @return The totalLength.
+   */
+  long getTotalLength();
+
+  /**
+   * <code>bytes data = 3;</code>
+   * @return The data.
+   */
+  com.google.protobuf.ByteString getData();
+}
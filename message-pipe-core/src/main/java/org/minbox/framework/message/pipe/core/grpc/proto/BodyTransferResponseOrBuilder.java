@@ -0,0 +1,15 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: MessageService.proto
+
+package org.minbox.framework.message.pipe.core.grpc.proto;
+
+public interface BodyTransferResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.minbox.framework.message.pipe.core.grpc.proto.BodyTransferResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>bool success = 1;</code>
+   * @return The success.
+   */
+  boolean getSuccess();
+}
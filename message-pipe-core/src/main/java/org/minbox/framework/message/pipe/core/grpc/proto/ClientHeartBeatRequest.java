@@ -21,6 +21,7 @@ private static final long serialVersionUID = 0L;
   }
   private ClientHeartBeatRequest() {
     address_ = "";
+    codec_ = "";
   }
 
   @Override
@@ -43,6 +44,7 @@ private static final long serialVersionUID = 0L;
     if (extensionRegistry == null) {
       throw new NullPointerException();
     }
+    int mutable_bitField0_ = 0;
     com.google.protobuf.UnknownFieldSet.Builder unknownFields =
         com.google.protobuf.UnknownFieldSet.newBuilder();
     try {
@@ -64,6 +66,30 @@ private static final long serialVersionUID = 0L;
             port_ = input.readInt32();
             break;
           }
+          case 26: {
+            String s = input.readStringRequireUtf8();
+
+            codec_ = s;
+            break;
+          }
+          case 32: {
+            bitField0_ |= 0x00000001;
+            credits_ = input.readInt32();
+            break;
+          }
+          case 42: {
+            ClientLoadReport.Builder subBuilder = null;
+            if (load_ != null) {
+              subBuilder = load_.toBuilder();
+            }
+            load_ = input.readMessage(ClientLoadReport.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(load_);
+              load_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
           default: {
             if (!parseUnknownField(
                 input, unknownFields, extensionRegistry, tag)) {
@@ -96,6 +122,7 @@ private static final long serialVersionUID = 0L;
             ClientHeartBeatRequest.class, Builder.class);
   }
 
+  private int bitField0_;
   public static final int ADDRESS_FIELD_NUMBER = 1;
   private volatile Object address_;
   /**
@@ -145,6 +172,117 @@ private static final long serialVersionUID = 0L;
     return port_;
   }
 
+  public static final int CODEC_FIELD_NUMBER = 3;
+  private volatile Object codec_;
+  /**
+   * <pre>
+   * the negotiated codec used to encode the response
+   * </pre>
+   *
+   * <code>string codec = 3;</code>
+   * @return The codec.
+   */
+  @Override
+  public String getCodec() {
+    Object ref = codec_;
+    if (ref instanceof String) {
+      return (String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      String s = bs.toStringUtf8();
+      codec_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * the negotiated codec used to encode the response
+   * </pre>
+   *
+   * <code>string codec = 3;</code>
+   * @return The bytes for codec.
+   */
+  @Override
+  public com.google.protobuf.ByteString
+      getCodecBytes() {
+    Object ref = codec_;
+    if (ref instanceof String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (String) ref);
+      codec_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int CREDITS_FIELD_NUMBER = 4;
+  private int credits_;
+  /**
+   * <pre>
+   * the free message credits of the client, not present if not advertised
+   * </pre>
+   *
+   * <code>optional int32 credits = 4;</code>
+   * @return Whether the credits field is set.
+   */
+  @Override
+  public boolean hasCredits() {
+    return ((bitField0_ & 0x00000001) != 0);
+  }
+  /**
+   * <pre>
+   * the free message credits of the client, not present if not advertised
+   * </pre>
+   *
+   * <code>optional int32 credits = 4;</code>
+   * @return The credits.
+   */
+  @Override
+  public int getCredits() {
+    return credits_;
+  }
+
+  public static final int LOAD_FIELD_NUMBER = 5;
+  private ClientLoadReport load_;
+  /**
+   * <pre>
+   * the load of the client, not present if not reported
+   * </pre>
+   *
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport load = 5;</code>
+   * @return Whether the load field is set.
+   */
+  @Override
+  public boolean hasLoad() {
+    return load_ != null;
+  }
+  /**
+   * <pre>
+   * the load of the client, not present if not reported
+   * </pre>
+   *
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport load = 5;</code>
+   * @return The load.
+   */
+  @Override
+  public ClientLoadReport getLoad() {
+    return load_ == null ? ClientLoadReport.getDefaultInstance() : load_;
+  }
+  /**
+   * <pre>
+   * the load of the client, not present if not reported
+   * </pre>
+   *
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport load = 5;</code>
+   */
+  @Override
+  public ClientLoadReportOrBuilder getLoadOrBuilder() {
+    return getLoad();
+  }
+
   private byte memoizedIsInitialized = -1;
   @Override
   public final boolean isInitialized() {
@@ -165,6 +303,15 @@ private static final long serialVersionUID = 0L;
     if (port_ != 0) {
       output.writeInt32(2, port_);
     }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(codec_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, codec_);
+    }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      output.writeInt32(4, credits_);
+    }
+    if (load_ != null) {
+      output.writeMessage(5, getLoad());
+    }
     unknownFields.writeTo(output);
   }
 
@@ -181,6 +328,17 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeInt32Size(2, port_);
     }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(codec_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, codec_);
+    }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(4, credits_);
+    }
+    if (load_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(5, getLoad());
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -200,6 +358,18 @@ private static final long serialVersionUID = 0L;
         .equals(other.getAddress())) return false;
     if (getPort()
         != other.getPort()) return false;
+    if (!getCodec()
+        .equals(other.getCodec())) return false;
+    if (hasCredits() != other.hasCredits()) return false;
+    if (hasCredits()) {
+      if (getCredits()
+          != other.getCredits()) return false;
+    }
+    if (hasLoad() != other.hasLoad()) return false;
+    if (hasLoad()) {
+      if (!getLoad()
+          .equals(other.getLoad())) return false;
+    }
     if (!unknownFields.equals(other.unknownFields)) return false;
     return true;
   }
@@ -215,6 +385,16 @@ private static final long serialVersionUID = 0L;
     hash = (53 * hash) + getAddress().hashCode();
     hash = (37 * hash) + PORT_FIELD_NUMBER;
     hash = (53 * hash) + getPort();
+    hash = (37 * hash) + CODEC_FIELD_NUMBER;
+    hash = (53 * hash) + getCodec().hashCode();
+    if (hasCredits()) {
+      hash = (37 * hash) + CREDITS_FIELD_NUMBER;
+      hash = (53 * hash) + getCredits();
+    }
+    if (hasLoad()) {
+      hash = (37 * hash) + LOAD_FIELD_NUMBER;
+      hash = (53 * hash) + getLoad().hashCode();
+    }
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -356,6 +536,16 @@ private static final long serialVersionUID = 0L;
 
       port_ = 0;
 
+      codec_ = "";
+
+      credits_ = 0;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      if (loadBuilder_ == null) {
+        load_ = null;
+      } else {
+        load_ = null;
+        loadBuilder_ = null;
+      }
       return this;
     }
 
@@ -382,8 +572,21 @@ private static final long serialVersionUID = 0L;
     @Override
     public ClientHeartBeatRequest buildPartial() {
       ClientHeartBeatRequest result = new ClientHeartBeatRequest(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
       result.address_ = address_;
       result.port_ = port_;
+      result.codec_ = codec_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.credits_ = credits_;
+        to_bitField0_ |= 0x00000001;
+      }
+      if (loadBuilder_ == null) {
+        result.load_ = load_;
+      } else {
+        result.load_ = loadBuilder_.build();
+      }
+      result.bitField0_ = to_bitField0_;
       onBuilt();
       return result;
     }
@@ -439,6 +642,16 @@ private static final long serialVersionUID = 0L;
       if (other.getPort() != 0) {
         setPort(other.getPort());
       }
+      if (!other.getCodec().isEmpty()) {
+        codec_ = other.codec_;
+        onChanged();
+      }
+      if (other.hasCredits()) {
+        setCredits(other.getCredits());
+      }
+      if (other.hasLoad()) {
+        mergeLoad(other.getLoad());
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -467,6 +680,7 @@ private static final long serialVersionUID = 0L;
       }
       return this;
     }
+    private int bitField0_;
 
     private Object address_ = "";
     /**
@@ -574,6 +788,312 @@ private static final long serialVersionUID = 0L;
       onChanged();
       return this;
     }
+
+    private Object codec_ = "";
+    /**
+     * <pre>
+     * the negotiated codec used to encode the response
+     * </pre>
+     *
+     * <code>string codec = 3;</code>
+     * @return The codec.
+     */
+    public String getCodec() {
+      Object ref = codec_;
+      if (!(ref instanceof String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        codec_ = s;
+        return s;
+      } else {
+        return (String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * the negotiated codec used to encode the response
+     * </pre>
+     *
+     * <code>string codec = 3;</code>
+     * @return The bytes for codec.
+     */
+    public com.google.protobuf.ByteString
+        getCodecBytes() {
+      Object ref = codec_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (String) ref);
+        codec_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * the negotiated codec used to encode the response
+     * </pre>
+     *
+     * <code>string codec = 3;</code>
+     * @param value The codec to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCodec(
+        String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      codec_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the negotiated codec used to encode the response
+     * </pre>
+     *
+     * <code>string codec = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCodec() {
+      
+      codec_ = getDefaultInstance().getCodec();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the negotiated codec used to encode the response
+     * </pre>
+     *
+     * <code>string codec = 3;</code>
+     * @param value The bytes for codec to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCodecBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      codec_ = value;
+      onChanged();
+      return this;
+    }
+
+    private int credits_ ;
+    /**
+     * <pre>
+     * the free message credits of the client, not present if not advertised
+     * </pre>
+     *
+     * <code>optional int32 credits = 4;</code>
+     * @return Whether the credits field is set.
+     */
+    @Override
+    public boolean hasCredits() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * the free message credits of the client, not present if not advertised
+     * </pre>
+     *
+     * <code>optional int32 credits = 4;</code>
+     * @return The credits.
+     */
+    @Override
+    public int getCredits() {
+      return credits_;
+    }
+    /**
+     * <pre>
+     * the free message credits of the client, not present if not advertised
+     * </pre>
+     *
+     * <code>optional int32 credits = 4;</code>
+     * @param value The credits to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCredits(int value) {
+      bitField0_ |= 0x00000001;
+      credits_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the free message credits of the client, not present if not advertised
+     * </pre>
+     *
+     * <code>optional int32 credits = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCredits() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      credits_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private ClientLoadReport load_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        ClientLoadReport, ClientLoadReport.Builder, ClientLoadReportOrBuilder> loadBuilder_;
+    /**
+     * <pre>
+     * the load of the client, not present if not reported
+     * </pre>
+     *
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport load = 5;</code>
+     * @return Whether the load field is set.
+     */
+    public boolean hasLoad() {
+      return loadBuilder_ != null || load_ != null;
+    }
+    /**
+     * <pre>
+     * the load of the client, not present if not reported
+     * </pre>
+     *
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport load = 5;</code>
+     * @return The load.
+     */
+    public ClientLoadReport getLoad() {
+      if (loadBuilder_ == null) {
+        return load_ == null ? ClientLoadReport.getDefaultInstance() : load_;
+      } else {
+        return loadBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * the load of the client, not present if not reported
+     * </pre>
+     *
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport load = 5;</code>
+     */
+    public Builder setLoad(ClientLoadReport value) {
+      if (loadBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        load_ = value;
+        onChanged();
+      } else {
+        loadBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * the load of the client, not present if not reported
+     * </pre>
+     *
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport load = 5;</code>
+     */
+    public Builder setLoad(
+        ClientLoadReport.Builder builderForValue) {
+      if (loadBuilder_ == null) {
+        load_ = builderForValue.build();
+        onChanged();
+      } else {
+        loadBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * the load of the client, not present if not reported
+     * </pre>
+     *
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport load = 5;</code>
+     */
+    public Builder mergeLoad(ClientLoadReport value) {
+      if (loadBuilder_ == null) {
+        if (load_ != null) {
+          load_ =
+            ClientLoadReport.newBuilder(load_).mergeFrom(value).buildPartial();
+        } else {
+          load_ = value;
+        }
+        onChanged();
+      } else {
+        loadBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * the load of the client, not present if not reported
+     * </pre>
+     *
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport load = 5;</code>
+     */
+    public Builder clearLoad() {
+      if (loadBuilder_ == null) {
+        load_ = null;
+        onChanged();
+      } else {
+        load_ = null;
+        loadBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * the load of the client, not present if not reported
+     * </pre>
+     *
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport load = 5;</code>
+     */
+    public ClientLoadReport.Builder getLoadBuilder() {
+      
+      onChanged();
+      return getLoadFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * the load of the client, not present if not reported
+     * </pre>
+     *
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport load = 5;</code>
+     */
+    public ClientLoadReportOrBuilder getLoadOrBuilder() {
+      if (loadBuilder_ != null) {
+        return loadBuilder_.getMessageOrBuilder();
+      } else {
+        return load_ == null ?
+            ClientLoadReport.getDefaultInstance() : load_;
+      }
+    }
+    /**
+     * <pre>
+     * the load of the client, not present if not reported
+     * </pre>
+     *
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport load = 5;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        ClientLoadReport, ClientLoadReport.Builder, ClientLoadReportOrBuilder> 
+        getLoadFieldBuilder() {
+      if (loadBuilder_ == null) {
+        loadBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            ClientLoadReport, ClientLoadReport.Builder, ClientLoadReportOrBuilder>(
+                getLoad(),
+                getParentForChildren(),
+                isClean());
+        load_ = null;
+      }
+      return loadBuilder_;
+    }
     @Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
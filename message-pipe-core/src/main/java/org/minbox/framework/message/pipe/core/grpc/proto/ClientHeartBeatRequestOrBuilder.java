@@ -24,4 +24,70 @@ public interface ClientHeartBeatRequestOrBuilder extends
    * @return The port.
    */
   int getPort();
+
+  /**
+   * <pre>
+   * the negotiated codec used to encode the response
+   * </pre>
+   *
+   * <code>string codec = 3;</code>
+   * @return The codec.
+   */
+  String getCodec();
+  /**
+   * <pre>
+   * the negotiated codec used to encode the response
+   * </pre>
+   *
+   * <code>string codec = 3;</code>
+   * @return The bytes for codec.
+   */
+  com.google.protobuf.ByteString
+      getCodecBytes();
+
+  /**
+   * <pre>
+   * the free message credits of the client, not present if not advertised
+   * </pre>
+   *
+   * <code>optional int32 credits = 4;</code>
+   * @return Whether the credits field is set.
+   */
+  boolean hasCredits();
+  /**
+   * <pre>
+   * the free message credits of the client, not present if not advertised
+   * </pre>
+   *
+   * <code>optional int32 credits = 4;</code>
+   * @return The credits.
+   */
+  int getCredits();
+
+  /**
+   * <pre>
+   * the load of the client, not present if not reported
+   * </pre>
+   *
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport load = 5;</code>
+   * @return Whether the load field is set.
+   */
+  boolean hasLoad();
+  /**
+   * <pre>
+   * the load of the client, not present if not reported
+   * </pre>
+   *
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport load = 5;</code>
+   * @return The load.
+   */
+  ClientLoadReport getLoad();
+  /**
+   * <pre>
+   * the load of the client, not present if not reported
+   * </pre>
+   *
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport load = 5;</code>
+   */
+  ClientLoadReportOrBuilder getLoadOrBuilder();
 }
@@ -0,0 +1,817 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ClientService.proto
+
+package org.minbox.framework.message.pipe.core.grpc.proto;
+
+/**
+ * <pre>
+ * the load of a client reported by heartbeats
+ * </pre>
+ *
+ * Protobuf type {@code org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport}
+ */
+public final class ClientLoadReport extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport)
+    ClientLoadReportOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ClientLoadReport.newBuilder() to construct.
+  private ClientLoadReport(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ClientLoadReport() {
+  }
+
+  @Override
+  @SuppressWarnings({"unused"})
+  protected Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ClientLoadReport();
+  }
+
+  @Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private ClientLoadReport(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            inFlightBatches_ = input.readInt32();
+            break;
+          }
+          case 16: {
+
+            queuedBatches_ = input.readInt32();
+            break;
+          }
+          case 25: {
+
+            latencyP50Millis_ = input.readDouble();
+            break;
+          }
+          case 33: {
+
+            latencyP99Millis_ = input.readDouble();
+            break;
+          }
+          case 41: {
+
+            cpuLoad_ = input.readDouble();
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return ClientServiceProto.internal_static_org_minbox_framework_message_pipe_core_grpc_ClientLoadReport_descriptor;
+  }
+
+  @Override
+  protected FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return ClientServiceProto.internal_static_org_minbox_framework_message_pipe_core_grpc_ClientLoadReport_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            ClientLoadReport.class, Builder.class);
+  }
+
+  public static final int INFLIGHTBATCHES_FIELD_NUMBER = 1;
+  private int inFlightBatches_;
+  /**
+   * <pre>
+   * the batches being processed
+   * </pre>
+   *
+   * <code>int32 inFlightBatches = 1;</code>
+   * @return The inFlightBatches.
+   */
+  @Override
+  public int getInFlightBatches() {
+    return inFlightBatches_;
+  }
+
+  public static final int QUEUEDBATCHES_FIELD_NUMBER = 2;
+  private int queuedBatches_;
+  /**
+   * <pre>
+   * the batches waiting in the processing executor
+   * </pre>
+   *
+   * <code>int32 queuedBatches = 2;</code>
+   * @return The queuedBatches.
+   */
+  @Override
+  public int getQueuedBatches() {
+    return queuedBatches_;
+  }
+
+  public static final int LATENCYP50MILLIS_FIELD_NUMBER = 3;
+  private double latencyP50Millis_;
+  /**
+   * <pre>
+   * the recent batch processing latency percentiles in milliseconds
+   * </pre>
+   *
+   * <code>double latencyP50Millis = 3;</code>
+   * @return The latencyP50Millis.
+   */
+  @Override
+  public double getLatencyP50Millis() {
+    return latencyP50Millis_;
+  }
+
+  public static final int LATENCYP99MILLIS_FIELD_NUMBER = 4;
+  private double latencyP99Millis_;
+  /**
+   * <code>double latencyP99Millis = 4;</code>
+   * @return The latencyP99Millis.
+   */
+  @Override
+  public double getLatencyP99Millis() {
+    return latencyP99Millis_;
+  }
+
+  public static final int CPULOAD_FIELD_NUMBER = 5;
+  private double cpuLoad_;
+  /**
+   * <pre>
+   * the process cpu load in [0, 1], negative if not available
+   * </pre>
+   *
+   * <code>double cpuLoad = 5;</code>
+   * @return The cpuLoad.
+   */
+  @Override
+  public double getCpuLoad() {
+    return cpuLoad_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (inFlightBatches_ != 0) {
+      output.writeInt32(1, inFlightBatches_);
+    }
+    if (queuedBatches_ != 0) {
+      output.writeInt32(2, queuedBatches_);
+    }
+    if (Double.doubleToRawLongBits(latencyP50Millis_) != 0) {
+      output.writeDouble(3, latencyP50Millis_);
+    }
+    if (Double.doubleToRawLongBits(latencyP99Millis_) != 0) {
+      output.writeDouble(4, latencyP99Millis_);
+    }
+    if (Double.doubleToRawLongBits(cpuLoad_) != 0) {
+      output.writeDouble(5, cpuLoad_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (inFlightBatches_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, inFlightBatches_);
+    }
+    if (queuedBatches_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(2, queuedBatches_);
+    }
+    if (Double.doubleToRawLongBits(latencyP50Millis_) != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeDoubleSize(3, latencyP50Millis_);
+    }
+    if (Double.doubleToRawLongBits(latencyP99Millis_) != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeDoubleSize(4, latencyP99Millis_);
+    }
+    if (Double.doubleToRawLongBits(cpuLoad_) != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeDoubleSize(5, cpuLoad_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof ClientLoadReport)) {
+      return super.equals(obj);
+    }
+    ClientLoadReport other = (ClientLoadReport) obj;
+
+    if (getInFlightBatches()
+        != other.getInFlightBatches()) return false;
+    if (getQueuedBatches()
+        != other.getQueuedBatches()) return false;
+    if (Double.doubleToLongBits(getLatencyP50Millis())
+        != Double.doubleToLongBits(
+            other.getLatencyP50Millis())) return false;
+    if (Double.doubleToLongBits(getLatencyP99Millis())
+        != Double.doubleToLongBits(
+            other.getLatencyP99Millis())) return false;
+    if (Double.doubleToLongBits(getCpuLoad())
+        != Double.doubleToLongBits(
+            other.getCpuLoad())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + INFLIGHTBATCHES_FIELD_NUMBER;
+    hash = (53 * hash) + getInFlightBatches();
+    hash = (37 * hash) + QUEUEDBATCHES_FIELD_NUMBER;
+    hash = (53 * hash) + getQueuedBatches();
+    hash = (37 * hash) + LATENCYP50MILLIS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        Double.doubleToLongBits(getLatencyP50Millis()));
+    hash = (37 * hash) + LATENCYP99MILLIS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        Double.doubleToLongBits(getLatencyP99Millis()));
+    hash = (37 * hash) + CPULOAD_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        Double.doubleToLongBits(getCpuLoad()));
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static ClientLoadReport parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static ClientLoadReport parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static ClientLoadReport parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static ClientLoadReport parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static ClientLoadReport parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static ClientLoadReport parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static ClientLoadReport parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static ClientLoadReport parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static ClientLoadReport parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static ClientLoadReport parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static ClientLoadReport parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static ClientLoadReport parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(ClientLoadReport prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @Override
+  protected Builder newBuilderForType(
+      BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * the load of a client reported by heartbeats
+   * </pre>
+   *
+   * Protobuf type {@code org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport)
+      ClientLoadReportOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ClientServiceProto.internal_static_org_minbox_framework_message_pipe_core_grpc_ClientLoadReport_descriptor;
+    }
+
+    @Override
+    protected FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ClientServiceProto.internal_static_org_minbox_framework_message_pipe_core_grpc_ClientLoadReport_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ClientLoadReport.class, Builder.class);
+    }
+
+    // Construct using org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @Override
+    public Builder clear() {
+      super.clear();
+      inFlightBatches_ = 0;
+
+      queuedBatches_ = 0;
+
+      latencyP50Millis_ = 0D;
+
+      latencyP99Millis_ = 0D;
+
+      cpuLoad_ = 0D;
+
+      return this;
+    }
+
+    @Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return ClientServiceProto.internal_static_org_minbox_framework_message_pipe_core_grpc_ClientLoadReport_descriptor;
+    }
+
+    @Override
+    public ClientLoadReport getDefaultInstanceForType() {
+      return ClientLoadReport.getDefaultInstance();
+    }
+
+    @Override
+    public ClientLoadReport build() {
+      ClientLoadReport result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @Override
+    public ClientLoadReport buildPartial() {
+      ClientLoadReport result = new ClientLoadReport(this);
+      result.inFlightBatches_ = inFlightBatches_;
+      result.queuedBatches_ = queuedBatches_;
+      result.latencyP50Millis_ = latencyP50Millis_;
+      result.latencyP99Millis_ = latencyP99Millis_;
+      result.cpuLoad_ = cpuLoad_;
+      onBuilt();
+      return result;
+    }
+
+    @Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.setField(field, value);
+    }
+    @Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof ClientLoadReport) {
+        return mergeFrom((ClientLoadReport)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(ClientLoadReport other) {
+      if (other == ClientLoadReport.getDefaultInstance()) return this;
+      if (other.getInFlightBatches() != 0) {
+        setInFlightBatches(other.getInFlightBatches());
+      }
+      if (other.getQueuedBatches() != 0) {
+        setQueuedBatches(other.getQueuedBatches());
+      }
+      if (other.getLatencyP50Millis() != 0D) {
+        setLatencyP50Millis(other.getLatencyP50Millis());
+      }
+      if (other.getLatencyP99Millis() != 0D) {
+        setLatencyP99Millis(other.getLatencyP99Millis());
+      }
+      if (other.getCpuLoad() != 0D) {
+        setCpuLoad(other.getCpuLoad());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      ClientLoadReport parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (ClientLoadReport) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int inFlightBatches_ ;
+    /**
+     * <pre>
+     * the batches being processed
+     * </pre>
+     *
+     * <code>int32 inFlightBatches = 1;</code>
+     * @return The inFlightBatches.
+     */
+    @Override
+    public int getInFlightBatches() {
+      return inFlightBatches_;
+    }
+    /**
+     * <pre>
+     * the batches being processed
+     * </pre>
+     *
+     * <code>int32 inFlightBatches = 1;</code>
+     * @param value The inFlightBatches to set.
+     * @return This builder for chaining.
+     */
+    public Builder setInFlightBatches(int value) {
+      
+      inFlightBatches_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the batches being processed
+     * </pre>
+     *
+     * <code>int32 inFlightBatches = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearInFlightBatches() {
+      
+      inFlightBatches_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int queuedBatches_ ;
+    /**
+     * <pre>
+     * the batches waiting in the processing executor
+     * </pre>
+     *
+     * <code>int32 queuedBatches = 2;</code>
+     * @return The queuedBatches.
+     */
+    @Override
+    public int getQueuedBatches() {
+      return queuedBatches_;
+    }
+    /**
+     * <pre>
+     * the batches waiting in the processing executor
+     * </pre>
+     *
+     * <code>int32 queuedBatches = 2;</code>
+     * @param value The queuedBatches to set.
+     * @return This builder for chaining.
+     */
+    public Builder setQueuedBatches(int value) {
+      
+      queuedBatches_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the batches waiting in the processing executor
+     * </pre>
+     *
+     * <code>int32 queuedBatches = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearQueuedBatches() {
+      
+      queuedBatches_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private double latencyP50Millis_ ;
+    /**
+     * <pre>
+     * the recent batch processing latency percentiles in milliseconds
+     * </pre>
+     *
+     * <code>double latencyP50Millis = 3;</code>
+     * @return The latencyP50Millis.
+     */
+    @Override
+    public double getLatencyP50Millis() {
+      return latencyP50Millis_;
+    }
+    /**
+     * <pre>
+     * the recent batch processing latency percentiles in milliseconds
+     * </pre>
+     *
+     * <code>double latencyP50Millis = 3;</code>
+     * @param value The latencyP50Millis to set.
+     * @return This builder for chaining.
+     */
+    public Builder setLatencyP50Millis(double value) {
+      
+      latencyP50Millis_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the recent batch processing latency percentiles in milliseconds
+     * </pre>
+     *
+     * <code>double latencyP50Millis = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearLatencyP50Millis() {
+      
+      latencyP50Millis_ = 0D;
+      onChanged();
+      return this;
+    }
+
+    private double latencyP99Millis_ ;
+    /**
+     * <code>double latencyP99Millis = 4;</code>
+     * @return The latencyP99Millis.
+     */
+    @Override
+    public double getLatencyP99Millis() {
+      return latencyP99Millis_;
+    }
+    /**
+     * <code>double latencyP99Millis = 4;</code>
+     * @param value The latencyP99Millis to set.
+     * @return This builder for chaining.
+     */
+    public Builder setLatencyP99Millis(double value) {
+      
+      latencyP99Millis_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>double latencyP99Millis = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearLatencyP99Millis() {
+      
+      latencyP99Millis_ = 0D;
+      onChanged();
+      return this;
+    }
+
+    private double cpuLoad_ ;
+    /**
+     * <pre>
+     * the process cpu load in [0, 1], negative if not available
+     * </pre>
+     *
+     * <code>double cpuLoad = 5;</code>
+     * @return The cpuLoad.
+     */
+    @Override
+    public double getCpuLoad() {
+      return cpuLoad_;
+    }
+    /**
+     * <pre>
+     * the process cpu load in [0, 1], negative if not available
+     * </pre>
+     *
+     * <code>double cpuLoad = 5;</code>
+     * @param value The cpuLoad to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCpuLoad(double value) {
+      
+      cpuLoad_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the process cpu load in [0, 1], negative if not available
+     * </pre>
+     *
+     * <code>double cpuLoad = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCpuLoad() {
+      
+      cpuLoad_ = 0D;
+      onChanged();
+      return this;
+    }
+    @Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport)
+  private static final ClientLoadReport DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new ClientLoadReport();
+  }
+
+  public static ClientLoadReport getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ClientLoadReport>
+      PARSER = new com.google.protobuf.AbstractParser<ClientLoadReport>() {
+    @Override
+    public ClientLoadReport parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new ClientLoadReport(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<ClientLoadReport> parser() {
+    return PARSER;
+  }
+
+  @Override
+  public com.google.protobuf.Parser<ClientLoadReport> getParserForType() {
+    return PARSER;
+  }
+
+  @Override
+  public ClientLoadReport getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,55 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ClientService.proto
+
+package org.minbox.framework.message.pipe.core.grpc.proto;
+
+public interface ClientLoadReportOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * the batches being processed
+   * </pre>
+   *
+   * <code>int32 inFlightBatches = 1;</code>
+   * @return The inFlightBatches.
+   */
+  int getInFlightBatches();
+
+  /**
+   * <pre>
+   * the batches waiting in the processing executor
+   * </pre>
+   *
+   * <code>int32 queuedBatches = 2;</code>
+   * @return The queuedBatches.
+   */
+  int getQueuedBatches();
+
+  /**
+   * <pre>
+   * the recent batch processing latency percentiles in milliseconds
+   * </pre>
+   *
+   * <code>double latencyP50Millis = 3;</code>
+   * @return The latencyP50Millis.
+   */
+  double getLatencyP50Millis();
+
+  /**
+   * <code>double latencyP99Millis = 4;</code>
+   * @return The latencyP99Millis.
+   */
+  double getLatencyP99Millis();
+
+  /**
+   * <pre>
+   * the process cpu load in [0, 1], negative if not available
+   * </pre>
+   *
+   * <code>double cpuLoad = 5;</code>
+   * @return The cpuLoad.
+   */
+  double getCpuLoad();
+}
@@ -22,6 +22,8 @@ private static final long serialVersionUID = 0L;
   private ClientRegisterRequest() {
     messagePipeName_ = "";
     address_ = "";
+    supportedCodecs_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    supportedCompressions_ = com.google.protobuf.LazyStringArrayList.EMPTY;
   }
 
   @Override
@@ -44,6 +46,7 @@ private static final long serialVersionUID = 0L;
     if (extensionRegistry == null) {
       throw new NullPointerException();
     }
+    int mutable_bitField0_ = 0;
     com.google.protobuf.UnknownFieldSet.Builder unknownFields =
         com.google.protobuf.UnknownFieldSet.newBuilder();
     try {
@@ -71,6 +74,29 @@ private static final long serialVersionUID = 0L;
             port_ = input.readInt32();
             break;
           }
+          case 32: {
+
+            protocolVersion_ = input.readInt32();
+            break;
+          }
+          case 42: {
+            String s = input.readStringRequireUtf8();
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              supportedCodecs_ = new com.google.protobuf.LazyStringArrayList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            supportedCodecs_.add(s);
+            break;
+          }
+          case 50: {
+            String s = input.readStringRequireUtf8();
+            if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+              supportedCompressions_ = new com.google.protobuf.LazyStringArrayList();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            supportedCompressions_.add(s);
+            break;
+          }
           default: {
             if (!parseUnknownField(
                 input, unknownFields, extensionRegistry, tag)) {
@@ -86,6 +112,12 @@ private static final long serialVersionUID = 0L;
       throw new com.google.protobuf.InvalidProtocolBufferException(
           e).setUnfinishedMessage(this);
     } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        supportedCodecs_ = supportedCodecs_.getUnmodifiableView();
+      }
+      if (((mutable_bitField0_ & 0x00000002) != 0)) {
+        supportedCompressions_ = supportedCompressions_.getUnmodifiableView();
+      }
       this.unknownFields = unknownFields.build();
       makeExtensionsImmutable();
     }
@@ -190,6 +222,123 @@ private static final long serialVersionUID = 0L;
     return port_;
   }
 
+  public static final int PROTOCOLVERSION_FIELD_NUMBER = 4;
+  private int protocolVersion_;
+  /**
+   * <pre>
+   * the highest protocol version supported by the client, 0 means version 1
+   * </pre>
+   *
+   * <code>int32 protocolVersion = 4;</code>
+   * @return The protocolVersion.
+   */
+  @Override
+  public int getProtocolVersion() {
+    return protocolVersion_;
+  }
+
+  public static final int SUPPORTEDCODECS_FIELD_NUMBER = 5;
+  private com.google.protobuf.LazyStringList supportedCodecs_;
+  /**
+   * <pre>
+   * the codec names supported by the client
+   * </pre>
+   *
+   * <code>repeated string supportedCodecs = 5;</code>
+   * @return A list containing the supportedCodecs.
+   */
+  public com.google.protobuf.ProtocolStringList
+      getSupportedCodecsList() {
+    return supportedCodecs_;
+  }
+  /**
+   * <pre>
+   * the codec names supported by the client
+   * </pre>
+   *
+   * <code>repeated string supportedCodecs = 5;</code>
+   * @return The count of supportedCodecs.
+   */
+  public int getSupportedCodecsCount() {
+    return supportedCodecs_.size();
+  }
+  /**
+   * <pre>
+   * the codec names supported by the client
+   * </pre>
+   *
+   * <code>repeated string supportedCodecs = 5;</code>
+   * @param index The index of the element to return.
+   * @return The supportedCodecs at the given index.
+   */
+  public String getSupportedCodecs(int index) {
+    return supportedCodecs_.get(index);
+  }
+  /**
+   * <pre>
+   * the codec names supported by the client
+   * </pre>
+   *
+   * <code>repeated string supportedCodecs = 5;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the supportedCodecs at the given index.
+   */
+  public com.google.protobuf.ByteString
+      getSupportedCodecsBytes(int index) {
+    return supportedCodecs_.getByteString(index);
+  }
+
+  public static final int SUPPORTEDCOMPRESSIONS_FIELD_NUMBER = 6;
+  private com.google.protobuf.LazyStringList supportedCompressions_;
+  /**
+   * <pre>
+   * the compressor names supported by the client
+   * </pre>
+   *
+   * <code>repeated string supportedCompressions = 6;</code>
+   * @return A list containing the supportedCompressions.
+   */
+  public com.google.protobuf.ProtocolStringList
+      getSupportedCompressionsList() {
+    return supportedCompressions_;
+  }
+  /**
+   * <pre>
+   * the compressor names supported by the client
+   * </pre>
+   *
+   * <code>repeated string supportedCompressions = 6;</code>
+   * @return The count of supportedCompressions.
+   */
+  public int getSupportedCompressionsCount() {
+    return supportedCompressions_.size();
+  }
+  /**
+   * <pre>
+   * the compressor names supported by the client
+   * </pre>
+   *
+   * <code>repeated string supportedCompressions = 6;</code>
+   * @param index The index of the element to return.
+   * @return The supportedCompressions at the given index.
+   */
+  public String getSupportedCompressions(int index) {
+    return supportedCompressions_.get(index);
+  }
+  /**
+   * <pre>
+   * the compressor names supported by the client
+   * </pre>
+   *
+   * <code>repeated string supportedCompressions = 6;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the supportedCompressions at the given index.
+   */
+  public com.google.protobuf.ByteString
+      getSupportedCompressionsBytes(int index) {
+    return supportedCompressions_.getByteString(index);
+  }
+
   private byte memoizedIsInitialized = -1;
   @Override
   public final boolean isInitialized() {
@@ -213,6 +362,15 @@ private static final long serialVersionUID = 0L;
     if (port_ != 0) {
       output.writeInt32(3, port_);
     }
+    if (protocolVersion_ != 0) {
+      output.writeInt32(4, protocolVersion_);
+    }
+    for (int i = 0; i < supportedCodecs_.size(); i++) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 5, supportedCodecs_.getRaw(i));
+    }
+    for (int i = 0; i < supportedCompressions_.size(); i++) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 6, supportedCompressions_.getRaw(i));
+    }
     unknownFields.writeTo(output);
   }
 
@@ -232,6 +390,26 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeInt32Size(3, port_);
     }
+    if (protocolVersion_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(4, protocolVersion_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < supportedCodecs_.size(); i++) {
+        dataSize += computeStringSizeNoTag(supportedCodecs_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getSupportedCodecsList().size();
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < supportedCompressions_.size(); i++) {
+        dataSize += computeStringSizeNoTag(supportedCompressions_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getSupportedCompressionsList().size();
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -253,6 +431,12 @@ private static final long serialVersionUID = 0L;
         .equals(other.getAddress())) return false;
     if (getPort()
         != other.getPort()) return false;
+    if (getProtocolVersion()
+        != other.getProtocolVersion()) return false;
+    if (!getSupportedCodecsList()
+        .equals(other.getSupportedCodecsList())) return false;
+    if (!getSupportedCompressionsList()
+        .equals(other.getSupportedCompressionsList())) return false;
     if (!unknownFields.equals(other.unknownFields)) return false;
     return true;
   }
@@ -270,6 +454,16 @@ private static final long serialVersionUID = 0L;
     hash = (53 * hash) + getAddress().hashCode();
     hash = (37 * hash) + PORT_FIELD_NUMBER;
     hash = (53 * hash) + getPort();
+    hash = (37 * hash) + PROTOCOLVERSION_FIELD_NUMBER;
+    hash = (53 * hash) + getProtocolVersion();
+    if (getSupportedCodecsCount() > 0) {
+      hash = (37 * hash) + SUPPORTEDCODECS_FIELD_NUMBER;
+      hash = (53 * hash) + getSupportedCodecsList().hashCode();
+    }
+    if (getSupportedCompressionsCount() > 0) {
+      hash = (37 * hash) + SUPPORTEDCOMPRESSIONS_FIELD_NUMBER;
+      hash = (53 * hash) + getSupportedCompressionsList().hashCode();
+    }
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -413,6 +607,12 @@ private static final long serialVersionUID = 0L;
 
       port_ = 0;
 
+      protocolVersion_ = 0;
+
+      supportedCodecs_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      supportedCompressions_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000002);
       return this;
     }
 
@@ -439,9 +639,21 @@ private static final long serialVersionUID = 0L;
     @Override
     public ClientRegisterRequest buildPartial() {
       ClientRegisterRequest result = new ClientRegisterRequest(this);
+      int from_bitField0_ = bitField0_;
       result.messagePipeName_ = messagePipeName_;
       result.address_ = address_;
       result.port_ = port_;
+      result.protocolVersion_ = protocolVersion_;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        supportedCodecs_ = supportedCodecs_.getUnmodifiableView();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.supportedCodecs_ = supportedCodecs_;
+      if (((bitField0_ & 0x00000002) != 0)) {
+        supportedCompressions_ = supportedCompressions_.getUnmodifiableView();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      }
+      result.supportedCompressions_ = supportedCompressions_;
       onBuilt();
       return result;
     }
@@ -501,6 +713,29 @@ private static final long serialVersionUID = 0L;
       if (other.getPort() != 0) {
         setPort(other.getPort());
       }
+      if (other.getProtocolVersion() != 0) {
+        setProtocolVersion(other.getProtocolVersion());
+      }
+      if (!other.supportedCodecs_.isEmpty()) {
+        if (supportedCodecs_.isEmpty()) {
+          supportedCodecs_ = other.supportedCodecs_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensureSupportedCodecsIsMutable();
+          supportedCodecs_.addAll(other.supportedCodecs_);
+        }
+        onChanged();
+      }
+      if (!other.supportedCompressions_.isEmpty()) {
+        if (supportedCompressions_.isEmpty()) {
+          supportedCompressions_ = other.supportedCompressions_;
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          ensureSupportedCompressionsIsMutable();
+          supportedCompressions_.addAll(other.supportedCompressions_);
+        }
+        onChanged();
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -529,6 +764,7 @@ private static final long serialVersionUID = 0L;
       }
       return this;
     }
+    private int bitField0_;
 
     private Object messagePipeName_ = "";
     /**
@@ -712,6 +948,341 @@ private static final long serialVersionUID = 0L;
       onChanged();
       return this;
     }
+
+    private int protocolVersion_ ;
+    /**
+     * <pre>
+     * the highest protocol version supported by the client, 0 means version 1
+     * </pre>
+     *
+     * <code>int32 protocolVersion = 4;</code>
+     * @return The protocolVersion.
+     */
+    @Override
+    public int getProtocolVersion() {
+      return protocolVersion_;
+    }
+    /**
+     * <pre>
+     * the highest protocol version supported by the client, 0 means version 1
+     * </pre>
+     *
+     * <code>int32 protocolVersion = 4;</code>
+     * @param value The protocolVersion to set.
+     * @return This builder for chaining.
+     */
+    public Builder setProtocolVersion(int value) {
+      
+      protocolVersion_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the highest protocol version supported by the client, 0 means version 1
+     * </pre>
+     *
+     * <code>int32 protocolVersion = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearProtocolVersion() {
+      
+      protocolVersion_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.LazyStringList supportedCodecs_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    private void ensureSupportedCodecsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        supportedCodecs_ = new com.google.protobuf.LazyStringArrayList(supportedCodecs_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <pre>
+     * the codec names supported by the client
+     * </pre>
+     *
+     * <code>repeated string supportedCodecs = 5;</code>
+     * @return A list containing the supportedCodecs.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getSupportedCodecsList() {
+      return supportedCodecs_.getUnmodifiableView();
+    }
+    /**
+     * <pre>
+     * the codec names supported by the client
+     * </pre>
+     *
+     * <code>repeated string supportedCodecs = 5;</code>
+     * @return The count of supportedCodecs.
+     */
+    public int getSupportedCodecsCount() {
+      return supportedCodecs_.size();
+    }
+    /**
+     * <pre>
+     * the codec names supported by the client
+     * </pre>
+     *
+     * <code>repeated string supportedCodecs = 5;</code>
+     * @param index The index of the element to return.
+     * @return The supportedCodecs at the given index.
+     */
+    public String getSupportedCodecs(int index) {
+      return supportedCodecs_.get(index);
+    }
+    /**
+     * <pre>
+     * the codec names supported by the client
+     * </pre>
+     *
+     * <code>repeated string supportedCodecs = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the supportedCodecs at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getSupportedCodecsBytes(int index) {
+      return supportedCodecs_.getByteString(index);
+    }
+    /**
+     * <pre>
+     * the codec names supported by the client
+     * </pre>
+     *
+     * <code>repeated string supportedCodecs = 5;</code>
+     * @param index The index to set the value at.
+     * @param value The supportedCodecs to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSupportedCodecs(
+        int index, String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSupportedCodecsIsMutable();
+      supportedCodecs_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the codec names supported by the client
+     * </pre>
+     *
+     * <code>repeated string supportedCodecs = 5;</code>
+     * @param value The supportedCodecs to add.
+     * @return This builder for chaining.
+     */
+    public Builder addSupportedCodecs(
+        String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSupportedCodecsIsMutable();
+      supportedCodecs_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the codec names supported by the client
+     * </pre>
+     *
+     * <code>repeated string supportedCodecs = 5;</code>
+     * @param values The supportedCodecs to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllSupportedCodecs(
+        Iterable<String> values) {
+      ensureSupportedCodecsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, supportedCodecs_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the codec names supported by the client
+     * </pre>
+     *
+     * <code>repeated string supportedCodecs = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSupportedCodecs() {
+      supportedCodecs_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the codec names supported by the client
+     * </pre>
+     *
+     * <code>repeated string supportedCodecs = 5;</code>
+     * @param value The bytes of the supportedCodecs to add.
+     * @return This builder for chaining.
+     */
+    public Builder addSupportedCodecsBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      ensureSupportedCodecsIsMutable();
+      supportedCodecs_.add(value);
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.LazyStringList supportedCompressions_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    private void ensureSupportedCompressionsIsMutable() {
+      if (!((bitField0_ & 0x00000002) != 0)) {
+        supportedCompressions_ = new com.google.protobuf.LazyStringArrayList(supportedCompressions_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+    /**
+     * <pre>
+     * the compressor names supported by the client
+     * </pre>
+     *
+     * <code>repeated string supportedCompressions = 6;</code>
+     * @return A list containing the supportedCompressions.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getSupportedCompressionsList() {
+      return supportedCompressions_.getUnmodifiableView();
+    }
+    /**
+     * <pre>
+     * the compressor names supported by the client
+     * </pre>
+     *
+     * <code>repeated string supportedCompressions = 6;</code>
+     * @return The count of supportedCompressions.
+     */
+    public int getSupportedCompressionsCount() {
+      return supportedCompressions_.size();
+    }
+    /**
+     * <pre>
+     * the compressor names supported by the client
+     * </pre>
+     *
+     * <code>repeated string supportedCompressions = 6;</code>
+     * @param index The index of the element to return.
+     * @return The supportedCompressions at the given index.
+     */
+    public String getSupportedCompressions(int index) {
+      return supportedCompressions_.get(index);
+    }
+    /**
+     * <pre>
+     * the compressor names supported by the client
+     * </pre>
+     *
+     * <code>repeated string supportedCompressions = 6;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the supportedCompressions at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getSupportedCompressionsBytes(int index) {
+      return supportedCompressions_.getByteString(index);
+    }
+    /**
+     * <pre>
+     * the compressor names supported by the client
+     * </pre>
+     *
+     * <code>repeated string supportedCompressions = 6;</code>
+     * @param index The index to set the value at.
+     * @param value The supportedCompressions to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSupportedCompressions(
+        int index, String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSupportedCompressionsIsMutable();
+      supportedCompressions_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the compressor names supported by the client
+     * </pre>
+     *
+     * <code>repeated string supportedCompressions = 6;</code>
+     * @param value The supportedCompressions to add.
+     * @return This builder for chaining.
+     */
+    public Builder addSupportedCompressions(
+        String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSupportedCompressionsIsMutable();
+      supportedCompressions_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the compressor names supported by the client
+     * </pre>
+     *
+     * <code>repeated string supportedCompressions = 6;</code>
+     * @param values The supportedCompressions to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllSupportedCompressions(
+        Iterable<String> values) {
+      ensureSupportedCompressionsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, supportedCompressions_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the compressor names supported by the client
+     * </pre>
+     *
+     * <code>repeated string supportedCompressions = 6;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSupportedCompressions() {
+      supportedCompressions_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000002);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the compressor names supported by the client
+     * </pre>
+     *
+     * <code>repeated string supportedCompressions = 6;</code>
+     * @param value The bytes of the supportedCompressions to add.
+     * @return This builder for chaining.
+     */
+    public Builder addSupportedCompressionsBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      ensureSupportedCompressionsIsMutable();
+      supportedCompressions_.add(value);
+      onChanged();
+      return this;
+    }
     @Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -36,4 +36,96 @@ public interface ClientRegisterRequestOrBuilder extends
    * @return The port.
    */
   int getPort();
+
+  /**
+   * <pre>
+   * the highest protocol version supported by the client, 0 means version 1
+   * </pre>
+   *
+   * <code>int32 protocolVersion = 4;</code>
+   * @return The protocolVersion.
+   */
+  int getProtocolVersion();
+
+  /**
+   * <pre>
+   * the codec names supported by the client
+   * </pre>
+   *
+   * <code>repeated string supportedCodecs = 5;</code>
+   * @return A list containing the supportedCodecs.
+   */
+  java.util.List<String>
+      getSupportedCodecsList();
+  /**
+   * <pre>
+   * the codec names supported by the client
+   * </pre>
+   *
+   * <code>repeated string supportedCodecs = 5;</code>
+   * @return The count of supportedCodecs.
+   */
+  int getSupportedCodecsCount();
+  /**
+   * <pre>
+   * the codec names supported by the client
+   * </pre>
+   *
+   * <code>repeated string supportedCodecs = 5;</code>
+   * @param index The index of the element to return.
+   * @return The supportedCodecs at the given index.
+   */
+  String getSupportedCodecs(int index);
+  /**
+   * <pre>
+   * the codec names supported by the client
+   * </pre>
+   *
+   * <code>repeated string supportedCodecs = 5;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the supportedCodecs at the given index.
+   */
+  com.google.protobuf.ByteString
+      getSupportedCodecsBytes(int index);
+
+  /**
+   * <pre>
+   * the compressor names supported by the client
+   * </pre>
+   *
+   * <code>repeated string supportedCompressions = 6;</code>
+   * @return A list containing the supportedCompressions.
+   */
+  java.util.List<String>
+      getSupportedCompressionsList();
+  /**
+   * <pre>
+   * the compressor names supported by the client
+   * </pre>
+   *
+   * <code>repeated string supportedCompressions = 6;</code>
+   * @return The count of supportedCompressions.
+   */
+  int getSupportedCompressionsCount();
+  /**
+   * <pre>
+   * the compressor names supported by the client
+   * </pre>
+   *
+   * <code>repeated string supportedCompressions = 6;</code>
+   * @param index The index of the element to return.
+   * @return The supportedCompressions at the given index.
+   */
+  String getSupportedCompressions(int index);
+  /**
+   * <pre>
+   * the compressor names supported by the client
+   * </pre>
+   *
+   * <code>repeated string supportedCompressions = 6;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the supportedCompressions at the given index.
+   */
+  com.google.protobuf.ByteString
+      getSupportedCompressionsBytes(int index);
 }
@@ -18,4 +18,34 @@ public interface ClientResponseOrBuilder extends
    */
   com.google.protobuf.ByteString
       getBodyBytes();
+
+  /**
+   * <pre>
+   * the body encoded by the codec, "body" is empty when used
+   * </pre>
+   *
+   * <code>bytes payload = 2;</code>
+   * @return The payload.
+   */
+  com.google.protobuf.ByteString getPayload();
+
+  /**
+   * <pre>
+   * the register response: negotiated codec, others: codec of payload
+   * </pre>
+   *
+   * <code>string codec = 3;</code>
+   * @return The codec.
+   */
+  String getCodec();
+  /**
+   * <pre>
+   * the register response: negotiated codec, others: codec of payload
+   * </pre>
+   *
+   * <code>string codec = 3;</code>
+   * @return The bytes for codec.
+   */
+  com.google.protobuf.ByteString
+      getCodecBytes();
 }
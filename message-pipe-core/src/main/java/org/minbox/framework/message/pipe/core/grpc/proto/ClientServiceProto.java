@@ -24,6 +24,11 @@ public final class ClientServiceProto {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_org_minbox_framework_message_pipe_core_grpc_ClientHeartBeatRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_minbox_framework_message_pipe_core_grpc_ClientLoadReport_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_minbox_framework_message_pipe_core_grpc_ClientLoadReport_fieldAccessorTable;
   static final com.google.protobuf.Descriptors.Descriptor
     internal_static_org_minbox_framework_message_pipe_core_grpc_ClientResponse_descriptor;
   static final 
@@ -39,20 +44,33 @@ public final class ClientServiceProto {
   static {
     String[] descriptorData = {
       "\n\023ClientService.proto\022+org.minbox.framew" +
-      "ork.message.pipe.core.grpc\"O\n\025ClientRegi" +
-      "sterRequest\022\027\n\017messagePipeName\030\001 \001(\t\022\017\n\007" +
-      "address\030\002 \001(\t\022\014\n\004port\030\003 \001(\005\"7\n\026ClientHea" +
-      "rtBeatRequest\022\017\n\007address\030\001 \001(\t\022\014\n\004port\030\002" +
-      " \001(\005\"\036\n\016ClientResponse\022\014\n\004body\030\001 \001(\t2\255\002\n" +
-      "\rClientService\022\213\001\n\010register\022B.org.minbox" +
-      ".framework.message.pipe.core.grpc.Client" +
-      "RegisterRequest\032;.org.minbox.framework.m" +
-      "essage.pipe.core.grpc.ClientResponse\022\215\001\n" +
-      "\theartbeat\022C.org.minbox.framework.messag" +
-      "e.pipe.core.grpc.ClientHeartBeatRequest\032" +
-      ";.org.minbox.framework.message.pipe.core" +
-      ".grpc.ClientResponseB\026B\022ClientServicePro" +
-      "toP\001b\006proto3"
+      "ork.message.pipe.core.grpc\"\240\001\n\025ClientReg" +
+      "isterRequest\022\027\n\017messagePipeName\030\001 \001(\t\022\017\n" +
+      "\007address\030\002 \001(\t\022\014\n\004port\030\003 \001(\005\022\027\n\017protocol" +
+      "Version\030\004 \001(\005\022\027\n\017supportedCodecs\030\005 \003(\t\022\035" +
+      "\n\025supportedCompressions\030\006 \003(\t\"\265\001\n\026Client" +
+      "HeartBeatRequest\022\017\n\007address\030\001 \001(\t\022\014\n\004por" +
+      "t\030\002 \001(\005\022\r\n\005codec\030\003 \001(\t\022\024\n\007credits\030\004 \001(\005H" +
+      "\000\210\001\001\022K\n\004load\030\005 \001(\0132=.org.minbox.framewor" +
+      "k.message.pipe.core.grpc.ClientLoadRepor" +
+      "tB\n\n\010_credits\"\207\001\n\020ClientLoadReport\022\027\n\017in" +
+      "FlightBatches\030\001 \001(\005\022\025\n\rqueuedBatches\030\002 \001" +
+      "(\005\022\030\n\020latencyP50Millis\030\003 \001(\001\022\030\n\020latencyP" +
+      "99Millis\030\004 \001(\001\022\017\n\007cpuLoad\030\005 \001(\001\">\n\016Clien" +
+      "tResponse\022\014\n\004body\030\001 \001(\t\022\017\n\007payload\030\002 \001(\014" +
+      "\022\r\n\005codec\030\003 \001(\t2\307\003\n\rClientService\022\213\001\n\010re" +
+      "gister\022B.org.minbox.framework.message.pi" +
+      "pe.core.grpc.ClientRegisterRequest\032;.org" +
+      ".minbox.framework.message.pipe.core.grpc" +
+      ".ClientResponse\022\215\001\n\theartbeat\022C.org.minb" +
+      "ox.framework.message.pipe.core.grpc.Clie" +
+      "ntHeartBeatRequest\032;.org.minbox.framewor" +
+      "k.message.pipe.core.grpc.ClientResponse\022" +
+      "\227\001\n\017heartbeatStream\022C.org.minbox.framewo" +
+      "rk.message.pipe.core.grpc.ClientHeartBea" +
+      "tRequest\032;.org.minbox.framework.message." +
+      "pipe.core.grpc.ClientResponse(\0010\001B\026B\022Cli" +
+      "entServiceProtoP\001b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -63,19 +81,25 @@ public final class ClientServiceProto {
     internal_static_org_minbox_framework_message_pipe_core_grpc_ClientRegisterRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_minbox_framework_message_pipe_core_grpc_ClientRegisterRequest_descriptor,
-        new String[] { "MessagePipeName", "Address", "Port", });
+        new String[] { "MessagePipeName", "Address", "Port", "ProtocolVersion", "SupportedCodecs", "SupportedCompressions", });
     internal_static_org_minbox_framework_message_pipe_core_grpc_ClientHeartBeatRequest_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_org_minbox_framework_message_pipe_core_grpc_ClientHeartBeatRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_minbox_framework_message_pipe_core_grpc_ClientHeartBeatRequest_descriptor,
-        new String[] { "Address", "Port", });
-    internal_static_org_minbox_framework_message_pipe_core_grpc_ClientResponse_descriptor =
+        new String[] { "Address", "Port", "Codec", "Credits", "Load", "Credits", });
+    internal_static_org_minbox_framework_message_pipe_core_grpc_ClientLoadReport_descriptor =
       getDescriptor().getMessageTypes().get(2);
+    internal_static_org_minbox_framework_message_pipe_core_grpc_ClientLoadReport_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_minbox_framework_message_pipe_core_grpc_ClientLoadReport_descriptor,
+        new String[] { "InFlightBatches", "QueuedBatches", "LatencyP50Millis", "LatencyP99Millis", "CpuLoad", });
+    internal_static_org_minbox_framework_message_pipe_core_grpc_ClientResponse_descriptor =
+      getDescriptor().getMessageTypes().get(3);
     internal_static_org_minbox_framework_message_pipe_core_grpc_ClientResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_minbox_framework_message_pipe_core_grpc_ClientResponse_descriptor,
-        new String[] { "Body", });
+        new String[] { "Body", "Payload", "Codec", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -0,0 +1,680 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: MessageService.proto
+
+package org.minbox.framework.message.pipe.core.grpc.proto;
+
+/**
+ * <pre>
+ * protocol version 3, the ack of batch frame
+ * </pre>
+ *
+ * Protobuf type {@code org.minbox.framework.message.pipe.core.grpc.proto.DeliveryAck}
+ */
+public final class DeliveryAck extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.minbox.framework.message.pipe.core.grpc.proto.DeliveryAck)
+    DeliveryAckOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use DeliveryAck.newBuilder() to construct.
+  private DeliveryAck(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private DeliveryAck() {
+  }
+
+  @Override
+  @SuppressWarnings({"unused"})
+  protected Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new DeliveryAck();
+  }
+
+  @Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private DeliveryAck(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            sequence_ = input.readInt64();
+            break;
+          }
+          case 18: {
+            MessageBatchResponse.Builder subBuilder = null;
+            if (response_ != null) {
+              subBuilder = response_.toBuilder();
+            }
+            response_ = input.readMessage(MessageBatchResponse.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(response_);
+              response_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_DeliveryAck_descriptor;
+  }
+
+  @Override
+  protected FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_DeliveryAck_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            DeliveryAck.class, Builder.class);
+  }
+
+  public static final int SEQUENCE_FIELD_NUMBER = 1;
+  private long sequence_;
+  /**
+   * <code>int64 sequence = 1;</code>
+   * @return The sequence.
+   */
+  @Override
+  public long getSequence() {
+    return sequence_;
+  }
+
+  public static final int RESPONSE_FIELD_NUMBER = 2;
+  private MessageBatchResponse response_;
+  /**
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse response = 2;</code>
+   * @return Whether the response field is set.
+   */
+  @Override
+  public boolean hasResponse() {
+    return response_ != null;
+  }
+  /**
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse response = 2;</code>
+   * @return The response.
+   */
+  @Override
+  public MessageBatchResponse getResponse() {
+    return response_ == null ? MessageBatchResponse.getDefaultInstance() : response_;
+  }
+  /**
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse response = 2;</code>
+   */
+  @Override
+  public MessageBatchResponseOrBuilder getResponseOrBuilder() {
+    return getResponse();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (sequence_ != 0L) {
+      output.writeInt64(1, sequence_);
+    }
+    if (response_ != null) {
+      output.writeMessage(2, getResponse());
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (sequence_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, sequence_);
+    }
+    if (response_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getResponse());
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof DeliveryAck)) {
+      return super.equals(obj);
+    }
+    DeliveryAck other = (DeliveryAck) obj;
+
+    if (getSequence()
+        != other.getSequence()) return false;
+    if (hasResponse() != other.hasResponse()) return false;
+    if (hasResponse()) {
+      if (!getResponse()
+          .equals(other.getResponse())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + SEQUENCE_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getSequence());
+    if (hasResponse()) {
+      hash = (37 * hash) + RESPONSE_FIELD_NUMBER;
+      hash = (53 * hash) + getResponse().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static DeliveryAck parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static DeliveryAck parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static DeliveryAck parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static DeliveryAck parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static DeliveryAck parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static DeliveryAck parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static DeliveryAck parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static DeliveryAck parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static DeliveryAck parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static DeliveryAck parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static DeliveryAck parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static DeliveryAck parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(DeliveryAck prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @Override
+  protected Builder newBuilderForType(
+      BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * protocol version 3, the ack of batch frame
+   * </pre>
+   *
+   * Protobuf type {@code org.minbox.framework.message.pipe.core.grpc.proto.DeliveryAck}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.minbox.framework.message.pipe.core.grpc.proto.DeliveryAck)
+      DeliveryAckOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_DeliveryAck_descriptor;
+    }
+
+    @Override
+    protected FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_DeliveryAck_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              DeliveryAck.class, Builder.class);
+    }
+
+    // Construct using org.minbox.framework.message.pipe.core.grpc.proto.DeliveryAck.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @Override
+    public Builder clear() {
+      super.clear();
+      sequence_ = 0L;
+
+      if (responseBuilder_ == null) {
+        response_ = null;
+      } else {
+        response_ = null;
+        responseBuilder_ = null;
+      }
+      return this;
+    }
+
+    @Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_DeliveryAck_descriptor;
+    }
+
+    @Override
+    public DeliveryAck getDefaultInstanceForType() {
+      return DeliveryAck.getDefaultInstance();
+    }
+
+    @Override
+    public DeliveryAck build() {
+      DeliveryAck result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @Override
+    public DeliveryAck buildPartial() {
+      DeliveryAck result = new DeliveryAck(this);
+      result.sequence_ = sequence_;
+      if (responseBuilder_ == null) {
+        result.response_ = response_;
+      } else {
+        result.response_ = responseBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.setField(field, value);
+    }
+    @Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof DeliveryAck) {
+        return mergeFrom((DeliveryAck)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(DeliveryAck other) {
+      if (other == DeliveryAck.getDefaultInstance()) return this;
+      if (other.getSequence() != 0L) {
+        setSequence(other.getSequence());
+      }
+      if (other.hasResponse()) {
+        mergeResponse(other.getResponse());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      DeliveryAck parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (DeliveryAck) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private long sequence_ ;
+    /**
+     * <code>int64 sequence = 1;</code>
+     * @return The sequence.
+     */
+    @Override
+    public long getSequence() {
+      return sequence_;
+    }
+    /**
+     * <code>int64 sequence = 1;</code>
+     * @param value The sequence to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSequence(long value) {
+      
+      sequence_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 sequence = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSequence() {
+      
+      sequence_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private MessageBatchResponse response_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        MessageBatchResponse, MessageBatchResponse.Builder, MessageBatchResponseOrBuilder> responseBuilder_;
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse response = 2;</code>
+     * @return Whether the response field is set.
+     */
+    public boolean hasResponse() {
+      return responseBuilder_ != null || response_ != null;
+    }
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse response = 2;</code>
+     * @return The response.
+     */
+    public MessageBatchResponse getResponse() {
+      if (responseBuilder_ == null) {
+        return response_ == null ? MessageBatchResponse.getDefaultInstance() : response_;
+      } else {
+        return responseBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse response = 2;</code>
+     */
+    public Builder setResponse(MessageBatchResponse value) {
+      if (responseBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        response_ = value;
+        onChanged();
+      } else {
+        responseBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse response = 2;</code>
+     */
+    public Builder setResponse(
+        MessageBatchResponse.Builder builderForValue) {
+      if (responseBuilder_ == null) {
+        response_ = builderForValue.build();
+        onChanged();
+      } else {
+        responseBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse response = 2;</code>
+     */
+    public Builder mergeResponse(MessageBatchResponse value) {
+      if (responseBuilder_ == null) {
+        if (response_ != null) {
+          response_ =
+            MessageBatchResponse.newBuilder(response_).mergeFrom(value).buildPartial();
+        } else {
+          response_ = value;
+        }
+        onChanged();
+      } else {
+        responseBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse response = 2;</code>
+     */
+    public Builder clearResponse() {
+      if (responseBuilder_ == null) {
+        response_ = null;
+        onChanged();
+      } else {
+        response_ = null;
+        responseBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse response = 2;</code>
+     */
+    public MessageBatchResponse.Builder getResponseBuilder() {
+      
+      onChanged();
+      return getResponseFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse response = 2;</code>
+     */
+    public MessageBatchResponseOrBuilder getResponseOrBuilder() {
+      if (responseBuilder_ != null) {
+        return responseBuilder_.getMessageOrBuilder();
+      } else {
+        return response_ == null ?
+            MessageBatchResponse.getDefaultInstance() : response_;
+      }
+    }
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse response = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        MessageBatchResponse, MessageBatchResponse.Builder, MessageBatchResponseOrBuilder> 
+        getResponseFieldBuilder() {
+      if (responseBuilder_ == null) {
+        responseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            MessageBatchResponse, MessageBatchResponse.Builder, MessageBatchResponseOrBuilder>(
+                getResponse(),
+                getParentForChildren(),
+                isClean());
+        response_ = null;
+      }
+      return responseBuilder_;
+    }
+    @Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.minbox.framework.message.pipe.core.grpc.proto.DeliveryAck)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.minbox.framework.message.pipe.core.grpc.proto.DeliveryAck)
+  private static final DeliveryAck DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new DeliveryAck();
+  }
+
+  public static DeliveryAck getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<DeliveryAck>
+      PARSER = new com.google.protobuf.AbstractParser<DeliveryAck>() {
+    @Override
+    public DeliveryAck parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new DeliveryAck(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<DeliveryAck> parser() {
+    return PARSER;
+  }
+
+  @Override
+  public com.google.protobuf.Parser<DeliveryAck> getParserForType() {
+    return PARSER;
+  }
+
+  @Override
+  public DeliveryAck getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
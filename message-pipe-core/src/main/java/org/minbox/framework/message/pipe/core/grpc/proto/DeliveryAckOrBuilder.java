@@ -0,0 +1,30 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: MessageService.proto
+
+package org.minbox.framework.message.pipe.core.grpc.proto;
+
+public interface DeliveryAckOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.minbox.framework.message.pipe.core.grpc.proto.DeliveryAck)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 sequence = 1;</code>
+   * @return The sequence.
+   */
+  long getSequence();
+
+  /**
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse response = 2;</code>
+   * @return Whether the response field is set.
+   */
+  boolean hasResponse();
+  /**
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse response = 2;</code>
+   * @return The response.
+   */
+  MessageBatchResponse getResponse();
+  /**
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse response = 2;</code>
+   */
+  MessageBatchResponseOrBuilder getResponseOrBuilder();
+}
@@ -0,0 +1,680 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: MessageService.proto
+
+package org.minbox.framework.message.pipe.core.grpc.proto;
+
+/**
+ * <pre>
+ * protocol version 3, the batch frame written to the delivery stream
+ * </pre>
+ *
+ * Protobuf type {@code org.minbox.framework.message.pipe.core.grpc.proto.DeliveryFrame}
+ */
+public final class DeliveryFrame extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.minbox.framework.message.pipe.core.grpc.proto.DeliveryFrame)
+    DeliveryFrameOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use DeliveryFrame.newBuilder() to construct.
+  private DeliveryFrame(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private DeliveryFrame() {
+  }
+
+  @Override
+  @SuppressWarnings({"unused"})
+  protected Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new DeliveryFrame();
+  }
+
+  @Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private DeliveryFrame(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            sequence_ = input.readInt64();
+            break;
+          }
+          case 18: {
+            MessageBatchRequest.Builder subBuilder = null;
+            if (batch_ != null) {
+              subBuilder = batch_.toBuilder();
+            }
+            batch_ = input.readMessage(MessageBatchRequest.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(batch_);
+              batch_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_DeliveryFrame_descriptor;
+  }
+
+  @Override
+  protected FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_DeliveryFrame_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            DeliveryFrame.class, Builder.class);
+  }
+
+  public static final int SEQUENCE_FIELD_NUMBER = 1;
+  private long sequence_;
+  /**
+   * <code>int64 sequence = 1;</code>
+   * @return The sequence.
+   */
+  @Override
+  public long getSequence() {
+    return sequence_;
+  }
+
+  public static final int BATCH_FIELD_NUMBER = 2;
+  private MessageBatchRequest batch_;
+  /**
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest batch = 2;</code>
+   * @return Whether the batch field is set.
+   */
+  @Override
+  public boolean hasBatch() {
+    return batch_ != null;
+  }
+  /**
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest batch = 2;</code>
+   * @return The batch.
+   */
+  @Override
+  public MessageBatchRequest getBatch() {
+    return batch_ == null ? MessageBatchRequest.getDefaultInstance() : batch_;
+  }
+  /**
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest batch = 2;</code>
+   */
+  @Override
+  public MessageBatchRequestOrBuilder getBatchOrBuilder() {
+    return getBatch();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (sequence_ != 0L) {
+      output.writeInt64(1, sequence_);
+    }
+    if (batch_ != null) {
+      output.writeMessage(2, getBatch());
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (sequence_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, sequence_);
+    }
+    if (batch_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, getBatch());
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof DeliveryFrame)) {
+      return super.equals(obj);
+    }
+    DeliveryFrame other = (DeliveryFrame) obj;
+
+    if (getSequence()
+        != other.getSequence()) return false;
+    if (hasBatch() != other.hasBatch()) return false;
+    if (hasBatch()) {
+      if (!getBatch()
+          .equals(other.getBatch())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + SEQUENCE_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getSequence());
+    if (hasBatch()) {
+      hash = (37 * hash) + BATCH_FIELD_NUMBER;
+      hash = (53 * hash) + getBatch().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static DeliveryFrame parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static DeliveryFrame parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static DeliveryFrame parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static DeliveryFrame parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static DeliveryFrame parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static DeliveryFrame parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static DeliveryFrame parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static DeliveryFrame parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static DeliveryFrame parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static DeliveryFrame parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static DeliveryFrame parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static DeliveryFrame parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(DeliveryFrame prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @Override
+  protected Builder newBuilderForType(
+      BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * protocol version 3, the batch frame written to the delivery stream
+   * </pre>
+   *
+   * Protobuf type {@code org.minbox.framework.message.pipe.core.grpc.proto.DeliveryFrame}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.minbox.framework.message.pipe.core.grpc.proto.DeliveryFrame)
+      DeliveryFrameOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_DeliveryFrame_descriptor;
+    }
+
+    @Override
+    protected FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_DeliveryFrame_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              DeliveryFrame.class, Builder.class);
+    }
+
+    // Construct using org.minbox.framework.message.pipe.core.grpc.proto.DeliveryFrame.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @Override
+    public Builder clear() {
+      super.clear();
+      sequence_ = 0L;
+
+      if (batchBuilder_ == null) {
+        batch_ = null;
+      } else {
+        batch_ = null;
+        batchBuilder_ = null;
+      }
+      return this;
+    }
+
+    @Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_DeliveryFrame_descriptor;
+    }
+
+    @Override
+    public DeliveryFrame getDefaultInstanceForType() {
+      return DeliveryFrame.getDefaultInstance();
+    }
+
+    @Override
+    public DeliveryFrame build() {
+      DeliveryFrame result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @Override
+    public DeliveryFrame buildPartial() {
+      DeliveryFrame result = new DeliveryFrame(this);
+      result.sequence_ = sequence_;
+      if (batchBuilder_ == null) {
+        result.batch_ = batch_;
+      } else {
+        result.batch_ = batchBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.setField(field, value);
+    }
+    @Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof DeliveryFrame) {
+        return mergeFrom((DeliveryFrame)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(DeliveryFrame other) {
+      if (other == DeliveryFrame.getDefaultInstance()) return this;
+      if (other.getSequence() != 0L) {
+        setSequence(other.getSequence());
+      }
+      if (other.hasBatch()) {
+        mergeBatch(other.getBatch());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      DeliveryFrame parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (DeliveryFrame) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private long sequence_ ;
+    /**
+     * <code>int64 sequence = 1;</code>
+     * @return The sequence.
+     */
+    @Override
+    public long getSequence() {
+      return sequence_;
+    }
+    /**
+     * <code>int64 sequence = 1;</code>
+     * @param value The sequence to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSequence(long value) {
+      
+      sequence_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 sequence = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSequence() {
+      
+      sequence_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private MessageBatchRequest batch_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        MessageBatchRequest, MessageBatchRequest.Builder, MessageBatchRequestOrBuilder> batchBuilder_;
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest batch = 2;</code>
+     * @return Whether the batch field is set.
+     */
+    public boolean hasBatch() {
+      return batchBuilder_ != null || batch_ != null;
+    }
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest batch = 2;</code>
+     * @return The batch.
+     */
+    public MessageBatchRequest getBatch() {
+      if (batchBuilder_ == null) {
+        return batch_ == null ? MessageBatchRequest.getDefaultInstance() : batch_;
+      } else {
+        return batchBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest batch = 2;</code>
+     */
+    public Builder setBatch(MessageBatchRequest value) {
+      if (batchBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        batch_ = value;
+        onChanged();
+      } else {
+        batchBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest batch = 2;</code>
+     */
+    public Builder setBatch(
+        MessageBatchRequest.Builder builderForValue) {
+      if (batchBuilder_ == null) {
+        batch_ = builderForValue.build();
+        onChanged();
+      } else {
+        batchBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest batch = 2;</code>
+     */
+    public Builder mergeBatch(MessageBatchRequest value) {
+      if (batchBuilder_ == null) {
+        if (batch_ != null) {
+          batch_ =
+            MessageBatchRequest.newBuilder(batch_).mergeFrom(value).buildPartial();
+        } else {
+          batch_ = value;
+        }
+        onChanged();
+      } else {
+        batchBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest batch = 2;</code>
+     */
+    public Builder clearBatch() {
+      if (batchBuilder_ == null) {
+        batch_ = null;
+        onChanged();
+      } else {
+        batch_ = null;
+        batchBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest batch = 2;</code>
+     */
+    public MessageBatchRequest.Builder getBatchBuilder() {
+      
+      onChanged();
+      return getBatchFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest batch = 2;</code>
+     */
+    public MessageBatchRequestOrBuilder getBatchOrBuilder() {
+      if (batchBuilder_ != null) {
+        return batchBuilder_.getMessageOrBuilder();
+      } else {
+        return batch_ == null ?
+            MessageBatchRequest.getDefaultInstance() : batch_;
+      }
+    }
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest batch = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        MessageBatchRequest, MessageBatchRequest.Builder, MessageBatchRequestOrBuilder> 
+        getBatchFieldBuilder() {
+      if (batchBuilder_ == null) {
+        batchBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            MessageBatchRequest, MessageBatchRequest.Builder, MessageBatchRequestOrBuilder>(
+                getBatch(),
+                getParentForChildren(),
+                isClean());
+        batch_ = null;
+      }
+      return batchBuilder_;
+    }
+    @Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.minbox.framework.message.pipe.core.grpc.proto.DeliveryFrame)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.minbox.framework.message.pipe.core.grpc.proto.DeliveryFrame)
+  private static final DeliveryFrame DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new DeliveryFrame();
+  }
+
+  public static DeliveryFrame getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<DeliveryFrame>
+      PARSER = new com.google.protobuf.AbstractParser<DeliveryFrame>() {
+    @Override
+    public DeliveryFrame parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new DeliveryFrame(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<DeliveryFrame> parser() {
+    return PARSER;
+  }
+
+  @Override
+  public com.google.protobuf.Parser<DeliveryFrame> getParserForType() {
+    return PARSER;
+  }
+
+  @Override
+  public DeliveryFrame getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,30 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: MessageService.proto
+
+package org.minbox.framework.message.pipe.core.grpc.proto;
+
+public interface DeliveryFrameOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.minbox.framework.message.pipe.core.grpc.proto.DeliveryFrame)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 sequence = 1;</code>
+   * @return The sequence.
+   */
+  long getSequence();
+
+  /**
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest batch = 2;</code>
+   * @return Whether the batch field is set.
+   */
+  boolean hasBatch();
+  /**
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest batch = 2;</code>
+   * @return The batch.
+   */
+  MessageBatchRequest getBatch();
+  /**
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest batch = 2;</code>
+   */
+  MessageBatchRequestOrBuilder getBatchOrBuilder();
+}
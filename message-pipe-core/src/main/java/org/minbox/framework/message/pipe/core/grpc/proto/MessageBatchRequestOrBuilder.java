@@ -0,0 +1,69 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: MessageService.proto
+
+package org.minbox.framework.message.pipe.core.grpc.proto;
+
+public interface MessageBatchRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string requestId = 1;</code>
+   * @return The requestId.
+   */
+  String getRequestId();
+  /**
+   * <code>string requestId = 1;</code>
+   * @return The bytes for requestId.
+   */
+  com.google.protobuf.ByteString
+      getRequestIdBytes();
+
+  /**
+   * <code>string clientId = 2;</code>
+   * @return The clientId.
+   */
+  String getClientId();
+  /**
+   * <code>string clientId = 2;</code>
+   * @return The bytes for clientId.
+   */
+  com.google.protobuf.ByteString
+      getClientIdBytes();
+
+  /**
+   * <code>string pipeName = 3;</code>
+   * @return The pipeName.
+   */
+  String getPipeName();
+  /**
+   * <code>string pipeName = 3;</code>
+   * @return The bytes for pipeName.
+   */
+  com.google.protobuf.ByteString
+      getPipeNameBytes();
+
+  /**
+   * <code>repeated .org.minbox.framework.message.pipe.core.grpc.proto.PipeMessage messages = 4;</code>
+   */
+  java.util.List<PipeMessage> 
+      getMessagesList();
+  /**
+   * <code>repeated .org.minbox.framework.message.pipe.core.grpc.proto.PipeMessage messages = 4;</code>
+   */
+  PipeMessage getMessages(int index);
+  /**
+   * <code>repeated .org.minbox.framework.message.pipe.core.grpc.proto.PipeMessage messages = 4;</code>
+   */
+  int getMessagesCount();
+  /**
+   * <code>repeated .org.minbox.framework.message.pipe.core.grpc.proto.PipeMessage messages = 4;</code>
+   */
+  java.util.List<? extends PipeMessageOrBuilder> 
+      getMessagesOrBuilderList();
+  /**
+   * <code>repeated .org.minbox.framework.message.pipe.core.grpc.proto.PipeMessage messages = 4;</code>
+   */
+  PipeMessageOrBuilder getMessagesOrBuilder(
+      int index);
+}
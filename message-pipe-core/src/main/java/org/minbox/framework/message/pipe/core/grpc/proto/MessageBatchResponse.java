@@ -0,0 +1,956 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: MessageService.proto
+
+package org.minbox.framework.message.pipe.core.grpc.proto;
+
+/**
+ * <pre>
+ * protocol version 2, batch processing response
+ * </pre>
+ *
+ * Protobuf type {@code org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse}
+ */
+public final class MessageBatchResponse extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse)
+    MessageBatchResponseOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use MessageBatchResponse.newBuilder() to construct.
+  private MessageBatchResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private MessageBatchResponse() {
+    requestId_ = "";
+    status_ = 0;
+  }
+
+  @Override
+  @SuppressWarnings({"unused"})
+  protected Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new MessageBatchResponse();
+  }
+
+  @Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private MessageBatchResponse(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            String s = input.readStringRequireUtf8();
+
+            requestId_ = s;
+            break;
+          }
+          case 16: {
+            int rawValue = input.readEnum();
+
+            status_ = rawValue;
+            break;
+          }
+          case 24: {
+
+            successCount_ = input.readInt32();
+            break;
+          }
+          case 32: {
+            bitField0_ |= 0x00000001;
+            credits_ = input.readInt32();
+            break;
+          }
+          case 40: {
+            bitField0_ |= 0x00000002;
+            processingMicros_ = input.readInt64();
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_MessageBatchResponse_descriptor;
+  }
+
+  @Override
+  protected FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_MessageBatchResponse_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            MessageBatchResponse.class, Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int REQUESTID_FIELD_NUMBER = 1;
+  private volatile Object requestId_;
+  /**
+   * <code>string requestId = 1;</code>
+   * @return The requestId.
+   */
+  @Override
+  public String getRequestId() {
+    Object ref = requestId_;
+    if (ref instanceof String) {
+      return (String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      String s = bs.toStringUtf8();
+      requestId_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string requestId = 1;</code>
+   * @return The bytes for requestId.
+   */
+  @Override
+  public com.google.protobuf.ByteString
+      getRequestIdBytes() {
+    Object ref = requestId_;
+    if (ref instanceof String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (String) ref);
+      requestId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int STATUS_FIELD_NUMBER = 2;
+  private int status_;
+  /**
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchStatus status = 2;</code>
+   * @return The enum numeric value on the wire for status.
+   */
+  @Override public int getStatusValue() {
+    return status_;
+  }
+  /**
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchStatus status = 2;</code>
+   * @return The status.
+   */
+  @Override public MessageBatchStatus getStatus() {
+    @SuppressWarnings("deprecation")
+    MessageBatchStatus result = MessageBatchStatus.valueOf(status_);
+    return result == null ? MessageBatchStatus.UNRECOGNIZED : result;
+  }
+
+  public static final int SUCCESSCOUNT_FIELD_NUMBER = 3;
+  private int successCount_;
+  /**
+   * <code>int32 successCount = 3;</code>
+   * @return The successCount.
+   */
+  @Override
+  public int getSuccessCount() {
+    return successCount_;
+  }
+
+  public static final int CREDITS_FIELD_NUMBER = 4;
+  private int credits_;
+  /**
+   * <pre>
+   * the free message credits of the client after the batch, not present if not advertised
+   * </pre>
+   *
+   * <code>optional int32 credits = 4;</code>
+   * @return Whether the credits field is set.
+   */
+  @Override
+  public boolean hasCredits() {
+    return ((bitField0_ & 0x00000001) != 0);
+  }
+  /**
+   * <pre>
+   * the free message credits of the client after the batch, not present if not advertised
+   * </pre>
+   *
+   * <code>optional int32 credits = 4;</code>
+   * @return The credits.
+   */
+  @Override
+  public int getCredits() {
+    return credits_;
+  }
+
+  public static final int PROCESSINGMICROS_FIELD_NUMBER = 5;
+  private long processingMicros_;
+  /**
+   * <pre>
+   * the time from receiving to completing the batch on the client, not present if not reported
+   * </pre>
+   *
+   * <code>optional int64 processingMicros = 5;</code>
+   * @return Whether the processingMicros field is set.
+   */
+  @Override
+  public boolean hasProcessingMicros() {
+    return ((bitField0_ & 0x00000002) != 0);
+  }
+  /**
+   * <pre>
+   * the time from receiving to completing the batch on the client, not present if not reported
+   * </pre>
+   *
+   * <code>optional int64 processingMicros = 5;</code>
+   * @return The processingMicros.
+   */
+  @Override
+  public long getProcessingMicros() {
+    return processingMicros_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(requestId_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, requestId_);
+    }
+    if (status_ != MessageBatchStatus.UNKNOWN.getNumber()) {
+      output.writeEnum(2, status_);
+    }
+    if (successCount_ != 0) {
+      output.writeInt32(3, successCount_);
+    }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      output.writeInt32(4, credits_);
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      output.writeInt64(5, processingMicros_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(requestId_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, requestId_);
+    }
+    if (status_ != MessageBatchStatus.UNKNOWN.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(2, status_);
+    }
+    if (successCount_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(3, successCount_);
+    }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(4, credits_);
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(5, processingMicros_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof MessageBatchResponse)) {
+      return super.equals(obj);
+    }
+    MessageBatchResponse other = (MessageBatchResponse) obj;
+
+    if (!getRequestId()
+        .equals(other.getRequestId())) return false;
+    if (status_ != other.status_) return false;
+    if (getSuccessCount()
+        != other.getSuccessCount()) return false;
+    if (hasCredits() != other.hasCredits()) return false;
+    if (hasCredits()) {
+      if (getCredits()
+          != other.getCredits()) return false;
+    }
+    if (hasProcessingMicros() != other.hasProcessingMicros()) return false;
+    if (hasProcessingMicros()) {
+      if (getProcessingMicros()
+          != other.getProcessingMicros()) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+    hash = (53 * hash) + getRequestId().hashCode();
+    hash = (37 * hash) + STATUS_FIELD_NUMBER;
+    hash = (53 * hash) + status_;
+    hash = (37 * hash) + SUCCESSCOUNT_FIELD_NUMBER;
+    hash = (53 * hash) + getSuccessCount();
+    if (hasCredits()) {
+      hash = (37 * hash) + CREDITS_FIELD_NUMBER;
+      hash = (53 * hash) + getCredits();
+    }
+    if (hasProcessingMicros()) {
+      hash = (37 * hash) + PROCESSINGMICROS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getProcessingMicros());
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static MessageBatchResponse parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static MessageBatchResponse parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static MessageBatchResponse parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static MessageBatchResponse parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static MessageBatchResponse parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static MessageBatchResponse parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static MessageBatchResponse parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static MessageBatchResponse parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static MessageBatchResponse parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static MessageBatchResponse parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static MessageBatchResponse parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static MessageBatchResponse parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(MessageBatchResponse prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @Override
+  protected Builder newBuilderForType(
+      BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * protocol version 2, batch processing response
+   * </pre>
+   *
+   * Protobuf type {@code org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse)
+      MessageBatchResponseOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_MessageBatchResponse_descriptor;
+    }
+
+    @Override
+    protected FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_MessageBatchResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              MessageBatchResponse.class, Builder.class);
+    }
+
+    // Construct using org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @Override
+    public Builder clear() {
+      super.clear();
+      requestId_ = "";
+
+      status_ = 0;
+
+      successCount_ = 0;
+
+      credits_ = 0;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      processingMicros_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000002);
+      return this;
+    }
+
+    @Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_MessageBatchResponse_descriptor;
+    }
+
+    @Override
+    public MessageBatchResponse getDefaultInstanceForType() {
+      return MessageBatchResponse.getDefaultInstance();
+    }
+
+    @Override
+    public MessageBatchResponse build() {
+      MessageBatchResponse result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @Override
+    public MessageBatchResponse buildPartial() {
+      MessageBatchResponse result = new MessageBatchResponse(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.requestId_ = requestId_;
+      result.status_ = status_;
+      result.successCount_ = successCount_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.credits_ = credits_;
+        to_bitField0_ |= 0x00000001;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.processingMicros_ = processingMicros_;
+        to_bitField0_ |= 0x00000002;
+      }
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    @Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.setField(field, value);
+    }
+    @Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof MessageBatchResponse) {
+        return mergeFrom((MessageBatchResponse)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(MessageBatchResponse other) {
+      if (other == MessageBatchResponse.getDefaultInstance()) return this;
+      if (!other.getRequestId().isEmpty()) {
+        requestId_ = other.requestId_;
+        onChanged();
+      }
+      if (other.status_ != 0) {
+        setStatusValue(other.getStatusValue());
+      }
+      if (other.getSuccessCount() != 0) {
+        setSuccessCount(other.getSuccessCount());
+      }
+      if (other.hasCredits()) {
+        setCredits(other.getCredits());
+      }
+      if (other.hasProcessingMicros()) {
+        setProcessingMicros(other.getProcessingMicros());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      MessageBatchResponse parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (MessageBatchResponse) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private Object requestId_ = "";
+    /**
+     * <code>string requestId = 1;</code>
+     * @return The requestId.
+     */
+    public String getRequestId() {
+      Object ref = requestId_;
+      if (!(ref instanceof String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        requestId_ = s;
+        return s;
+      } else {
+        return (String) ref;
+      }
+    }
+    /**
+     * <code>string requestId = 1;</code>
+     * @return The bytes for requestId.
+     */
+    public com.google.protobuf.ByteString
+        getRequestIdBytes() {
+      Object ref = requestId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (String) ref);
+        requestId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string requestId = 1;</code>
+     * @param value The requestId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRequestId(
+        String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      requestId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string requestId = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRequestId() {
+      
+      requestId_ = getDefaultInstance().getRequestId();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string requestId = 1;</code>
+     * @param value The bytes for requestId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRequestIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      requestId_ = value;
+      onChanged();
+      return this;
+    }
+
+    private int status_ = 0;
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchStatus status = 2;</code>
+     * @return The enum numeric value on the wire for status.
+     */
+    @Override public int getStatusValue() {
+      return status_;
+    }
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchStatus status = 2;</code>
+     * @param value The enum numeric value on the wire for status to set.
+     * @return This builder for chaining.
+     */
+    public Builder setStatusValue(int value) {
+      
+      status_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchStatus status = 2;</code>
+     * @return The status.
+     */
+    @Override
+    public MessageBatchStatus getStatus() {
+      @SuppressWarnings("deprecation")
+      MessageBatchStatus result = MessageBatchStatus.valueOf(status_);
+      return result == null ? MessageBatchStatus.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchStatus status = 2;</code>
+     * @param value The status to set.
+     * @return This builder for chaining.
+     */
+    public Builder setStatus(MessageBatchStatus value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      status_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchStatus status = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearStatus() {
+      
+      status_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int successCount_ ;
+    /**
+     * <code>int32 successCount = 3;</code>
+     * @return The successCount.
+     */
+    @Override
+    public int getSuccessCount() {
+      return successCount_;
+    }
+    /**
+     * <code>int32 successCount = 3;</code>
+     * @param value The successCount to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSuccessCount(int value) {
+      
+      successCount_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 successCount = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSuccessCount() {
+      
+      successCount_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int credits_ ;
+    /**
+     * <pre>
+     * the free message credits of the client after the batch, not present if not advertised
+     * </pre>
+     *
+     * <code>optional int32 credits = 4;</code>
+     * @return Whether the credits field is set.
+     */
+    @Override
+    public boolean hasCredits() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * the free message credits of the client after the batch, not present if not advertised
+     * </pre>
+     *
+     * <code>optional int32 credits = 4;</code>
+     * @return The credits.
+     */
+    @Override
+    public int getCredits() {
+      return credits_;
+    }
+    /**
+     * <pre>
+     * the free message credits of the client after the batch, not present if not advertised
+     * </pre>
+     *
+     * <code>optional int32 credits = 4;</code>
+     * @param value The credits to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCredits(int value) {
+      bitField0_ |= 0x00000001;
+      credits_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the free message credits of the client after the batch, not present if not advertised
+     * </pre>
+     *
+     * <code>optional int32 credits = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCredits() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      credits_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private long processingMicros_ ;
+    /**
+     * <pre>
+     * the time from receiving to completing the batch on the client, not present if not reported
+     * </pre>
+     *
+     * <code>optional int64 processingMicros = 5;</code>
+     * @return Whether the processingMicros field is set.
+     */
+    @Override
+    public boolean hasProcessingMicros() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * the time from receiving to completing the batch on the client, not present if not reported
+     * </pre>
+     *
+     * <code>optional int64 processingMicros = 5;</code>
+     * @return The processingMicros.
+     */
+    @Override
+    public long getProcessingMicros() {
+      return processingMicros_;
+    }
+    /**
+     * <pre>
+     * the time from receiving to completing the batch on the client, not present if not reported
+     * </pre>
+     *
+     * <code>optional int64 processingMicros = 5;</code>
+     * @param value The processingMicros to set.
+     * @return This builder for chaining.
+     */
+    public Builder setProcessingMicros(long value) {
+      bitField0_ |= 0x00000002;
+      processingMicros_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the time from receiving to completing the batch on the client, not present if not reported
+     * </pre>
+     *
+     * <code>optional int64 processingMicros = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearProcessingMicros() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      processingMicros_ = 0L;
+      onChanged();
+      return this;
+    }
+    @Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse)
+  private static final MessageBatchResponse DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new MessageBatchResponse();
+  }
+
+  public static MessageBatchResponse getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<MessageBatchResponse>
+      PARSER = new com.google.protobuf.AbstractParser<MessageBatchResponse>() {
+    @Override
+    public MessageBatchResponse parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new MessageBatchResponse(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<MessageBatchResponse> parser() {
+    return PARSER;
+  }
+
+  @Override
+  public com.google.protobuf.Parser<MessageBatchResponse> getParserForType() {
+    return PARSER;
+  }
+
+  @Override
+  public MessageBatchResponse getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
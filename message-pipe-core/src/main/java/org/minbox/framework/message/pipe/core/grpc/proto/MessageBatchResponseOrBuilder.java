@@ -0,0 +1,76 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: MessageService.proto
+
+package org.minbox.framework.message.pipe.core.grpc.proto;
+
+public interface MessageBatchResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string requestId = 1;</code>
+   * @return The requestId.
+   */
+  String getRequestId();
+  /**
+   * <code>string requestId = 1;</code>
+   * @return The bytes for requestId.
+   */
+  com.google.protobuf.ByteString
+      getRequestIdBytes();
+
+  /**
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchStatus status = 2;</code>
+   * @return The enum numeric value on the wire for status.
+   */
+  int getStatusValue();
+  /**
+   * <code>.org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchStatus status = 2;</code>
+   * @return The status.
+   */
+  MessageBatchStatus getStatus();
+
+  /**
+   * <code>int32 successCount = 3;</code>
+   * @return The successCount.
+   */
+  int getSuccessCount();
+
+  /**
+   * <pre>
+   * the free message credits of the client after the batch, not present if not advertised
+   * </pre>
+   *
+   * <code>optional int32 credits = 4;</code>
+   * @return Whether the credits field is set.
+   */
+  boolean hasCredits();
+  /**
+   * <pre>
+   * the free message credits of the client after the batch, not present if not advertised
+   * </pre>
+   *
+   * <code>optional int32 credits = 4;</code>
+   * @return The credits.
+   */
+  int getCredits();
+
+  /**
+   * <pre>
+   * the time from receiving to completing the batch on the client, not present if not reported
+   * </pre>
+   *
+   * <code>optional int64 processingMicros = 5;</code>
+   * @return Whether the processingMicros field is set.
+   */
+  boolean hasProcessingMicros();
+  /**
+   * <pre>
+   * the time from receiving to completing the batch on the client, not present if not reported
+   * </pre>
+   *
+   * <code>optional int64 processingMicros = 5;</code>
+   * @return The processingMicros.
+   */
+  long getProcessingMicros();
+}
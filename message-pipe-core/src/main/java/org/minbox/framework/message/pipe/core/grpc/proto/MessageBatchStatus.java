@@ -0,0 +1,143 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: MessageService.proto
+
+package org.minbox.framework.message.pipe.core.grpc.proto;
+
+/**
+ * <pre>
+ * protocol version 2, batch processing status
+ * </pre>
+ *
+ * Protobuf enum {@code org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchStatus}
+ */
+public enum MessageBatchStatus
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <code>UNKNOWN = 0;</code>
+   */
+  UNKNOWN(0),
+  /**
+   * <code>SUCCESS = 1;</code>
+   */
+  SUCCESS(1),
+  /**
+   * <code>ERROR = 2;</code>
+   */
+  ERROR(2),
+  /**
+   * <pre>
+   * the client is saturated and did not process the batch, the batch should be sent elsewhere
+   * </pre>
+   *
+   * <code>RESOURCE_EXHAUSTED = 3;</code>
+   */
+  RESOURCE_EXHAUSTED(3),
+  UNRECOGNIZED(-1),
+  ;
+
+  /**
+   * <code>UNKNOWN = 0;</code>
+   */
+  public static final int UNKNOWN_VALUE = 0;
+  /**
+   * <code>SUCCESS = 1;</code>
+   */
+  public static final int SUCCESS_VALUE = 1;
+  /**
+   * <code>ERROR = 2;</code>
+   */
+  public static final int ERROR_VALUE = 2;
+  /**
+   * <pre>
+   * the client is saturated and did not process the batch, the batch should be sent elsewhere
+   * </pre>
+   *
+   * <code>RESOURCE_EXHAUSTED = 3;</code>
+   */
+  public static final int RESOURCE_EXHAUSTED_VALUE = 3;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @Deprecated
+  public static MessageBatchStatus valueOf(int value) {
+    return forNumber(value);
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   */
+  public static MessageBatchStatus forNumber(int value) {
+    switch (value) {
+      case 0: return UNKNOWN;
+      case 1: return SUCCESS;
+      case 2: return ERROR;
+      case 3: return RESOURCE_EXHAUSTED;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<MessageBatchStatus>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      MessageBatchStatus> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<MessageBatchStatus>() {
+          public MessageBatchStatus findValueByNumber(int number) {
+            return MessageBatchStatus.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    if (this == UNRECOGNIZED) {
+      throw new IllegalStateException(
+          "Can't get the descriptor of an unrecognized enum value.");
+    }
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return MessageProto.getDescriptor().getEnumTypes().get(0);
+  }
+
+  private static final MessageBatchStatus[] VALUES = values();
+
+  public static MessageBatchStatus valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private MessageBatchStatus(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchStatus)
+}
+
@@ -24,6 +24,46 @@ public final class MessageProto {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_org_minbox_framework_message_pipe_core_grpc_MessageResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_minbox_framework_message_pipe_core_grpc_PipeMessage_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_minbox_framework_message_pipe_core_grpc_PipeMessage_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_minbox_framework_message_pipe_core_grpc_PipeMessage_MetadataEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_minbox_framework_message_pipe_core_grpc_PipeMessage_MetadataEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_minbox_framework_message_pipe_core_grpc_MessageBatchRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_minbox_framework_message_pipe_core_grpc_MessageBatchRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_minbox_framework_message_pipe_core_grpc_MessageBatchResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_minbox_framework_message_pipe_core_grpc_MessageBatchResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_minbox_framework_message_pipe_core_grpc_DeliveryFrame_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_minbox_framework_message_pipe_core_grpc_DeliveryFrame_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_minbox_framework_message_pipe_core_grpc_DeliveryAck_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_minbox_framework_message_pipe_core_grpc_DeliveryAck_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_minbox_framework_message_pipe_core_grpc_BodyChunk_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_minbox_framework_message_pipe_core_grpc_BodyChunk_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_minbox_framework_message_pipe_core_grpc_BodyTransferResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_minbox_framework_message_pipe_core_grpc_BodyTransferResponse_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -34,14 +74,52 @@ public final class MessageProto {
   static {
     String[] descriptorData = {
       "\n\024MessageService.proto\022+org.minbox.frame" +
-      "work.message.pipe.core.grpc\"\036\n\016MessageRe" +
-      "quest\022\014\n\004body\030\001 \001(\t\"\037\n\017MessageResponse\022\014" +
-      "\n\004body\030\001 \001(\t2\241\001\n\016MessageService\022\216\001\n\021mess" +
-      "ageProcessing\022;.org.minbox.framework.mes" +
-      "sage.pipe.core.grpc.MessageRequest\032<.org" +
-      ".minbox.framework.message.pipe.core.grpc" +
-      ".MessageResponseB\020B\014MessageProtoP\001b\006prot" +
-      "o3"
+      "work.message.pipe.core.grpc\">\n\016MessageRe" +
+      "quest\022\014\n\004body\030\001 \001(\t\022\017\n\007payload\030\002 \001(\014\022\r\n\005" +
+      "codec\030\003 \001(\t\"?\n\017MessageResponse\022\014\n\004body\030\001" +
+      " \001(\t\022\017\n\007payload\030\002 \001(\014\022\r\n\005codec\030\003 \001(\t\"\344\001\n" +
+      "\013PipeMessage\022\021\n\tmessageId\030\001 \001(\t\022\024\n\014bodyE" +
+      "ncoding\030\002 \001(\t\022\014\n\004body\030\003 \001(\014\022X\n\010metadata\030" +
+      "\004 \003(\0132F.org.minbox.framework.message.pip" +
+      "e.core.grpc.PipeMessage.MetadataEntry\022\023\n" +
+      "\013compression\030\005 \001(\t\032/\n\rMetadataEntry\022\013\n\003k" +
+      "ey\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"\230\001\n\023MessageB" +
+      "atchRequest\022\021\n\trequestId\030\001 \001(\t\022\020\n\010client" +
+      "Id\030\002 \001(\t\022\020\n\010pipeName\030\003 \001(\t\022J\n\010messages\030\004" +
+      " \003(\01328.org.minbox.framework.message.pipe" +
+      ".core.grpc.PipeMessage\"\346\001\n\024MessageBatchR" +
+      "esponse\022\021\n\trequestId\030\001 \001(\t\022O\n\006status\030\002 \001" +
+      "(\0162?.org.minbox.framework.message.pipe.c" +
+      "ore.grpc.MessageBatchStatus\022\024\n\014successCo" +
+      "unt\030\003 \001(\005\022\024\n\007credits\030\004 \001(\005H\000\210\001\001\022\035\n\020proce" +
+      "ssingMicros\030\005 \001(\003H\001\210\001\001B\n\n\010_creditsB\023\n\021_p" +
+      "rocessingMicros\"r\n\rDeliveryFrame\022\020\n\010sequ" +
+      "ence\030\001 \001(\003\022O\n\005batch\030\002 \001(\0132@.org.minbox.f" +
+      "ramework.message.pipe.core.grpc.MessageB" +
+      "atchRequest\"t\n\013DeliveryAck\022\020\n\010sequence\030\001" +
+      " \001(\003\022S\n\010response\030\002 \001(\0132A.org.minbox.fram" +
+      "ework.message.pipe.core.grpc.MessageBatc" +
+      "hResponse\"A\n\tBodyChunk\022\021\n\tmessageId\030\001 \001(" +
+      "\t\022\023\n\013totalLength\030\002 \001(\003\022\014\n\004data\030\003 \001(\014\"\'\n\024" +
+      "BodyTransferResponse\022\017\n\007success\030\001 \001(\010*Q\n" +
+      "\022MessageBatchStatus\022\013\n\007UNKNOWN\020\000\022\013\n\007SUCC" +
+      "ESS\020\001\022\t\n\005ERROR\020\002\022\026\n\022RESOURCE_EXHAUSTED\020\003" +
+      "2\317\004\n\016MessageService\022\216\001\n\021messageProcessin" +
+      "g\022;.org.minbox.framework.message.pipe.co" +
+      "re.grpc.MessageRequest\032<.org.minbox.fram" +
+      "ework.message.pipe.core.grpc.MessageResp" +
+      "onse\022\226\001\n\017batchProcessing\022@.org.minbox.fr" +
+      "amework.message.pipe.core.grpc.MessageBa" +
+      "tchRequest\032A.org.minbox.framework.messag" +
+      "e.pipe.core.grpc.MessageBatchResponse\022\204\001" +
+      "\n\010delivery\022:.org.minbox.framework.messag" +
+      "e.pipe.core.grpc.DeliveryFrame\0328.org.min" +
+      "box.framework.message.pipe.core.grpc.Del" +
+      "iveryAck(\0010\001\022\213\001\n\014transferBody\0226.org.minb" +
+      "ox.framework.message.pipe.core.grpc.Body" +
+      "Chunk\032A.org.minbox.framework.message.pip" +
+      "e.core.grpc.BodyTransferResponse(\001B\020B\014Me" +
+      "ssageProtoP\001b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -52,13 +130,61 @@ public final class MessageProto {
     internal_static_org_minbox_framework_message_pipe_core_grpc_MessageRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_minbox_framework_message_pipe_core_grpc_MessageRequest_descriptor,
-        new String[] { "Body", });
+        new String[] { "Body", "Payload", "Codec", });
     internal_static_org_minbox_framework_message_pipe_core_grpc_MessageResponse_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_org_minbox_framework_message_pipe_core_grpc_MessageResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_minbox_framework_message_pipe_core_grpc_MessageResponse_descriptor,
-        new String[] { "Body", });
+        new String[] { "Body", "Payload", "Codec", });
+    internal_static_org_minbox_framework_message_pipe_core_grpc_PipeMessage_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_org_minbox_framework_message_pipe_core_grpc_PipeMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_minbox_framework_message_pipe_core_grpc_PipeMessage_descriptor,
+        new String[] { "MessageId", "BodyEncoding", "Body", "Metadata", "Compression", });
+    internal_static_org_minbox_framework_message_pipe_core_grpc_PipeMessage_MetadataEntry_descriptor =
+      internal_static_org_minbox_framework_message_pipe_core_grpc_PipeMessage_descriptor.getNestedTypes().get(0);
+    internal_static_org_minbox_framework_message_pipe_core_grpc_PipeMessage_MetadataEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_minbox_framework_message_pipe_core_grpc_PipeMessage_MetadataEntry_descriptor,
+        new String[] { "Key", "Value", });
+    internal_static_org_minbox_framework_message_pipe_core_grpc_MessageBatchRequest_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_org_minbox_framework_message_pipe_core_grpc_MessageBatchRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_minbox_framework_message_pipe_core_grpc_MessageBatchRequest_descriptor,
+        new String[] { "RequestId", "ClientId", "PipeName", "Messages", });
+    internal_static_org_minbox_framework_message_pipe_core_grpc_MessageBatchResponse_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_org_minbox_framework_message_pipe_core_grpc_MessageBatchResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_minbox_framework_message_pipe_core_grpc_MessageBatchResponse_descriptor,
+        new String[] { "RequestId", "Status", "SuccessCount", "Credits", "ProcessingMicros", "Credits", "ProcessingMicros", });
+    internal_static_org_minbox_framework_message_pipe_core_grpc_DeliveryFrame_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_org_minbox_framework_message_pipe_core_grpc_DeliveryFrame_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_minbox_framework_message_pipe_core_grpc_DeliveryFrame_descriptor,
+        new String[] { "Sequence", "Batch", });
+    internal_static_org_minbox_framework_message_pipe_core_grpc_DeliveryAck_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_org_minbox_framework_message_pipe_core_grpc_DeliveryAck_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_minbox_framework_message_pipe_core_grpc_DeliveryAck_descriptor,
+        new String[] { "Sequence", "Response", });
+    internal_static_org_minbox_framework_message_pipe_core_grpc_BodyChunk_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_org_minbox_framework_message_pipe_core_grpc_BodyChunk_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_minbox_framework_message_pipe_core_grpc_BodyChunk_descriptor,
+        new String[] { "MessageId", "TotalLength", "Data", });
+    internal_static_org_minbox_framework_message_pipe_core_grpc_BodyTransferResponse_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_org_minbox_framework_message_pipe_core_grpc_BodyTransferResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_minbox_framework_message_pipe_core_grpc_BodyTransferResponse_descriptor,
+        new String[] { "Success", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
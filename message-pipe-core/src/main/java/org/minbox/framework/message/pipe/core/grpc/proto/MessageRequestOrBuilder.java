@@ -18,4 +18,26 @@ public interface MessageRequestOrBuilder extends
    */
   com.google.protobuf.ByteString
       getBodyBytes();
+
+  /**
+   * <pre>
+   * the body encoded by the negotiated codec, "body" is empty when used
+   * </pre>
+   *
+   * <code>bytes payload = 2;</code>
+   * @return The payload.
+   */
+  com.google.protobuf.ByteString getPayload();
+
+  /**
+   * <code>string codec = 3;</code>
+   * @return The codec.
+   */
+  String getCodec();
+  /**
+   * <code>string codec = 3;</code>
+   * @return The bytes for codec.
+   */
+  com.google.protobuf.ByteString
+      getCodecBytes();
 }
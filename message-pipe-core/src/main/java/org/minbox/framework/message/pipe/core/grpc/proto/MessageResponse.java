@@ -17,6 +17,8 @@ private static final long serialVersionUID = 0L;
   }
   private MessageResponse() {
     body_ = "";
+    payload_ = com.google.protobuf.ByteString.EMPTY;
+    codec_ = "";
   }
 
   @Override
@@ -55,6 +57,17 @@ private static final long serialVersionUID = 0L;
             body_ = s;
             break;
           }
+          case 18: {
+
+            payload_ = input.readBytes();
+            break;
+          }
+          case 26: {
+            String s = input.readStringRequireUtf8();
+
+            codec_ = s;
+            break;
+          }
           default: {
             if (!parseUnknownField(
                 input, unknownFields, extensionRegistry, tag)) {
@@ -125,6 +138,59 @@ private static final long serialVersionUID = 0L;
     }
   }
 
+  public static final int PAYLOAD_FIELD_NUMBER = 2;
+  private com.google.protobuf.ByteString payload_;
+  /**
+   * <pre>
+   * the body encoded by the negotiated codec, "body" is empty when used
+   * </pre>
+   *
+   * <code>bytes payload = 2;</code>
+   * @return The payload.
+   */
+  @Override
+  public com.google.protobuf.ByteString getPayload() {
+    return payload_;
+  }
+
+  public static final int CODEC_FIELD_NUMBER = 3;
+  private volatile Object codec_;
+  /**
+   * <code>string codec = 3;</code>
+   * @return The codec.
+   */
+  @Override
+  public String getCodec() {
+    Object ref = codec_;
+    if (ref instanceof String) {
+      return (String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      String s = bs.toStringUtf8();
+      codec_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string codec = 3;</code>
+   * @return The bytes for codec.
+   */
+  @Override
+  public com.google.protobuf.ByteString
+      getCodecBytes() {
+    Object ref = codec_;
+    if (ref instanceof String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (String) ref);
+      codec_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
   private byte memoizedIsInitialized = -1;
   @Override
   public final boolean isInitialized() {
@@ -142,6 +208,12 @@ private static final long serialVersionUID = 0L;
     if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(body_)) {
       com.google.protobuf.GeneratedMessageV3.writeString(output, 1, body_);
     }
+    if (!payload_.isEmpty()) {
+      output.writeBytes(2, payload_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(codec_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, codec_);
+    }
     unknownFields.writeTo(output);
   }
 
@@ -154,6 +226,13 @@ private static final long serialVersionUID = 0L;
     if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(body_)) {
       size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, body_);
     }
+    if (!payload_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(2, payload_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(codec_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, codec_);
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -171,6 +250,10 @@ private static final long serialVersionUID = 0L;
 
     if (!getBody()
         .equals(other.getBody())) return false;
+    if (!getPayload()
+        .equals(other.getPayload())) return false;
+    if (!getCodec()
+        .equals(other.getCodec())) return false;
     if (!unknownFields.equals(other.unknownFields)) return false;
     return true;
   }
@@ -184,6 +267,10 @@ private static final long serialVersionUID = 0L;
     hash = (19 * hash) + getDescriptor().hashCode();
     hash = (37 * hash) + BODY_FIELD_NUMBER;
     hash = (53 * hash) + getBody().hashCode();
+    hash = (37 * hash) + PAYLOAD_FIELD_NUMBER;
+    hash = (53 * hash) + getPayload().hashCode();
+    hash = (37 * hash) + CODEC_FIELD_NUMBER;
+    hash = (53 * hash) + getCodec().hashCode();
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -319,6 +406,10 @@ private static final long serialVersionUID = 0L;
       super.clear();
       body_ = "";
 
+      payload_ = com.google.protobuf.ByteString.EMPTY;
+
+      codec_ = "";
+
       return this;
     }
 
@@ -346,6 +437,8 @@ private static final long serialVersionUID = 0L;
     public MessageResponse buildPartial() {
       MessageResponse result = new MessageResponse(this);
       result.body_ = body_;
+      result.payload_ = payload_;
+      result.codec_ = codec_;
       onBuilt();
       return result;
     }
@@ -398,6 +491,13 @@ private static final long serialVersionUID = 0L;
         body_ = other.body_;
         onChanged();
       }
+      if (other.getPayload() != com.google.protobuf.ByteString.EMPTY) {
+        setPayload(other.getPayload());
+      }
+      if (!other.getCodec().isEmpty()) {
+        codec_ = other.codec_;
+        onChanged();
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -502,6 +602,128 @@ private static final long serialVersionUID = 0L;
       onChanged();
       return this;
     }
+
+    private com.google.protobuf.ByteString payload_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <pre>
+     * the body encoded by the negotiated codec, "body" is empty when used
+     * </pre>
+     *
+     * <code>bytes payload = 2;</code>
+     * @return The payload.
+     */
+    @Override
+    public com.google.protobuf.ByteString getPayload() {
+      return payload_;
+    }
+    /**
+     * <pre>
+     * the body encoded by the negotiated codec, "body" is empty when used
+     * </pre>
+     *
+     * <code>bytes payload = 2;</code>
+     * @param value The payload to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPayload(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      payload_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the body encoded by the negotiated codec, "body" is empty when used
+     * </pre>
+     *
+     * <code>bytes payload = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearPayload() {
+      
+      payload_ = getDefaultInstance().getPayload();
+      onChanged();
+      return this;
+    }
+
+    private Object codec_ = "";
+    /**
+     * <code>string codec = 3;</code>
+     * @return The codec.
+     */
+    public String getCodec() {
+      Object ref = codec_;
+      if (!(ref instanceof String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        codec_ = s;
+        return s;
+      } else {
+        return (String) ref;
+      }
+    }
+    /**
+     * <code>string codec = 3;</code>
+     * @return The bytes for codec.
+     */
+    public com.google.protobuf.ByteString
+        getCodecBytes() {
+      Object ref = codec_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (String) ref);
+        codec_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string codec = 3;</code>
+     * @param value The codec to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCodec(
+        String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      codec_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string codec = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCodec() {
+      
+      codec_ = getDefaultInstance().getCodec();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string codec = 3;</code>
+     * @param value The bytes for codec to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCodecBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      codec_ = value;
+      onChanged();
+      return this;
+    }
     @Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
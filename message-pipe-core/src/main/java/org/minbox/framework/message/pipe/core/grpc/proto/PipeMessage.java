@@ -0,0 +1,1270 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: MessageService.proto
+
+package org.minbox.framework.message.pipe.core.grpc.proto;
+
+/**
+ * <pre>
+ * protocol version 2, typed message
+ * </pre>
+ *
+ * Protobuf type {@code org.minbox.framework.message.pipe.core.grpc.proto.PipeMessage}
+ */
+public final class PipeMessage extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.minbox.framework.message.pipe.core.grpc.proto.PipeMessage)
+    PipeMessageOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use PipeMessage.newBuilder() to construct.
+  private PipeMessage(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private PipeMessage() {
+    messageId_ = "";
+    bodyEncoding_ = "";
+    body_ = com.google.protobuf.ByteString.EMPTY;
+    compression_ = "";
+  }
+
+  @Override
+  @SuppressWarnings({"unused"})
+  protected Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new PipeMessage();
+  }
+
+  @Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private PipeMessage(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            String s = input.readStringRequireUtf8();
+
+            messageId_ = s;
+            break;
+          }
+          case 18: {
+            String s = input.readStringRequireUtf8();
+
+            bodyEncoding_ = s;
+            break;
+          }
+          case 26: {
+
+            body_ = input.readBytes();
+            break;
+          }
+          case 34: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              metadata_ = com.google.protobuf.MapField.newMapField(
+                  MetadataDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000001;
+            }
+            com.google.protobuf.MapEntry<String, String>
+            metadata__ = input.readMessage(
+                MetadataDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            metadata_.getMutableMap().put(
+                metadata__.getKey(), metadata__.getValue());
+            break;
+          }
+          case 42: {
+            String s = input.readStringRequireUtf8();
+
+            compression_ = s;
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_PipeMessage_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  @Override
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 4:
+        return internalGetMetadata();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  @Override
+  protected FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_PipeMessage_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            PipeMessage.class, Builder.class);
+  }
+
+  public static final int MESSAGEID_FIELD_NUMBER = 1;
+  private volatile Object messageId_;
+  /**
+   * <code>string messageId = 1;</code>
+   * @return The messageId.
+   */
+  @Override
+  public String getMessageId() {
+    Object ref = messageId_;
+    if (ref instanceof String) {
+      return (String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      String s = bs.toStringUtf8();
+      messageId_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string messageId = 1;</code>
+   * @return The bytes for messageId.
+   */
+  @Override
+  public com.google.protobuf.ByteString
+      getMessageIdBytes() {
+    Object ref = messageId_;
+    if (ref instanceof String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (String) ref);
+      messageId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int BODYENCODING_FIELD_NUMBER = 2;
+  private volatile Object bodyEncoding_;
+  /**
+   * <code>string bodyEncoding = 2;</code>
+   * @return The bodyEncoding.
+   */
+  @Override
+  public String getBodyEncoding() {
+    Object ref = bodyEncoding_;
+    if (ref instanceof String) {
+      return (String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      String s = bs.toStringUtf8();
+      bodyEncoding_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string bodyEncoding = 2;</code>
+   * @return The bytes for bodyEncoding.
+   */
+  @Override
+  public com.google.protobuf.ByteString
+      getBodyEncodingBytes() {
+    Object ref = bodyEncoding_;
+    if (ref instanceof String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (String) ref);
+      bodyEncoding_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int BODY_FIELD_NUMBER = 3;
+  private com.google.protobuf.ByteString body_;
+  /**
+   * <code>bytes body = 3;</code>
+   * @return The body.
+   */
+  @Override
+  public com.google.protobuf.ByteString getBody() {
+    return body_;
+  }
+
+  public static final int METADATA_FIELD_NUMBER = 4;
+  private static final class MetadataDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        String, String> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<String, String>newDefaultInstance(
+                MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_PipeMessage_MetadataEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "",
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "");
+  }
+  private com.google.protobuf.MapField<
+      String, String> metadata_;
+  private com.google.protobuf.MapField<String, String>
+  internalGetMetadata() {
+    if (metadata_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          MetadataDefaultEntryHolder.defaultEntry);
+    }
+    return metadata_;
+  }
+
+  public int getMetadataCount() {
+    return internalGetMetadata().getMap().size();
+  }
+  /**
+   * <pre>
+   * metadata value is a json literal
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; metadata = 4;</code>
+   */
+
+  @Override
+  public boolean containsMetadata(
+      String key) {
+    if (key == null) { throw new NullPointerException("map key"); }
+    return internalGetMetadata().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getMetadataMap()} instead.
+   */
+  @Override
+  @Deprecated
+  public java.util.Map<String, String> getMetadata() {
+    return getMetadataMap();
+  }
+  /**
+   * <pre>
+   * metadata value is a json literal
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; metadata = 4;</code>
+   */
+  @Override
+
+  public java.util.Map<String, String> getMetadataMap() {
+    return internalGetMetadata().getMap();
+  }
+  /**
+   * <pre>
+   * metadata value is a json literal
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; metadata = 4;</code>
+   */
+  @Override
+
+  public String getMetadataOrDefault(
+      String key,
+      String defaultValue) {
+    if (key == null) { throw new NullPointerException("map key"); }
+    java.util.Map<String, String> map =
+        internalGetMetadata().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <pre>
+   * metadata value is a json literal
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; metadata = 4;</code>
+   */
+  @Override
+
+  public String getMetadataOrThrow(
+      String key) {
+    if (key == null) { throw new NullPointerException("map key"); }
+    java.util.Map<String, String> map =
+        internalGetMetadata().getMap();
+    if (!map.containsKey(key)) {
+      throw new IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  public static final int COMPRESSION_FIELD_NUMBER = 5;
+  private volatile Object compression_;
+  /**
+   * <pre>
+   * the compressor name of body, empty if not compressed
+   * </pre>
+   *
+   * <code>string compression = 5;</code>
+   * @return The compression.
+   */
+  @Override
+  public String getCompression() {
+    Object ref = compression_;
+    if (ref instanceof String) {
+      return (String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      String s = bs.toStringUtf8();
+      compression_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * the compressor name of body, empty if not compressed
+   * </pre>
+   *
+   * <code>string compression = 5;</code>
+   * @return The bytes for compression.
+   */
+  @Override
+  public com.google.protobuf.ByteString
+      getCompressionBytes() {
+    Object ref = compression_;
+    if (ref instanceof String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (String) ref);
+      compression_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(messageId_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, messageId_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(bodyEncoding_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, bodyEncoding_);
+    }
+    if (!body_.isEmpty()) {
+      output.writeBytes(3, body_);
+    }
+    com.google.protobuf.GeneratedMessageV3
+      .serializeStringMapTo(
+        output,
+        internalGetMetadata(),
+        MetadataDefaultEntryHolder.defaultEntry,
+        4);
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(compression_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 5, compression_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(messageId_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, messageId_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(bodyEncoding_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, bodyEncoding_);
+    }
+    if (!body_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(3, body_);
+    }
+    for (java.util.Map.Entry<String, String> entry
+         : internalGetMetadata().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<String, String>
+      metadata__ = MetadataDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, metadata__);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(compression_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, compression_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof PipeMessage)) {
+      return super.equals(obj);
+    }
+    PipeMessage other = (PipeMessage) obj;
+
+    if (!getMessageId()
+        .equals(other.getMessageId())) return false;
+    if (!getBodyEncoding()
+        .equals(other.getBodyEncoding())) return false;
+    if (!getBody()
+        .equals(other.getBody())) return false;
+    if (!internalGetMetadata().equals(
+        other.internalGetMetadata())) return false;
+    if (!getCompression()
+        .equals(other.getCompression())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + MESSAGEID_FIELD_NUMBER;
+    hash = (53 * hash) + getMessageId().hashCode();
+    hash = (37 * hash) + BODYENCODING_FIELD_NUMBER;
+    hash = (53 * hash) + getBodyEncoding().hashCode();
+    hash = (37 * hash) + BODY_FIELD_NUMBER;
+    hash = (53 * hash) + getBody().hashCode();
+    if (!internalGetMetadata().getMap().isEmpty()) {
+      hash = (37 * hash) + METADATA_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetMetadata().hashCode();
+    }
+    hash = (37 * hash) + COMPRESSION_FIELD_NUMBER;
+    hash = (53 * hash) + getCompression().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static PipeMessage parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static PipeMessage parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static PipeMessage parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static PipeMessage parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static PipeMessage parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static PipeMessage parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static PipeMessage parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static PipeMessage parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static PipeMessage parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static PipeMessage parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static PipeMessage parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static PipeMessage parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(PipeMessage prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @Override
+  protected Builder newBuilderForType(
+      BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * protocol version 2, typed message
+   * </pre>
+   *
+   * Protobuf type {@code org.minbox.framework.message.pipe.core.grpc.proto.PipeMessage}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.minbox.framework.message.pipe.core.grpc.proto.PipeMessage)
+      PipeMessageOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_PipeMessage_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 4:
+          return internalGetMetadata();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 4:
+          return internalGetMutableMetadata();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @Override
+    protected FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_PipeMessage_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              PipeMessage.class, Builder.class);
+    }
+
+    // Construct using org.minbox.framework.message.pipe.core.grpc.proto.PipeMessage.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @Override
+    public Builder clear() {
+      super.clear();
+      messageId_ = "";
+
+      bodyEncoding_ = "";
+
+      body_ = com.google.protobuf.ByteString.EMPTY;
+
+      internalGetMutableMetadata().clear();
+      compression_ = "";
+
+      return this;
+    }
+
+    @Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return MessageProto.internal_static_org_minbox_framework_message_pipe_core_grpc_PipeMessage_descriptor;
+    }
+
+    @Override
+    public PipeMessage getDefaultInstanceForType() {
+      return PipeMessage.getDefaultInstance();
+    }
+
+    @Override
+    public PipeMessage build() {
+      PipeMessage result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @Override
+    public PipeMessage buildPartial() {
+      PipeMessage result = new PipeMessage(this);
+      int from_bitField0_ = bitField0_;
+      result.messageId_ = messageId_;
+      result.bodyEncoding_ = bodyEncoding_;
+      result.body_ = body_;
+      result.metadata_ = internalGetMetadata();
+      result.metadata_.makeImmutable();
+      result.compression_ = compression_;
+      onBuilt();
+      return result;
+    }
+
+    @Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.setField(field, value);
+    }
+    @Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof PipeMessage) {
+        return mergeFrom((PipeMessage)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(PipeMessage other) {
+      if (other == PipeMessage.getDefaultInstance()) return this;
+      if (!other.getMessageId().isEmpty()) {
+        messageId_ = other.messageId_;
+        onChanged();
+      }
+      if (!other.getBodyEncoding().isEmpty()) {
+        bodyEncoding_ = other.bodyEncoding_;
+        onChanged();
+      }
+      if (other.getBody() != com.google.protobuf.ByteString.EMPTY) {
+        setBody(other.getBody());
+      }
+      internalGetMutableMetadata().mergeFrom(
+          other.internalGetMetadata());
+      if (!other.getCompression().isEmpty()) {
+        compression_ = other.compression_;
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      PipeMessage parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (PipeMessage) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private Object messageId_ = "";
+    /**
+     * <code>string messageId = 1;</code>
+     * @return The messageId.
+     */
+    public String getMessageId() {
+      Object ref = messageId_;
+      if (!(ref instanceof String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        messageId_ = s;
+        return s;
+      } else {
+        return (String) ref;
+      }
+    }
+    /**
+     * <code>string messageId = 1;</code>
+     * @return The bytes for messageId.
+     */
+    public com.google.protobuf.ByteString
+        getMessageIdBytes() {
+      Object ref = messageId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (String) ref);
+        messageId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string messageId = 1;</code>
+     * @param value The messageId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMessageId(
+        String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      messageId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string messageId = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMessageId() {
+      
+      messageId_ = getDefaultInstance().getMessageId();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string messageId = 1;</code>
+     * @param value The bytes for messageId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMessageIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      messageId_ = value;
+      onChanged();
+      return this;
+    }
+
+    private Object bodyEncoding_ = "";
+    /**
+     * <code>string bodyEncoding = 2;</code>
+     * @return The bodyEncoding.
+     */
+    public String getBodyEncoding() {
+      Object ref = bodyEncoding_;
+      if (!(ref instanceof String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        bodyEncoding_ = s;
+        return s;
+      } else {
+        return (String) ref;
+      }
+    }
+    /**
+     * <code>string bodyEncoding = 2;</code>
+     * @return The bytes for bodyEncoding.
+     */
+    public com.google.protobuf.ByteString
+        getBodyEncodingBytes() {
+      Object ref = bodyEncoding_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (String) ref);
+        bodyEncoding_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string bodyEncoding = 2;</code>
+     * @param value The bodyEncoding to set.
+     * @return This builder for chaining.
+     */
+    public Builder setBodyEncoding(
+        String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      bodyEncoding_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string bodyEncoding = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearBodyEncoding() {
+      
+      bodyEncoding_ = getDefaultInstance().getBodyEncoding();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string bodyEncoding = 2;</code>
+     * @param value The bytes for bodyEncoding to set.
+     * @return This builder for chaining.
+     */
+    public Builder setBodyEncodingBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      bodyEncoding_ = value;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.ByteString body_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes body = 3;</code>
+     * @return The body.
+     */
+    @Override
+    public com.google.protobuf.ByteString getBody() {
+      return body_;
+    }
+    /**
+     * <code>bytes body = 3;</code>
+     * @param value The body to set.
+     * @return This builder for chaining.
+     */
+    public Builder setBody(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      body_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bytes body = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearBody() {
+      
+      body_ = getDefaultInstance().getBody();
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.MapField<
+        String, String> metadata_;
+    private com.google.protobuf.MapField<String, String>
+    internalGetMetadata() {
+      if (metadata_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            MetadataDefaultEntryHolder.defaultEntry);
+      }
+      return metadata_;
+    }
+    private com.google.protobuf.MapField<String, String>
+    internalGetMutableMetadata() {
+      onChanged();;
+      if (metadata_ == null) {
+        metadata_ = com.google.protobuf.MapField.newMapField(
+            MetadataDefaultEntryHolder.defaultEntry);
+      }
+      if (!metadata_.isMutable()) {
+        metadata_ = metadata_.copy();
+      }
+      return metadata_;
+    }
+
+    public int getMetadataCount() {
+      return internalGetMetadata().getMap().size();
+    }
+    /**
+     * <pre>
+     * metadata value is a json literal
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; metadata = 4;</code>
+     */
+
+    @Override
+    public boolean containsMetadata(
+        String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      return internalGetMetadata().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getMetadataMap()} instead.
+     */
+    @Override
+    @Deprecated
+    public java.util.Map<String, String> getMetadata() {
+      return getMetadataMap();
+    }
+    /**
+     * <pre>
+     * metadata value is a json literal
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; metadata = 4;</code>
+     */
+    @Override
+
+    public java.util.Map<String, String> getMetadataMap() {
+      return internalGetMetadata().getMap();
+    }
+    /**
+     * <pre>
+     * metadata value is a json literal
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; metadata = 4;</code>
+     */
+    @Override
+
+    public String getMetadataOrDefault(
+        String key,
+        String defaultValue) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<String, String> map =
+          internalGetMetadata().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * metadata value is a json literal
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; metadata = 4;</code>
+     */
+    @Override
+
+    public String getMetadataOrThrow(
+        String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<String, String> map =
+          internalGetMetadata().getMap();
+      if (!map.containsKey(key)) {
+        throw new IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearMetadata() {
+      internalGetMutableMetadata().getMutableMap()
+          .clear();
+      return this;
+    }
+    /**
+     * <pre>
+     * metadata value is a json literal
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; metadata = 4;</code>
+     */
+
+    public Builder removeMetadata(
+        String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      internalGetMutableMetadata().getMutableMap()
+          .remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @Deprecated
+    public java.util.Map<String, String>
+    getMutableMetadata() {
+      return internalGetMutableMetadata().getMutableMap();
+    }
+    /**
+     * <pre>
+     * metadata value is a json literal
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; metadata = 4;</code>
+     */
+    public Builder putMetadata(
+        String key,
+        String value) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      if (value == null) {
+  throw new NullPointerException("map value");
+}
+
+      internalGetMutableMetadata().getMutableMap()
+          .put(key, value);
+      return this;
+    }
+    /**
+     * <pre>
+     * metadata value is a json literal
+     * </pre>
+     *
+     * <code>map&lt;string, string&gt; metadata = 4;</code>
+     */
+
+    public Builder putAllMetadata(
+        java.util.Map<String, String> values) {
+      internalGetMutableMetadata().getMutableMap()
+          .putAll(values);
+      return this;
+    }
+
+    private Object compression_ = "";
+    /**
+     * <pre>
+     * the compressor name of body, empty if not compressed
+     * </pre>
+     *
+     * <code>string compression = 5;</code>
+     * @return The compression.
+     */
+    public String getCompression() {
+      Object ref = compression_;
+      if (!(ref instanceof String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        String s = bs.toStringUtf8();
+        compression_ = s;
+        return s;
+      } else {
+        return (String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * the compressor name of body, empty if not compressed
+     * </pre>
+     *
+     * <code>string compression = 5;</code>
+     * @return The bytes for compression.
+     */
+    public com.google.protobuf.ByteString
+        getCompressionBytes() {
+      Object ref = compression_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (String) ref);
+        compression_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * the compressor name of body, empty if not compressed
+     * </pre>
+     *
+     * <code>string compression = 5;</code>
+     * @param value The compression to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCompression(
+        String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      compression_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the compressor name of body, empty if not compressed
+     * </pre>
+     *
+     * <code>string compression = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCompression() {
+      
+      compression_ = getDefaultInstance().getCompression();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the compressor name of body, empty if not compressed
+     * </pre>
+     *
+     * <code>string compression = 5;</code>
+     * @param value The bytes for compression to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCompressionBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      compression_ = value;
+      onChanged();
+      return this;
+    }
+    @Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.minbox.framework.message.pipe.core.grpc.proto.PipeMessage)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.minbox.framework.message.pipe.core.grpc.proto.PipeMessage)
+  private static final PipeMessage DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new PipeMessage();
+  }
+
+  public static PipeMessage getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<PipeMessage>
+      PARSER = new com.google.protobuf.AbstractParser<PipeMessage>() {
+    @Override
+    public PipeMessage parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new PipeMessage(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<PipeMessage> parser() {
+    return PARSER;
+  }
+
+  @Override
+  public com.google.protobuf.Parser<PipeMessage> getParserForType() {
+    return PARSER;
+  }
+
+  @Override
+  public PipeMessage getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
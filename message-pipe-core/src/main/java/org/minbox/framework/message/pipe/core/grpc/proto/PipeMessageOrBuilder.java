@@ -0,0 +1,113 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: MessageService.proto
+
+package org.minbox.framework.message.pipe.core.grpc.proto;
+
+public interface PipeMessageOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.minbox.framework.message.pipe.core.grpc.proto.PipeMessage)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string messageId = 1;</code>
+   * @return The messageId.
+   */
+  String getMessageId();
+  /**
+   * <code>string messageId = 1;</code>
+   * @return The bytes for messageId.
+   */
+  com.google.protobuf.ByteString
+      getMessageIdBytes();
+
+  /**
+   * <code>string bodyEncoding = 2;</code>
+   * @return The bodyEncoding.
+   */
+  String getBodyEncoding();
+  /**
+   * <code>string bodyEncoding = 2;</code>
+   * @return The bytes for bodyEncoding.
+   */
+  com.google.protobuf.ByteString
+      getBodyEncodingBytes();
+
+  /**
+   * <code>bytes body = 3;</code>
+   * @return The body.
+   */
+  com.google.protobuf.ByteString getBody();
+
+  /**
+   * <pre>
+   * metadata value is a json literal
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; metadata = 4;</code>
+   */
+  int getMetadataCount();
+  /**
+   * <pre>
+   * metadata value is a json literal
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; metadata = 4;</code>
+   */
+  boolean containsMetadata(
+      String key);
+  /**
+   * Use {@link #getMetadataMap()} instead.
+   */
+  @Deprecated
+  java.util.Map<String, String>
+  getMetadata();
+  /**
+   * <pre>
+   * metadata value is a json literal
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; metadata = 4;</code>
+   */
+  java.util.Map<String, String>
+  getMetadataMap();
+  /**
+   * <pre>
+   * metadata value is a json literal
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; metadata = 4;</code>
+   */
+
+  String getMetadataOrDefault(
+      String key,
+      String defaultValue);
+  /**
+   * <pre>
+   * metadata value is a json literal
+   * </pre>
+   *
+   * <code>map&lt;string, string&gt; metadata = 4;</code>
+   */
+
+  String getMetadataOrThrow(
+      String key);
+
+  /**
+   * <pre>
+   * the compressor name of body, empty if not compressed
+   * </pre>
+   *
+   * <code>string compression = 5;</code>
+   * @return The compression.
+   */
+  String getCompression();
+  /**
+   * <pre>
+   * the compressor name of body, empty if not compressed
+   * </pre>
+   *
+   * <code>string compression = 5;</code>
+   * @return The bytes for compression.
+   */
+  com.google.protobuf.ByteString
+      getCompressionBytes();
+}
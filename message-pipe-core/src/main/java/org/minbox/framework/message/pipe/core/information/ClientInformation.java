@@ -4,6 +4,11 @@ import lombok.Getter;
 import lombok.Setter;
 import org.minbox.framework.message.pipe.core.ClientStatus;
 import org.minbox.framework.message.pipe.core.PipeConstants;
+import org.minbox.framework.message.pipe.core.codec.WireCodecs;
+import org.minbox.framework.message.pipe.core.transport.ProtocolVersion;
+
+import java.util.Collections;
+import java.util.List;
 
 /**
  * client information
@@ -33,7 +38,7 @@ public class ClientInformation {
      * last report time
      */
     @Setter
-    private long lastReportTime;
+    private volatile long lastReportTime;
     /**
      * this client status
      */
@@ -43,6 +48,37 @@ public class ClientInformation {
      * this client binding pipe names
      */
     private String[] bindingPipeNames;
+    /**
+     * The negotiated message transport protocol version
+     *
+     * @see ProtocolVersion
+     */
+    @Setter
+    private int protocolVersion = ProtocolVersion.JSON;
+    /**
+     * The negotiated transport body codec name
+     *
+     * @see WireCodecs
+     */
+    @Setter
+    private String wireCodec = WireCodecs.JSON;
+    /**
+     * The compressor names supported by the client, empty if the client cannot decompress
+     *
+     * @see org.minbox.framework.message.pipe.core.compress.Compressors
+     */
+    @Setter
+    private List<String> supportedCompressions = Collections.emptyList();
+    /**
+     * The last reported load, null if not reported
+     */
+    @Setter
+    private volatile ClientLoad load;
+    /**
+     * The free message credits advertised by the last heartbeat, null if not advertised
+     */
+    @Setter
+    private Integer credits;
 
     public ClientInformation(String address, int port) {
         this.address = address;
@@ -64,6 +100,35 @@ public class ClientInformation {
         return String.format(CLIENT_ID_PATTERN, this.address, this.port);
     }
 
+    /**
+     * Copy the client information with another status
+     *
+     * @param status The status of the copy
+     * @return The new {@link ClientInformation} instance
+     */
+    public ClientInformation withStatus(ClientStatus status) {
+        ClientInformation copy = new ClientInformation(this.address, this.port, this.bindingPipeNames);
+        copy.onlineTime = this.onlineTime;
+        copy.lastReportTime = this.lastReportTime;
+        copy.status = status;
+        copy.protocolVersion = this.protocolVersion;
+        copy.wireCodec = this.wireCodec;
+        copy.supportedCompressions = this.supportedCompressions;
+        copy.load = this.load;
+        copy.credits = this.credits;
+        return copy;
+    }
+
+    /**
+     * Check if the client can decompress the message body compressed by the compressor
+     *
+     * @param compression The compressor name
+     * @return Return "true" if supported
+     */
+    public boolean isSupportedCompression(String compression) {
+        return compression != null && supportedCompressions != null && supportedCompressions.contains(compression);
+    }
+
     /**
      * Get new {@link ClientInformation} instance
      *
@@ -0,0 +1,127 @@
+package org.minbox.framework.message.pipe.core.information;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.minbox.framework.message.pipe.core.PipeConstants;
+import org.minbox.framework.message.pipe.core.grpc.proto.ClientLoadReport;
+
+/**
+ * The load of a client reported by heartbeats
+ * <p>
+ * Reported by the grpc heartbeats, or by the {@link PipeConstants#CLIENT_LOAD_METADATA_KEY} metadata
+ * refreshed to nacos
+ *
+ * @author 恒宇少年
+ * @see ClientInformation#getLoad()
+ */
+@Data
+@Accessors(chain = true)
+public class ClientLoad {
+    /**
+     * The metadata value split
+     */
+    private static final String METADATA_VALUE_SPLIT = ",";
+    private static final int METADATA_VALUE_FIELDS = 5;
+    /**
+     * The batches being processed
+     */
+    private int inFlightBatches;
+    /**
+     * The batches waiting in the processing executor
+     */
+    private int queuedBatches;
+    /**
+     * The recent batch processing latency percentile 50 in milliseconds
+     */
+    private double latencyP50Millis;
+    /**
+     * The recent batch processing latency percentile 99 in milliseconds
+     */
+    private double latencyP99Millis;
+    /**
+     * The process cpu load in [0, 1], negative if not available
+     */
+    private double cpuLoad = -1;
+    /**
+     * The time the load is received by the server
+     */
+    private long reportTime = System.currentTimeMillis();
+
+    /**
+     * Get the number of batches held by the client
+     *
+     * @return The sum of in-flight and queued batches
+     */
+    public int getPendingBatches() {
+        return inFlightBatches + queuedBatches;
+    }
+
+    /**
+     * Convert to {@link ClientLoadReport}
+     *
+     * @return The {@link ClientLoadReport} instance
+     */
+    public ClientLoadReport toReport() {
+        return ClientLoadReport.newBuilder()
+                .setInFlightBatches(inFlightBatches)
+                .setQueuedBatches(queuedBatches)
+                .setLatencyP50Millis(latencyP50Millis)
+                .setLatencyP99Millis(latencyP99Millis)
+                .setCpuLoad(cpuLoad)
+                .build();
+    }
+
+    /**
+     * Convert from {@link ClientLoadReport}
+     *
+     * @param report The {@link ClientLoadReport} instance
+     * @return The {@link ClientLoad} instance
+     */
+    public static ClientLoad fromReport(ClientLoadReport report) {
+        return new ClientLoad()
+                .setInFlightBatches(report.getInFlightBatches())
+                .setQueuedBatches(report.getQueuedBatches())
+                .setLatencyP50Millis(report.getLatencyP50Millis())
+                .setLatencyP99Millis(report.getLatencyP99Millis())
+                .setCpuLoad(report.getCpuLoad());
+    }
+
+    /**
+     * Format as the {@link PipeConstants#CLIENT_LOAD_METADATA_KEY} metadata value
+     * <p>
+     * example：
+     * inFlightBatches,queuedBatches,latencyP50Millis,latencyP99Millis,cpuLoad
+     *
+     * @return The metadata value
+     */
+    public String toMetadataValue() {
+        return String.join(METADATA_VALUE_SPLIT, String.valueOf(inFlightBatches), String.valueOf(queuedBatches),
+                String.valueOf(latencyP50Millis), String.valueOf(latencyP99Millis), String.valueOf(cpuLoad));
+    }
+
+    /**
+     * Parse the {@link PipeConstants#CLIENT_LOAD_METADATA_KEY} metadata value
+     *
+     * @param metadataValue The metadata value
+     * @return The {@link ClientLoad} instance, null if the value is absent or malformed
+     */
+    public static ClientLoad parseMetadataValue(String metadataValue) {
+        if (metadataValue == null || metadataValue.isEmpty()) {
+            return null;
+        }
+        String[] values = metadataValue.split(METADATA_VALUE_SPLIT);
+        if (values.length < METADATA_VALUE_FIELDS) {
+            return null;
+        }
+        try {
+            return new ClientLoad()
+                    .setInFlightBatches(Integer.parseInt(values[0]))
+                    .setQueuedBatches(Integer.parseInt(values[1]))
+                    .setLatencyP50Millis(Double.parseDouble(values[2]))
+                    .setLatencyP99Millis(Double.parseDouble(values[3]))
+                    .setCpuLoad(Double.parseDouble(values[4]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package org.minbox.framework.message.pipe.core.pattern;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * The compiled pipe name pattern
+ * <p>
+ * A pipe name pattern is a standard regex or a simple wildcard '*' (converted to '.*'),
+ * the pattern is classified when compiled so that the common cases do not use regex:
+ * <ul>
+ *     <li>{@link Kind#EXACT}: there are no regex metacharacters, e.g. "order-pipe"</li>
+ *     <li>{@link Kind#PREFIX}: only a trailing "*" or ".*", e.g. "order-*"</li>
+ *     <li>{@link Kind#REGEX}: any other pattern, the compiled {@link Pattern} is kept</li>
+ * </ul>
+ * Compiled patterns are cached, use {@link #compile(String)} to get an instance
+ *
+ * @author 恒宇少年
+ */
+public final class PipeNamePattern {
+    /**
+     * The maximum number of cached patterns
+     */
+    private static final int MAX_CACHED_PATTERNS = 4096;
+    private static final String REGEX_METACHARACTERS = "\\.[]{}()*+?^$|";
+    private static final String WILDCARD = "*";
+    private static final String REGEX_WILDCARD = ".*";
+    private static final ConcurrentMap<String, PipeNamePattern> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * The kind of pattern
+     */
+    public enum Kind {
+        EXACT,
+        PREFIX,
+        REGEX
+    }
+
+    private final String pattern;
+    private final Kind kind;
+    /**
+     * The {@link Kind#EXACT} name or {@link Kind#PREFIX} prefix
+     */
+    private final String literal;
+    /**
+     * The extra exact name also matched by a {@link Kind#PREFIX} pattern
+     * <p>
+     * As a regex, "order-*" also matches "order" (zero '-'), keep this compatible
+     */
+    private final String alternative;
+    private final Pattern regex;
+    private final Pattern wildcardRegex;
+
+    private PipeNamePattern(String pattern) {
+        this.pattern = pattern;
+        String prefix = null;
+        String alternative = null;
+        if (pattern.endsWith(REGEX_WILDCARD) && isLiteral(pattern, pattern.length() - REGEX_WILDCARD.length())) {
+            prefix = pattern.substring(0, pattern.length() - REGEX_WILDCARD.length());
+        } else if (pattern.length() > 1 && pattern.endsWith(WILDCARD) && isLiteral(pattern, pattern.length() - 1)) {
+            prefix = pattern.substring(0, pattern.length() - 1);
+            alternative = prefix.substring(0, prefix.length() - 1);
+        }
+        if (isLiteral(pattern, pattern.length())) {
+            this.kind = Kind.EXACT;
+            this.literal = pattern;
+            this.alternative = null;
+            this.regex = null;
+            this.wildcardRegex = null;
+        } else if (prefix != null) {
+            this.kind = Kind.PREFIX;
+            this.literal = prefix;
+            this.alternative = alternative;
+            this.regex = null;
+            this.wildcardRegex = null;
+        } else {
+            this.kind = Kind.REGEX;
+            this.literal = null;
+            this.alternative = null;
+            this.regex = tryCompile(pattern);
+            this.wildcardRegex = pattern.contains(WILDCARD) ? tryCompile(pattern.replaceAll("\\*", REGEX_WILDCARD)) : null;
+        }
+    }
+
+    /**
+     * Get the compiled {@link PipeNamePattern}
+     *
+     * @param pattern The pipe name pattern, cannot be null
+     * @return The cached {@link PipeNamePattern} instance
+     */
+    public static PipeNamePattern compile(String pattern) {
+        PipeNamePattern compiled = CACHE.get(pattern);
+        if (compiled == null) {
+            if (CACHE.size() >= MAX_CACHED_PATTERNS) {
+                CACHE.clear();
+            }
+            compiled = CACHE.computeIfAbsent(pattern, PipeNamePattern::new);
+        }
+        return compiled;
+    }
+
+    /**
+     * Check if the pipe name matches this pattern
+     *
+     * @param pipeName The pipe name
+     * @return true if matches
+     */
+    public boolean matches(String pipeName) {
+        if (pipeName == null) {
+            return false;
+        }
+        switch (kind) {
+            case EXACT:
+                return literal.equals(pipeName);
+            case PREFIX:
+                return pipeName.startsWith(literal) || pipeName.equals(alternative);
+            default:
+                return (regex != null && regex.matcher(pipeName).matches()) ||
+                        (wildcardRegex != null && wildcardRegex.matcher(pipeName).matches());
+        }
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Get the {@link Kind#EXACT} name or {@link Kind#PREFIX} prefix
+     *
+     * @return The literal, null for {@link Kind#REGEX}
+     */
+    public String getLiteral() {
+        return literal;
+    }
+
+    /**
+     * Get the extra exact name matched by the {@link Kind#PREFIX} pattern
+     *
+     * @return The alternative name, may be null
+     */
+    public String getAlternative() {
+        return alternative;
+    }
+
+    private static boolean isLiteral(String pattern, int length) {
+        for (int i = 0; i < length; i++) {
+            if (REGEX_METACHARACTERS.indexOf(pattern.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Pattern tryCompile(String pattern) {
+        try {
+            return Pattern.compile(pattern);
+        } catch (Exception e) {
+            // Ignore compilation errors for raw patterns
+            return null;
+        }
+    }
+}
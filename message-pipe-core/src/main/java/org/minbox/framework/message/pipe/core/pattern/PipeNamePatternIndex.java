@@ -0,0 +1,224 @@
+package org.minbox.framework.message.pipe.core.pattern;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The precompiled pipe name pattern index
+ * <p>
+ * Find the value bound to the first pattern that matches a specific pipe name, the lookup order is:
+ * <ol>
+ *     <li>Exact pipe name hash lookup</li>
+ *     <li>The longest matched prefix in the prefix trie of wildcard patterns</li>
+ *     <li>The cached compiled regex patterns, in registration order</li>
+ * </ol>
+ * The match result is memoized per pipe name, the memo is discarded when a pattern is registered or removed.
+ * Reads are lock-free, writes are serialized and publish a new immutable snapshot
+ *
+ * @param <V> The type of value bound to the pattern
+ * @author 恒宇少年
+ * @see PipeNamePattern
+ */
+public class PipeNamePatternIndex<V> {
+    /**
+     * The maximum number of memoized pipe names per snapshot
+     */
+    private static final int MAX_MEMOIZED_NAMES = 10000;
+    /**
+     * The memoized value of pipe names without any matching pattern
+     */
+    private static final Object NO_MATCH = new Object();
+    /**
+     * All registered patterns in registration order
+     */
+    private final Map<String, V> patterns = new LinkedHashMap<>();
+    private volatile Snapshot<V> snapshot;
+
+    /**
+     * Create an empty index
+     */
+    public PipeNamePatternIndex() {
+        this(Collections.emptyMap());
+    }
+
+    /**
+     * Create an index from the registered patterns
+     * <p>
+     * The snapshot is built only once, use it to build an index in batch
+     *
+     * @param patterns The pattern to value map, registration order is the iteration order
+     */
+    public PipeNamePatternIndex(Map<String, V> patterns) {
+        this.patterns.putAll(patterns);
+        this.snapshot = new Snapshot<>(this.patterns);
+    }
+
+    /**
+     * Register a pattern, replacing the value if it was registered
+     *
+     * @param pattern The pipe name pattern
+     * @param value   The value bound to the pattern
+     */
+    public synchronized void put(String pattern, V value) {
+        if (pattern == null) {
+            return;
+        }
+        patterns.put(pattern, value);
+        this.snapshot = new Snapshot<>(patterns);
+    }
+
+    /**
+     * Remove a pattern
+     *
+     * @param pattern The pipe name pattern
+     */
+    public synchronized void remove(String pattern) {
+        if (patterns.remove(pattern) != null) {
+            this.snapshot = new Snapshot<>(patterns);
+        }
+    }
+
+    /**
+     * Remove all patterns
+     */
+    public synchronized void clear() {
+        patterns.clear();
+        this.snapshot = new Snapshot<>(patterns);
+    }
+
+    /**
+     * Check whether the pattern has been registered
+     *
+     * @param pattern The pipe name pattern
+     * @return Return "true" if registered
+     */
+    public boolean contains(String pattern) {
+        return snapshot.values.containsKey(pattern);
+    }
+
+    /**
+     * Get the value bound to the first pattern matching the pipe name
+     *
+     * @param pipeName The specific pipe name
+     * @return The matched value, null if there is no matching pattern
+     */
+    public V match(String pipeName) {
+        if (pipeName == null) {
+            return null;
+        }
+        return snapshot.match(pipeName);
+    }
+
+    /**
+     * Get all registered patterns
+     *
+     * @return The pattern set in registration order
+     */
+    public Set<String> patterns() {
+        return snapshot.values.keySet();
+    }
+
+    /**
+     * The immutable snapshot of registered patterns
+     *
+     * @param <V> The type of value bound to the pattern
+     */
+    private static class Snapshot<V> {
+        private final Map<String, V> values;
+        private final Map<String, V> exact = new HashMap<>();
+        private final TrieNode<V> prefixRoot = new TrieNode<>();
+        private final List<PipeNamePattern> regexPatterns = new ArrayList<>();
+        private final ConcurrentMap<String, Object> memo = new ConcurrentHashMap<>();
+
+        Snapshot(Map<String, V> patterns) {
+            this.values = Collections.unmodifiableMap(new LinkedHashMap<>(patterns));
+            List<PipeNamePattern> prefixPatterns = new ArrayList<>();
+            this.values.keySet().forEach(pattern -> {
+                PipeNamePattern compiled = PipeNamePattern.compile(pattern);
+                switch (compiled.getKind()) {
+                    case EXACT:
+                        exact.putIfAbsent(compiled.getLiteral(), values.get(pattern));
+                        break;
+                    case PREFIX:
+                        prefixRoot.insert(compiled.getLiteral(), values.get(pattern));
+                        prefixPatterns.add(compiled);
+                        break;
+                    default:
+                        regexPatterns.add(compiled);
+                }
+            });
+            // The exact names matched by prefix patterns have lower priority than the exact patterns
+            prefixPatterns.stream()
+                    .filter(compiled -> compiled.getAlternative() != null)
+                    .forEach(compiled -> exact.putIfAbsent(compiled.getAlternative(), values.get(compiled.getPattern())));
+        }
+
+        @SuppressWarnings("unchecked")
+        V match(String pipeName) {
+            Object value = memo.get(pipeName);
+            if (value == null) {
+                value = this.lookup(pipeName);
+                if (value == null) {
+                    value = NO_MATCH;
+                }
+                if (memo.size() < MAX_MEMOIZED_NAMES) {
+                    memo.put(pipeName, value);
+                }
+            }
+            return value == NO_MATCH ? null : (V) value;
+        }
+
+        private V lookup(String pipeName) {
+            V value = exact.get(pipeName);
+            if (value != null) {
+                return value;
+            }
+            value = prefixRoot.longestPrefixValue(pipeName);
+            if (value != null) {
+                return value;
+            }
+            for (PipeNamePattern pattern : regexPatterns) {
+                if (pattern.matches(pipeName)) {
+                    return values.get(pattern.getPattern());
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The prefix trie node
+     *
+     * @param <V> The type of value bound to the pattern
+     */
+    private static class TrieNode<V> {
+        private final Map<Character, TrieNode<V>> children = new HashMap<>();
+        private V value;
+
+        void insert(String prefix, V value) {
+            TrieNode<V> node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), c -> new TrieNode<>());
+            }
+            if (node.value == null) {
+                node.value = value;
+            }
+        }
+
+        V longestPrefixValue(String pipeName) {
+            TrieNode<V> node = this;
+            V matched = node.value;
+            for (int i = 0; i < pipeName.length(); i++) {
+                node = node.children.get(pipeName.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.value != null) {
+                    matched = node.value;
+                }
+            }
+            return matched;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.minbox.framework.message.pipe.core.transport;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import lombok.experimental.Accessors;
 import org.minbox.framework.message.pipe.core.Message;
@@ -28,4 +29,18 @@ public class MessageResponseBody {
      * The number of messages successfully processed in a batch
      */
     private int successCount = 0;
+    /**
+     * The free message credits of the client after the batch, -1 if not advertised
+     * <p>
+     * Only carried by {@link ProtocolVersion#PROTOBUF} and later responses
+     */
+    @JsonIgnore
+    private int credits = -1;
+    /**
+     * The time from receiving to completing the batch on the client in microseconds, -1 if not reported
+     * <p>
+     * Only carried by {@link ProtocolVersion#PROTOBUF} and later responses
+     */
+    @JsonIgnore
+    private long processingMicros = -1;
 }
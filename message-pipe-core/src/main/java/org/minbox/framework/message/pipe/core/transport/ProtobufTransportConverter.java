@@ -0,0 +1,199 @@
+package org.minbox.framework.message.pipe.core.transport;
+
+import com.google.protobuf.ByteString;
+import org.minbox.framework.message.pipe.core.Message;
+import org.minbox.framework.message.pipe.core.compress.Compressor;
+import org.minbox.framework.message.pipe.core.compress.Compressors;
+import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
+import org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest;
+import org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse;
+import org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchStatus;
+import org.minbox.framework.message.pipe.core.grpc.proto.PipeMessage;
+import org.minbox.framework.message.pipe.core.codec.WireCodec;
+import org.minbox.framework.message.pipe.core.codec.WireCodecs;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The converter between transport bodies and {@link ProtocolVersion#PROTOBUF} messages
+ * <p>
+ * The message body is transferred as protobuf bytes without encoding,
+ * each metadata value is transferred as a json literal so that the value type is kept.
+ * The message body larger than the threshold can be compressed by a {@link Compressor} supported by the client
+ *
+ * @author 恒宇少年
+ */
+public final class ProtobufTransportConverter {
+    /**
+     * The codec of metadata values, throws {@link MessagePipeException} instead of returning null
+     */
+    private static final WireCodec METADATA_CODEC = WireCodecs.getCodec(WireCodecs.JSON);
+
+    private ProtobufTransportConverter() {
+    }
+
+    /**
+     * Convert {@link MessageRequestBody} to {@link MessageBatchRequest}
+     *
+     * @param requestBody The {@link MessageRequestBody} instance
+     * @return The {@link MessageBatchRequest} instance
+     */
+    public static MessageBatchRequest toBatchRequest(MessageRequestBody requestBody) {
+        return toBatchRequest(requestBody, null, 0);
+    }
+
+    /**
+     * Convert {@link MessageRequestBody} to {@link MessageBatchRequest}, compress the large message bodies
+     *
+     * @param requestBody    The {@link MessageRequestBody} instance
+     * @param compressor     The {@link Compressor} of message body, null if not compressed
+     * @param thresholdBytes The message body is compressed only when its length is not less than the threshold
+     * @return The {@link MessageBatchRequest} instance
+     */
+    public static MessageBatchRequest toBatchRequest(MessageRequestBody requestBody, Compressor compressor, int thresholdBytes) {
+        MessageBatchRequest.Builder builder = MessageBatchRequest.newBuilder()
+                .setRequestId(nullToEmpty(requestBody.getRequestId()))
+                .setClientId(nullToEmpty(requestBody.getClientId()))
+                .setPipeName(nullToEmpty(requestBody.getPipeName()));
+        List<Message> messages = requestBody.getMessages();
+        if (messages != null) {
+            messages.forEach(message -> builder.addMessages(toPipeMessage(message, compressor, thresholdBytes)));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Convert {@link MessageBatchRequest} to {@link MessageRequestBody}
+     *
+     * @param request The {@link MessageBatchRequest} instance
+     * @return The {@link MessageRequestBody} instance
+     */
+    public static MessageRequestBody fromBatchRequest(MessageBatchRequest request) {
+        List<Message> messages = new ArrayList<>(request.getMessagesCount());
+        request.getMessagesList().forEach(pipeMessage -> messages.add(fromPipeMessage(pipeMessage)));
+        return new MessageRequestBody()
+                .setRequestId(request.getRequestId())
+                .setClientId(request.getClientId())
+                .setPipeName(request.getPipeName())
+                .setMessages(messages);
+    }
+
+    /**
+     * Convert {@link MessageResponseBody} to {@link MessageBatchResponse}
+     *
+     * @param responseBody The {@link MessageResponseBody} instance
+     * @return The {@link MessageBatchResponse} instance
+     */
+    public static MessageBatchResponse toBatchResponse(MessageResponseBody responseBody) {
+        MessageBatchStatus status = MessageResponseStatus.SUCCESS == responseBody.getStatus() ?
+                MessageBatchStatus.SUCCESS : MessageBatchStatus.ERROR;
+        MessageBatchResponse.Builder builder = MessageBatchResponse.newBuilder()
+                .setRequestId(nullToEmpty(responseBody.getRequestId()))
+                .setStatus(status)
+                .setSuccessCount(responseBody.getSuccessCount());
+        if (responseBody.getCredits() >= 0) {
+            builder.setCredits(responseBody.getCredits());
+        }
+        if (responseBody.getProcessingMicros() >= 0) {
+            builder.setProcessingMicros(responseBody.getProcessingMicros());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Convert {@link MessageBatchResponse} to {@link MessageResponseBody}
+     *
+     * @param response The {@link MessageBatchResponse} instance
+     * @return The {@link MessageResponseBody} instance
+     */
+    public static MessageResponseBody fromBatchResponse(MessageBatchResponse response) {
+        MessageResponseStatus status = MessageBatchStatus.SUCCESS == response.getStatus() ?
+                MessageResponseStatus.SUCCESS : MessageResponseStatus.ERROR;
+        return new MessageResponseBody()
+                .setRequestId(response.getRequestId())
+                .setStatus(status)
+                .setSuccessCount(response.getSuccessCount())
+                .setCredits(response.hasCredits() ? response.getCredits() : -1)
+                .setProcessingMicros(response.hasProcessingMicros() ? response.getProcessingMicros() : -1);
+    }
+
+    /**
+     * Convert {@link Message} to {@link PipeMessage}
+     *
+     * @param message The {@link Message} instance
+     * @return The {@link PipeMessage} instance
+     */
+    public static PipeMessage toPipeMessage(Message message) {
+        return toPipeMessage(message, null, 0);
+    }
+
+    /**
+     * Convert {@link Message} to {@link PipeMessage}, compress the large message body
+     *
+     * @param message        The {@link Message} instance
+     * @param compressor     The {@link Compressor} of message body, null if not compressed
+     * @param thresholdBytes The message body is compressed only when its length is not less than the threshold
+     * @return The {@link PipeMessage} instance
+     */
+    public static PipeMessage toPipeMessage(Message message, Compressor compressor, int thresholdBytes) {
+        PipeMessage.Builder builder = PipeMessage.newBuilder()
+                .setMessageId(nullToEmpty(message.getMessageId()))
+                .setBodyEncoding(nullToEmpty(message.getBodyEncoding()));
+        byte[] body = message.getBody();
+        if (body != null) {
+            if (compressor != null && body.length > 0 && body.length >= thresholdBytes) {
+                builder.setBody(ByteString.copyFrom(compressor.compress(body)))
+                        .setCompression(compressor.getName());
+            } else {
+                builder.setBody(ByteString.copyFrom(body));
+            }
+        }
+        for (Map.Entry<String, Object> entry : message.getMetadata().entrySet()) {
+            String value;
+            try {
+                value = new String(METADATA_CODEC.encode(entry.getValue()), StandardCharsets.UTF_8);
+            } catch (MessagePipeException e) {
+                throw new MessagePipeException("The metadata: " + entry.getKey() + " of message: " +
+                        message.getMessageId() + " cannot be converted to json.", e);
+            }
+            builder.putMetadata(entry.getKey(), value);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Convert {@link PipeMessage} to {@link Message}
+     *
+     * @param pipeMessage The {@link PipeMessage} instance
+     * @return The {@link Message} instance
+     */
+    public static Message fromPipeMessage(PipeMessage pipeMessage) {
+        byte[] body = pipeMessage.getBody().toByteArray();
+        if (!pipeMessage.getCompression().isEmpty()) {
+            body = Compressors.getCompressor(pipeMessage.getCompression()).decompress(body);
+        }
+        Message message = new Message(emptyToNull(pipeMessage.getMessageId()), body,
+                emptyToNull(pipeMessage.getBodyEncoding()));
+        Map<String, Object> metadata = message.getMetadata();
+        for (Map.Entry<String, String> entry : pipeMessage.getMetadataMap().entrySet()) {
+            try {
+                metadata.put(entry.getKey(), METADATA_CODEC.decode(entry.getValue().getBytes(StandardCharsets.UTF_8), Object.class));
+            } catch (MessagePipeException e) {
+                throw new MessagePipeException("The metadata: " + entry.getKey() + " of message: " +
+                        message.getMessageId() + " cannot be converted from json.", e);
+            }
+        }
+        return message;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,67 @@
+package org.minbox.framework.message.pipe.core.transport;
+
+/**
+ * The message transport protocol version
+ * <p>
+ * The client advertises the highest version it supports when registering,
+ * the server uses the negotiated version to choose the message processing rpc
+ *
+ * @author 恒宇少年
+ */
+public final class ProtocolVersion {
+    /**
+     * Version 1, the message request body is a json string
+     */
+    public static final int JSON = 1;
+    /**
+     * Version 2, the message request is a typed protobuf message with a bytes body
+     */
+    public static final int PROTOBUF = 2;
+    /**
+     * Version 3, the batches are written to a long-lived bidirectional delivery stream
+     */
+    public static final int STREAMING = 3;
+    /**
+     * Version 4, the claim-check message bodies are transferred in chunks before the batch
+     */
+    public static final int CLAIM_CHECK = 4;
+    /**
+     * The highest version supported by current application
+     */
+    public static final int CURRENT = CLAIM_CHECK;
+
+    private ProtocolVersion() {
+    }
+
+    /**
+     * Negotiate the protocol version used with the client
+     * <p>
+     * Clients that do not advertise the version (value is 0) only support {@link #JSON}
+     *
+     * @param clientVersion The highest version supported by the client
+     * @return The negotiated protocol version
+     */
+    public static int negotiate(int clientVersion) {
+        if (clientVersion < JSON) {
+            return JSON;
+        }
+        return Math.min(clientVersion, CURRENT);
+    }
+
+    /**
+     * Parse the advertised protocol version
+     *
+     * @param version The version string, e.g. from registry metadata
+     * @return The negotiated protocol version, {@link #JSON} if the version string is invalid
+     */
+    public static int negotiate(String version) {
+        if (version == null || version.isEmpty()) {
+            return JSON;
+        }
+        try {
+            return negotiate(Integer.parseInt(version.trim()));
+        } catch (NumberFormatException e) {
+            return JSON;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.minbox.framework.message.pipe.core.untis;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -9,6 +10,23 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  * @author 恒宇少年
  */
 public class JsonUtils {
+    /**
+     * The shared {@link ObjectMapper}, thread-safe after configured
+     * <p>
+     * Unknown properties are ignored so that new fields can be added to the transport bodies
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /**
+     * Get the shared {@link ObjectMapper}
+     *
+     * @return The {@link ObjectMapper} instance
+     */
+    public static ObjectMapper getObjectMapper() {
+        return MAPPER;
+    }
+
     /**
      * The object convert to json string
      *
@@ -17,8 +35,7 @@ public class JsonUtils {
      */
     public static String objectToJson(Object object) {
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.writeValueAsString(object);
+            return MAPPER.writeValueAsString(object);
         } catch (JsonProcessingException e) {
             return null;
         }
@@ -34,8 +51,7 @@ public class JsonUtils {
      */
     public static <T> T jsonToObject(String json, Class<T> clazz) {
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readValue(json, clazz);
+            return MAPPER.readValue(json, clazz);
         } catch (JsonProcessingException e) {
             return null;
         }
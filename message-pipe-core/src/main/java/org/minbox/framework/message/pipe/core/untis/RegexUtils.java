@@ -1,6 +1,6 @@
 package org.minbox.framework.message.pipe.core.untis;
 
-import java.util.regex.Pattern;
+import org.minbox.framework.message.pipe.core.pattern.PipeNamePattern;
 
 /**
  * Regular expression utility class
@@ -12,7 +12,8 @@ public class RegexUtils {
     /**
      * Check if the value matches the pattern
      * <p>
-     * Supports standard regex and simple wildcard '*' (converted to '.*')
+     * Supports standard regex and simple wildcard '*' (converted to '.*'),
+     * the compiled pattern is cached by {@link PipeNamePattern#compile(String)}
      *
      * @param pattern The regex pattern (e.g. "pipe-.*" or "pipe-*")
      * @param value   The value to check (e.g. "pipe-1")
@@ -22,23 +23,6 @@ public class RegexUtils {
         if (pattern == null || value == null) {
             return false;
         }
-        
-        boolean isMatch = false;
-        try {
-            isMatch = Pattern.compile(pattern).matcher(value).matches();
-        } catch (Exception e) {
-            // Ignore compilation errors for raw patterns
-        }
-
-        // If strict regex match fails, try wildcard compatibility (treat * as .*) 
-        if (!isMatch && pattern.contains("*")) {
-            try {
-                String wildcardPattern = pattern.replaceAll("\\*", ".*");
-                isMatch = Pattern.compile(wildcardPattern).matcher(value).matches();
-            } catch (Exception e) {
-                // Ignore fallback compilation errors
-            }
-        }
-        return isMatch;
+        return PipeNamePattern.compile(pattern).matches(value);
     }
 }
@@ -0,0 +1,87 @@
+package org.minbox.framework.message.pipe.core.pattern;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Check the lookup order and the snapshot updates of {@link PipeNamePatternIndex}
+ *
+ * @author 恒宇少年
+ */
+class PipeNamePatternIndexTest {
+
+    @Test
+    void exactBeforePrefixBeforeRegex() {
+        Map<String, String> patterns = new LinkedHashMap<>();
+        patterns.put("order-.+", "regex");
+        patterns.put("order-*", "prefix");
+        patterns.put("order-pipe", "exact");
+        PipeNamePatternIndex<String> index = new PipeNamePatternIndex<>(patterns);
+
+        assertEquals("exact", index.match("order-pipe"));
+        assertEquals("prefix", index.match("order-1"));
+        assertEquals("prefix", index.match("order"));
+        assertNull(index.match("other"));
+        assertNull(index.match(null));
+    }
+
+    @Test
+    void longestPrefixWins() {
+        PipeNamePatternIndex<String> index = new PipeNamePatternIndex<>();
+        index.put("order-*", "order");
+        index.put("order-vip-.*", "vip");
+
+        assertEquals("vip", index.match("order-vip-1"));
+        assertEquals("order", index.match("order-normal-1"));
+    }
+
+    @Test
+    void exactPatternBeforePrefixAlternative() {
+        PipeNamePatternIndex<String> index = new PipeNamePatternIndex<>();
+        index.put("order-*", "prefix");
+        index.put("order", "exact");
+
+        assertEquals("exact", index.match("order"));
+    }
+
+    @Test
+    void regexInRegistrationOrder() {
+        PipeNamePatternIndex<String> index = new PipeNamePatternIndex<>();
+        index.put("pipe-[0-9]+", "digits");
+        index.put("pipe-.+1", "ends-with-1");
+
+        assertEquals("digits", index.match("pipe-11"));
+        assertEquals("ends-with-1", index.match("pipe-x1"));
+    }
+
+    @Test
+    void memoDiscardedOnUpdate() {
+        PipeNamePatternIndex<String> index = new PipeNamePatternIndex<>();
+        assertNull(index.match("order-1"));
+
+        index.put("order-*", "prefix");
+        assertEquals("prefix", index.match("order-1"));
+        index.put("order-*", "replaced");
+        assertEquals("replaced", index.match("order-1"));
+
+        index.remove("order-*");
+        assertNull(index.match("order-1"));
+        assertFalse(index.contains("order-*"));
+
+        index.put("a", "a");
+        index.put("b", "b");
+        assertEquals(Arrays.asList("a", "b"), Arrays.asList(index.patterns().toArray()));
+        assertTrue(index.contains("a"));
+        index.clear();
+        assertNull(index.match("a"));
+        assertTrue(index.patterns().isEmpty());
+    }
+}
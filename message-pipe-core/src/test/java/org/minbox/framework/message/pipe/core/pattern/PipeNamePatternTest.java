@@ -0,0 +1,83 @@
+package org.minbox.framework.message.pipe.core.pattern;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Check the compiled pipe name patterns against the regex matching before the patterns were compiled
+ *
+ * @author 恒宇少年
+ */
+class PipeNamePatternTest {
+    private static final List<String> PATTERNS = Arrays.asList(
+            "order-pipe", "order-*", "order-.*", "order*", "*", ".*", "", "a*", "a*b", "a.b", "x?",
+            "pipe-[0-9]+", "pipe-[0-9]*-x", "(bad", "(bad*", "order-pipe|pipe-1");
+    private static final List<String> PIPE_NAMES = Arrays.asList(
+            "order-pipe", "order", "order-", "order--", "order-1", "orders", "ord", "", "a", "aaa", "ab", "aXXb",
+            "a.b", "axb", "x", "xx", "pipe-12", "pipe-", "pipe-1-x", "pipe--x", "pipe-1", "(bad", "(badd");
+
+    @Test
+    void classifyPatterns() {
+        assertEquals(PipeNamePattern.Kind.EXACT, PipeNamePattern.compile("order-pipe").getKind());
+        assertEquals(PipeNamePattern.Kind.PREFIX, PipeNamePattern.compile("order-*").getKind());
+        assertEquals("order-", PipeNamePattern.compile("order-*").getLiteral());
+        assertEquals("order", PipeNamePattern.compile("order-*").getAlternative());
+        assertEquals(PipeNamePattern.Kind.PREFIX, PipeNamePattern.compile("order-.*").getKind());
+        assertNull(PipeNamePattern.compile("order-.*").getAlternative());
+        assertEquals(PipeNamePattern.Kind.REGEX, PipeNamePattern.compile("*").getKind());
+        assertEquals(PipeNamePattern.Kind.REGEX, PipeNamePattern.compile("pipe-[0-9]+").getKind());
+        assertSame(PipeNamePattern.compile("order-*"), PipeNamePattern.compile("order-*"));
+    }
+
+    @Test
+    void matchLikeRegex() {
+        for (String pattern : PATTERNS) {
+            PipeNamePattern compiled = PipeNamePattern.compile(pattern);
+            for (String pipeName : PIPE_NAMES) {
+                assertEquals(regexMatch(pattern, pipeName), compiled.matches(pipeName),
+                        () -> "pattern: " + pattern + ", pipe name: " + pipeName);
+            }
+            assertFalse(compiled.matches(null));
+        }
+    }
+
+    @Test
+    void matchSinglePatternIndexLikeRegex() {
+        for (String pattern : PATTERNS) {
+            PipeNamePatternIndex<String> index = new PipeNamePatternIndex<>();
+            index.put(pattern, pattern);
+            for (String pipeName : PIPE_NAMES) {
+                assertEquals(regexMatch(pattern, pipeName) ? pattern : null, index.match(pipeName),
+                        () -> "pattern: " + pattern + ", pipe name: " + pipeName);
+            }
+        }
+    }
+
+    /**
+     * The regex matching before the patterns were compiled: the strict regex, then '*' treated as '.*'
+     */
+    private static boolean regexMatch(String pattern, String value) {
+        boolean isMatch = false;
+        try {
+            isMatch = Pattern.compile(pattern).matcher(value).matches();
+        } catch (Exception e) {
+            // Ignore compilation errors for raw patterns
+        }
+        if (!isMatch && pattern.contains("*")) {
+            try {
+                isMatch = Pattern.compile(pattern.replaceAll("\\*", ".*")).matcher(value).matches();
+            } catch (Exception e) {
+                // Ignore fallback compilation errors
+            }
+        }
+        return isMatch;
+    }
+}
@@ -1,5 +1,7 @@
 package org.minbox.framework.message.pipe.server;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -8,19 +10,31 @@ import org.minbox.framework.message.pipe.core.PipeConstants;
 import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
 import org.minbox.framework.message.pipe.core.information.ClientInformation;
 import org.minbox.framework.message.pipe.core.transport.MessageResponseStatus;
+import org.minbox.framework.message.pipe.server.codec.CompressionCodec;
+import org.minbox.framework.message.pipe.server.codec.PassthroughMessage;
+import org.minbox.framework.message.pipe.server.codec.PipeMessageCodec;
 import org.minbox.framework.message.pipe.server.config.LockNames;
 import org.minbox.framework.message.pipe.server.config.MessagePipeConfiguration;
 import org.minbox.framework.message.pipe.server.exception.ExceptionHandler;
+import org.minbox.framework.message.pipe.server.manager.BatchSendResult;
+import org.minbox.framework.message.pipe.server.manager.ClaimCheckStore;
 import org.minbox.framework.message.pipe.server.manager.MessageDeadLetterQueue;
 import org.minbox.framework.message.pipe.server.manager.MessagePipeScheduler;
 import org.minbox.framework.message.pipe.server.manager.MessageProcessStatus;
 import org.minbox.framework.message.pipe.server.manager.MessageRetryRecord;
+import org.minbox.framework.message.pipe.server.manager.PutDeduplicator;
+import org.minbox.framework.message.pipe.server.metrics.MessagePipeMeters;
 import org.minbox.framework.message.pipe.server.service.discovery.ServiceDiscovery;
 import org.redisson.api.*;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.Codec;
 import org.springframework.util.ObjectUtils;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -99,11 +113,41 @@ public class MessagePipe {
      */
     @Getter
     private final AtomicLong totalProcessCount = new AtomicLong(0);
+    /**
+     * The latency, lock and retry meters of this pipe
+     */
+    @Getter
+    private final MessagePipeMeters meters = new MessagePipeMeters();
     /**
      * The {@link MessagePipe} configuration
      */
     @Getter
     private final MessagePipeConfiguration configuration;
+    /**
+     * The payload compression of this pipe
+     *
+     * @see MessagePipeConfiguration#resolveCompression(String)
+     */
+    @Getter
+    private final MessagePipeConfiguration.Compression compression;
+    /**
+     * The redisson {@link Codec} of the queue and retry records, compresses the large messages
+     */
+    private final Codec codec;
+    /**
+     * The codec of passthrough queue entries, null if {@link MessagePipeConfiguration#isPassthrough()} is false
+     */
+    private final PipeMessageCodec passthroughCodec;
+    /**
+     * The claim-check store of oversized message bodies
+     */
+    @Getter
+    private final ClaimCheckStore claimCheckStore;
+    /**
+     * The put deduplication
+     */
+    @Getter
+    private final PutDeduplicator putDeduplicator;
     /**
      * Schedule threads that process all data in the message pipeline regularly
      */
@@ -124,6 +168,43 @@ public class MessagePipe {
      * Retry queue name format: {pipeName}_retry
      */
     private static final String RETRY_RECORDS_QUEUE_NAME_FORMAT = "%s_retry_records";
+    /**
+     * Range the head entries of queue under both the count and bytes limits
+     * <p>
+     * The size of each entry is its uncompressed length: read from the header of the entries compressed by
+     * {@link CompressionCodec} ("\0MPL") and {@link PipeMessageCodec} (0xB1 'L'), otherwise the stored length.
+     * The entries beyond the bytes limit are not transferred. The first entry is always returned
+     * <p>
+     * KEYS[1]: The queue name
+     * ARGV[1]: The maximum number of entries
+     * ARGV[2]: The maximum total bytes of entries
+     */
+    private static final String RANGE_BATCH_SCRIPT =
+            "local function readLength(entry, index) " +
+                    "  local b1, b2, b3, b4 = string.byte(entry, index, index + 3) " +
+                    "  return ((b1 * 256 + b2) * 256 + b3) * 256 + b4 " +
+                    "end " +
+                    "local function entrySize(entry) " +
+                    "  if #entry > 9 and string.sub(entry, 1, 4) == '\\0MPL' then " +
+                    "    return readLength(entry, 6) " +
+                    "  end " +
+                    "  if #entry >= 6 and string.sub(entry, 1, 2) == '\\177L' then " +
+                    "    return readLength(entry, 3) " +
+                    "  end " +
+                    "  return #entry " +
+                    "end " +
+                    "local entries = redis.call('lrange', KEYS[1], 0, tonumber(ARGV[1]) - 1) " +
+                    "local maxBytes = tonumber(ARGV[2]) " +
+                    "local totalBytes = 0 " +
+                    "local batch = {} " +
+                    "for i = 1, #entries do " +
+                    "  totalBytes = totalBytes + entrySize(entries[i]) " +
+                    "  if i > 1 and totalBytes > maxBytes then " +
+                    "    break " +
+                    "  end " +
+                    "  batch[i] = entries[i] " +
+                    "end " +
+                    "return batch";
 
 
     public MessagePipe(String name,
@@ -138,7 +219,14 @@ public class MessagePipe {
         this.redissonClient = redissonClient;
         this.configuration = configuration;
         this.serviceDiscovery = serviceDiscovery;
-        this.queue = redissonClient.getBlockingQueue(this.queueName, configuration.getCodec());
+        this.compression = configuration.resolveCompression(name);
+        Codec storageCodec = new CompressionCodec(configuration.getCodec(), this.compression);
+        this.passthroughCodec = configuration.isPassthrough() ? new PipeMessageCodec(storageCodec, this.compression) : null;
+        this.codec = this.passthroughCodec != null ? this.passthroughCodec : storageCodec;
+        this.queue = redissonClient.getBlockingQueue(this.queueName, this.codec);
+        this.claimCheckStore = new ClaimCheckStore(redissonClient, name, configuration);
+        this.putDeduplicator = new PutDeduplicator(redissonClient, this.queueName,
+                configuration.resolveDeduplication(name));
 
         // Initialize DLQ
         this.messageDeadLetterQueue = new MessageDeadLetterQueue(redissonClient, name, configuration);
@@ -157,6 +245,27 @@ public class MessagePipe {
         }
     }
 
+    /**
+     * Try to acquire the lock and record the waiting time
+     *
+     * @param lock     The {@link RLock} instance
+     * @param lockTime The wait and lease time of the lock
+     * @return true if the lock is acquired
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private boolean tryLock(RLock lock, MessagePipeConfiguration.LockTime lockTime) throws InterruptedException {
+        long leaseTime = lockTime.getLeaseTime();
+        long startNanos = System.nanoTime();
+        try {
+            if (leaseTime == -1) {
+                return lock.tryLock(lockTime.getWaitTime(), lockTime.getTimeUnit());
+            }
+            return lock.tryLock(lockTime.getWaitTime(), leaseTime, lockTime.getTimeUnit());
+        } finally {
+            meters.recordLockAcquire(System.nanoTime() - startNanos);
+        }
+    }
+
     /**
      * put message to current {@link MessagePipe} with {@link RLock}
      *
@@ -165,20 +274,9 @@ public class MessagePipe {
     public void putLastOnLock(Message message) {
         RLock putLock = redissonClient.getLock(putLockName);
         try {
-            MessagePipeConfiguration.LockTime lockTime = configuration.getPutLockTime();
-            long leaseTime = lockTime.getLeaseTime();
-            boolean isLocked;
-            if (leaseTime == -1) {
-                isLocked = putLock.tryLock(lockTime.getWaitTime(), lockTime.getTimeUnit());
-            } else {
-                isLocked = putLock.tryLock(lockTime.getWaitTime(), leaseTime, lockTime.getTimeUnit());
-            }
+            boolean isLocked = this.tryLock(putLock, configuration.getPutLockTime());
             if (isLocked) {
-                boolean addSuccess = queue.offer(message);
-                if (!addSuccess) {
-                    throw new MessagePipeException("Unsuccessful when writing the message to the queue.");
-                }
-                totalInputCount.incrementAndGet();
+                totalInputCount.addAndGet(this.enqueue(message));
             }
         } catch (Exception e) {
             this.doHandleException(e, MessageProcessStatus.PUT_EXCEPTION, message);
@@ -200,11 +298,7 @@ public class MessagePipe {
     public void putLast(Message message) {
         log.debug("write the last new message, content：{}.", message);
         try {
-            boolean addSuccess = queue.offer(message);
-            if (!addSuccess) {
-                throw new MessagePipeException("Unsuccessful when writing the message to the queue.");
-            }
-            totalInputCount.incrementAndGet();
+            totalInputCount.addAndGet(this.enqueue(message));
         } catch (Exception e) {
             this.doHandleException(e, MessageProcessStatus.PUT_EXCEPTION, message);
         } finally {
@@ -225,26 +319,14 @@ public class MessagePipe {
         }
         RLock putLock = redissonClient.getLock(putLockName);
         try {
-            MessagePipeConfiguration.LockTime lockTime = configuration.getPutLockTime();
-            long leaseTime = lockTime.getLeaseTime();
-            boolean isLocked;
-            if (leaseTime == -1) {
-                isLocked = putLock.tryLock(lockTime.getWaitTime(), lockTime.getTimeUnit());
-            } else {
-                isLocked = putLock.tryLock(lockTime.getWaitTime(), leaseTime, lockTime.getTimeUnit());
-            }
+            boolean isLocked = this.tryLock(putLock, configuration.getPutLockTime());
             if (isLocked) {
                 // Split large batch into smaller chunks to avoid WriteRedisConnectionException
                 int batchSize = configuration.getPutBatchSize();
                 for (int i = 0; i < messages.size(); i += batchSize) {
                     int end = Math.min(messages.size(), i + batchSize);
-                    List<Message> subList = messages.subList(i, end);
-                    boolean addSuccess = queue.addAll(subList);
-                    if (!addSuccess) {
-                        throw new MessagePipeException("Unsuccessful when writing the batch messages to the queue.");
-                    }
+                    totalInputCount.addAndGet(this.enqueue(messages.subList(i, end)));
                 }
-                totalInputCount.addAndGet(messages.size());
             }
         } catch (Exception e) {
             for (Message message : messages) {
@@ -275,13 +357,8 @@ public class MessagePipe {
             int batchSize = configuration.getPutBatchSize();
             for (int i = 0; i < messages.size(); i += batchSize) {
                 int end = Math.min(messages.size(), i + batchSize);
-                List<Message> subList = messages.subList(i, end);
-                boolean addSuccess = queue.addAll(subList);
-                if (!addSuccess) {
-                    throw new MessagePipeException("Unsuccessful when writing the batch messages to the queue.");
-                }
+                totalInputCount.addAndGet(this.enqueue(messages.subList(i, end)));
             }
-            totalInputCount.addAndGet(messages.size());
         } catch (Exception e) {
             for (Message message : messages) {
                 this.doHandleException(e, MessageProcessStatus.PUT_EXCEPTION, message);
@@ -293,6 +370,70 @@ public class MessagePipe {
         }
     }
 
+    /**
+     * Write the message to the queue, stamping the enqueue time
+     *
+     * @param message The {@link Message} instance
+     * @return The number of written messages, 0 if the message is a rejected duplicate
+     */
+    private int enqueue(Message message) {
+        return this.enqueue(Collections.singletonList(message));
+    }
+
+    /**
+     * Write the batch messages to the queue, stamping the enqueue time
+     * <p>
+     * The duplicates are rejected before the oversized bodies are checked in,
+     * a rejected duplicate never stores a claim-check body
+     *
+     * @param messages The {@link Message} list
+     * @return The number of written messages, the rejected duplicates are not written
+     */
+    private int enqueue(List<Message> messages) {
+        List<Message> accepted = putDeduplicator.isEnabled() ? putDeduplicator.acquire(messages) : messages;
+        if (accepted.isEmpty()) {
+            return 0;
+        }
+        List<Message> stampedMessages = stampEnqueueTime(accepted, System.currentTimeMillis());
+        List<Message> checkedMessages = null;
+        try {
+            checkedMessages = claimCheckStore.checkIn(stampedMessages);
+            if (!queue.addAll(checkedMessages)) {
+                throw new MessagePipeException("Unsuccessful when writing the batch messages to the queue.");
+            }
+        } catch (RuntimeException e) {
+            if (checkedMessages != null) {
+                claimCheckStore.delete(checkedMessages);
+            }
+            if (putDeduplicator.isEnabled()) {
+                putDeduplicator.release(accepted);
+            }
+            throw e;
+        }
+        return accepted.size();
+    }
+
+    /**
+     * Stamp the enqueue time on copies of the messages
+     * <p>
+     * The messages of the producer are not changed
+     *
+     * @param messages    The {@link Message} list to be written
+     * @param enqueueTime The epoch milliseconds
+     * @return The stamped copies
+     * @see PipeConstants#ENQUEUE_TIME_METADATA_KEY
+     */
+    private static List<Message> stampEnqueueTime(List<Message> messages, long enqueueTime) {
+        List<Message> stampedMessages = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            Message stamped = new Message(message.getMessageId(), message.getBody(), message.getBodyEncoding());
+            stamped.getMetadata().putAll(message.getMetadata());
+            stamped.getMetadata().put(PipeConstants.ENQUEUE_TIME_METADATA_KEY, enqueueTime);
+            stampedMessages.add(stamped);
+        }
+        return stampedMessages;
+    }
+
     /**
      * Process messages sequentially until all processing is complete
      *
@@ -300,27 +441,21 @@ public class MessagePipe {
      * @param clientSupplier Supplier to resolve client for current pipe
      * @return true if lock was acquired, false otherwise
      */
-    public boolean handleToLast(Function<List<Message>, Integer> batchSender,
+    public boolean handleToLast(Function<List<Message>, BatchSendResult> batchSender,
                                 Supplier<ClientInformation> clientSupplier) {
         log.debug("The message pipe：{} is handing all message.", name);
         RLock takeLock = redissonClient.getLock(takeLockName);
         int batchSize = configuration.getBatchSize();
+        long maxBatchBytes = configuration.getMaxBatchBytes();
 
         try {
-            MessagePipeConfiguration.LockTime lockTime = configuration.getTakeLockTime();
-            long leaseTime = lockTime.getLeaseTime();
-            boolean isLocked;
-            if (leaseTime == -1) {
-                isLocked = takeLock.tryLock(lockTime.getWaitTime(), lockTime.getTimeUnit());
-            } else {
-                isLocked = takeLock.tryLock(lockTime.getWaitTime(), leaseTime, lockTime.getTimeUnit());
-            }
+            boolean isLocked = this.tryLock(takeLock, configuration.getTakeLockTime());
             if (isLocked) {
                 try {
                     RList<Message> rList = (RList<Message>) queue;
                     while (true) {
                         // 1. Batch fetch messages
-                        List<Message> batchMessages = rList.range(0, batchSize - 1);
+                        List<Message> batchMessages = this.rangeBatch(batchSize, maxBatchBytes);
 
                         if (ObjectUtils.isEmpty(batchMessages)) {
                             break;
@@ -339,8 +474,10 @@ public class MessagePipe {
                         }
 
                         // 3. Batch Send via gRPC
-                        // Returns the number of successfully processed messages
-                        int successCount = batchSender.apply(batchMessages);
+                        // Returns the number of successfully processed messages and the failure reason
+                        long dispatchTime = System.currentTimeMillis();
+                        BatchSendResult sendResult = batchSender.apply(batchMessages);
+                        int successCount = sendResult.getSuccessCount();
 
                         // Track processed message IDs for logging in case of lock loss
                         List<String> processedMessageIds = new ArrayList<>();
@@ -356,6 +493,7 @@ public class MessagePipe {
                             }
                             // Batch remove retry records
                             this.recordSuccessBatch(processedMessageIds);
+                            this.recordDelivered(batchMessages.subList(0, successCount), dispatchTime);
 
                             // Increment total processed count
                             totalProcessCount.addAndGet(successCount);
@@ -367,6 +505,7 @@ public class MessagePipe {
                             if (takeLock.isLocked() && takeLock.isHeldByCurrentThread()) {
                                 // Remove the first 'successCount' messages
                                 rList.trim(successCount, -1);
+                                claimCheckStore.delete(batchMessages.subList(0, successCount));
                                 log.debug("Message Pipe [{}], Batch processed and removed {} messages.", name, successCount);
 
                                 // Log each successfully processed messageId individually after trim
@@ -380,24 +519,33 @@ public class MessagePipe {
                         }
 
                         // 6. Handle failure if batch was interrupted (Partial or Total failure)
-                        if (successCount < batchMessages.size()) {
-                            // successCount == -1 means connection/network error.
+                        if (BatchSendResult.Failure.COMMUNICATION == sendResult.getFailure()) {
                             // We should NOT increment retry count or move to DLQ for network issues.
                             // Just break the loop to retry later (infinite retry until connected).
-                            if (successCount == -1) {
-                                log.error("Message Pipe [{}], Network/Connection error when sending batch. Will retry later.", name);
-                            } else {
-                                // successCount >= 0 means Client received batch but processed partially.
-                                // The message at 'successCount' index is the one that failed business logic.
-                                int firstFailedIndex = successCount;
-                                if (firstFailedIndex < batchMessages.size()) {
-                                    Message failedMessage = batchMessages.get(firstFailedIndex);
-                                    handleMessageFailure(failedMessage);
-                                }
+                            log.error("Message Pipe [{}], Network/Connection error when sending batch. Will retry later.", name);
+                            break;
+                        } else if (BatchSendResult.Failure.SATURATED == sendResult.getFailure()) {
+                            // The clients are busy, the scheduler backs off after the lock is released
+                            log.debug("Message Pipe [{}], The clients are saturated when sending batch. Will retry later.", name);
+                            break;
+                        } else if (BatchSendResult.Failure.MESSAGE == sendResult.getFailure()) {
+                            // Client received batch but processed partially.
+                            // The message at 'successCount' index is the one that failed business logic.
+                            int firstFailedIndex = successCount;
+                            if (firstFailedIndex < batchMessages.size()) {
+                                Message failedMessage = batchMessages.get(firstFailedIndex);
+                                handleMessageFailure(failedMessage);
                             }
                             // Break outer loop to wait/retry
                             break;
+                        } else if (BatchSendResult.Failure.BODY_LOST == sendResult.getFailure()) {
+                            // The message at 'successCount' index can never be delivered, move it out of the way
+                            if (!takeLock.isHeldByCurrentThread()) {
+                                break;
+                            }
+                            this.moveBodyLostToDeadLetter(batchMessages.get(successCount), 0);
                         }
+                        // Otherwise only part of the batch was sent (e.g. a probe), continue with the remaining messages
 
                         // Set last process time
                         lastProcessTimeMillis.set(System.currentTimeMillis());
@@ -418,6 +566,50 @@ public class MessagePipe {
         return false;
     }
 
+    /**
+     * Fetch the head entries of queue as a batch
+     * <p>
+     * The batch is limited by the number of entries and the uncompressed bytes, only the entries within
+     * both limits are transferred and decoded. An entry larger than the bytes limit is sent alone.
+     * The passthrough entries are wrapped as {@link PassthroughMessage} without decoding
+     *
+     * @param maxMessages The maximum number of entries
+     * @param maxBytes    The maximum total uncompressed bytes of entries
+     * @return The {@link Message} list
+     * @throws IOException If the entry cannot be decoded
+     */
+    private List<Message> rangeBatch(int maxMessages, long maxBytes) throws IOException {
+        RScript script = redissonClient.getScript(ByteArrayCodec.INSTANCE);
+        List<byte[]> entries = script.eval(this.queueName, RScript.Mode.READ_ONLY, RANGE_BATCH_SCRIPT,
+                RScript.ReturnType.MULTI, Collections.singletonList(this.queueName),
+                String.valueOf(maxMessages).getBytes(StandardCharsets.US_ASCII),
+                String.valueOf(maxBytes).getBytes(StandardCharsets.US_ASCII));
+        List<Message> messages = new ArrayList<>(entries.size());
+        for (byte[] entry : entries) {
+            messages.add(this.decodeEntry(entry));
+        }
+        return messages;
+    }
+
+    /**
+     * Decode a raw queue entry with the queue {@link Codec}
+     *
+     * @param entry The raw entry bytes
+     * @return The decoded {@link Message}
+     * @throws IOException If the entry cannot be decoded
+     */
+    private Message decodeEntry(byte[] entry) throws IOException {
+        if (this.passthroughCodec != null) {
+            return this.passthroughCodec.toMessage(entry);
+        }
+        ByteBuf buf = Unpooled.wrappedBuffer(entry);
+        try {
+            return (Message) this.codec.getValueDecoder().decode(buf, null);
+        } finally {
+            buf.release();
+        }
+    }
+
     /**
      * Retrieves, but does not remove, the head of this queue,
      * or returns {@code null} if this queue is empty.
@@ -534,6 +726,7 @@ public class MessagePipe {
         record.setLastStatus(MessageResponseStatus.ERROR);
 
         if (record.shouldRetry()) {
+            meters.recordRetry();
             // Increment retry count and update record
             record.setRetryCount(record.getRetryCount() + 1);
             record.setLastRetryTime(System.currentTimeMillis());
@@ -556,12 +749,72 @@ public class MessagePipe {
             log.error("Message Pipe [{}]，Message max retries exceeded, moving to DLQ: {}",
                     this.name, new String(message.getBody()));
 
-            messageDeadLetterQueue.send(message, record);
+            Message deadLetter;
+            try {
+                deadLetter = claimCheckStore.checkOut(message);
+            } catch (MessagePipeException e) {
+                this.moveBodyLostToDeadLetter(message, record.getRetryCount());
+                return;
+            }
+            messageDeadLetterQueue.send(deadLetter, record);
+            meters.recordDeadLetter();
             this.poll();
+            claimCheckStore.delete(Collections.singletonList(message));
             cleanupRecord(message);
         }
     }
 
+    /**
+     * Move the claim-check message whose stored body is lost to the dead letter queue
+     * <p>
+     * The claim-check message is dead-lettered as it is, marked as {@link ClaimCheckStore#BODY_LOST_REASON},
+     * it is never delivered with the empty body
+     *
+     * @param message       The claim-check message at the queue head
+     * @param retryAttempts The retry attempts of the message
+     */
+    private void moveBodyLostToDeadLetter(Message message, int retryAttempts) {
+        log.error("Message Pipe [{}]，The body of claim-check message: {} is lost, moving to DLQ.",
+                this.name, message.getMessageId());
+        messageDeadLetterQueue.send(message, ClaimCheckStore.BODY_LOST_REASON, retryAttempts);
+        meters.recordDeadLetter();
+        this.poll();
+        cleanupRecord(message);
+    }
+
+    /**
+     * Record the queue wait and end-to-end latency of the processed messages
+     *
+     * @param messages     The messages processed by the client
+     * @param dispatchTime The time the batch was dispatched
+     */
+    private void recordDelivered(List<Message> messages, long dispatchTime) {
+        long ackTime = System.currentTimeMillis();
+        for (Message message : messages) {
+            long enqueueTime = enqueueTimeOf(message);
+            if (enqueueTime > 0) {
+                meters.recordDelivered(Math.max(0, dispatchTime - enqueueTime), Math.max(0, ackTime - enqueueTime));
+            }
+        }
+    }
+
+    /**
+     * Get the enqueue time of the message
+     * <p>
+     * The passthrough message reads it from the header without decoding
+     *
+     * @param message The {@link Message} instance
+     * @return The epoch milliseconds, -1 if not stamped, e.g. written before the stamping was introduced
+     * @see PipeConstants#ENQUEUE_TIME_METADATA_KEY
+     */
+    private static long enqueueTimeOf(Message message) {
+        if (message instanceof PassthroughMessage) {
+            return ((PassthroughMessage) message).enqueueTime();
+        }
+        Object enqueueTime = message.getMetadata().get(PipeConstants.ENQUEUE_TIME_METADATA_KEY);
+        return enqueueTime instanceof Number ? ((Number) enqueueTime).longValue() : -1;
+    }
+
     /**
      * Get or create a processing record for a message
      *
@@ -572,7 +825,7 @@ public class MessagePipe {
         String messageId = message.getMessageId();
 
         RMap<String, MessageRetryRecord> recordMap =
-                redissonClient.getMap(retryRecordsMapName, configuration.getCodec());
+                redissonClient.getMap(retryRecordsMapName, this.codec);
 
         MessageRetryRecord record = recordMap.computeIfAbsent(messageId, k -> {
             MessageRetryRecord newRecord = MessageRetryRecord.of(messageId, message);
@@ -598,7 +851,7 @@ public class MessagePipe {
         String messageId = message.getMessageId();
 
         RMap<String, MessageRetryRecord> recordMap =
-                redissonClient.getMap(retryRecordsMapName, configuration.getCodec());
+                redissonClient.getMap(retryRecordsMapName, this.codec);
 
         recordMap.put(messageId, record);
     }
@@ -614,7 +867,7 @@ public class MessagePipe {
         }
 
         RMap<String, MessageRetryRecord> recordMap =
-                redissonClient.getMap(retryRecordsMapName, configuration.getCodec());
+                redissonClient.getMap(retryRecordsMapName, this.codec);
 
         recordMap.fastRemove(messageIds.toArray(new String[0]));
     }
@@ -628,7 +881,7 @@ public class MessagePipe {
         String messageId = message.getMessageId();
 
         RMap<String, MessageRetryRecord> recordMap =
-                redissonClient.getMap(retryRecordsMapName, configuration.getCodec());
+                redissonClient.getMap(retryRecordsMapName, this.codec);
 
         recordMap.remove(messageId);
         log.debug("Retry record cleaned up: messageId={}", messageId);
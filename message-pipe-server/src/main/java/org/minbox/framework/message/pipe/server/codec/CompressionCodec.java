@@ -0,0 +1,154 @@
+package org.minbox.framework.message.pipe.server.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.minbox.framework.message.pipe.core.compress.Compressor;
+import org.minbox.framework.message.pipe.core.compress.Compressors;
+import org.minbox.framework.message.pipe.server.config.MessagePipeConfiguration;
+import org.minbox.framework.message.pipe.server.manager.MessagePipeMetricsAggregator;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+/**
+ * The redisson {@link Codec} compressing the encoded values
+ * <p>
+ * The values are encoded by the delegate codec first, the value not less than the threshold is compressed
+ * and written with a header: magic (4 bytes) + compressor id (1 byte) + uncompressed length (4 bytes, big-endian).
+ * The uncompressed length lets the batch assembly in redis budget the decompressed size without decompressing.
+ * The value without the header is decoded by the delegate codec directly,
+ * so the entries written before compression was enabled are still readable,
+ * as are the entries written with the former header without the uncompressed length.
+ * Map keys are never compressed.
+ * <p>
+ * Note: the magic starts with a zero byte that no json document starts with,
+ * a custom binary delegate codec should not produce values starting with the magic
+ *
+ * @author 恒宇少年
+ */
+public class CompressionCodec implements Codec {
+    /**
+     * The magic of the header with the uncompressed length
+     */
+    private static final byte[] MAGIC = {0x00, 'M', 'P', 'L'};
+    private static final int HEADER_LENGTH = MAGIC.length + 1 + 4;
+    /**
+     * The magic of the former header without the uncompressed length, only read
+     */
+    private static final byte[] LEGACY_MAGIC = {0x00, 'M', 'P', 'Z'};
+    private static final int LEGACY_HEADER_LENGTH = LEGACY_MAGIC.length + 1;
+    private final Codec delegate;
+    private final Compressor compressor;
+    private final int thresholdBytes;
+    private final Encoder valueEncoder;
+    private final Encoder mapValueEncoder;
+    private final Decoder<Object> valueDecoder;
+    private final Decoder<Object> mapValueDecoder;
+
+    public CompressionCodec(Codec delegate, MessagePipeConfiguration.Compression compression) {
+        this.delegate = delegate;
+        this.compressor = compression != null ? compression.getCompressor() : null;
+        this.thresholdBytes = compression != null ? compression.getThresholdBytes() : 0;
+        this.valueEncoder = object -> this.compress(delegate.getValueEncoder().encode(object));
+        this.mapValueEncoder = object -> this.compress(delegate.getMapValueEncoder().encode(object));
+        this.valueDecoder = (buf, state) -> delegate.getValueDecoder().decode(this.decompress(buf), state);
+        this.mapValueDecoder = (buf, state) -> delegate.getMapValueDecoder().decode(this.decompress(buf), state);
+    }
+
+    /**
+     * Compress the encoded value
+     *
+     * @param encoded The value encoded by delegate codec
+     * @return The compressed value with header, or the encoded value if not compressed
+     */
+    private ByteBuf compress(ByteBuf encoded) {
+        int length = encoded.readableBytes();
+        if (compressor == null || length < thresholdBytes) {
+            return encoded;
+        }
+        byte[] compressed = compressor.compress(ByteBufUtil.getBytes(encoded));
+        if (compressed.length + HEADER_LENGTH >= length) {
+            MessagePipeMetricsAggregator.getInstance().recordCompression(MessagePipeMetricsAggregator.COMPRESSION_REDIS,
+                    length, length);
+            return encoded;
+        }
+        ByteBuf buf = ByteBufAllocator.DEFAULT.buffer(HEADER_LENGTH + compressed.length);
+        buf.writeBytes(MAGIC).writeByte(compressor.getId()).writeInt(length).writeBytes(compressed);
+        encoded.release();
+        MessagePipeMetricsAggregator.getInstance().recordCompression(MessagePipeMetricsAggregator.COMPRESSION_REDIS,
+                length, buf.readableBytes());
+        return buf;
+    }
+
+    /**
+     * Decompress the value if it has the compression header
+     *
+     * @param buf The value read from redis
+     * @return The value to be decoded by delegate codec
+     */
+    private ByteBuf decompress(ByteBuf buf) {
+        int headerLength;
+        if (hasMagic(buf, MAGIC, HEADER_LENGTH)) {
+            headerLength = HEADER_LENGTH;
+        } else if (hasMagic(buf, LEGACY_MAGIC, LEGACY_HEADER_LENGTH)) {
+            headerLength = LEGACY_HEADER_LENGTH;
+        } else {
+            return buf;
+        }
+        int readerIndex = buf.readerIndex();
+        Compressor valueCompressor = Compressors.getCompressor(buf.getByte(readerIndex + MAGIC.length));
+        byte[] compressed = ByteBufUtil.getBytes(buf, readerIndex + headerLength, buf.readableBytes() - headerLength);
+        buf.skipBytes(buf.readableBytes());
+        return Unpooled.wrappedBuffer(valueCompressor.decompress(compressed));
+    }
+
+    private static boolean hasMagic(ByteBuf buf, byte[] magic, int headerLength) {
+        if (buf.readableBytes() <= headerLength) {
+            return false;
+        }
+        int readerIndex = buf.readerIndex();
+        for (int i = 0; i < magic.length; i++) {
+            if (buf.getByte(readerIndex + i) != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Decoder<Object> getMapValueDecoder() {
+        return mapValueDecoder;
+    }
+
+    @Override
+    public Encoder getMapValueEncoder() {
+        return mapValueEncoder;
+    }
+
+    @Override
+    public Decoder<Object> getMapKeyDecoder() {
+        return delegate.getMapKeyDecoder();
+    }
+
+    @Override
+    public Encoder getMapKeyEncoder() {
+        return delegate.getMapKeyEncoder();
+    }
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return valueDecoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return valueEncoder;
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return delegate.getClassLoader();
+    }
+}
@@ -0,0 +1,397 @@
+package org.minbox.framework.message.pipe.server.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.minbox.framework.message.pipe.core.Message;
+import org.minbox.framework.message.pipe.core.transport.MessageResponseStatus;
+import org.minbox.framework.message.pipe.server.manager.DeadLetterRecord;
+import org.minbox.framework.message.pipe.server.manager.MessageRetryRecord;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.handler.State;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+import org.redisson.codec.JsonJacksonCodec;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * The compact binary redisson {@link Codec} of message pipe
+ * <p>
+ * {@link Message}, {@link MessageRetryRecord} and {@link DeadLetterRecord} are written as:
+ * magic (2 bytes) + version (1 byte) + type (1 byte) + fields,
+ * lengths and numbers are varints, the well-known body encodings are written as a single byte id,
+ * the common metadata value types are written with a one byte tag.
+ * <p>
+ * Other values and all map keys are delegated to {@link JsonJacksonCodec},
+ * the values without the magic are decoded by {@link JsonJacksonCodec} too,
+ * so the entries written by the previous default codec are still readable.
+ * Note: the servers before this codec cannot read the binary entries,
+ * configure {@link JsonJacksonCodec} until all servers sharing the redis are upgraded
+ *
+ * @author 恒宇少年
+ */
+public class MessagePipeCodec implements Codec {
+    private static final byte MAGIC_FIRST = (byte) 0xB1;
+    private static final byte MAGIC_SECOND = 'M';
+    private static final byte VERSION = 1;
+    private static final int HEADER_LENGTH = 4;
+    private static final byte TYPE_MESSAGE = 1;
+    private static final byte TYPE_RETRY_RECORD = 2;
+    private static final byte TYPE_DEAD_LETTER_RECORD = 3;
+    private static final byte VALUE_NULL = 0;
+    private static final byte VALUE_STRING = 1;
+    private static final byte VALUE_INT = 2;
+    private static final byte VALUE_LONG = 3;
+    private static final byte VALUE_TRUE = 4;
+    private static final byte VALUE_FALSE = 5;
+    private static final byte VALUE_DOUBLE = 6;
+    private static final byte VALUE_OBJECT = 7;
+    /**
+     * The well-known body encodings, the id is the index + 1
+     * <p>
+     * The entries are persisted by id, only append new encodings
+     */
+    private static final String[] ENCODINGS = {
+            "UTF-8", "US-ASCII", "ISO-8859-1", "UTF-16", "GBK", "GB2312", "GB18030"
+    };
+    /**
+     * The id of encoding not in {@link #ENCODINGS}, followed by the encoding name
+     */
+    private static final int CUSTOM_ENCODING = ENCODINGS.length + 1;
+    private final JsonJacksonCodec fallback;
+    private final Encoder encoder = this::encode;
+    private final Decoder<Object> decoder = this::decode;
+
+    public MessagePipeCodec() {
+        this(new JsonJacksonCodec());
+    }
+
+    public MessagePipeCodec(JsonJacksonCodec fallback) {
+        this.fallback = fallback;
+    }
+
+    private ByteBuf encode(Object object) throws IOException {
+        byte type = typeOf(object);
+        if (type == 0) {
+            return fallback.getValueEncoder().encode(object);
+        }
+        ByteBuf buf = ByteBufAllocator.DEFAULT.buffer();
+        try {
+            buf.writeByte(MAGIC_FIRST).writeByte(MAGIC_SECOND).writeByte(VERSION).writeByte(type);
+            switch (type) {
+                case TYPE_MESSAGE:
+                    this.writeMessage(buf, (Message) object);
+                    break;
+                case TYPE_RETRY_RECORD:
+                    this.writeRetryRecord(buf, (MessageRetryRecord) object);
+                    break;
+                default:
+                    this.writeDeadLetterRecord(buf, (DeadLetterRecord) object);
+                    break;
+            }
+            return buf;
+        } catch (IOException | RuntimeException e) {
+            buf.release();
+            throw e;
+        }
+    }
+
+    private Object decode(ByteBuf buf, State state) throws IOException {
+        if (!isBinary(buf)) {
+            return fallback.getValueDecoder().decode(buf, state);
+        }
+        byte version = buf.getByte(buf.readerIndex() + 2);
+        if (version > VERSION) {
+            throw new IOException("Unsupported MessagePipeCodec version: " + version);
+        }
+        byte type = buf.getByte(buf.readerIndex() + 3);
+        buf.skipBytes(HEADER_LENGTH);
+        switch (type) {
+            case TYPE_MESSAGE:
+                return this.readMessage(buf, state);
+            case TYPE_RETRY_RECORD:
+                return this.readRetryRecord(buf, state);
+            case TYPE_DEAD_LETTER_RECORD:
+                return this.readDeadLetterRecord(buf, state);
+            default:
+                throw new IOException("Unknown MessagePipeCodec type: " + type);
+        }
+    }
+
+    private static byte typeOf(Object object) {
+        if (object instanceof Message) {
+            return TYPE_MESSAGE;
+        } else if (object instanceof MessageRetryRecord) {
+            return TYPE_RETRY_RECORD;
+        } else if (object instanceof DeadLetterRecord) {
+            return TYPE_DEAD_LETTER_RECORD;
+        }
+        return 0;
+    }
+
+    private static boolean isBinary(ByteBuf buf) {
+        int readerIndex = buf.readerIndex();
+        return buf.readableBytes() >= HEADER_LENGTH
+                && buf.getByte(readerIndex) == MAGIC_FIRST
+                && buf.getByte(readerIndex + 1) == MAGIC_SECOND;
+    }
+
+    // ------------------------------------------ Records ------------------------------------------
+
+    private void writeMessage(ByteBuf buf, Message message) throws IOException {
+        writeString(buf, message.getMessageId());
+        writeEncoding(buf, message.getBodyEncoding());
+        byte[] body = message.getBody();
+        if (body == null) {
+            writeVarLong(buf, 0);
+        } else {
+            writeVarLong(buf, body.length + 1L);
+            buf.writeBytes(body);
+        }
+        Map<String, Object> metadata = message.getMetadata();
+        writeVarLong(buf, metadata.size());
+        for (Map.Entry<String, Object> entry : metadata.entrySet()) {
+            writeString(buf, entry.getKey());
+            this.writeValue(buf, entry.getValue());
+        }
+    }
+
+    private Message readMessage(ByteBuf buf, State state) throws IOException {
+        String messageId = readString(buf);
+        String bodyEncoding = readEncoding(buf);
+        byte[] body = null;
+        int bodyLength = (int) readVarLong(buf);
+        if (bodyLength > 0) {
+            body = new byte[bodyLength - 1];
+            buf.readBytes(body);
+        }
+        Message message = new Message(messageId, body, bodyEncoding);
+        int metadataSize = (int) readVarLong(buf);
+        Map<String, Object> metadata = message.getMetadata();
+        for (int i = 0; i < metadataSize; i++) {
+            String key = readString(buf);
+            metadata.put(key, this.readValue(buf, state));
+        }
+        return message;
+    }
+
+    private void writeRetryRecord(ByteBuf buf, MessageRetryRecord record) throws IOException {
+        writeString(buf, record.getMessageId());
+        this.writeNullableMessage(buf, record.getMessage());
+        writeSignedVarLong(buf, record.getRetryCount());
+        writeSignedVarLong(buf, record.getMaxRetries());
+        writeSignedVarLong(buf, record.getFirstFailureTime());
+        writeSignedVarLong(buf, record.getLastRetryTime());
+        writeString(buf, record.getLastStatus() != null ? record.getLastStatus().name() : null);
+    }
+
+    private MessageRetryRecord readRetryRecord(ByteBuf buf, State state) throws IOException {
+        String messageId = readString(buf);
+        Message message = this.readNullableMessage(buf, state);
+        MessageRetryRecord record = MessageRetryRecord.of(messageId, message);
+        record.setRetryCount((int) readSignedVarLong(buf))
+                .setMaxRetries((int) readSignedVarLong(buf))
+                .setFirstFailureTime(readSignedVarLong(buf))
+                .setLastRetryTime(readSignedVarLong(buf));
+        String lastStatus = readString(buf);
+        record.setLastStatus(lastStatus != null ? MessageResponseStatus.valueOf(lastStatus) : null);
+        return record;
+    }
+
+    private void writeDeadLetterRecord(ByteBuf buf, DeadLetterRecord record) throws IOException {
+        this.writeNullableMessage(buf, record.getMessage());
+        writeString(buf, record.getFailureReason());
+        writeSignedVarLong(buf, record.getRetryAttempts());
+        writeSignedVarLong(buf, record.getFailureTime());
+    }
+
+    private DeadLetterRecord readDeadLetterRecord(ByteBuf buf, State state) throws IOException {
+        Message message = this.readNullableMessage(buf, state);
+        String failureReason = readString(buf);
+        int retryAttempts = (int) readSignedVarLong(buf);
+        return DeadLetterRecord.of(message, failureReason, retryAttempts)
+                .setFailureTime(readSignedVarLong(buf));
+    }
+
+    private void writeNullableMessage(ByteBuf buf, Message message) throws IOException {
+        buf.writeBoolean(message != null);
+        if (message != null) {
+            this.writeMessage(buf, message);
+        }
+    }
+
+    private Message readNullableMessage(ByteBuf buf, State state) throws IOException {
+        return buf.readBoolean() ? this.readMessage(buf, state) : null;
+    }
+
+    // ------------------------------------------ Values ------------------------------------------
+
+    private void writeValue(ByteBuf buf, Object value) throws IOException {
+        if (value == null) {
+            buf.writeByte(VALUE_NULL);
+        } else if (value instanceof String) {
+            buf.writeByte(VALUE_STRING);
+            writeString(buf, (String) value);
+        } else if (value instanceof Integer) {
+            buf.writeByte(VALUE_INT);
+            writeSignedVarLong(buf, (Integer) value);
+        } else if (value instanceof Long) {
+            buf.writeByte(VALUE_LONG);
+            writeSignedVarLong(buf, (Long) value);
+        } else if (value instanceof Boolean) {
+            buf.writeByte((Boolean) value ? VALUE_TRUE : VALUE_FALSE);
+        } else if (value instanceof Double) {
+            buf.writeByte(VALUE_DOUBLE);
+            buf.writeDouble((Double) value);
+        } else {
+            // The other types keep the class information of json codec
+            buf.writeByte(VALUE_OBJECT);
+            ByteBuf encoded = fallback.getValueEncoder().encode(value);
+            try {
+                writeVarLong(buf, encoded.readableBytes());
+                buf.writeBytes(encoded);
+            } finally {
+                encoded.release();
+            }
+        }
+    }
+
+    private Object readValue(ByteBuf buf, State state) throws IOException {
+        byte tag = buf.readByte();
+        switch (tag) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                return readString(buf);
+            case VALUE_INT:
+                return (int) readSignedVarLong(buf);
+            case VALUE_LONG:
+                return readSignedVarLong(buf);
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_DOUBLE:
+                return buf.readDouble();
+            case VALUE_OBJECT:
+                int length = (int) readVarLong(buf);
+                return fallback.getValueDecoder().decode(buf.readSlice(length), state);
+            default:
+                throw new IOException("Unknown MessagePipeCodec metadata value tag: " + tag);
+        }
+    }
+
+    private static void writeEncoding(ByteBuf buf, String encoding) {
+        if (encoding == null) {
+            writeVarLong(buf, 0);
+            return;
+        }
+        for (int i = 0; i < ENCODINGS.length; i++) {
+            if (ENCODINGS[i].equals(encoding)) {
+                writeVarLong(buf, i + 1);
+                return;
+            }
+        }
+        writeVarLong(buf, CUSTOM_ENCODING);
+        writeString(buf, encoding);
+    }
+
+    private static String readEncoding(ByteBuf buf) {
+        int id = (int) readVarLong(buf);
+        if (id == 0) {
+            return null;
+        } else if (id == CUSTOM_ENCODING) {
+            return readString(buf);
+        }
+        return ENCODINGS[id - 1];
+    }
+
+    /**
+     * Write a nullable string, the length is written as (length + 1), 0 means null
+     */
+    private static void writeString(ByteBuf buf, String value) {
+        if (value == null) {
+            writeVarLong(buf, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(buf, bytes.length + 1L);
+        buf.writeBytes(bytes);
+    }
+
+    private static String readString(ByteBuf buf) {
+        int length = (int) readVarLong(buf);
+        if (length == 0) {
+            return null;
+        }
+        String value = buf.toString(buf.readerIndex(), length - 1, StandardCharsets.UTF_8);
+        buf.skipBytes(length - 1);
+        return value;
+    }
+
+    private static void writeSignedVarLong(ByteBuf buf, long value) {
+        writeVarLong(buf, (value << 1) ^ (value >> 63));
+    }
+
+    private static long readSignedVarLong(ByteBuf buf) {
+        long value = readVarLong(buf);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteBuf buf, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buf.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buf.writeByte((int) value);
+    }
+
+    private static long readVarLong(ByteBuf buf) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buf.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint in MessagePipeCodec entry.");
+    }
+
+    @Override
+    public Decoder<Object> getMapValueDecoder() {
+        return decoder;
+    }
+
+    @Override
+    public Encoder getMapValueEncoder() {
+        return encoder;
+    }
+
+    @Override
+    public Decoder<Object> getMapKeyDecoder() {
+        return fallback.getMapKeyDecoder();
+    }
+
+    @Override
+    public Encoder getMapKeyEncoder() {
+        return fallback.getMapKeyEncoder();
+    }
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return decoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return encoder;
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return fallback.getClassLoader();
+    }
+}
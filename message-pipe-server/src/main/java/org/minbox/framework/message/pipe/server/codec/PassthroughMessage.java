@@ -0,0 +1,245 @@
+package org.minbox.framework.message.pipe.server.codec;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import org.minbox.framework.message.pipe.core.Message;
+import org.minbox.framework.message.pipe.core.PipeConstants;
+import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
+import org.minbox.framework.message.pipe.core.grpc.proto.PipeMessage;
+import org.minbox.framework.message.pipe.core.transport.ProtobufTransportConverter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * The {@link Message} read from the passthrough queue entry without decoding
+ * <p>
+ * Holds the encoded {@link PipeMessage} bytes, which are written to the outbound frame as they are.
+ * Only the message id, the body compression, the claim-check and enqueue time metadata are read when required,
+ * skipping the body; the body and metadata are decoded on first access
+ *
+ * @author 恒宇少年
+ * @see PipeMessageCodec
+ */
+public class PassthroughMessage extends Message {
+    private static final int MESSAGE_ID_FIELD = PipeMessage.MESSAGEID_FIELD_NUMBER;
+    private static final int COMPRESSION_FIELD = PipeMessage.COMPRESSION_FIELD_NUMBER;
+    private static final int METADATA_FIELD = PipeMessage.METADATA_FIELD_NUMBER;
+    private static final int MAP_KEY_FIELD = 1;
+    private static final int MAP_VALUE_FIELD = 2;
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+    private volatile boolean headerRead;
+    private String messageId;
+    private String compression;
+    private long claimCheckBodyLength = -1;
+    private long enqueueTime = -1;
+    private volatile Message decoded;
+
+    PassthroughMessage(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public String getMessageId() {
+        this.readHeader();
+        return messageId;
+    }
+
+    @Override
+    public String getBodyEncoding() {
+        return this.decode().getBodyEncoding();
+    }
+
+    @Override
+    public byte[] getBody() {
+        return this.decode().getBody();
+    }
+
+    @Override
+    public Map<String, Object> getMetadata() {
+        return this.decode().getMetadata();
+    }
+
+    /**
+     * Get the compressor name of the encoded body
+     *
+     * @return The compressor name, null if the body is not compressed
+     */
+    public String bodyCompression() {
+        this.readHeader();
+        return compression;
+    }
+
+    /**
+     * Get the original body length of the claim-check message
+     *
+     * @return The body length, -1 if the message is not a claim-check message
+     * @see PipeConstants#CLAIM_CHECK_METADATA_KEY
+     */
+    public long claimCheckBodyLength() {
+        this.readHeader();
+        return claimCheckBodyLength;
+    }
+
+    /**
+     * Get the time the message was written to the pipe
+     *
+     * @return The epoch milliseconds, -1 if not stamped
+     * @see PipeConstants#ENQUEUE_TIME_METADATA_KEY
+     */
+    public long enqueueTime() {
+        this.readHeader();
+        return enqueueTime;
+    }
+
+    /**
+     * Copy the decoded fields to a plain {@link Message}
+     *
+     * @return The {@link Message} holding the message id, body encoding, body and metadata
+     */
+    public Message toMessage() {
+        Message message = this.decode();
+        Message plain = new Message(message.getMessageId(), message.getBody(), message.getBodyEncoding());
+        plain.getMetadata().putAll(message.getMetadata());
+        return plain;
+    }
+
+    /**
+     * Get the message that can be serialized into the retry and dead letter records
+     * <p>
+     * The lazy fields of {@link PassthroughMessage} are not a serializable form,
+     * the passthrough message is converted by {@link #toMessage()}
+     *
+     * @param message The {@link Message} instance
+     * @return The plain {@link Message}, or the message itself if it is not a {@link PassthroughMessage}
+     */
+    public static Message toPlainMessage(Message message) {
+        return message instanceof PassthroughMessage ? ((PassthroughMessage) message).toMessage() : message;
+    }
+
+    /**
+     * Get the encoded {@link PipeMessage} bytes
+     *
+     * @return The shared entry bytes, see {@link #offset()} and {@link #length()}
+     */
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    /**
+     * Get the start offset of the encoded {@link PipeMessage} in {@link #bytes()}
+     *
+     * @return The start offset
+     */
+    public int offset() {
+        return offset;
+    }
+
+    /**
+     * Get the length of the encoded {@link PipeMessage}
+     *
+     * @return The encoded length
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Read the message id, compression, claim-check and enqueue time metadata, the other fields are skipped
+     */
+    private void readHeader() {
+        if (headerRead) {
+            return;
+        }
+        synchronized (this) {
+            if (headerRead) {
+                return;
+            }
+            try {
+                CodedInputStream input = CodedInputStream.newInstance(bytes, offset, length);
+                int tag;
+                while ((tag = input.readTag()) != 0) {
+                    int field = WireFormat.getTagFieldNumber(tag);
+                    if (MESSAGE_ID_FIELD == field) {
+                        messageId = emptyToNull(input.readStringRequireUtf8());
+                    } else if (COMPRESSION_FIELD == field) {
+                        compression = emptyToNull(input.readStringRequireUtf8());
+                    } else if (METADATA_FIELD == field) {
+                        int limit = input.pushLimit(input.readRawVarint32());
+                        this.readMetadataEntry(input);
+                        input.popLimit(limit);
+                    } else {
+                        input.skipField(tag);
+                    }
+                }
+            } catch (IOException e) {
+                throw new MessagePipeException("Read the header of passthrough message failed.", e);
+            }
+            headerRead = true;
+        }
+    }
+
+    /**
+     * Read a metadata map entry, only the claim-check and enqueue time entries are kept
+     *
+     * @param input The {@link CodedInputStream} limited to the entry
+     * @throws IOException If the entry is malformed
+     */
+    private void readMetadataEntry(CodedInputStream input) throws IOException {
+        String key = null;
+        String value = null;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            int field = WireFormat.getTagFieldNumber(tag);
+            if (MAP_KEY_FIELD == field) {
+                key = input.readStringRequireUtf8();
+            } else if (MAP_VALUE_FIELD == field) {
+                value = input.readStringRequireUtf8();
+            } else {
+                input.skipField(tag);
+            }
+        }
+        if (PipeConstants.CLAIM_CHECK_METADATA_KEY.equals(key) && value != null) {
+            try {
+                claimCheckBodyLength = Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                throw new MessagePipeException("Invalid claim-check metadata: " + value, e);
+            }
+        }
+        if (PipeConstants.ENQUEUE_TIME_METADATA_KEY.equals(key) && value != null) {
+            try {
+                enqueueTime = Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                // Stamped by the application rather than the server, not tracked
+                enqueueTime = -1;
+            }
+        }
+    }
+
+    /**
+     * Decode the whole {@link PipeMessage}, the compressed body is decompressed
+     *
+     * @return The decoded {@link Message}
+     */
+    private Message decode() {
+        Message message = decoded;
+        if (message == null) {
+            try {
+                PipeMessage pipeMessage = PipeMessage.parseFrom(CodedInputStream.newInstance(bytes, offset, length));
+                message = ProtobufTransportConverter.fromPipeMessage(pipeMessage);
+            } catch (IOException e) {
+                throw new MessagePipeException("Decode the passthrough message failed.", e);
+            }
+            decoded = message;
+        }
+        return message;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
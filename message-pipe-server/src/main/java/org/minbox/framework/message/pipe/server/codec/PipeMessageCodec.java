@@ -0,0 +1,160 @@
+package org.minbox.framework.message.pipe.server.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import org.minbox.framework.message.pipe.core.Message;
+import org.minbox.framework.message.pipe.core.compress.Compressor;
+import org.minbox.framework.message.pipe.core.grpc.proto.PipeMessage;
+import org.minbox.framework.message.pipe.core.transport.ProtobufTransportConverter;
+import org.minbox.framework.message.pipe.server.config.MessagePipeConfiguration;
+import org.minbox.framework.message.pipe.server.manager.MessagePipeMetricsAggregator;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.handler.State;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import java.io.IOException;
+
+/**
+ * The redisson {@link Codec} of the passthrough message queue
+ * <p>
+ * Each {@link Message} is stored as: magic (2 bytes) + uncompressed length (4 bytes, big-endian) + encoded {@link PipeMessage},
+ * the body larger than the threshold is compressed by the pipe compressor in the {@link PipeMessage}.
+ * The uncompressed length is the encoded length with the body decompressed,
+ * it lets the batch assembly in redis budget the size sent to the clients that cannot decompress.
+ * The entries written with the former header without the length are still readable.
+ * The server splices the stored {@link PipeMessage} into the outbound frame without decoding,
+ * see {@link #toMessage(byte[])}.
+ * <p>
+ * The other values, map keys and the entries without the magic are handled by the delegate codec
+ *
+ * @author 恒宇少年
+ * @see PassthroughMessage
+ */
+public class PipeMessageCodec implements Codec {
+    private static final byte MAGIC_FIRST = (byte) 0xB1;
+    private static final byte MAGIC_SECOND = 'L';
+    private static final int HEADER_LENGTH = 2 + 4;
+    /**
+     * The second magic byte of the former header without the uncompressed length, only read
+     */
+    private static final byte LEGACY_MAGIC_SECOND = 'P';
+    private static final int LEGACY_HEADER_LENGTH = 2;
+    private final Codec delegate;
+    private final Compressor compressor;
+    private final int thresholdBytes;
+    private final Encoder valueEncoder = this::encode;
+    private final Decoder<Object> valueDecoder = this::decode;
+
+    public PipeMessageCodec(Codec delegate, MessagePipeConfiguration.Compression compression) {
+        this.delegate = delegate;
+        this.compressor = compression != null ? compression.getCompressor() : null;
+        this.thresholdBytes = compression != null ? compression.getThresholdBytes() : 0;
+    }
+
+    /**
+     * Convert the raw queue entry to {@link Message}
+     * <p>
+     * The passthrough entry is wrapped as {@link PassthroughMessage} without decoding,
+     * the other entries are decoded by the delegate codec
+     *
+     * @param entry The raw entry bytes read from redis
+     * @return The {@link Message} instance
+     * @throws IOException If the entry cannot be decoded
+     */
+    public Message toMessage(byte[] entry) throws IOException {
+        int headerLength = headerLength(entry);
+        if (headerLength > 0) {
+            return new PassthroughMessage(entry, headerLength, entry.length - headerLength);
+        }
+        return (Message) delegate.getValueDecoder().decode(Unpooled.wrappedBuffer(entry), null);
+    }
+
+    private ByteBuf encode(Object object) throws IOException {
+        if (!(object instanceof Message)) {
+            return delegate.getValueEncoder().encode(object);
+        }
+        Message message = (Message) object;
+        PipeMessage pipeMessage = ProtobufTransportConverter.toPipeMessage(message, compressor, thresholdBytes);
+        if (!pipeMessage.getCompression().isEmpty()) {
+            MessagePipeMetricsAggregator.getInstance().recordCompression(MessagePipeMetricsAggregator.COMPRESSION_REDIS,
+                    message.getBody().length, pipeMessage.getBody().size());
+        }
+        int serializedSize = pipeMessage.getSerializedSize();
+        int bodyLength = message.getBody() != null ? message.getBody().length : 0;
+        long uncompressedSize = serializedSize + (long) bodyLength - pipeMessage.getBody().size();
+        ByteBuf buf = ByteBufAllocator.DEFAULT.buffer(HEADER_LENGTH + serializedSize);
+        try {
+            buf.writeByte(MAGIC_FIRST).writeByte(MAGIC_SECOND).writeInt((int) Math.min(Integer.MAX_VALUE, uncompressedSize));
+            pipeMessage.writeTo(new ByteBufOutputStream(buf));
+            return buf;
+        } catch (IOException | RuntimeException e) {
+            buf.release();
+            throw e;
+        }
+    }
+
+    private Object decode(ByteBuf buf, State state) throws IOException {
+        int readerIndex = buf.readerIndex();
+        if (buf.readableBytes() < LEGACY_HEADER_LENGTH || buf.getByte(readerIndex) != MAGIC_FIRST
+                || (buf.getByte(readerIndex + 1) != MAGIC_SECOND && buf.getByte(readerIndex + 1) != LEGACY_MAGIC_SECOND)) {
+            return delegate.getValueDecoder().decode(buf, state);
+        }
+        byte[] entry = new byte[buf.readableBytes()];
+        buf.readBytes(entry);
+        return this.toMessage(entry);
+    }
+
+    /**
+     * Get the header length of the passthrough entry
+     *
+     * @param entry The raw entry bytes
+     * @return The header length, 0 if the entry is not a passthrough entry
+     */
+    private static int headerLength(byte[] entry) {
+        if (entry.length < LEGACY_HEADER_LENGTH || entry[0] != MAGIC_FIRST) {
+            return 0;
+        }
+        if (entry[1] == MAGIC_SECOND && entry.length >= HEADER_LENGTH) {
+            return HEADER_LENGTH;
+        }
+        return entry[1] == LEGACY_MAGIC_SECOND ? LEGACY_HEADER_LENGTH : 0;
+    }
+
+    @Override
+    public Decoder<Object> getMapValueDecoder() {
+        return delegate.getMapValueDecoder();
+    }
+
+    @Override
+    public Encoder getMapValueEncoder() {
+        return delegate.getMapValueEncoder();
+    }
+
+    @Override
+    public Decoder<Object> getMapKeyDecoder() {
+        return delegate.getMapKeyDecoder();
+    }
+
+    @Override
+    public Encoder getMapKeyEncoder() {
+        return delegate.getMapKeyEncoder();
+    }
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return valueDecoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return valueEncoder;
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return delegate.getClassLoader();
+    }
+}
@@ -4,10 +4,16 @@ import lombok.AccessLevel;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
+import org.minbox.framework.message.pipe.core.channel.ChannelSettings;
+import org.minbox.framework.message.pipe.core.compress.Compressor;
+import org.minbox.framework.message.pipe.core.compress.Compressors;
 import org.minbox.framework.message.pipe.core.converter.MessageConverter;
+import org.minbox.framework.message.pipe.core.grpc.proto.PipeMessage;
+import org.minbox.framework.message.pipe.core.pattern.PipeNamePatternIndex;
 import org.minbox.framework.message.pipe.core.transport.RequestIdGenerator;
 import org.minbox.framework.message.pipe.core.transport.RequestIdSequenceGenerator;
 import org.minbox.framework.message.pipe.server.MessagePipe;
+import org.minbox.framework.message.pipe.server.codec.MessagePipeCodec;
 import org.minbox.framework.message.pipe.server.exception.ConsoleExceptionHandler;
 import org.minbox.framework.message.pipe.server.exception.ExceptionHandler;
 import org.minbox.framework.message.pipe.server.lb.ClientLoadBalanceStrategy;
@@ -16,6 +22,8 @@ import org.minbox.framework.message.pipe.server.manager.MessagePipeFactoryBean;
 import org.redisson.client.codec.Codec;
 import org.redisson.codec.JsonJacksonCodec;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -57,6 +65,17 @@ public class MessagePipeConfiguration {
      * Used to reduce Redis interactions by pre-fetching messages.
      */
     private int batchSize = 100;
+    /**
+     * The maximum uncompressed bytes of a processing batch
+     * <p>
+     * A batch is closed when either {@link #batchSize} or this limit is reached,
+     * the sizes are the entry lengths in redis before compression, read from the compression header
+     * so the bodies are neither transferred nor decompressed to measure them.
+     * The default keeps a batch under the grpc default 4MB inbound message size of the client,
+     * leaving room for the json and base64 expansion of the {@link org.minbox.framework.message.pipe.core.transport.ProtocolVersion#JSON} clients.
+     * A single message larger than the limit is sent alone, see {@link #claimCheckThresholdBytes}
+     */
+    private long maxBatchBytes = 2 * 1024 * 1024;
     /**
      * The batch size for putting messages
      * <p>
@@ -90,12 +109,92 @@ public class MessagePipeConfiguration {
      * time unit: milliseconds
      */
     private long messagePipeMonitorMillis = 1000L;
+    /**
+     * The settings of the channels to clients
+     * <p>
+     * Increase {@link ChannelSettings#getConnections()} for the high throughput clients
+     */
+    private ChannelSettings clientChannelSettings = new ChannelSettings();
+    /**
+     * The circuit breaker of each client
+     *
+     * @see org.minbox.framework.message.pipe.server.manager.ClientCircuitBreaker
+     */
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    /**
+     * The valid time of the message credits advertised by the clients, 0 means the credits are ignored
+     * <p>
+     * The batches are sized to the free credits of the client, the client without credits is skipped
+     *
+     * @see java.util.concurrent.TimeUnit#MILLISECONDS
+     */
+    private long clientCreditsExpireMillis = 3000;
     /**
      * Configure the conversion method of redisson processing message content
      * <p>
-     * The default {@link Codec} use {@link JsonJacksonCodec}
+     * The default is {@link JsonJacksonCodec}, configure {@link MessagePipeCodec} to store the pipe records
+     * in the compact binary format. {@link MessagePipeCodec} still reads the existing json entries,
+     * but the servers of the previous version cannot read the binary entries:
+     * switch only after all servers sharing the redis are upgraded, there is no way back for the entries written
      */
     private Codec codec = new JsonJacksonCodec();
+    /**
+     * The default payload compression of all message pipes
+     * <p>
+     * Disabled by default
+     */
+    private Compression compression = new Compression();
+    /**
+     * The payload compression of the specific message pipes: PipeNamePattern -> Compression
+     * <p>
+     * The key is matched like the client binding pipe name, e.g. "order", "order.*"
+     */
+    private Map<String, Compression> pipeCompressions = new LinkedHashMap<>();
+    /**
+     * Whether to dispatch the stored messages without decoding
+     * <p>
+     * When enabled, the messages are stored as protobuf encoded {@link PipeMessage},
+     * the entries are spliced into the batch frame of protobuf clients as they are,
+     * only the message id is read by the server. The existing entries are still readable.
+     * Note: the servers before this option cannot read the passthrough entries
+     */
+    private boolean passthrough;
+    /**
+     * The default put deduplication of all message pipes
+     * <p>
+     * Disabled by default
+     */
+    private Deduplication deduplication = new Deduplication();
+    /**
+     * The put deduplication of the specific message pipes: PipeNamePattern -> Deduplication
+     * <p>
+     * The key is matched like {@link #pipeCompressions}
+     */
+    private Map<String, Deduplication> pipeDeduplications = new LinkedHashMap<>();
+    /**
+     * The body length threshold of claim-check messages, 0 means disabled
+     * <p>
+     * A message body larger than the threshold is stored as a separate redis key,
+     * only a reference is written to the queue, the body is transferred to the client in chunks
+     * and deleted after the message is acked.
+     * The clients before {@link org.minbox.framework.message.pipe.core.transport.ProtocolVersion#CLAIM_CHECK}
+     * receive the body inlined
+     */
+    private int claimCheckThresholdBytes;
+    /**
+     * The chunk size of transferring the claim-check message body
+     */
+    private int claimCheckChunkBytes = 1024 * 1024;
+    /**
+     * The TTL of the stored claim-check message bodies, 0 means the bodies never expire
+     * <p>
+     * A body is deleted when its message is acked or moved to the dead letter queue,
+     * the queue entry never expires, so a TTL shorter than the message may wait in the queue
+     * loses the body and the message is moved to the dead letter queue as body lost
+     *
+     * @see java.util.concurrent.TimeUnit#SECONDS
+     */
+    private long claimCheckBodyExpireSeconds;
     /**
      * Dead letter queue (DLQ) TTL configuration
      * Default: 30 days (2592000 seconds)
@@ -119,6 +218,42 @@ public class MessagePipeConfiguration {
         return new MessagePipeConfiguration();
     }
 
+    /**
+     * Get the payload compression of the message pipe
+     * <p>
+     * Use {@link #pipeCompressions} matching the pipe name first, otherwise use {@link #compression}
+     *
+     * @param pipeName The {@link MessagePipe} name
+     * @return The {@link Compression} of the pipe
+     */
+    public Compression resolveCompression(String pipeName) {
+        if (pipeCompressions != null && !pipeCompressions.isEmpty()) {
+            Compression pipeCompression = new PipeNamePatternIndex<>(pipeCompressions).match(pipeName);
+            if (pipeCompression != null) {
+                return pipeCompression;
+            }
+        }
+        return compression;
+    }
+
+    /**
+     * Get the put deduplication of the message pipe
+     * <p>
+     * Use {@link #pipeDeduplications} matching the pipe name first, otherwise use {@link #deduplication}
+     *
+     * @param pipeName The {@link MessagePipe} name
+     * @return The {@link Deduplication} of the pipe
+     */
+    public Deduplication resolveDeduplication(String pipeName) {
+        if (pipeDeduplications != null && !pipeDeduplications.isEmpty()) {
+            Deduplication pipeDeduplication = new PipeNamePatternIndex<>(pipeDeduplications).match(pipeName);
+            if (pipeDeduplication != null) {
+                return pipeDeduplication;
+            }
+        }
+        return deduplication;
+    }
+
     /**
      * Lock related information when configuring channel message distribution
      */
@@ -140,4 +275,96 @@ public class MessagePipeConfiguration {
          */
         private TimeUnit timeUnit = TimeUnit.SECONDS;
     }
+
+    /**
+     * The payload compression of message pipe
+     * <p>
+     * Applies to the messages stored in redis and the message bodies sent to the clients supporting the compressor,
+     * a payload smaller than {@link #thresholdBytes} is never compressed
+     */
+    @Data
+    @Accessors(chain = true)
+    public static class Compression {
+        /**
+         * The compressor name, e.g. "lz4", "zstd", "gzip", null to disable compression
+         *
+         * @see Compressors
+         */
+        private String type;
+        /**
+         * The minimum payload bytes to compress
+         */
+        private int thresholdBytes = 1024;
+
+        /**
+         * Get the configured {@link Compressor}
+         *
+         * @return The {@link Compressor} instance, null if compression is disabled
+         */
+        public Compressor getCompressor() {
+            return Compressors.getCompressor(type);
+        }
+    }
+
+    /**
+     * The put deduplication of message pipe
+     * <p>
+     * A message is written to the queue only once in {@link #windowSeconds},
+     * the retried puts of the same idempotency key are rejected
+     */
+    @Data
+    @Accessors(chain = true)
+    public static class Deduplication {
+        /**
+         * Whether to reject the duplicate puts
+         */
+        private boolean enabled;
+        /**
+         * The deduplication window
+         */
+        private long windowSeconds = 300;
+        /**
+         * The metadata key of the producer supplied idempotency key,
+         * the message id is used if the metadata is not present
+         */
+        private String idempotencyKeyMetadata = "idempotencyKey";
+    }
+
+    /**
+     * The circuit breaker of the client communication
+     * <p>
+     * A client is opened when the failure rate of its recent calls reaches {@link #failureRateThreshold},
+     * no batch is sent to an opened client for {@link #openDurationMillis}.
+     * Then single message probe batches are sent, the client is closed after {@link #halfOpenProbes} successful probes
+     */
+    @Data
+    @Accessors(chain = true)
+    public static class CircuitBreaker {
+        /**
+         * Whether to enable the circuit breaker
+         * <p>
+         * When disabled, a failed client channel is removed and the client is excluded until the next heartbeat
+         */
+        private boolean enabled = true;
+        /**
+         * The number of recent calls used to calculate the failure rate
+         */
+        private int windowSize = 20;
+        /**
+         * The minimum number of calls in the window before the failure rate is calculated
+         */
+        private int minimumCalls = 5;
+        /**
+         * The failure rate percentage to open the client
+         */
+        private int failureRateThreshold = 50;
+        /**
+         * The time to keep the client opened before probing
+         */
+        private long openDurationMillis = 10000;
+        /**
+         * The number of successful probes to close the client
+         */
+        private int halfOpenProbes = 3;
+    }
 }
@@ -2,6 +2,8 @@ package org.minbox.framework.message.pipe.server.config;
 
 import lombok.Data;
 import lombok.experimental.Accessors;
+import org.minbox.framework.message.pipe.core.channel.ChannelSettings;
+import org.minbox.framework.message.pipe.core.codec.WireCodecs;
 import org.minbox.framework.message.pipe.server.service.GRpcServerApplicationService;
 
 /**
@@ -25,7 +27,10 @@ public class ServerConfiguration {
     private int serverPort = 5200;
     /**
      * client expired executor pool size
+     *
+     * @deprecated The clients are expired by the timing wheel of the service discovery
      */
+    @Deprecated
     private int expiredPoolSize = 5;
     /**
      * Time threshold for excluding clients
@@ -33,8 +38,16 @@ public class ServerConfiguration {
     private long expiredExcludeThresholdSeconds = 10;
     /**
      * Check the client timeout interval in seconds
+     *
+     * @deprecated The clients are expired by the timing wheel of the service discovery,
+     * see {@link #clientExpiryTickMillis}
      */
+    @Deprecated
     private long checkClientExpiredIntervalSeconds = 5;
+    /**
+     * The tick duration of the client expiry timing wheel, the precision of the client expiration
+     */
+    private long clientExpiryTickMillis = 100;
     /**
      * Maximum number of message pipes
      */
@@ -53,4 +66,24 @@ public class ServerConfiguration {
      * configure regular expression content
      */
     private String[] excludePipeNamePatterns;
+    /**
+     * The transport body codec preferences, in order
+     * <p>
+     * The first codec supported by both the server and the client is used
+     *
+     * @see WireCodecs
+     */
+    private String[] wireCodecPreferences = WireCodecs.DEFAULT_PREFERENCES;
+    /**
+     * The settings of the server receiving client registrations and heartbeats
+     *
+     * @see org.minbox.framework.message.pipe.core.channel.GrpcChannelFactory#newServerBuilder
+     */
+    private ChannelSettings channelSettings = new ChannelSettings();
+    /**
+     * The port serving the metrics in the Prometheus text format on "/metrics", 0 disables the endpoint
+     *
+     * @see org.minbox.framework.message.pipe.server.metrics.PrometheusMetricsExporter
+     */
+    private int metricsPort = 0;
 }
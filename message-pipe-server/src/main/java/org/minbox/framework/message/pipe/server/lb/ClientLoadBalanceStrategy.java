@@ -19,4 +19,18 @@ public interface ClientLoadBalanceStrategy {
      * @throws MessagePipeException message pipe exception
      */
     ClientInformation lookup(List<ClientInformation> clients) throws MessagePipeException;
+
+    /**
+     * Lookup a {@link ClientInformation} from the precomputed {@link ClientSelectionTable}
+     * <p>
+     * Called for every batch, implementations should avoid allocating objects,
+     * the default implementation delegates to {@link #lookup(List)}
+     *
+     * @param table message pipe {@link ClientSelectionTable}
+     * @return load-balanced client
+     * @throws MessagePipeException message pipe exception
+     */
+    default ClientInformation lookup(ClientSelectionTable table) throws MessagePipeException {
+        return this.lookup(table.getClients());
+    }
 }
@@ -0,0 +1,149 @@
+package org.minbox.framework.message.pipe.server.lb;
+
+import org.minbox.framework.message.pipe.core.information.ClientInformation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The immutable client selection table of a message pipe
+ * <p>
+ * The table is built by the service discovery only when the client membership or status changes,
+ * the weights of the clients are precomputed as a prefix-sum array,
+ * so that {@link ClientLoadBalanceStrategy} can select a client without allocating any object
+ *
+ * @author 恒宇少年
+ */
+public final class ClientSelectionTable {
+    /**
+     * The empty table, there are no healthy clients
+     */
+    public static final ClientSelectionTable EMPTY = new ClientSelectionTable(-1, new ClientInformation[0]);
+    /**
+     * The membership version when this table was built
+     */
+    private final long version;
+    /**
+     * The healthy clients of the pipe
+     */
+    private final ClientInformation[] clients;
+    /**
+     * The prefix-sum of the client weights
+     * <p>
+     * The index corresponds to {@link #clients}
+     */
+    private final int[] cumulativeWeights;
+    /**
+     * The total weight of all clients
+     */
+    private final int totalWeight;
+    /**
+     * Read-only view of {@link #clients}
+     */
+    private final List<ClientInformation> clientList;
+
+    private ClientSelectionTable(long version, ClientInformation[] clients) {
+        this.version = version;
+        this.clients = clients;
+        this.cumulativeWeights = new int[clients.length];
+        int weight = 0;
+        for (int i = 0; i < clients.length; i++) {
+            weight += Math.max(new LoadBalanceNode(clients[i]).getInitWeight(), 1);
+            this.cumulativeWeights[i] = weight;
+        }
+        this.totalWeight = weight;
+        this.clientList = Collections.unmodifiableList(Arrays.asList(clients));
+    }
+
+    /**
+     * Build a new {@link ClientSelectionTable}
+     *
+     * @param version The membership version
+     * @param clients The healthy clients
+     * @return The {@link ClientSelectionTable} instance
+     */
+    public static ClientSelectionTable of(long version, List<ClientInformation> clients) {
+        if (clients == null || clients.isEmpty()) {
+            return new ClientSelectionTable(version, new ClientInformation[0]);
+        }
+        return new ClientSelectionTable(version, clients.toArray(new ClientInformation[0]));
+    }
+
+    /**
+     * Select the client at the given weight point
+     * <p>
+     * Binary search the first client whose cumulative weight is greater than the weight point
+     *
+     * @param weightPoint The weight point, range: [0, {@link #getTotalWeight()})
+     * @return The selected {@link ClientInformation}
+     */
+    public ClientInformation select(int weightPoint) {
+        int low = 0;
+        int high = cumulativeWeights.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cumulativeWeights[middle] > weightPoint) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return clients[low];
+    }
+
+    /**
+     * Get the client at the index
+     *
+     * @param index The client index, range: [0, {@link #size()})
+     * @return The {@link ClientInformation}
+     */
+    public ClientInformation get(int index) {
+        return clients[index];
+    }
+
+    /**
+     * Get the membership version when this table was built
+     *
+     * @return The version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Get the total weight of all clients
+     *
+     * @return The total weight
+     */
+    public int getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * Get the number of clients in the table
+     *
+     * @return The client count
+     */
+    public int size() {
+        return clients.length;
+    }
+
+    /**
+     * Check if there are no clients in the table
+     *
+     * @return Return "true" when empty
+     */
+    public boolean isEmpty() {
+        return clients.length == 0;
+    }
+
+    /**
+     * Get the read-only client list
+     *
+     * @return The {@link ClientInformation} list
+     */
+    public List<ClientInformation> getClients() {
+        return clientList;
+    }
+}
@@ -0,0 +1,67 @@
+package org.minbox.framework.message.pipe.server.lb.support;
+
+import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
+import org.minbox.framework.message.pipe.core.information.ClientInformation;
+import org.minbox.framework.message.pipe.core.information.ClientLoad;
+import org.minbox.framework.message.pipe.server.lb.ClientLoadBalanceStrategy;
+import org.minbox.framework.message.pipe.server.lb.ClientSelectionTable;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The {@link ClientLoadBalanceStrategy} routing away from the loaded clients
+ * <p>
+ * Two clients are picked at random and the one with less pending batches is selected,
+ * the p99 processing latency breaks the tie. The load is reported by the client heartbeats,
+ * a client without a reported load is regarded as idle
+ *
+ * @author 恒宇少年
+ * @see ClientLoad
+ */
+public class LeastLoadedStrategy implements ClientLoadBalanceStrategy {
+
+    @Override
+    public ClientInformation lookup(List<ClientInformation> clients) throws MessagePipeException {
+        return this.lookup(ClientSelectionTable.of(0, clients));
+    }
+
+    /**
+     * Lookup the less loaded one of two random clients
+     *
+     * @param table message pipe {@link ClientSelectionTable}
+     * @return Load-balanced {@link ClientInformation}
+     * @throws MessagePipeException message pipe exception
+     */
+    @Override
+    public ClientInformation lookup(ClientSelectionTable table) throws MessagePipeException {
+        if (table == null || table.isEmpty()) {
+            throw new MessagePipeException("No load balancing node was found");
+        }
+        int size = table.size();
+        if (size == 1) {
+            return table.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        ClientInformation firstClient = table.get(first);
+        ClientInformation secondClient = table.get(second);
+        return this.compareLoad(firstClient.getLoad(), secondClient.getLoad()) <= 0 ? firstClient : secondClient;
+    }
+
+    private int compareLoad(ClientLoad first, ClientLoad second) {
+        int compared = Integer.compare(this.pendingBatches(first), this.pendingBatches(second));
+        if (compared != 0) {
+            return compared;
+        }
+        return Double.compare(first == null ? 0 : first.getLatencyP99Millis(), second == null ? 0 : second.getLatencyP99Millis());
+    }
+
+    private int pendingBatches(ClientLoad load) {
+        return load == null ? 0 : load.getPendingBatches();
+    }
+}
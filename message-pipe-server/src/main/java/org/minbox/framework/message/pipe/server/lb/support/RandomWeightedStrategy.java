@@ -3,11 +3,11 @@ package org.minbox.framework.message.pipe.server.lb.support;
 import org.minbox.framework.message.pipe.core.information.ClientInformation;
 import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
 import org.minbox.framework.message.pipe.server.lb.ClientLoadBalanceStrategy;
+import org.minbox.framework.message.pipe.server.lb.ClientSelectionTable;
 import org.minbox.framework.message.pipe.server.lb.LoadBalanceNode;
-import org.springframework.util.ObjectUtils;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * The {@link ClientLoadBalanceStrategy} random strategy
@@ -24,8 +24,8 @@ public class RandomWeightedStrategy implements ClientLoadBalanceStrategy {
 
     /**
      * lookup client load-balanced address {@link LoadBalanceNode#getClient()}
-     * Lookup according to random weight admin address
-     * get firstKey by {@link SortedMap#tailMap(Object)}
+     * <p>
+     * Build a temporary {@link ClientSelectionTable} and lookup from it
      *
      * @param clients message pipe bind clients
      * @return Load-balanced {@link ClientInformation}
@@ -33,18 +33,25 @@ public class RandomWeightedStrategy implements ClientLoadBalanceStrategy {
      */
     @Override
     public ClientInformation lookup(List<ClientInformation> clients) throws MessagePipeException {
-        TreeMap<Double, LoadBalanceNode> nodes = new TreeMap();
-        List<LoadBalanceNode> loadBalanceNodes =
-                clients.stream().map(client -> new LoadBalanceNode(client)).collect(Collectors.toList());
-        loadBalanceNodes.stream().forEach(node -> {
-            double lastWeight = nodes.size() == 0 ? 0 : nodes.lastKey().doubleValue();
-            nodes.put(node.getInitWeight() + lastWeight, node);
-        });
-        Double randomWeight = nodes.lastKey() * Math.random();
-        SortedMap<Double, LoadBalanceNode> tailMap = nodes.tailMap(randomWeight, false);
-        if (ObjectUtils.isEmpty(tailMap)) {
+        return this.lookup(ClientSelectionTable.of(0, clients));
+    }
+
+    /**
+     * Lookup according to random weight
+     * <p>
+     * Generate a random weight point by {@link ThreadLocalRandom},
+     * and binary search it in the prefix-sum of weights {@link ClientSelectionTable#select(int)}
+     *
+     * @param table message pipe {@link ClientSelectionTable}
+     * @return Load-balanced {@link ClientInformation}
+     * @throws MessagePipeException message pipe exception
+     */
+    @Override
+    public ClientInformation lookup(ClientSelectionTable table) throws MessagePipeException {
+        if (table == null || table.isEmpty()) {
             throw new MessagePipeException("No load balancing node was found");
         }
-        return nodes.get(tailMap.firstKey()).getClient();
+        int weightPoint = ThreadLocalRandom.current().nextInt(table.getTotalWeight());
+        return table.select(weightPoint);
     }
 }
@@ -6,6 +6,7 @@ import org.minbox.framework.message.pipe.server.MessagePipe;
 import org.minbox.framework.message.pipe.server.config.LockNames;
 import org.minbox.framework.message.pipe.server.config.MessagePipeConfiguration;
 import org.minbox.framework.message.pipe.server.config.ServerConfiguration;
+import org.minbox.framework.message.pipe.server.metrics.PrometheusMetricsExporter;
 import org.minbox.framework.message.pipe.server.service.discovery.ServiceDiscovery;
 import org.redisson.api.RedissonClient;
 import org.springframework.beans.BeansException;
@@ -16,6 +17,7 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -25,7 +27,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.minbox.framework.message.pipe.core.information.ClientInformation;
-import org.minbox.framework.message.pipe.core.untis.RegexUtils;
+import org.minbox.framework.message.pipe.core.pattern.PipeNamePattern;
 import org.minbox.framework.message.pipe.server.service.ServiceEvent;
 import org.springframework.context.ApplicationListener;
 
@@ -60,6 +62,14 @@ public abstract class AbstractMessagePipeManager implements MessagePipeManager,
     private MessagePipeFactoryBean messagePipeFactoryBean;
     private ServiceDiscovery serviceDiscovery;
     private RedissonClient redissonClient;
+    /**
+     * The compiled {@link ServerConfiguration#getExcludePipeNamePatterns()}, read by all pipe threads
+     */
+    private volatile ExcludePatterns excludePatterns = ExcludePatterns.EMPTY;
+    /**
+     * The metrics endpoint, null if {@link ServerConfiguration#getMetricsPort()} is 0
+     */
+    private PrometheusMetricsExporter metricsExporter;
 
     /**
      * Use the default {@link MessagePipeConfiguration} to initialize {@link MessagePipe} instance
@@ -156,6 +166,7 @@ public abstract class AbstractMessagePipeManager implements MessagePipeManager,
         this.serverConfiguration = beanFactory.getBean(ServerConfiguration.class);
         this.messagePipeFactoryBean = beanFactory.getBean(MessagePipeFactoryBean.class);
         this.serviceDiscovery = beanFactory.getBean(ServiceDiscovery.class);
+        ClientChannelManager.setConnectivityListener(this::onClientConnectivityChanged);
 
         // Clear all message pipe locks when starting
         this.clearAllLocks();
@@ -163,6 +174,10 @@ public abstract class AbstractMessagePipeManager implements MessagePipeManager,
         // Start metrics reporting
         MessagePipeMetricsAggregator.getInstance().setServiceDiscovery(this.serviceDiscovery);
         MessagePipeMetricsAggregator.getInstance().startAggregationReporting();
+        if (serverConfiguration.getMetricsPort() > 0) {
+            this.metricsExporter = new PrometheusMetricsExporter(this.serviceDiscovery);
+            this.metricsExporter.start(serverConfiguration.getMetricsPort());
+        }
 
         CLEANUP_EXPIRED_SERVICE = Executors.newScheduledThreadPool(CLEANUP_EXPIRED_CORE_THREADS + 1);
         this.startCleanupExpiredThread();
@@ -269,6 +284,9 @@ public abstract class AbstractMessagePipeManager implements MessagePipeManager,
     public void destroy() throws Exception {
         redissonClient.shutdown();
         MessagePipeMetricsAggregator.getInstance().shutdown();
+        if (metricsExporter != null) {
+            metricsExporter.stop();
+        }
         log.info("The MessagePipeManager shutdown successfully.");
     }
 
@@ -280,19 +298,58 @@ public abstract class AbstractMessagePipeManager implements MessagePipeManager,
         }
         // Iterate through all clients that have changed status
         for (ClientInformation client : clients) {
-            String[] patterns = client.getBindingPipeNames();
-            if (patterns != null) {
-                for (String pattern : patterns) {
-                    // Notify matching pipes to wake up if they are waiting for a client
-                    MESSAGE_PIPE_MAP.forEach((pipeName, pipe) -> {
-                        if (RegexUtils.isMatch(pattern, pipeName)) {
-                            synchronized (pipe) {
-                                pipe.notifyAll();
-                            }
-                        }
-                    });
-                }
+            // The heartbeat does not carry the binding pipe names, use the registered client
+            ClientInformation bindingClient = client.getBindingPipeNames() != null ?
+                    client : serviceDiscovery.getClient(client.getClientId());
+            if (bindingClient != null) {
+                this.wakeupPipes(bindingClient);
+            }
+        }
+    }
+
+    /**
+     * Update the client status once its channel fails or recovers
+     * <p>
+     * The pipes bound to the recovered client are woken immediately
+     *
+     * @param clientId  The client id
+     * @param connected Whether the channel is ready
+     * @see ClientChannelManager#setConnectivityListener(ClientConnectivityListener)
+     */
+    private void onClientConnectivityChanged(String clientId, boolean connected) {
+        if (!connected) {
+            serviceDiscovery.exclude(clientId);
+            return;
+        }
+        serviceDiscovery.include(clientId);
+        ClientInformation client = serviceDiscovery.getClient(clientId);
+        if (client != null) {
+            this.wakeupPipes(client);
+        }
+    }
+
+    /**
+     * Notify the pipes bound to the client to wake up if they are waiting for a client
+     *
+     * @param client The {@link ClientInformation} with the binding pipe names
+     */
+    private void wakeupPipes(ClientInformation client) {
+        String[] patterns = client.getBindingPipeNames();
+        if (patterns == null) {
+            return;
+        }
+        for (String pattern : patterns) {
+            if (pattern == null) {
+                continue;
             }
+            PipeNamePattern pipeNamePattern = PipeNamePattern.compile(pattern);
+            MESSAGE_PIPE_MAP.forEach((pipeName, pipe) -> {
+                if (pipeNamePattern.matches(pipeName)) {
+                    synchronized (pipe) {
+                        pipe.notifyAll();
+                    }
+                }
+            });
         }
     }
 
@@ -308,8 +365,7 @@ public abstract class AbstractMessagePipeManager implements MessagePipeManager,
             return false;
         }
         boolean isExclude = false;
-        for (String excludePattern : excludes) {
-            Pattern pipeKeyPattern = Pattern.compile(excludePattern);
+        for (Pattern pipeKeyPattern : this.getExcludePatterns(excludes)) {
             Matcher matcher = pipeKeyPattern.matcher(pipeName);
             if (matcher.find()) {
                 isExclude = true;
@@ -319,4 +375,39 @@ public abstract class AbstractMessagePipeManager implements MessagePipeManager,
         }
         return isExclude;
     }
+
+    /**
+     * Get the compiled exclude pipe name patterns
+     * <p>
+     * Compiled only once, recompiled when {@link ServerConfiguration#getExcludePipeNamePatterns()} is replaced
+     *
+     * @param excludes The exclude pipe name patterns
+     * @return The compiled {@link Pattern} list
+     */
+    private List<Pattern> getExcludePatterns(String[] excludes) {
+        ExcludePatterns compiled = this.excludePatterns;
+        if (compiled.sources != excludes) {
+            compiled = new ExcludePatterns(excludes);
+            this.excludePatterns = compiled;
+        }
+        return compiled.patterns;
+    }
+
+    /**
+     * The immutable exclude pipe name patterns with the sources they were compiled from
+     */
+    private static final class ExcludePatterns {
+        private static final ExcludePatterns EMPTY = new ExcludePatterns(new String[0]);
+        private final String[] sources;
+        private final List<Pattern> patterns;
+
+        ExcludePatterns(String[] sources) {
+            List<Pattern> patterns = new ArrayList<>(sources.length);
+            for (String excludePattern : sources) {
+                patterns.add(Pattern.compile(excludePattern));
+            }
+            this.sources = sources;
+            this.patterns = Collections.unmodifiableList(patterns);
+        }
+    }
 }
@@ -0,0 +1,111 @@
+package org.minbox.framework.message.pipe.server.manager;
+
+import lombok.Getter;
+import org.minbox.framework.message.pipe.server.MessagePipe;
+
+/**
+ * The result of sending a batch of messages
+ * <p>
+ * The first {@link #getSuccessCount()} messages are processed by the client,
+ * the remaining messages are not processed for the reason of {@link #getFailure()}
+ *
+ * @author 恒宇少年
+ * @see MessagePipe#handleToLast
+ */
+@Getter
+public class BatchSendResult {
+    private static final BatchSendResult COMMUNICATION_FAILURE = new BatchSendResult(0, Failure.COMMUNICATION);
+    private static final BatchSendResult SATURATED = new BatchSendResult(0, Failure.SATURATED);
+    /**
+     * The number of messages processed successfully
+     */
+    private final int successCount;
+    /**
+     * The reason why the remaining messages are not processed
+     */
+    private final Failure failure;
+
+    private BatchSendResult(int successCount, Failure failure) {
+        this.successCount = successCount;
+        this.failure = failure;
+    }
+
+    /**
+     * The messages are processed, only the first messages are sent if the count is less than the batch size
+     *
+     * @param successCount The number of messages processed successfully
+     * @return The {@link BatchSendResult} instance
+     */
+    public static BatchSendResult success(int successCount) {
+        return new BatchSendResult(successCount, Failure.NONE);
+    }
+
+    /**
+     * The client failed to process the message after the processed messages
+     *
+     * @param successCount The number of messages processed successfully
+     * @return The {@link BatchSendResult} instance
+     */
+    public static BatchSendResult messageFailure(int successCount) {
+        return new BatchSendResult(successCount, Failure.MESSAGE);
+    }
+
+    /**
+     * The stored body of the claim-check message after the processed messages is lost
+     *
+     * @param successCount The number of messages processed successfully
+     * @return The {@link BatchSendResult} instance
+     * @see ClaimCheckStore#BODY_LOST_REASON
+     */
+    public static BatchSendResult bodyLost(int successCount) {
+        return new BatchSendResult(successCount, Failure.BODY_LOST);
+    }
+
+    /**
+     * The communication failed, the messages after the processed messages are not confirmed
+     *
+     * @param successCount The number of messages processed successfully
+     * @return The {@link BatchSendResult} instance
+     */
+    public static BatchSendResult communicationFailure(int successCount) {
+        return successCount == 0 ? COMMUNICATION_FAILURE : new BatchSendResult(successCount, Failure.COMMUNICATION);
+    }
+
+    /**
+     * The clients are saturated, the messages after the processed messages are not sent or rejected by the client
+     *
+     * @param successCount The number of messages processed successfully
+     * @return The {@link BatchSendResult} instance
+     */
+    public static BatchSendResult saturated(int successCount) {
+        return successCount == 0 ? SATURATED : new BatchSendResult(successCount, Failure.SATURATED);
+    }
+
+    /**
+     * The reason why the remaining messages are not processed
+     */
+    public enum Failure {
+        /**
+         * The remaining messages are not sent, e.g. only a probe message is sent
+         */
+        NONE,
+        /**
+         * The client failed to process the message at {@link #getSuccessCount()}, it should be retried
+         */
+        MESSAGE,
+        /**
+         * The stored body of the claim-check message at {@link #getSuccessCount()} is lost,
+         * it can never be delivered and is moved to the dead letter queue
+         */
+        BODY_LOST,
+        /**
+         * The client cannot be communicated, the messages should be sent again later without retry counting
+         */
+        COMMUNICATION,
+        /**
+         * The clients have no free credits or rejected the batch as RESOURCE_EXHAUSTED,
+         * the messages should be sent again after a short back off without retry counting
+         */
+        SATURATED
+    }
+}
@@ -0,0 +1,208 @@
+package org.minbox.framework.message.pipe.server.manager;
+
+import lombok.extern.slf4j.Slf4j;
+import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
+import org.minbox.framework.message.pipe.core.Message;
+import org.minbox.framework.message.pipe.core.PipeConstants;
+import org.minbox.framework.message.pipe.server.MessagePipe;
+import org.minbox.framework.message.pipe.server.codec.PassthroughMessage;
+import org.minbox.framework.message.pipe.server.config.MessagePipeConfiguration;
+import org.redisson.api.RBinaryStream;
+import org.redisson.api.RedissonClient;
+import org.springframework.util.ObjectUtils;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The claim-check store of oversized message bodies
+ * <p>
+ * A body larger than {@link MessagePipeConfiguration#getClaimCheckThresholdBytes()} is stored
+ * as a separate redis key, the queue only holds the message with an empty body and
+ * the {@link PipeConstants#CLAIM_CHECK_METADATA_KEY} metadata.
+ * The body is read in chunks when it is transferred to the client, and deleted after the message is acked
+ *
+ * @author 恒宇少年
+ * @see ClaimCheckTransfer
+ */
+@Slf4j
+public class ClaimCheckStore {
+    /**
+     * The body key format: {pipeName}.body.{messageId}
+     */
+    private static final String BODY_NAME_FORMAT = "%s.body.%s";
+    /**
+     * The dead letter failure reason of the claim-check message whose stored body is lost
+     */
+    public static final String BODY_LOST_REASON = "CLAIM_CHECK_BODY_LOST";
+    private final RedissonClient redissonClient;
+    private final String pipeName;
+    private final MessagePipeConfiguration configuration;
+
+    public ClaimCheckStore(RedissonClient redissonClient, String pipeName, MessagePipeConfiguration configuration) {
+        this.redissonClient = redissonClient;
+        this.pipeName = pipeName;
+        this.configuration = configuration;
+    }
+
+    /**
+     * Check if the claim-check is enabled
+     *
+     * @return Return "true" if enabled
+     */
+    public boolean isEnabled() {
+        return configuration.getClaimCheckThresholdBytes() > 0;
+    }
+
+    /**
+     * Store the oversized bodies of messages
+     *
+     * @param messages The {@link Message} list to be written to the queue
+     * @return The messages to be queued, the oversized messages are replaced by claim-check messages
+     */
+    public List<Message> checkIn(List<Message> messages) {
+        if (!this.isEnabled()) {
+            return messages;
+        }
+        List<Message> checkedMessages = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            checkedMessages.add(this.checkIn(message));
+        }
+        return checkedMessages;
+    }
+
+    /**
+     * Store the oversized body of message
+     * <p>
+     * The body expires after {@link MessagePipeConfiguration#getClaimCheckBodyExpireSeconds()} if configured,
+     * otherwise it is kept until the message is acked or moved to the dead letter queue
+     *
+     * @param message The {@link Message} to be written to the queue
+     * @return The claim-check message, or the message itself if the body is not oversized
+     */
+    public Message checkIn(Message message) {
+        byte[] body = message.getBody();
+        if (!this.isEnabled() || body == null || body.length <= configuration.getClaimCheckThresholdBytes()
+                || claimCheckBodyLength(message) >= 0) {
+            return message;
+        }
+        RBinaryStream bodyStream = redissonClient.getBinaryStream(this.bodyName(message.getMessageId()));
+        long expireSeconds = configuration.getClaimCheckBodyExpireSeconds();
+        if (expireSeconds > 0) {
+            bodyStream.set(body, expireSeconds, TimeUnit.SECONDS);
+        } else {
+            bodyStream.set(body);
+        }
+        Message claimCheck = new Message(message.getMessageId(), new byte[0], message.getBodyEncoding());
+        claimCheck.getMetadata().putAll(message.getMetadata());
+        claimCheck.getMetadata().put(PipeConstants.CLAIM_CHECK_METADATA_KEY, (long) body.length);
+        log.debug("Message Pipe [{}], the body of message: {} is checked in, length: {}.",
+                pipeName, message.getMessageId(), body.length);
+        return claimCheck;
+    }
+
+    /**
+     * Open the stored body of claim-check message
+     *
+     * @param messageId The message id
+     * @return The body {@link InputStream}
+     * @throws MessagePipeException If the body is lost
+     */
+    public InputStream openBody(String messageId) {
+        RBinaryStream bodyStream = redissonClient.getBinaryStream(this.bodyName(messageId));
+        if (!bodyStream.isExists()) {
+            throw new MessagePipeException("The body of claim-check message: " + messageId + " is lost.");
+        }
+        return bodyStream.getInputStream();
+    }
+
+    /**
+     * Find the first claim-check message whose stored body is lost
+     *
+     * @param messages The messages to be sent
+     * @return The index of the message, -1 if all bodies exist
+     */
+    public int indexOfLostBody(List<Message> messages) {
+        if (!this.isEnabled()) {
+            return -1;
+        }
+        for (int i = 0; i < messages.size(); i++) {
+            Message message = messages.get(i);
+            if (claimCheckBodyLength(message) >= 0
+                    && !redissonClient.getBinaryStream(this.bodyName(message.getMessageId())).isExists()) {
+                log.error("Message Pipe [{}], the body of claim-check message: {} is lost.", pipeName, message.getMessageId());
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Restore the message with the stored body inlined
+     *
+     * @param message The claim-check message
+     * @return The original message, or the message itself if it is not a claim-check message
+     * @throws MessagePipeException If the body is lost, the claim-check message is never delivered with the empty body
+     */
+    public Message checkOut(Message message) {
+        if (claimCheckBodyLength(message) < 0) {
+            return message;
+        }
+        byte[] body = redissonClient.getBinaryStream(this.bodyName(message.getMessageId())).get();
+        if (body == null) {
+            throw new MessagePipeException("The body of claim-check message: " + message.getMessageId() + " is lost.");
+        }
+        Message original = new Message(message.getMessageId(), body, message.getBodyEncoding());
+        original.getMetadata().putAll(message.getMetadata());
+        original.getMetadata().remove(PipeConstants.CLAIM_CHECK_METADATA_KEY);
+        return original;
+    }
+
+    /**
+     * Delete the stored bodies of the acked claim-check messages
+     *
+     * @param messages The acked messages
+     */
+    public void delete(Collection<Message> messages) {
+        if (ObjectUtils.isEmpty(messages)) {
+            return;
+        }
+        List<String> bodyNames = new ArrayList<>();
+        for (Message message : messages) {
+            if (claimCheckBodyLength(message) >= 0) {
+                bodyNames.add(this.bodyName(message.getMessageId()));
+            }
+        }
+        if (!bodyNames.isEmpty()) {
+            redissonClient.getKeys().delete(bodyNames.toArray(new String[0]));
+        }
+    }
+
+    /**
+     * Get the original body length of claim-check message
+     *
+     * @param message The {@link Message} instance
+     * @return The body length, -1 if the message is not a claim-check message
+     */
+    public static long claimCheckBodyLength(Message message) {
+        if (message instanceof PassthroughMessage) {
+            return ((PassthroughMessage) message).claimCheckBodyLength();
+        }
+        Object bodyLength = message.getMetadata().get(PipeConstants.CLAIM_CHECK_METADATA_KEY);
+        return bodyLength instanceof Number ? ((Number) bodyLength).longValue() : -1;
+    }
+
+    /**
+     * Get the body key of message
+     *
+     * @param messageId The message id
+     * @return The body key in redis
+     * @see MessagePipe#getName()
+     */
+    private String bodyName(String messageId) {
+        return String.format(BODY_NAME_FORMAT, pipeName, messageId);
+    }
+}
@@ -0,0 +1,161 @@
+package org.minbox.framework.message.pipe.server.manager;
+
+import com.google.protobuf.ByteString;
+import io.grpc.CallOptions;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ClientResponseObserver;
+import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
+import org.minbox.framework.message.pipe.core.grpc.MessageServiceGrpc;
+import org.minbox.framework.message.pipe.core.grpc.proto.BodyChunk;
+import org.minbox.framework.message.pipe.core.grpc.proto.BodyTransferResponse;
+import org.minbox.framework.message.pipe.core.transport.ProtocolVersion;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Transfer the body of a claim-check message to the client in chunks
+ * <p>
+ * Used by the clients of {@link ProtocolVersion#CLAIM_CHECK} before the batch is sent,
+ * the body is read from redis chunk by chunk, and each chunk is written only when the stream is ready,
+ * so the whole body is never held in the server memory
+ *
+ * @author 恒宇少年
+ * @see ClaimCheckStore
+ */
+public class ClaimCheckTransfer implements ClientResponseObserver<BodyChunk, BodyTransferResponse> {
+    private final CompletableFuture<BodyTransferResponse> response = new CompletableFuture<>();
+    private final Object readyLock = new Object();
+    private volatile ClientCallStreamObserver<BodyChunk> requestStream;
+
+    private ClaimCheckTransfer() {
+    }
+
+    /**
+     * Transfer the body and wait for the client to receive it
+     *
+     * @param channel       The client {@link ManagedChannel}
+     * @param messageId     The claim-check message id
+     * @param body          The stored body {@link InputStream}, closed after transfer
+     * @param bodyLength    The original body length
+     * @param chunkBytes    The maximum bytes of each chunk
+     * @param timeoutMillis The maximum time to transfer the body
+     * @throws StatusRuntimeException If the transfer failed or timed out
+     */
+    public static void transfer(ManagedChannel channel, String messageId, InputStream body, long bodyLength,
+                                int chunkBytes, long timeoutMillis) throws StatusRuntimeException {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        ClaimCheckTransfer transfer = new ClaimCheckTransfer();
+        CallOptions callOptions = CallOptions.DEFAULT.withDeadlineAfter(timeoutMillis, TimeUnit.MILLISECONDS);
+        ClientCalls.asyncClientStreamingCall(channel.newCall(MessageServiceGrpc.getTransferBodyMethod(), callOptions), transfer);
+        try (InputStream input = body) {
+            byte[] buffer = new byte[chunkBytes];
+            int read;
+            boolean first = true;
+            while ((read = input.readNBytes(buffer, 0, buffer.length)) > 0 || first) {
+                transfer.awaitReady(deadlineNanos);
+                BodyChunk.Builder chunk = BodyChunk.newBuilder()
+                        .setMessageId(messageId)
+                        .setData(ByteString.copyFrom(buffer, 0, read));
+                if (first) {
+                    chunk.setTotalLength(bodyLength);
+                    first = false;
+                }
+                transfer.requestStream.onNext(chunk.build());
+            }
+            transfer.requestStream.onCompleted();
+        } catch (IOException e) {
+            transfer.requestStream.cancel("Read the claim-check body failed.", e);
+            throw new MessagePipeException("Read the body of claim-check message: " + messageId + " failed.", e);
+        } catch (RuntimeException e) {
+            transfer.requestStream.cancel("Transfer the claim-check body failed.", e);
+            throw e;
+        }
+        BodyTransferResponse transferResponse = transfer.awaitResponse(messageId, deadlineNanos);
+        if (!transferResponse.getSuccess()) {
+            throw Status.DATA_LOSS.withDescription("The body of claim-check message: " + messageId + " is rejected.")
+                    .asRuntimeException();
+        }
+    }
+
+    /**
+     * Wait until the stream can accept a chunk without buffering
+     *
+     * @param deadlineNanos The deadline of {@link System#nanoTime()}
+     */
+    private void awaitReady(long deadlineNanos) {
+        synchronized (readyLock) {
+            while (!response.isDone() && !requestStream.isReady()) {
+                long waitMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+                if (waitMillis <= 0) {
+                    throw Status.DEADLINE_EXCEEDED.withDescription("The body transfer stream is not ready.").asRuntimeException();
+                }
+                try {
+                    readyLock.wait(waitMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new MessagePipeException("Interrupted while waiting for the body transfer stream.", e);
+                }
+            }
+        }
+        if (response.isDone() && response.isCompletedExceptionally()) {
+            // Surface the stream error
+            this.awaitResponse(null, deadlineNanos);
+        }
+    }
+
+    private BodyTransferResponse awaitResponse(String messageId, long deadlineNanos) {
+        try {
+            return response.get(Math.max(deadlineNanos - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw Status.DEADLINE_EXCEEDED.withDescription("Wait for the body transfer of message: " + messageId + " timed out.")
+                    .asRuntimeException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof StatusRuntimeException) {
+                throw (StatusRuntimeException) cause;
+            }
+            throw new MessagePipeException("The body transfer of message: " + messageId + " failed.", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagePipeException("Interrupted while waiting for the body transfer of message: " + messageId, e);
+        }
+    }
+
+    @Override
+    public void beforeStart(ClientCallStreamObserver<BodyChunk> requestStream) {
+        this.requestStream = requestStream;
+        requestStream.setOnReadyHandler(() -> {
+            synchronized (readyLock) {
+                readyLock.notifyAll();
+            }
+        });
+    }
+
+    @Override
+    public void onNext(BodyTransferResponse value) {
+        response.complete(value);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        response.completeExceptionally(Status.fromThrowable(t).asRuntimeException());
+        synchronized (readyLock) {
+            readyLock.notifyAll();
+        }
+    }
+
+    @Override
+    public void onCompleted() {
+        response.completeExceptionally(Status.INTERNAL.withDescription("The body transfer is completed without response.")
+                .asRuntimeException());
+    }
+}
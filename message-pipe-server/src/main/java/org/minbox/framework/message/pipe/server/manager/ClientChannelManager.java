@@ -1,7 +1,10 @@
 package org.minbox.framework.message.pipe.server.manager;
 
+import io.grpc.ConnectivityState;
 import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.minbox.framework.message.pipe.core.channel.ChannelSettings;
+import org.minbox.framework.message.pipe.core.channel.GrpcChannelFactory;
 import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
 import org.minbox.framework.message.pipe.core.information.ClientInformation;
 import org.springframework.util.ObjectUtils;
@@ -11,9 +14,13 @@ import java.util.concurrent.ConcurrentMap;
 
 /**
  * Manages gRPC channels for client connections
+ * <p>
+ * The connectivity state of each channel is watched,
+ * the {@link ClientConnectivityListener} is notified once the channel fails or recovers
  *
  * @author 恒宇少年
  */
+@Slf4j
 public class ClientChannelManager {
     /**
      * Store the connection channel of each client
@@ -21,34 +28,86 @@ public class ClientChannelManager {
      * The key is {@link ClientInformation#getClientId()}
      */
     private static final ConcurrentMap<String, ManagedChannel> CLIENT_CHANNEL = new ConcurrentHashMap();
+    private static volatile ClientConnectivityListener CONNECTIVITY_LISTENER;
+
+    /**
+     * Set the listener notified when the connectivity of a client channel changes
+     *
+     * @param listener The {@link ClientConnectivityListener}
+     */
+    public static void setConnectivityListener(ClientConnectivityListener listener) {
+        CONNECTIVITY_LISTENER = listener;
+    }
 
     /**
      * Establish a client channel
      *
      * @param information The {@link ClientInformation} instance
+     * @param settings    The {@link ChannelSettings} of the new channel
      * @return {@link ManagedChannel} instance
+     * @see GrpcChannelFactory
      */
-    public static ManagedChannel establishChannel(ClientInformation information) {
-        String clientId = information.getClientId();
+    public static ManagedChannel establishChannel(ClientInformation information, ChannelSettings settings) {
         if (ObjectUtils.isEmpty(information)) {
-            throw new MessagePipeException("Client: " + clientId + " is not registered");
+            throw new MessagePipeException("The client is not registered");
         }
-        ManagedChannel channel = CLIENT_CHANNEL.get(clientId);
-        if (ObjectUtils.isEmpty(channel) || channel.isShutdown() || channel.isTerminated()) {
-            channel = ManagedChannelBuilder.forAddress(information.getAddress(), information.getPort())
-                    .usePlaintext()
-                    .build();
-            CLIENT_CHANNEL.put(clientId, channel);
+        return CLIENT_CHANNEL.compute(information.getClientId(), (clientId, channel) -> {
+            if (ObjectUtils.isEmpty(channel) || channel.isShutdown() || channel.isTerminated()) {
+                channel = GrpcChannelFactory.newChannel(information.getAddress(), information.getPort(), settings);
+                watchState(clientId, channel, channel.getState(false), false);
+            }
+            return channel;
+        });
+    }
+
+    /**
+     * Watch the connectivity state of the channel until it is shutdown
+     *
+     * @param clientId The client id
+     * @param channel  The client {@link ManagedChannel}
+     * @param state    The current state
+     * @param failed   Whether the failure of the channel has been notified
+     */
+    private static void watchState(String clientId, ManagedChannel channel, ConnectivityState state, boolean failed) {
+        channel.notifyWhenStateChanged(state, () -> {
+            ConnectivityState newState = channel.getState(false);
+            if (ConnectivityState.SHUTDOWN == newState) {
+                return;
+            }
+            boolean newFailed = failed;
+            if (ConnectivityState.TRANSIENT_FAILURE == newState && !failed) {
+                newFailed = true;
+                notifyConnectivity(clientId, false);
+            } else if (ConnectivityState.READY == newState && failed) {
+                newFailed = false;
+                notifyConnectivity(clientId, true);
+            }
+            watchState(clientId, channel, newState, newFailed);
+        });
+    }
+
+    private static void notifyConnectivity(String clientId, boolean connected) {
+        log.warn("The channel of client: {} is {}.", clientId, connected ? "recovered" : "failed");
+        ClientConnectivityListener listener = CONNECTIVITY_LISTENER;
+        if (listener == null) {
+            return;
+        }
+        try {
+            listener.onConnectivityChanged(clientId, connected);
+        } catch (Exception e) {
+            log.error("Notify the connectivity of client: " + clientId + " failed.", e);
         }
-        return channel;
     }
 
     /**
      * Remove client {@link ManagedChannel}
+     * <p>
+     * The {@link ClientDeliveryStream} of the client is closed first
      *
      * @param clientId The client id
      */
     public static void removeChannel(String clientId) {
+        ClientDeliveryStream.removeStream(clientId);
         ManagedChannel channel = CLIENT_CHANNEL.remove(clientId);
         if (channel != null) {
             channel.shutdownNow();
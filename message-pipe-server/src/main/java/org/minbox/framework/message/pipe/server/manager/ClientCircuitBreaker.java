@@ -0,0 +1,215 @@
+package org.minbox.framework.message.pipe.server.manager;
+
+import lombok.extern.slf4j.Slf4j;
+import org.minbox.framework.message.pipe.core.information.ClientInformation;
+import org.minbox.framework.message.pipe.server.config.MessagePipeConfiguration;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The circuit breaker of a client
+ * <p>
+ * The outcomes of recent calls are recorded in a count based window,
+ * the client is opened when the failure rate reaches the threshold.
+ * After the open duration, the client is half-opened and only one single message probe is permitted at a time,
+ * the client is closed after enough successful probes, or opened again on a failed probe.
+ * Only the communication failures are recorded as failures, the business failures of the client are successful calls
+ *
+ * @author 恒宇少年
+ * @see MessagePipeConfiguration.CircuitBreaker
+ */
+@Slf4j
+public class ClientCircuitBreaker {
+    /**
+     * Store the circuit breaker of each client
+     * <p>
+     * The key is {@link ClientInformation#getClientId()}
+     */
+    private static final ConcurrentMap<String, ClientCircuitBreaker> CLIENT_BREAKERS = new ConcurrentHashMap<>();
+    private final String clientId;
+    private final MessagePipeConfiguration.CircuitBreaker settings;
+    /**
+     * The outcomes of recent calls, true means failure
+     */
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCalls;
+    private int windowFailures;
+    private State state = State.CLOSED;
+    private long openedTime;
+    private int probeSuccesses;
+    private boolean probing;
+
+    private ClientCircuitBreaker(String clientId, MessagePipeConfiguration.CircuitBreaker settings) {
+        this.clientId = clientId;
+        this.settings = settings;
+        this.window = new boolean[Math.max(1, settings.getWindowSize())];
+    }
+
+    /**
+     * Get the circuit breaker of the client
+     *
+     * @param clientId The client id
+     * @param settings The {@link MessagePipeConfiguration.CircuitBreaker} used when the breaker is created
+     * @return The {@link ClientCircuitBreaker} instance
+     */
+    public static ClientCircuitBreaker getBreaker(String clientId, MessagePipeConfiguration.CircuitBreaker settings) {
+        return CLIENT_BREAKERS.computeIfAbsent(clientId, id -> new ClientCircuitBreaker(id, settings));
+    }
+
+    /**
+     * Remove the circuit breaker of the client that left the routing table
+     *
+     * @param clientId The client id
+     */
+    public static void removeBreaker(String clientId) {
+        CLIENT_BREAKERS.remove(clientId);
+    }
+
+    /**
+     * Acquire the permission of sending a batch
+     *
+     * @return The {@link Permission}
+     */
+    public synchronized Permission acquire() {
+        switch (state) {
+            case OPEN:
+                if (System.currentTimeMillis() - openedTime < settings.getOpenDurationMillis()) {
+                    return Permission.REJECTED;
+                }
+                this.transitionTo(State.HALF_OPEN);
+                probing = true;
+                return Permission.PROBE;
+            case HALF_OPEN:
+                if (probing) {
+                    return Permission.REJECTED;
+                }
+                probing = true;
+                return Permission.PROBE;
+            default:
+                return Permission.BATCH;
+        }
+    }
+
+    /**
+     * Record a successful call
+     *
+     * @param permission The {@link Permission} acquired by the call
+     */
+    public synchronized void onSuccess(Permission permission) {
+        if (Permission.PROBE == permission) {
+            probing = false;
+            if (State.HALF_OPEN == state && ++probeSuccesses >= settings.getHalfOpenProbes()) {
+                this.transitionTo(State.CLOSED);
+            }
+        } else if (State.CLOSED == state) {
+            this.record(false);
+        }
+    }
+
+    /**
+     * Record a failed call
+     *
+     * @param permission The {@link Permission} acquired by the call
+     */
+    public synchronized void onFailure(Permission permission) {
+        if (Permission.PROBE == permission) {
+            probing = false;
+            if (State.HALF_OPEN == state) {
+                this.transitionTo(State.OPEN);
+            }
+        } else if (State.CLOSED == state) {
+            this.record(true);
+            if (windowCalls >= settings.getMinimumCalls()
+                    && windowFailures * 100 >= settings.getFailureRateThreshold() * windowCalls) {
+                this.transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * Get the remaining open time
+     *
+     * @return The remaining milliseconds before probing, 0 if the client is not opened
+     */
+    public synchronized long getRemainingOpenMillis() {
+        if (State.OPEN != state) {
+            return 0;
+        }
+        return Math.max(0, settings.getOpenDurationMillis() - (System.currentTimeMillis() - openedTime));
+    }
+
+    /**
+     * Get the current state
+     *
+     * @return The {@link State}
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (windowCalls == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCalls++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State newState) {
+        log.warn("The circuit breaker of client: {}, state changed from {} to {}.", clientId, state, newState);
+        state = newState;
+        probeSuccesses = 0;
+        if (State.OPEN == newState) {
+            openedTime = System.currentTimeMillis();
+        } else if (State.CLOSED == newState) {
+            windowIndex = 0;
+            windowCalls = 0;
+            windowFailures = 0;
+        }
+    }
+
+    /**
+     * The circuit breaker state
+     */
+    public enum State {
+        /**
+         * The batches are sent normally
+         */
+        CLOSED,
+        /**
+         * No batch is sent
+         */
+        OPEN,
+        /**
+         * Only single message probes are sent
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * The permission of sending a batch
+     */
+    public enum Permission {
+        /**
+         * Send the whole batch
+         */
+        BATCH,
+        /**
+         * Send a single message probe
+         */
+        PROBE,
+        /**
+         * Do not send
+         */
+        REJECTED
+    }
+}
@@ -0,0 +1,24 @@
+package org.minbox.framework.message.pipe.server.manager;
+
+import io.grpc.ConnectivityState;
+import org.minbox.framework.message.pipe.core.information.ClientInformation;
+
+/**
+ * The listener of the client channel connectivity
+ * <p>
+ * Notified by the {@link ClientChannelManager} when the channel of a client
+ * enters {@link ConnectivityState#TRANSIENT_FAILURE} or recovers to {@link ConnectivityState#READY}
+ *
+ * @author 恒宇少年
+ * @see ClientChannelManager#setConnectivityListener(ClientConnectivityListener)
+ */
+@FunctionalInterface
+public interface ClientConnectivityListener {
+    /**
+     * The connectivity of the client channel changed
+     *
+     * @param clientId  The {@link ClientInformation#getClientId()}
+     * @param connected Return "true" if the channel is ready, "false" if the channel is failed
+     */
+    void onConnectivityChanged(String clientId, boolean connected);
+}
@@ -0,0 +1,99 @@
+package org.minbox.framework.message.pipe.server.manager;
+
+import org.minbox.framework.message.pipe.core.information.ClientInformation;
+import org.minbox.framework.message.pipe.server.config.MessagePipeConfiguration;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The free message credits of a client
+ * <p>
+ * The client advertises its free credits by the batch responses and heartbeats,
+ * the credits are consumed when a batch is sent and replaced by the next advertisement.
+ * The credits not advertised in {@link MessagePipeConfiguration#getClientCreditsExpireMillis()} are ignored,
+ * so that the client is sent to again and advertises its credits
+ *
+ * @author 恒宇少年
+ * @see MessagePipeDistributor#sendMessageBatch
+ */
+public class ClientCredits {
+    /**
+     * Store the credits of each client
+     * <p>
+     * The key is {@link ClientInformation#getClientId()}
+     */
+    private static final ConcurrentMap<String, ClientCredits> CLIENT_CREDITS = new ConcurrentHashMap<>();
+    private static final int NOT_ADVERTISED = -1;
+    private int available = NOT_ADVERTISED;
+    private long advertisedTime;
+
+    private ClientCredits() {
+    }
+
+    /**
+     * Get the credits of the client
+     *
+     * @param clientId The client id
+     * @return The {@link ClientCredits} instance
+     */
+    public static ClientCredits getCredits(String clientId) {
+        return CLIENT_CREDITS.computeIfAbsent(clientId, id -> new ClientCredits());
+    }
+
+    /**
+     * Remove the credits of the client that left the routing table
+     *
+     * @param clientId The client id
+     */
+    public static void removeCredits(String clientId) {
+        CLIENT_CREDITS.remove(clientId);
+    }
+
+    /**
+     * Acquire the credits of sending a batch
+     *
+     * @param requested    The number of messages in the batch
+     * @param expireMillis The valid time of the advertised credits, 0 means the credits are ignored
+     * @return The granted credits, the requested number if the credits are not advertised or expired
+     */
+    public synchronized int acquire(int requested, long expireMillis) {
+        if (expireMillis <= 0 || NOT_ADVERTISED == available ||
+                System.currentTimeMillis() - advertisedTime > expireMillis) {
+            return requested;
+        }
+        int granted = Math.min(requested, available);
+        available -= granted;
+        return granted;
+    }
+
+    /**
+     * Return the unused credits
+     *
+     * @param credits The number of credits
+     */
+    public synchronized void release(int credits) {
+        if (NOT_ADVERTISED != available) {
+            available += credits;
+        }
+    }
+
+    /**
+     * Replace the credits with the advertised credits
+     *
+     * @param credits The free credits advertised by the client
+     */
+    public synchronized void advertise(int credits) {
+        this.available = Math.max(0, credits);
+        this.advertisedTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Get the free credits
+     *
+     * @return The free credits, -1 if not advertised
+     */
+    public synchronized int getAvailable() {
+        return available;
+    }
+}
@@ -0,0 +1,219 @@
+package org.minbox.framework.message.pipe.server.manager;
+
+import io.grpc.CallOptions;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ClientResponseObserver;
+import lombok.extern.slf4j.Slf4j;
+import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
+import org.minbox.framework.message.pipe.core.grpc.proto.DeliveryAck;
+import org.minbox.framework.message.pipe.core.grpc.proto.DeliveryFrame;
+import org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest;
+import org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchStatus;
+import org.minbox.framework.message.pipe.core.information.ClientInformation;
+import org.minbox.framework.message.pipe.core.transport.MessageResponseBody;
+import org.minbox.framework.message.pipe.core.transport.ProtobufTransportConverter;
+import org.minbox.framework.message.pipe.core.transport.ProtocolVersion;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The long-lived bidirectional delivery stream of a client
+ * <p>
+ * Used by the clients of {@link ProtocolVersion#STREAMING}, all pipes share one stream per client.
+ * Each batch is written as a {@link DeliveryFrame} with a unique sequence,
+ * the client acks the frame with the same sequence asynchronously.
+ * Writers wait until the stream is ready, so the grpc flow control window applies backpressure.
+ * The frames are written raw by {@link RawFrames}, so the passthrough batches are not decoded
+ *
+ * @author 恒宇少年
+ */
+@Slf4j
+public class ClientDeliveryStream implements ClientResponseObserver<byte[], DeliveryAck> {
+    /**
+     * Store the delivery stream of each client
+     * <p>
+     * The key is {@link ClientInformation#getClientId()}
+     */
+    private static final ConcurrentMap<String, ClientDeliveryStream> CLIENT_STREAMS = new ConcurrentHashMap<>();
+    private final String clientId;
+    private final AtomicLong sequence = new AtomicLong();
+    /**
+     * The frames waiting for ack: Sequence -> Future
+     */
+    private final ConcurrentMap<Long, CompletableFuture<MessageResponseBody>> pendingAcks = new ConcurrentHashMap<>();
+    private final Object readyLock = new Object();
+    private volatile ClientCallStreamObserver<byte[]> requestStream;
+    private volatile boolean closed;
+
+    private ClientDeliveryStream(String clientId) {
+        this.clientId = clientId;
+    }
+
+    /**
+     * Establish the delivery stream of the client
+     * <p>
+     * The opened stream is reused until it is closed
+     *
+     * @param information The {@link ClientInformation} instance
+     * @param channel     The client {@link ManagedChannel}
+     * @return The {@link ClientDeliveryStream} instance
+     */
+    public static ClientDeliveryStream establishStream(ClientInformation information, ManagedChannel channel) {
+        return CLIENT_STREAMS.compute(information.getClientId(), (clientId, stream) -> {
+            if (stream == null || stream.closed) {
+                stream = new ClientDeliveryStream(clientId);
+                ClientCalls.asyncBidiStreamingCall(channel.newCall(RawFrames.DELIVERY_METHOD, CallOptions.DEFAULT), stream);
+                log.info("The delivery stream of client: {} is opened.", clientId);
+            }
+            return stream;
+        });
+    }
+
+    /**
+     * Close and remove the delivery stream of the client
+     *
+     * @param clientId The client id
+     */
+    public static void removeStream(String clientId) {
+        ClientDeliveryStream stream = CLIENT_STREAMS.remove(clientId);
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    /**
+     * Write a batch frame and wait for its ack
+     *
+     * @param batchRequest  The encoded {@link MessageBatchRequest} to write
+     * @param timeoutMillis The maximum time to wait for ready and ack
+     * @return The acked {@link MessageResponseBody}
+     * @throws StatusRuntimeException If the stream is closed or the ack timed out
+     */
+    public MessageResponseBody send(byte[] batchRequest, long timeoutMillis) throws StatusRuntimeException {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        this.awaitReady(deadlineNanos);
+        long frameSequence = sequence.incrementAndGet();
+        CompletableFuture<MessageResponseBody> ackFuture = new CompletableFuture<>();
+        pendingAcks.put(frameSequence, ackFuture);
+        try {
+            byte[] frame = RawFrames.deliveryFrame(frameSequence, batchRequest);
+            // StreamObserver is not thread-safe, the pipes of the client write in turn
+            synchronized (this) {
+                if (closed) {
+                    throw Status.UNAVAILABLE.withDescription("The delivery stream is closed.").asRuntimeException();
+                }
+                requestStream.onNext(frame);
+            }
+            return ackFuture.get(Math.max(deadlineNanos - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw Status.DEADLINE_EXCEEDED.withDescription("Wait for the ack of frame: " + frameSequence + " timed out.")
+                    .asRuntimeException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof StatusRuntimeException) {
+                throw (StatusRuntimeException) cause;
+            }
+            throw new MessagePipeException("The frame: " + frameSequence + " is not acked.", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagePipeException("Interrupted while waiting for the ack of frame: " + frameSequence, e);
+        } finally {
+            pendingAcks.remove(frameSequence);
+        }
+    }
+
+    /**
+     * Wait until the stream can accept a frame without buffering
+     *
+     * @param deadlineNanos The deadline of {@link System#nanoTime()}
+     */
+    private void awaitReady(long deadlineNanos) {
+        synchronized (readyLock) {
+            while (!closed && !requestStream.isReady()) {
+                long waitMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+                if (waitMillis <= 0) {
+                    throw Status.DEADLINE_EXCEEDED.withDescription("The delivery stream is not ready.").asRuntimeException();
+                }
+                try {
+                    readyLock.wait(waitMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new MessagePipeException("Interrupted while waiting for the delivery stream.", e);
+                }
+            }
+        }
+        if (closed) {
+            throw Status.UNAVAILABLE.withDescription("The delivery stream is closed.").asRuntimeException();
+        }
+    }
+
+    @Override
+    public void beforeStart(ClientCallStreamObserver<byte[]> requestStream) {
+        this.requestStream = requestStream;
+        requestStream.setOnReadyHandler(() -> {
+            synchronized (readyLock) {
+                readyLock.notifyAll();
+            }
+        });
+    }
+
+    @Override
+    public void onNext(DeliveryAck ack) {
+        CompletableFuture<MessageResponseBody> ackFuture = pendingAcks.get(ack.getSequence());
+        if (MessageBatchStatus.RESOURCE_EXHAUSTED == ack.getResponse().getStatus() && ack.getResponse().hasCredits()) {
+            ClientCredits.getCredits(clientId).advertise(ack.getResponse().getCredits());
+        }
+        if (ackFuture != null && MessageBatchStatus.RESOURCE_EXHAUSTED == ack.getResponse().getStatus()) {
+            // The client is saturated, the frame should be sent to another client
+            ackFuture.completeExceptionally(Status.RESOURCE_EXHAUSTED
+                    .withDescription("The processing executor of client: " + clientId + " is saturated.").asRuntimeException());
+        } else if (ackFuture != null) {
+            ackFuture.complete(ProtobufTransportConverter.fromBatchResponse(ack.getResponse()));
+        } else {
+            log.debug("Client: {}, the ack of frame: {} arrived after timeout.", clientId, ack.getSequence());
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        log.warn("The delivery stream of client: {} is broken, Status Code: {}", clientId, Status.fromThrowable(t).getCode());
+        this.terminate(Status.fromThrowable(t).asRuntimeException());
+    }
+
+    @Override
+    public void onCompleted() {
+        this.terminate(Status.UNAVAILABLE.withDescription("The delivery stream is completed by client.").asRuntimeException());
+    }
+
+    /**
+     * Complete the stream and fail all pending frames
+     */
+    private void close() {
+        synchronized (this) {
+            if (!closed) {
+                try {
+                    requestStream.onCompleted();
+                } catch (Exception e) {
+                    log.debug("Complete the delivery stream of client: {} failed.", clientId, e);
+                }
+            }
+        }
+        this.terminate(Status.UNAVAILABLE.withDescription("The delivery stream is closed.").asRuntimeException());
+    }
+
+    private void terminate(StatusRuntimeException cause) {
+        synchronized (this) {
+            closed = true;
+        }
+        CLIENT_STREAMS.remove(clientId, this);
+        pendingAcks.values().forEach(ackFuture -> ackFuture.completeExceptionally(cause));
+        synchronized (readyLock) {
+            readyLock.notifyAll();
+        }
+    }
+}
@@ -6,6 +6,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import org.minbox.framework.message.pipe.core.Message;
+import org.minbox.framework.message.pipe.server.codec.PassthroughMessage;
+
 import java.io.Serializable;
 
 /**
@@ -46,14 +48,14 @@ public class DeadLetterRecord implements Serializable {
     /**
      * Create a new dead letter record
      *
-     * @param message the failed message
+     * @param message the failed message, the {@link PassthroughMessage} is stored as a plain {@link Message}
      * @param failureReason reason for failure
      * @param retryAttempts number of retry attempts
      * @return new DeadLetterRecord instance
      */
     public static DeadLetterRecord of(Message message, String failureReason, int retryAttempts) {
         return new DeadLetterRecord()
-            .setMessage(message)
+            .setMessage(PassthroughMessage.toPlainMessage(message))
             .setFailureReason(failureReason)
             .setRetryAttempts(retryAttempts)
             .setFailureTime(System.currentTimeMillis());
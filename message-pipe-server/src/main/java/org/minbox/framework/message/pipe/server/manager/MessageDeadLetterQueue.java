@@ -60,14 +60,22 @@ public class MessageDeadLetterQueue {
      * @param record the message retry record with retry information
      */
     public void send(Message message, MessageRetryRecord record) {
+        this.send(message, record.getLastStatus() != null ? record.getLastStatus().toString() : "UNKNOWN",
+            record.getRetryCount());
+    }
+
+    /**
+     * Send a message to the dead letter queue with the failure reason
+     *
+     * @param message the failed message
+     * @param failureReason the failure reason, e.g. {@link ClaimCheckStore#BODY_LOST_REASON}
+     * @param retryAttempts number of retry attempts
+     */
+    public void send(Message message, String failureReason, int retryAttempts) {
         String dlqName = getDeadLetterQueueName();
         RQueue<DeadLetterRecord> dlq = redissonClient.getQueue(dlqName, configuration.getCodec());
 
-        DeadLetterRecord entry = DeadLetterRecord.of(
-            message,
-            record.getLastStatus() != null ? record.getLastStatus().toString() : "UNKNOWN",
-            record.getRetryCount()
-        );
+        DeadLetterRecord entry = DeadLetterRecord.of(message, failureReason, retryAttempts);
 
         boolean offered = dlq.offer(entry);
         if (offered) {
@@ -76,15 +84,15 @@ public class MessageDeadLetterQueue {
             long expireSeconds = configuration.getDlqMessageExpireSeconds();
             try {
                 dlq.expire(Duration.ofSeconds(expireSeconds));
-                log.warn("Message moved to dead_letter [{}]: messageId={}, retryAttempts={}, expireSeconds={}",
-                    dlqName, record.getMessageId(), record.getRetryCount(), expireSeconds);
+                log.warn("Message moved to dead_letter [{}]: messageId={}, reason={}, retryAttempts={}, expireSeconds={}",
+                    dlqName, message.getMessageId(), failureReason, retryAttempts, expireSeconds);
             } catch (Exception e) {
                 log.error("Failed to set TTL for dead_letter queue [{}]: messageId={}",
-                    dlqName, record.getMessageId(), e);
+                    dlqName, message.getMessageId(), e);
             }
         } else {
             log.error("Failed to add message to dead_letter [{}]: messageId={}",
-                dlqName, record.getMessageId());
+                dlqName, message.getMessageId());
         }
     }
 
@@ -1,26 +1,41 @@
 package org.minbox.framework.message.pipe.server.manager;
 
+import io.grpc.CallOptions;
 import io.grpc.ManagedChannel;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCalls;
 import lombok.extern.slf4j.Slf4j;
 import org.minbox.framework.message.pipe.core.Message;
+import org.minbox.framework.message.pipe.core.codec.WireCodec;
+import org.minbox.framework.message.pipe.core.codec.WireMessages;
+import org.minbox.framework.message.pipe.core.compress.Compressor;
+import org.minbox.framework.message.pipe.core.compress.Compressors;
 import org.minbox.framework.message.pipe.core.grpc.MessageServiceGrpc;
+import org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest;
+import org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse;
 import org.minbox.framework.message.pipe.core.grpc.proto.MessageRequest;
 import org.minbox.framework.message.pipe.core.grpc.proto.MessageResponse;
+import org.minbox.framework.message.pipe.core.grpc.proto.PipeMessage;
 import org.minbox.framework.message.pipe.core.information.ClientInformation;
 import org.minbox.framework.message.pipe.core.transport.MessageRequestBody;
 import org.minbox.framework.message.pipe.core.transport.MessageResponseBody;
 import org.minbox.framework.message.pipe.core.transport.MessageResponseStatus;
-import org.minbox.framework.message.pipe.core.untis.JsonUtils;
+import org.minbox.framework.message.pipe.core.transport.ProtobufTransportConverter;
+import org.minbox.framework.message.pipe.core.transport.ProtocolVersion;
 import org.minbox.framework.message.pipe.server.MessagePipe;
+import org.minbox.framework.message.pipe.server.codec.PassthroughMessage;
 import org.minbox.framework.message.pipe.server.config.MessagePipeConfiguration;
+import org.minbox.framework.message.pipe.server.metrics.ClientMeters;
 import org.minbox.framework.message.pipe.server.service.discovery.ServiceDiscovery;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 
@@ -37,7 +52,19 @@ public class MessagePipeDistributor {
     /**
      * The last time a "no healthy client" log was printed
      */
-    private final java.util.concurrent.atomic.AtomicLong lastNoHealthyClientLogTime = new java.util.concurrent.atomic.AtomicLong(0);
+    private final AtomicLong lastNoHealthyClientLogTime = new AtomicLong(0);
+    /**
+     * The maximum number of client lookups when the selected client is opened
+     */
+    private static final int MAX_LOOKUP_ATTEMPTS = 3;
+    private static final long MIN_REJECTED_WAIT_MILLIS = 50;
+    private static final long MAX_REJECTED_WAIT_MILLIS = 1000;
+    /**
+     * The back off time of the scheduler after the batch is not sent to a saturated or opened client
+     *
+     * @see #takeBackoffMillis()
+     */
+    private final AtomicLong backoffMillis = new AtomicLong(0);
 
     public MessagePipeDistributor(MessagePipe messagePipe, ServiceDiscovery serviceDiscovery) {
         Assert.notNull(messagePipe, "The MessagePipe cannot be null.");
@@ -65,74 +92,367 @@ public class MessagePipeDistributor {
         return serviceDiscovery.lookup(messagePipe.getName());
     }
 
+    /**
+     * Take the back off time of the scheduler
+     * <p>
+     * The distributor never waits while the pipe holds its take lock,
+     * the scheduler waits the returned time after {@link MessagePipe#handleToLast} released the lock
+     *
+     * @return The back off time in milliseconds, 0 if the last batch needs no back off
+     */
+    public long takeBackoffMillis() {
+        return backoffMillis.getAndSet(0);
+    }
+
     /**
      * Send a batch of messages to a client
+     * <p>
+     * The client is selected through its {@link ClientCircuitBreaker} and {@link ClientCredits},
+     * only a single message probe is sent to a half-opened client,
+     * the batch is cut to the free credits of the client and the client without credits is skipped.
+     * The batch is also cut before the claim-check message whose stored body is lost.
+     * A saturated or failed batch returns at once, the back off is left to the scheduler, see {@link #takeBackoffMillis()}
      *
-     * @param messages List of messages
-     * @return Number of successfully processed messages. Returns -1 if communication failed.
+     * @param batchMessages List of messages
+     * @return The {@link BatchSendResult} instance
      */
-    public int sendMessageBatch(List<Message> messages) {
-        ClientInformation client = this.resolveClient();
-        if (ObjectUtils.isEmpty(client)) {
-            return -1;
+    public BatchSendResult sendMessageBatch(List<Message> batchMessages) {
+        MessagePipeConfiguration.CircuitBreaker breakerSettings = configuration.getCircuitBreaker();
+        if (!breakerSettings.isEnabled() && !this.hasHealthyClient()) {
+            return BatchSendResult.communicationFailure(0);
+        }
+        int lostBodyIndex = messagePipe.getClaimCheckStore().indexOfLostBody(batchMessages);
+        if (lostBodyIndex == 0) {
+            return BatchSendResult.bodyLost(0);
+        }
+        List<Message> messages = lostBodyIndex > 0 ? batchMessages.subList(0, lostBodyIndex) : batchMessages;
+        ClientInformation client = null;
+        ClientCircuitBreaker breaker = null;
+        ClientCircuitBreaker.Permission permission = ClientCircuitBreaker.Permission.BATCH;
+        ClientCredits credits = null;
+        int grantedCredits = 0;
+        long waitMillis = MAX_REJECTED_WAIT_MILLIS;
+        boolean breakerRejected = false;
+        for (int i = 0; i < MAX_LOOKUP_ATTEMPTS && client == null; i++) {
+            ClientInformation candidate = this.resolveClient();
+            if (ObjectUtils.isEmpty(candidate)) {
+                return BatchSendResult.communicationFailure(0);
+            }
+            ClientCredits candidateCredits = ClientCredits.getCredits(candidate.getClientId());
+            int granted = candidateCredits.acquire(messages.size(), configuration.getClientCreditsExpireMillis());
+            if (granted == 0) {
+                // The client is saturated, wait for its next advertisement
+                waitMillis = Math.min(waitMillis, MIN_REJECTED_WAIT_MILLIS);
+                continue;
+            }
+            if (breakerSettings.isEnabled()) {
+                ClientCircuitBreaker candidateBreaker = ClientCircuitBreaker.getBreaker(candidate.getClientId(), breakerSettings);
+                ClientCircuitBreaker.Permission candidatePermission = candidateBreaker.acquire();
+                if (ClientCircuitBreaker.Permission.REJECTED == candidatePermission) {
+                    breakerRejected = true;
+                    candidateCredits.release(granted);
+                    long remainingOpenMillis = candidateBreaker.getRemainingOpenMillis();
+                    waitMillis = Math.min(waitMillis, remainingOpenMillis > 0 ? remainingOpenMillis : MIN_REJECTED_WAIT_MILLIS);
+                    continue;
+                }
+                breaker = candidateBreaker;
+                permission = candidatePermission;
+            }
+            client = candidate;
+            credits = candidateCredits;
+            grantedCredits = granted;
+        }
+        if (client == null) {
+            // All selected clients are opened or saturated, the scheduler waits before the pipe ranges the batch again
+            backoffMillis.set(waitMillis);
+            return breakerRejected ? BatchSendResult.communicationFailure(0) : BatchSendResult.saturated(0);
+        }
+        int sendCount = ClientCircuitBreaker.Permission.PROBE == permission ? 1 : grantedCredits;
+        if (sendCount < grantedCredits) {
+            credits.release(grantedCredits - sendCount);
+        }
+        List<Message> sendMessages = sendCount < messages.size() ? messages.subList(0, sendCount) : messages;
+        long startNanos = System.nanoTime();
+        BatchSendResult result = this.sendToClient(client, sendMessages);
+        long rttNanos = System.nanoTime() - startNanos;
+        messagePipe.getMeters().recordDispatch(sendMessages.size(), rttNanos);
+        ClientMeters.getMeters(client.getClientId()).recordLatency(rttNanos);
+        if (BatchSendResult.Failure.COMMUNICATION == result.getFailure()) {
+            // No response advertised the credits of the client, return the credits of the unconfirmed messages
+            credits.release(sendCount - result.getSuccessCount());
+            backoffMillis.set(MIN_REJECTED_WAIT_MILLIS);
+        } else if (BatchSendResult.Failure.SATURATED == result.getFailure()) {
+            backoffMillis.set(MIN_REJECTED_WAIT_MILLIS);
+        }
+        if (breaker != null) {
+            if (BatchSendResult.Failure.COMMUNICATION == result.getFailure()) {
+                breaker.onFailure(permission);
+            } else {
+                breaker.onSuccess(permission);
+            }
         }
-        boolean hasHealthyClient = this.hasHealthyClient();
-        if (!hasHealthyClient) {
-            return -1;
+        if (lostBodyIndex > 0 && BatchSendResult.Failure.NONE == result.getFailure()
+                && result.getSuccessCount() == lostBodyIndex) {
+            return BatchSendResult.bodyLost(lostBodyIndex);
         }
+        return result;
+    }
+
+    /**
+     * Send a batch of messages to the client
+     *
+     * @param client   The target client
+     * @param messages List of messages
+     * @return The {@link BatchSendResult} instance
+     */
+    private BatchSendResult sendToClient(ClientInformation client, List<Message> messages) {
         String clientId = client.getClientId();
         String pipeName = messagePipe.getName();
-        ManagedChannel channel = ClientChannelManager.establishChannel(client);
+        ManagedChannel channel = ClientChannelManager.establishChannel(client, configuration.getClientChannelSettings());
         try {
-            MessageServiceGrpc.MessageServiceBlockingStub messageClientStub = MessageServiceGrpc.newBlockingStub(channel)
-                    .withDeadlineAfter(configuration.getMessageRequestTimeoutMillis(), TimeUnit.MILLISECONDS);
             String requestId = this.configuration.getRequestIdGenerator().generate();
             MessageRequestBody requestBody =
                     new MessageRequestBody()
                             .setRequestId(requestId)
                             .setClientId(clientId)
-                            .setMessages(messages)
+                            .setMessages(this.resolveClaimChecks(messages, client, channel))
                             .setPipeName(pipeName);
-            String requestJsonBody = JsonUtils.objectToJson(requestBody);
-            MessageResponse response = messageClientStub
-                    .messageProcessing(MessageRequest.newBuilder().setBody(requestJsonBody).build());
-            MessageResponseBody responseBody = JsonUtils.jsonToObject(response.getBody(), MessageResponseBody.class);
+            MessageResponseBody responseBody;
+            if (client.getProtocolVersion() >= ProtocolVersion.PROTOBUF) {
+                byte[] batchRequest = this.encodeBatchRequest(requestBody, client);
+                if (client.getProtocolVersion() >= ProtocolVersion.STREAMING) {
+                    responseBody = ClientDeliveryStream.establishStream(client, channel)
+                            .send(batchRequest, configuration.getMessageRequestTimeoutMillis());
+                } else {
+                    responseBody = this.sendBatchRequest(channel, batchRequest);
+                }
+            } else {
+                responseBody = this.sendCodecRequest(this.newCodecStub(channel, requestBody.getMessages()),
+                        requestBody, client.getWireCodec());
+            }
 
             // Return the count reported by client
             // If client is old version, it might return 0 successCount but status SUCCESS.
             // We should handle compatibility if needed, but assuming client is updated.
             if (responseBody == null) {
-                return -1;
+                return BatchSendResult.communicationFailure(0);
+            }
+            if (responseBody.getCredits() >= 0) {
+                ClientCredits.getCredits(clientId).advertise(responseBody.getCredits());
+            }
+            if (responseBody.getProcessingMicros() >= 0) {
+                messagePipe.getMeters().recordProcessing(responseBody.getProcessingMicros());
             }
             if (MessageResponseStatus.SUCCESS.equals(responseBody.getStatus())) {
                 int count = responseBody.getSuccessCount();
                 int successCount = count > 0 ? count : messages.size();
                 // Record stats
                 MessagePipeMetricsAggregator.getInstance().recordClientActivity(clientId, successCount, messages.size() - successCount);
-                return successCount;
+                return successCount < messages.size() ?
+                        BatchSendResult.messageFailure(successCount) : BatchSendResult.success(successCount);
             } else {
                 int successCount = responseBody.getSuccessCount();
                 // Record stats
                 MessagePipeMetricsAggregator.getInstance().recordClientActivity(clientId, successCount, messages.size() - successCount);
-                return successCount;
+                return BatchSendResult.messageFailure(successCount);
             }
         } catch (StatusRuntimeException e) {
-            ClientChannelManager.removeChannel(clientId);
+            if (Status.Code.RESOURCE_EXHAUSTED == e.getStatus().getCode()) {
+                // The client is healthy but saturated, keep the channel and wait for its next credits advertisement,
+                // the rejecting ack of the delivery stream has advertised the credits already
+                if (client.getProtocolVersion() < ProtocolVersion.STREAMING) {
+                    ClientCredits.getCredits(clientId).advertise(0);
+                }
+                log.debug("To the client: {}, the batch is rejected as the client is saturated.", clientId);
+                return BatchSendResult.saturated(0);
+            }
             // Record failure stats
             MessagePipeMetricsAggregator.getInstance().recordClientActivity(clientId, 0, messages.size());
-            
-            // Only exclude client if it is unavailable or timed out
-            // For DEADLINE_EXCEEDED (30s timeout), we mark offline to allow recovery via heartbeat
-            if (Status.Code.UNAVAILABLE == e.getStatus().getCode() || 
-                Status.Code.DEADLINE_EXCEEDED == e.getStatus().getCode()) {
-                serviceDiscovery.exclude(clientId);
+            if (!configuration.getCircuitBreaker().isEnabled()) {
+                ClientChannelManager.removeChannel(clientId);
+                // Only exclude client if it is unavailable or timed out
+                // For DEADLINE_EXCEEDED (30s timeout), we mark offline to allow recovery via heartbeat
+                if (Status.Code.UNAVAILABLE == e.getStatus().getCode() ||
+                        Status.Code.DEADLINE_EXCEEDED == e.getStatus().getCode()) {
+                    serviceDiscovery.exclude(clientId);
+                }
             }
+            // The channel is kept warm when the circuit breaker is enabled, it reconnects by itself
             log.error("To the client: {}, batch send exception, Status Code: {}", clientId, e.getStatus().getCode());
         } catch (Exception e) {
             // Record failure stats
             MessagePipeMetricsAggregator.getInstance().recordClientActivity(clientId, 0, messages.size());
             log.error("To the client: " + clientId + ", batch send exception.", e);
         }
-        return -1; // Network/System error
+        return BatchSendResult.communicationFailure(0); // Network/System error
+    }
+
+    /**
+     * Resolve the claim-check messages of the batch
+     * <p>
+     * For the clients of {@link ProtocolVersion#CLAIM_CHECK}, the stored bodies are transferred in chunks
+     * before the batch, the batch still carries the claim-check messages.
+     * For the other clients, the stored bodies are inlined into the messages.
+     * The bodies are checked before the batch is sent, see {@link ClaimCheckStore#indexOfLostBody(List)},
+     * a body lost after the check fails the batch
+     *
+     * @param messages The batch messages
+     * @param client   The target client
+     * @param channel  The client {@link ManagedChannel}
+     * @return The messages to send
+     */
+    private List<Message> resolveClaimChecks(List<Message> messages, ClientInformation client, ManagedChannel channel) {
+        ClaimCheckStore claimCheckStore = messagePipe.getClaimCheckStore();
+        List<Message> resolvedMessages = null;
+        for (int i = 0; i < messages.size(); i++) {
+            Message message = messages.get(i);
+            long bodyLength = ClaimCheckStore.claimCheckBodyLength(message);
+            if (bodyLength < 0) {
+                continue;
+            }
+            if (client.getProtocolVersion() >= ProtocolVersion.CLAIM_CHECK) {
+                InputStream body = claimCheckStore.openBody(message.getMessageId());
+                ClaimCheckTransfer.transfer(channel, message.getMessageId(), body, bodyLength,
+                        configuration.getClaimCheckChunkBytes(), configuration.getMessageRequestTimeoutMillis());
+            } else {
+                if (resolvedMessages == null) {
+                    resolvedMessages = new ArrayList<>(messages);
+                }
+                resolvedMessages.set(i, claimCheckStore.checkOut(message));
+            }
+        }
+        return resolvedMessages != null ? resolvedMessages : messages;
+    }
+
+    /**
+     * Create a blocking stub with the message request deadline
+     *
+     * @param channel The client {@link ManagedChannel}
+     * @return The {@link MessageServiceGrpc.MessageServiceBlockingStub} instance
+     */
+    private MessageServiceGrpc.MessageServiceBlockingStub newBlockingStub(ManagedChannel channel) {
+        return MessageServiceGrpc.newBlockingStub(channel)
+                .withDeadlineAfter(configuration.getMessageRequestTimeoutMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Create a blocking stub of the {@link ProtocolVersion#JSON} request
+     * <p>
+     * The string body cannot be compressed per message,
+     * use the grpc gzip call compression when the pipe compression applies, all grpc peers can decompress gzip
+     *
+     * @param channel  The client {@link ManagedChannel}
+     * @param messages The messages to send
+     * @return The {@link MessageServiceGrpc.MessageServiceBlockingStub} instance
+     */
+    private MessageServiceGrpc.MessageServiceBlockingStub newCodecStub(ManagedChannel channel, List<Message> messages) {
+        MessageServiceGrpc.MessageServiceBlockingStub stub = this.newBlockingStub(channel);
+        MessagePipeConfiguration.Compression compression = messagePipe.getCompression();
+        if (compression.getCompressor() != null) {
+            long bodyBytes = messages.stream().mapToLong(message -> message.getBody() != null ? message.getBody().length : 0).sum();
+            if (bodyBytes >= compression.getThresholdBytes()) {
+                stub = stub.withCompression(Compressors.GZIP);
+            }
+        }
+        return stub;
+    }
+
+    /**
+     * Encode the request body to {@link MessageBatchRequest} bytes
+     * <p>
+     * The stored {@link PassthroughMessage} are spliced into the frame without decoding,
+     * unless the client cannot decompress the stored body
+     *
+     * @param requestBody The {@link MessageRequestBody} instance
+     * @param client      The target client
+     * @return The encoded {@link MessageBatchRequest}
+     */
+    private byte[] encodeBatchRequest(MessageRequestBody requestBody, ClientInformation client) {
+        if (this.canPassthrough(requestBody.getMessages(), client)) {
+            return RawFrames.batchRequest(requestBody.getRequestId(), requestBody.getClientId(),
+                    requestBody.getPipeName(), requestBody.getMessages());
+        }
+        return this.toBatchRequest(requestBody, client).toByteArray();
+    }
+
+    private boolean canPassthrough(List<Message> messages, ClientInformation client) {
+        for (Message message : messages) {
+            if (!(message instanceof PassthroughMessage)) {
+                return false;
+            }
+            String compression = ((PassthroughMessage) message).bodyCompression();
+            if (compression != null && !client.isSupportedCompression(compression)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Convert the request body to {@link MessageBatchRequest}
+     * <p>
+     * The large message bodies are compressed when the client supports the compressor of pipe
+     *
+     * @param requestBody The {@link MessageRequestBody} instance
+     * @param client      The target client
+     * @return The {@link MessageBatchRequest} instance
+     */
+    private MessageBatchRequest toBatchRequest(MessageRequestBody requestBody, ClientInformation client) {
+        MessagePipeConfiguration.Compression compression = messagePipe.getCompression();
+        Compressor compressor = compression.getCompressor();
+        if (compressor == null || !client.isSupportedCompression(compressor.getName())) {
+            return ProtobufTransportConverter.toBatchRequest(requestBody);
+        }
+        MessageBatchRequest request =
+                ProtobufTransportConverter.toBatchRequest(requestBody, compressor, compression.getThresholdBytes());
+        long originalBytes = 0;
+        long compressedBytes = 0;
+        List<Message> messages = requestBody.getMessages();
+        for (int i = 0; i < request.getMessagesCount(); i++) {
+            PipeMessage pipeMessage = request.getMessages(i);
+            if (!pipeMessage.getCompression().isEmpty()) {
+                originalBytes += messages.get(i).getBody().length;
+                compressedBytes += pipeMessage.getBody().size();
+            }
+        }
+        if (originalBytes > 0) {
+            MessagePipeMetricsAggregator.getInstance().recordCompression(MessagePipeMetricsAggregator.COMPRESSION_WIRE,
+                    originalBytes, compressedBytes);
+        }
+        return request;
+    }
+
+    /**
+     * Send the {@link ProtocolVersion#JSON} request
+     * <p>
+     * The request body is encoded by the {@link WireCodec} negotiated with the client
+     *
+     * @param stub        The {@link MessageServiceGrpc.MessageServiceBlockingStub}
+     * @param requestBody The {@link MessageRequestBody} instance
+     * @param wireCodec   The negotiated {@link WireCodec} name
+     * @return The {@link MessageResponseBody} instance
+     */
+    private MessageResponseBody sendCodecRequest(MessageServiceGrpc.MessageServiceBlockingStub stub,
+                                                 MessageRequestBody requestBody, String wireCodec) {
+        MessageRequest request = WireMessages.toMessageRequest(requestBody, wireCodec);
+        MessageResponse response = stub.messageProcessing(request);
+        return WireMessages.fromMessageResponse(response, MessageResponseBody.class);
+    }
+
+    /**
+     * Send the {@link ProtocolVersion#PROTOBUF} request
+     * <p>
+     * The encoded batch is written to the call directly
+     *
+     * @param channel      The client {@link ManagedChannel}
+     * @param batchRequest The encoded {@link MessageBatchRequest}
+     * @return The {@link MessageResponseBody} instance
+     */
+    private MessageResponseBody sendBatchRequest(ManagedChannel channel, byte[] batchRequest) {
+        CallOptions callOptions = CallOptions.DEFAULT
+                .withDeadlineAfter(configuration.getMessageRequestTimeoutMillis(), TimeUnit.MILLISECONDS);
+        MessageBatchResponse response =
+                ClientCalls.blockingUnaryCall(channel, RawFrames.BATCH_PROCESSING_METHOD, callOptions, batchRequest);
+        return ProtobufTransportConverter.fromBatchResponse(response);
     }
 }
@@ -2,6 +2,7 @@ package org.minbox.framework.message.pipe.server.manager;
 
 import lombok.extern.slf4j.Slf4j;
 import org.minbox.framework.message.pipe.server.MessagePipe;
+import org.minbox.framework.message.pipe.server.metrics.ClientMeters;
 
 import java.util.*;
 import java.util.concurrent.*;
@@ -30,6 +31,15 @@ public class MessagePipeMetricsAggregator {
     private static final MessagePipeMetricsAggregator INSTANCE
         = new MessagePipeMetricsAggregator();
 
+    /**
+     * The compression path of messages stored in redis
+     */
+    public static final String COMPRESSION_REDIS = "redis";
+    /**
+     * The compression path of message bodies sent to clients
+     */
+    public static final String COMPRESSION_WIRE = "wire";
+
     // Configuration (public for access from Monitor)
     public volatile AggregationConfig config = new AggregationConfig();
 
@@ -41,10 +51,12 @@ public class MessagePipeMetricsAggregator {
     private final ConcurrentHashMap<String, MetricSnapshot> lastSnapshots 
         = new ConcurrentHashMap<>();
 
-    // Client performance stats
-    private final ConcurrentHashMap<String, ClientPerfStats> clientStats = new ConcurrentHashMap<>();
+    // Client snapshots for rate calculation
     private final ConcurrentHashMap<String, ClientMetricSnapshot> lastClientSnapshots = new ConcurrentHashMap<>();
 
+    // Compression stats of each path
+    private final ConcurrentHashMap<String, CompressionStats> compressionStats = new ConcurrentHashMap<>();
+
     // Global dropped message counter
     private final AtomicLong droppedMessageCount = new AtomicLong(0);
 
@@ -71,8 +83,30 @@ public class MessagePipeMetricsAggregator {
      * Record client activity
      */
     public void recordClientActivity(String clientId, int successCount, int failCount) {
-        clientStats.computeIfAbsent(clientId, k -> new ClientPerfStats())
-                .add(successCount, failCount);
+        ClientMeters.getMeters(clientId).recordMessages(successCount, failCount);
+    }
+
+    /**
+     * Record the payload compression
+     *
+     * @param path            The compression path, {@link #COMPRESSION_REDIS} or {@link #COMPRESSION_WIRE}
+     * @param originalBytes   The payload bytes before compression
+     * @param compressedBytes The payload bytes after compression
+     */
+    public void recordCompression(String path, long originalBytes, long compressedBytes) {
+        compressionStats.computeIfAbsent(path, k -> new CompressionStats())
+                .add(originalBytes, compressedBytes);
+    }
+
+    /**
+     * Get the compression ratio of the path
+     *
+     * @param path The compression path
+     * @return The ratio of original bytes to compressed bytes, 1.0 if nothing was recorded
+     */
+    public double getCompressionRatio(String path) {
+        CompressionStats stats = compressionStats.get(path);
+        return stats != null ? stats.ratio() : 1.0;
     }
 
     /**
@@ -315,7 +349,20 @@ public class MessagePipeMetricsAggregator {
             log.info("+ No MessagePipes are currently active.");
         }
 
-        // 7. Global Client List
+        // 7. Compression
+        if (!compressionStats.isEmpty()) {
+            log.info(dashes);
+            log.info("+ Compression:");
+            compressionStats.forEach((path, stats) ->
+                    log.info("+   {}: Original={} bytes, Compressed={} bytes, Ratio={}",
+                            path,
+                            stats.originalBytes.get(),
+                            stats.compressedBytes.get(),
+                            String.format("%.2f", stats.ratio())
+                    ));
+        }
+
+        // 8. Global Client List
         if (serviceDiscovery != null) {
             if (metrics.totalPipelines > 0) {
                 log.info(dashes);
@@ -327,9 +374,9 @@ public class MessagePipeMetricsAggregator {
 
             for (org.minbox.framework.message.pipe.core.information.ClientInformation client : allClients) {
                 String clientId = client.getClientId();
-                ClientPerfStats stats = clientStats.computeIfAbsent(clientId, k -> new ClientPerfStats());
-                long currentSuccess = stats.totalSuccess.get();
-                long currentFail = stats.totalFail.get();
+                ClientMeters meters = ClientMeters.getMeters(clientId);
+                long currentSuccess = meters.getSuccessCount();
+                long currentFail = meters.getFailureCount();
 
                 double successRate = 0.0;
                 
@@ -350,10 +397,19 @@ public class MessagePipeMetricsAggregator {
                         new Date(client.getOnlineTime()),
                         new Date(client.getLastReportTime())
                 );
-                log.info("+      Perf: Success={} (Rate={}/s) | Fail={} | Pipes: {}",
+                log.info("+      Perf: Success={} (Rate={}/s) | Fail={} | RTT P99={}us | Pipes: {}",
                         currentSuccess, String.format("%.1f", successRate), currentFail,
+                        meters.getLatency().getValueAtPercentile(99),
                         Arrays.toString(client.getBindingPipeNames())
                 );
+                org.minbox.framework.message.pipe.core.information.ClientLoad load = client.getLoad();
+                if (load != null) {
+                    log.info("+      Load: InFlight={} | Queued={} | P50={}ms | P99={}ms | CPU={}",
+                            load.getInFlightBatches(), load.getQueuedBatches(),
+                            load.getLatencyP50Millis(), load.getLatencyP99Millis(),
+                            load.getCpuLoad() < 0 ? "N/A" : String.format("%.1f%%", load.getCpuLoad() * 100)
+                    );
+                }
             }
         }
 
@@ -375,6 +431,24 @@ public class MessagePipeMetricsAggregator {
         }
     }
 
+    /**
+     * Get the total number of dropped messages
+     *
+     * @return The dropped message count
+     */
+    public long getDroppedMessageCount() {
+        return droppedMessageCount.get();
+    }
+
+    /**
+     * Get all registered pipes
+     *
+     * @return The read-only view of the registered pipes
+     */
+    public Collection<MessagePipe> getPipes() {
+        return Collections.unmodifiableCollection(pipes.values());
+    }
+
     /**
      * Update configuration
      */
@@ -404,15 +478,20 @@ public class MessagePipeMetricsAggregator {
     // ==================== Inner Classes ====================
     
     /**
-     * Client Performance Statistics
+     * Payload Compression Statistics
      */
-    private static class ClientPerfStats {
-        AtomicLong totalSuccess = new AtomicLong(0);
-        AtomicLong totalFail = new AtomicLong(0);
+    private static class CompressionStats {
+        AtomicLong originalBytes = new AtomicLong(0);
+        AtomicLong compressedBytes = new AtomicLong(0);
+
+        void add(long original, long compressed) {
+            originalBytes.addAndGet(original);
+            compressedBytes.addAndGet(compressed);
+        }
 
-        void add(int success, int fail) {
-            if (success > 0) totalSuccess.addAndGet(success);
-            if (fail > 0) totalFail.addAndGet(fail);
+        double ratio() {
+            long compressed = compressedBytes.get();
+            return compressed > 0 ? (double) originalBytes.get() / compressed : 1.0;
         }
     }
 
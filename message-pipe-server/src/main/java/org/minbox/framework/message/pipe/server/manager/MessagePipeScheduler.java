@@ -80,6 +80,13 @@ public class MessagePipeScheduler {
                     // If lock acquisition failed (processed == false), wait briefly to avoid spinning
                     if (!processed) {
                         Thread.sleep(200);
+                    } else {
+                        // The saturated or opened clients are waited for after the take lock is released,
+                        // so that the other servers sharing the pipe are not stalled
+                        long backoffMillis = distributor.takeBackoffMillis();
+                        if (backoffMillis > 0) {
+                            Thread.sleep(backoffMillis);
+                        }
                     }
                     
                     log.debug("MessagePipe：{}，scheduler execution complete.", messagePipe.getName());
@@ -7,6 +7,7 @@ import lombok.Setter;
 import lombok.experimental.Accessors;
 import org.minbox.framework.message.pipe.core.Message;
 import org.minbox.framework.message.pipe.core.transport.MessageResponseStatus;
+import org.minbox.framework.message.pipe.server.codec.PassthroughMessage;
 
 import java.io.Serializable;
 
@@ -89,13 +90,13 @@ public class MessageRetryRecord implements Serializable {
      * Create a new retry record for a message
      *
      * @param messageId the message ID (unique identifier)
-     * @param message the message content
+     * @param message the message content, the {@link PassthroughMessage} is stored as a plain {@link Message}
      * @return new MessageRetryRecord instance with initialized fields
      */
     public static MessageRetryRecord of(String messageId, Message message) {
         return new MessageRetryRecord()
             .setMessageId(messageId)
-            .setMessage(message)
+            .setMessage(PassthroughMessage.toPlainMessage(message))
             .setRetryCount(0)
             .setFirstFailureTime(System.currentTimeMillis());
     }
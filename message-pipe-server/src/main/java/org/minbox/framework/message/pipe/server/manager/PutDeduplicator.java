@@ -0,0 +1,151 @@
+package org.minbox.framework.message.pipe.server.manager;
+
+import lombok.extern.slf4j.Slf4j;
+import org.minbox.framework.message.pipe.core.Message;
+import org.minbox.framework.message.pipe.server.MessagePipe;
+import org.minbox.framework.message.pipe.server.config.MessagePipeConfiguration;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.util.ObjectUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The deduplication of the put messages
+ * <p>
+ * The idempotency key of each message is set with the window as ttl, only the messages whose keys
+ * were not set yet are accepted and written to the queue, so the retried puts of a producer are written once.
+ * The keys are acquired before anything of the message is stored, a rejected duplicate never writes
+ * its claim-check body, the keys of accepted messages that failed to be written are released.
+ * The idempotency key is the {@link MessagePipeConfiguration.Deduplication#getIdempotencyKeyMetadata()} metadata
+ * of the message, or the message id if not present
+ *
+ * @author 恒宇少年
+ * @see MessagePipeConfiguration.Deduplication
+ */
+@Slf4j
+public class PutDeduplicator {
+    /**
+     * The idempotency key format: {queueName}.idempotency.{key}
+     * <p>
+     * The queue name is used as the hash tag, the keys are in the same cluster slot as the queue
+     */
+    private static final String IDEMPOTENCY_KEY_FORMAT = "{%s}.idempotency.%s";
+    /**
+     * Set the idempotency keys that are not set yet
+     * <p>
+     * KEYS[1..n]: The idempotency keys
+     * ARGV[1]: The window seconds
+     * Return the flag of each key, 1 if it is set by this call, 0 if it was already set
+     */
+    private static final String ACQUIRE_SCRIPT =
+            "local acquired = {} " +
+                    "for i = 1, #KEYS do " +
+                    "  if redis.call('set', KEYS[i], 1, 'NX', 'EX', ARGV[1]) then " +
+                    "    acquired[i] = 1 " +
+                    "  else " +
+                    "    acquired[i] = 0 " +
+                    "  end " +
+                    "end " +
+                    "return acquired";
+    private final RedissonClient redissonClient;
+    private final String queueName;
+    private final MessagePipeConfiguration.Deduplication settings;
+    /**
+     * The number of rejected duplicates
+     */
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public PutDeduplicator(RedissonClient redissonClient, String queueName,
+                           MessagePipeConfiguration.Deduplication settings) {
+        this.redissonClient = redissonClient;
+        this.queueName = queueName;
+        this.settings = settings;
+    }
+
+    /**
+     * Check if the deduplication is enabled
+     *
+     * @return Return "true" if enabled
+     */
+    public boolean isEnabled() {
+        return settings.isEnabled() && settings.getWindowSeconds() > 0;
+    }
+
+    /**
+     * Acquire the idempotency keys of messages
+     *
+     * @param messages The {@link Message} list to be put
+     * @return The accepted messages, the duplicates put in the window are rejected
+     * @see MessagePipe#putLastBatch(List)
+     */
+    public List<Message> acquire(List<Message> messages) {
+        if (ObjectUtils.isEmpty(messages)) {
+            return Collections.emptyList();
+        }
+        List<Object> keys = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            keys.add(this.idempotencyName(message));
+        }
+        RScript script = redissonClient.getScript(StringCodec.INSTANCE);
+        List<Object> acquired = script.eval(queueName, RScript.Mode.READ_WRITE, ACQUIRE_SCRIPT,
+                RScript.ReturnType.MULTI, keys, String.valueOf(settings.getWindowSeconds()));
+        List<Message> accepted = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            if (((Number) acquired.get(i)).longValue() == 1) {
+                accepted.add(messages.get(i));
+            }
+        }
+        int duplicates = messages.size() - accepted.size();
+        if (duplicates > 0) {
+            rejectedCount.addAndGet(duplicates);
+            log.debug("Queue: {}, {} duplicate messages are rejected.", queueName, duplicates);
+        }
+        return accepted;
+    }
+
+    /**
+     * Release the idempotency keys of the accepted messages that failed to be written
+     * <p>
+     * The producer can put them again in the window
+     *
+     * @param messages The accepted {@link Message} list
+     */
+    public void release(List<Message> messages) {
+        if (ObjectUtils.isEmpty(messages)) {
+            return;
+        }
+        String[] names = new String[messages.size()];
+        for (int i = 0; i < messages.size(); i++) {
+            names[i] = this.idempotencyName(messages.get(i));
+        }
+        try {
+            redissonClient.getKeys().delete(names);
+        } catch (Exception e) {
+            log.error("Queue: {}, failed to release the idempotency keys of {} messages.", queueName, names.length, e);
+        }
+    }
+
+    /**
+     * Get the number of rejected duplicates
+     *
+     * @return The rejected count
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private String idempotencyName(Message message) {
+        return String.format(IDEMPOTENCY_KEY_FORMAT, queueName, this.getIdempotencyKey(message));
+    }
+
+    private String getIdempotencyKey(Message message) {
+        String metadataKey = settings.getIdempotencyKeyMetadata();
+        Object idempotencyKey = metadataKey != null ? message.getMetadata().get(metadataKey) : null;
+        return idempotencyKey != null ? idempotencyKey.toString() : message.getMessageId();
+    }
+}
@@ -0,0 +1,130 @@
+package org.minbox.framework.message.pipe.server.manager;
+
+import com.google.protobuf.CodedOutputStream;
+import io.grpc.MethodDescriptor;
+import io.grpc.protobuf.ProtoUtils;
+import org.minbox.framework.message.pipe.core.Message;
+import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
+import org.minbox.framework.message.pipe.core.grpc.MessageServiceGrpc;
+import org.minbox.framework.message.pipe.core.grpc.proto.DeliveryAck;
+import org.minbox.framework.message.pipe.core.grpc.proto.DeliveryFrame;
+import org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchRequest;
+import org.minbox.framework.message.pipe.core.grpc.proto.MessageBatchResponse;
+import org.minbox.framework.message.pipe.server.codec.PassthroughMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * The raw frames of the message service
+ * <p>
+ * The requests of {@link #BATCH_PROCESSING_METHOD} and {@link #DELIVERY_METHOD} are written as encoded bytes,
+ * so that the stored {@link PassthroughMessage} can be spliced into the frame without decoding.
+ * The frames are wire compatible with {@link MessageBatchRequest} and {@link DeliveryFrame}
+ *
+ * @author 恒宇少年
+ */
+public final class RawFrames {
+    private static final MethodDescriptor.Marshaller<byte[]> BYTES_MARSHALLER = new MethodDescriptor.Marshaller<byte[]>() {
+        @Override
+        public InputStream stream(byte[] value) {
+            return new ByteArrayInputStream(value);
+        }
+
+        @Override
+        public byte[] parse(InputStream stream) {
+            try {
+                return stream.readAllBytes();
+            } catch (IOException e) {
+                throw new MessagePipeException("Read the raw frame failed.", e);
+            }
+        }
+    };
+    /**
+     * The "batchProcessing" method with raw request
+     */
+    public static final MethodDescriptor<byte[], MessageBatchResponse> BATCH_PROCESSING_METHOD =
+            MessageServiceGrpc.getBatchProcessingMethod()
+                    .toBuilder(BYTES_MARSHALLER, ProtoUtils.marshaller(MessageBatchResponse.getDefaultInstance()))
+                    .build();
+    /**
+     * The "delivery" method with raw request frames
+     */
+    public static final MethodDescriptor<byte[], DeliveryAck> DELIVERY_METHOD =
+            MessageServiceGrpc.getDeliveryMethod()
+                    .toBuilder(BYTES_MARSHALLER, ProtoUtils.marshaller(DeliveryAck.getDefaultInstance()))
+                    .build();
+
+    private RawFrames() {
+    }
+
+    /**
+     * Write the {@link MessageBatchRequest} frame of the passthrough messages
+     *
+     * @param requestId The request id
+     * @param clientId  The client id
+     * @param pipeName  The pipe name
+     * @param messages  The {@link PassthroughMessage} list
+     * @return The encoded {@link MessageBatchRequest}
+     */
+    public static byte[] batchRequest(String requestId, String clientId, String pipeName, List<Message> messages) {
+        int size = computeStringSize(MessageBatchRequest.REQUESTID_FIELD_NUMBER, requestId)
+                + computeStringSize(MessageBatchRequest.CLIENTID_FIELD_NUMBER, clientId)
+                + computeStringSize(MessageBatchRequest.PIPENAME_FIELD_NUMBER, pipeName);
+        for (Message message : messages) {
+            size += CodedOutputStream.computeTagSize(MessageBatchRequest.MESSAGES_FIELD_NUMBER)
+                    + CodedOutputStream.computeUInt32SizeNoTag(((PassthroughMessage) message).length())
+                    + ((PassthroughMessage) message).length();
+        }
+        byte[] frame = new byte[size];
+        CodedOutputStream output = CodedOutputStream.newInstance(frame);
+        try {
+            writeString(output, MessageBatchRequest.REQUESTID_FIELD_NUMBER, requestId);
+            writeString(output, MessageBatchRequest.CLIENTID_FIELD_NUMBER, clientId);
+            writeString(output, MessageBatchRequest.PIPENAME_FIELD_NUMBER, pipeName);
+            for (Message message : messages) {
+                PassthroughMessage passthrough = (PassthroughMessage) message;
+                // A length-delimited bytes field is encoded the same as an embedded message
+                output.writeByteArray(MessageBatchRequest.MESSAGES_FIELD_NUMBER,
+                        passthrough.bytes(), passthrough.offset(), passthrough.length());
+            }
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new MessagePipeException("Write the batch frame failed.", e);
+        }
+        return frame;
+    }
+
+    /**
+     * Write the {@link DeliveryFrame} of the encoded batch
+     *
+     * @param sequence     The frame sequence
+     * @param batchRequest The encoded {@link MessageBatchRequest}
+     * @return The encoded {@link DeliveryFrame}
+     */
+    public static byte[] deliveryFrame(long sequence, byte[] batchRequest) {
+        byte[] frame = new byte[CodedOutputStream.computeInt64Size(DeliveryFrame.SEQUENCE_FIELD_NUMBER, sequence)
+                + CodedOutputStream.computeByteArraySize(DeliveryFrame.BATCH_FIELD_NUMBER, batchRequest)];
+        CodedOutputStream output = CodedOutputStream.newInstance(frame);
+        try {
+            output.writeInt64(DeliveryFrame.SEQUENCE_FIELD_NUMBER, sequence);
+            output.writeByteArray(DeliveryFrame.BATCH_FIELD_NUMBER, batchRequest);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new MessagePipeException("Write the delivery frame failed.", e);
+        }
+        return frame;
+    }
+
+    private static int computeStringSize(int field, String value) {
+        return value == null || value.isEmpty() ? 0 : CodedOutputStream.computeStringSize(field, value);
+    }
+
+    private static void writeString(CodedOutputStream output, int field, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            output.writeString(field, value);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.minbox.framework.message.pipe.server.metrics;
+
+import org.minbox.framework.message.pipe.core.information.ClientInformation;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The meters of a client
+ * <p>
+ * Recorded for each batch sent to the client, the latency is the round trip time in microseconds
+ *
+ * @author 恒宇少年
+ * @see PrometheusMetricsExporter
+ */
+public class ClientMeters {
+    /**
+     * Store the meters of each client
+     * <p>
+     * The key is {@link ClientInformation#getClientId()}
+     */
+    private static final ConcurrentMap<String, ClientMeters> CLIENT_METERS = new ConcurrentHashMap<>();
+    private final AtomicLong successCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final LogLinearHistogram latency = new LogLinearHistogram();
+
+    private ClientMeters() {
+    }
+
+    /**
+     * Get the meters of the client
+     *
+     * @param clientId The client id
+     * @return The {@link ClientMeters} instance
+     */
+    public static ClientMeters getMeters(String clientId) {
+        ClientMeters meters = CLIENT_METERS.get(clientId);
+        return meters != null ? meters : CLIENT_METERS.computeIfAbsent(clientId, id -> new ClientMeters());
+    }
+
+    /**
+     * Get the meters of all clients
+     *
+     * @return The read-only view: ClientId -> ClientMeters
+     */
+    public static Map<String, ClientMeters> getAllMeters() {
+        return Collections.unmodifiableMap(CLIENT_METERS);
+    }
+
+    /**
+     * Remove the meters of the client that left the routing table
+     *
+     * @param clientId The client id
+     */
+    public static void removeMeters(String clientId) {
+        CLIENT_METERS.remove(clientId);
+    }
+
+    /**
+     * Record the processed and failed messages
+     *
+     * @param success The number of processed messages
+     * @param failure The number of failed messages
+     */
+    public void recordMessages(int success, int failure) {
+        if (success > 0) {
+            successCount.addAndGet(success);
+        }
+        if (failure > 0) {
+            failureCount.addAndGet(failure);
+        }
+    }
+
+    /**
+     * Record the round trip time of a batch
+     *
+     * @param rttNanos The round trip time in nanoseconds
+     */
+    public void recordLatency(long rttNanos) {
+        latency.record(TimeUnit.NANOSECONDS.toMicros(rttNanos));
+    }
+
+    public long getSuccessCount() {
+        return successCount.get();
+    }
+
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    public LogLinearHistogram getLatency() {
+        return latency;
+    }
+}
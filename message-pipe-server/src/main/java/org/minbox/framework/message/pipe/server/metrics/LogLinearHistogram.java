@@ -0,0 +1,134 @@
+package org.minbox.framework.message.pipe.server.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The lock-free histogram with log-linear buckets
+ * <p>
+ * Like HdrHistogram, each power of two range is split into {@link #SUB_BUCKET_COUNT} linear sub-buckets,
+ * so the relative error of a recorded value is below 1 / {@link #SUB_BUCKET_COUNT}.
+ * The buckets are allocated once, the values above {@link #MAX_VALUE} are recorded as the maximum value.
+ * Recording only increments atomic counters and never allocates
+ *
+ * @author 恒宇少年
+ */
+public class LogLinearHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    /**
+     * The maximum trackable value, e.g. about 19 hours in microseconds
+     */
+    public static final long MAX_VALUE = (1L << 36) - 1;
+    private static final int BUCKET_COUNT = indexOf(MAX_VALUE) + 1;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record a value
+     *
+     * @param value The value, the negative value is recorded as 0
+     */
+    public void record(long value) {
+        long recorded = Math.min(Math.max(value, 0), MAX_VALUE);
+        counts.incrementAndGet(indexOf(recorded));
+        count.incrementAndGet();
+        sum.addAndGet(recorded);
+        max.accumulateAndGet(recorded, Math::max);
+    }
+
+    /**
+     * Get the number of recorded values
+     *
+     * @return The count
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Get the sum of recorded values
+     *
+     * @return The sum
+     */
+    public long getSum() {
+        return sum.get();
+    }
+
+    /**
+     * Get the maximum recorded value
+     *
+     * @return The maximum value, 0 if nothing was recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Get the value at the percentile
+     *
+     * @param percentile The percentile, range: [0, 100]
+     * @return The highest equivalent value of the bucket at the percentile, 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * total));
+        long accumulated = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            accumulated += counts.get(index);
+            if (accumulated >= target) {
+                return Math.min(highestValueOf(index), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Get the cumulative counts at the power of two boundaries
+     * <p>
+     * The element at index i is the number of values less than or equal to 2^i - 1,
+     * the array ends at the first boundary covering all recorded values
+     *
+     * @return The cumulative counts
+     */
+    public long[] getPowerOfTwoCounts() {
+        int boundaries = 64 - Long.numberOfLeadingZeros(max.get()) + 1;
+        long[] cumulativeCounts = new long[boundaries];
+        long accumulated = 0;
+        int boundary = 0;
+        for (int index = 0; index < BUCKET_COUNT && boundary < boundaries; index++) {
+            // The sub-buckets never span a power of two, a bucket is fully below the boundary or not
+            while (boundary < boundaries && highestValueOf(index) > (1L << boundary) - 1) {
+                cumulativeCounts[boundary++] = accumulated;
+            }
+            accumulated += counts.get(index);
+        }
+        while (boundary < boundaries) {
+            cumulativeCounts[boundary++] = accumulated;
+        }
+        return cumulativeCounts;
+    }
+
+    private static int indexOf(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return 2 * SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_COUNT + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    private static long highestValueOf(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int offset = index - 2 * SUB_BUCKET_COUNT;
+        int shift = offset / SUB_BUCKET_COUNT + 1;
+        long subBucket = offset % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
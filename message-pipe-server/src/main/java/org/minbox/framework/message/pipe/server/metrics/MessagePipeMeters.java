@@ -0,0 +1,130 @@
+package org.minbox.framework.message.pipe.server.metrics;
+
+import org.minbox.framework.message.pipe.server.MessagePipe;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The meters of a {@link MessagePipe}
+ * <p>
+ * The input and output counters and the queue depth are read from the {@link MessagePipe} when exported,
+ * the latencies are recorded in microseconds
+ *
+ * @author 恒宇少年
+ * @see PrometheusMetricsExporter
+ */
+public class MessagePipeMeters {
+    /**
+     * The round trip time of sending a batch to the client
+     */
+    private final LogLinearHistogram dispatchLatency = new LogLinearHistogram();
+    /**
+     * The number of messages of the sent batches
+     */
+    private final LogLinearHistogram batchSize = new LogLinearHistogram();
+    /**
+     * The time waiting for the put or take lock
+     */
+    private final LogLinearHistogram lockAcquireLatency = new LogLinearHistogram();
+    /**
+     * The time from writing a message to the pipe to dispatching it
+     */
+    private final LogLinearHistogram queueWaitLatency = new LogLinearHistogram();
+    /**
+     * The time the client took to process a batch, reported by the client
+     */
+    private final LogLinearHistogram processingLatency = new LogLinearHistogram();
+    /**
+     * The time from writing a message to the pipe to the client acknowledging it
+     */
+    private final LogLinearHistogram endToEndLatency = new LogLinearHistogram();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong deadLetterCount = new AtomicLong();
+
+    /**
+     * Record a batch sent to a client
+     *
+     * @param messageCount The number of messages in the batch
+     * @param rttNanos     The round trip time in nanoseconds
+     */
+    public void recordDispatch(int messageCount, long rttNanos) {
+        batchSize.record(messageCount);
+        dispatchLatency.record(TimeUnit.NANOSECONDS.toMicros(rttNanos));
+    }
+
+    /**
+     * Record the time waiting for a lock
+     *
+     * @param waitNanos The waiting time in nanoseconds
+     */
+    public void recordLockAcquire(long waitNanos) {
+        lockAcquireLatency.record(TimeUnit.NANOSECONDS.toMicros(waitNanos));
+    }
+
+    /**
+     * Record a message processed by the client
+     *
+     * @param queueWaitMillis The time from writing the message to the pipe to dispatching it
+     * @param endToEndMillis  The time from writing the message to the pipe to the acknowledgement
+     */
+    public void recordDelivered(long queueWaitMillis, long endToEndMillis) {
+        queueWaitLatency.record(TimeUnit.MILLISECONDS.toMicros(queueWaitMillis));
+        endToEndLatency.record(TimeUnit.MILLISECONDS.toMicros(endToEndMillis));
+    }
+
+    /**
+     * Record the time the client took to process a batch
+     *
+     * @param processingMicros The processing time reported by the client in microseconds
+     */
+    public void recordProcessing(long processingMicros) {
+        processingLatency.record(processingMicros);
+    }
+
+    /**
+     * Record a message retry
+     */
+    public void recordRetry() {
+        retryCount.incrementAndGet();
+    }
+
+    /**
+     * Record a message moved to the dead letter queue
+     */
+    public void recordDeadLetter() {
+        deadLetterCount.incrementAndGet();
+    }
+
+    public LogLinearHistogram getDispatchLatency() {
+        return dispatchLatency;
+    }
+
+    public LogLinearHistogram getBatchSize() {
+        return batchSize;
+    }
+
+    public LogLinearHistogram getLockAcquireLatency() {
+        return lockAcquireLatency;
+    }
+
+    public LogLinearHistogram getQueueWaitLatency() {
+        return queueWaitLatency;
+    }
+
+    public LogLinearHistogram getProcessingLatency() {
+        return processingLatency;
+    }
+
+    public LogLinearHistogram getEndToEndLatency() {
+        return endToEndLatency;
+    }
+
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    public long getDeadLetterCount() {
+        return deadLetterCount.get();
+    }
+}
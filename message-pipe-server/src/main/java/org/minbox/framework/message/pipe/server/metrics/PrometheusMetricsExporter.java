@@ -0,0 +1,228 @@
+package org.minbox.framework.message.pipe.server.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.minbox.framework.message.pipe.core.ClientStatus;
+import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
+import org.minbox.framework.message.pipe.core.information.ClientInformation;
+import org.minbox.framework.message.pipe.core.information.ClientLoad;
+import org.minbox.framework.message.pipe.server.MessagePipe;
+import org.minbox.framework.message.pipe.server.manager.MessagePipeMetricsAggregator;
+import org.minbox.framework.message.pipe.server.manager.PutDeduplicator;
+import org.minbox.framework.message.pipe.server.service.discovery.ServiceDiscovery;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Export the metrics of the pipes and clients in the Prometheus text format
+ * <p>
+ * {@link #scrape()} can be served by any http endpoint of the application,
+ * or {@link #start(int)} serves it on "/metrics" by the jdk http server.
+ * The latencies are exported as histograms in seconds with power of two buckets
+ *
+ * @author 恒宇少年
+ * @see MessagePipeMeters
+ * @see ClientMeters
+ */
+@Slf4j
+public class PrometheusMetricsExporter {
+    /**
+     * The content type of the Prometheus text format
+     */
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String METRICS_PATH = "/metrics";
+    private static final double MICROS_PER_SECOND = 1_000_000D;
+    private static final String PIPE_LABEL = "pipe";
+    private static final String CLIENT_LABEL = "client";
+    private final ServiceDiscovery serviceDiscovery;
+    private HttpServer httpServer;
+
+    public PrometheusMetricsExporter(ServiceDiscovery serviceDiscovery) {
+        this.serviceDiscovery = serviceDiscovery;
+    }
+
+    /**
+     * Start serving the metrics on "/metrics"
+     *
+     * @param port The listening port
+     */
+    public synchronized void start(int port) {
+        if (httpServer != null) {
+            return;
+        }
+        try {
+            httpServer = HttpServer.create(new InetSocketAddress(port), 0);
+        } catch (IOException e) {
+            throw new MessagePipeException("Start the metrics server on port: " + port + " failed.", e);
+        }
+        httpServer.createContext(METRICS_PATH, exchange -> {
+            byte[] body = this.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        httpServer.start();
+        log.info("The MessagePipe metrics are served on port: {}, path: {}.", port, METRICS_PATH);
+    }
+
+    /**
+     * Stop serving the metrics
+     */
+    public synchronized void stop() {
+        if (httpServer != null) {
+            httpServer.stop(0);
+            httpServer = null;
+        }
+    }
+
+    /**
+     * Write the current metrics
+     *
+     * @return The metrics in the Prometheus text format
+     */
+    public String scrape() {
+        StringBuilder builder = new StringBuilder();
+        this.writePipes(builder, MessagePipeMetricsAggregator.getInstance().getPipes());
+        this.writeClients(builder);
+        writeHeader(builder, "message_pipe_dropped_messages_total", "counter", "The messages dropped by the pipes");
+        builder.append("message_pipe_dropped_messages_total ")
+                .append(MessagePipeMetricsAggregator.getInstance().getDroppedMessageCount()).append('\n');
+        return builder.toString();
+    }
+
+    private void writePipes(StringBuilder builder, Collection<MessagePipe> pipes) {
+        writeHeader(builder, "message_pipe_input_messages_total", "counter", "The messages put into the pipe");
+        pipes.forEach(pipe -> writeSample(builder, "message_pipe_input_messages_total", PIPE_LABEL, pipe.getName(),
+                pipe.getTotalInputCount().get()));
+        writeHeader(builder, "message_pipe_output_messages_total", "counter", "The messages processed by the clients");
+        pipes.forEach(pipe -> writeSample(builder, "message_pipe_output_messages_total", PIPE_LABEL, pipe.getName(),
+                pipe.getTotalProcessCount().get()));
+        writeHeader(builder, "message_pipe_queue_depth", "gauge", "The messages waiting in the pipe");
+        pipes.forEach(pipe -> {
+            try {
+                writeSample(builder, "message_pipe_queue_depth", PIPE_LABEL, pipe.getName(), pipe.size());
+            } catch (Exception e) {
+                log.debug("Get the size of pipe: {} failed.", pipe.getName(), e);
+            }
+        });
+        writeHeader(builder, "message_pipe_retries_total", "counter", "The message retries");
+        pipes.forEach(pipe -> writeSample(builder, "message_pipe_retries_total", PIPE_LABEL, pipe.getName(),
+                pipe.getMeters().getRetryCount()));
+        writeHeader(builder, "message_pipe_dead_letters_total", "counter", "The messages moved to the dead letter queue");
+        pipes.forEach(pipe -> writeSample(builder, "message_pipe_dead_letters_total", PIPE_LABEL, pipe.getName(),
+                pipe.getMeters().getDeadLetterCount()));
+        writeHeader(builder, "message_pipe_duplicate_puts_total", "counter", "The duplicate puts rejected by the deduplication");
+        pipes.forEach(pipe -> {
+            PutDeduplicator putDeduplicator = pipe.getPutDeduplicator();
+            if (putDeduplicator != null) {
+                writeSample(builder, "message_pipe_duplicate_puts_total", PIPE_LABEL, pipe.getName(),
+                        putDeduplicator.getRejectedCount());
+            }
+        });
+        writeHeader(builder, "message_pipe_dispatch_seconds", "histogram", "The round trip time of sending a batch");
+        pipes.forEach(pipe -> writeHistogram(builder, "message_pipe_dispatch_seconds", PIPE_LABEL, pipe.getName(),
+                pipe.getMeters().getDispatchLatency(), MICROS_PER_SECOND));
+        writeHeader(builder, "message_pipe_batch_size", "histogram", "The number of messages of the sent batches");
+        pipes.forEach(pipe -> writeHistogram(builder, "message_pipe_batch_size", PIPE_LABEL, pipe.getName(),
+                pipe.getMeters().getBatchSize(), 1));
+        writeHeader(builder, "message_pipe_lock_acquire_seconds", "histogram", "The time waiting for the put or take lock");
+        pipes.forEach(pipe -> writeHistogram(builder, "message_pipe_lock_acquire_seconds", PIPE_LABEL, pipe.getName(),
+                pipe.getMeters().getLockAcquireLatency(), MICROS_PER_SECOND));
+        writeHeader(builder, "message_pipe_queue_wait_seconds", "histogram", "The time from putting a message to dispatching it");
+        pipes.forEach(pipe -> writeHistogram(builder, "message_pipe_queue_wait_seconds", PIPE_LABEL, pipe.getName(),
+                pipe.getMeters().getQueueWaitLatency(), MICROS_PER_SECOND));
+        writeHeader(builder, "message_pipe_processing_seconds", "histogram", "The time the clients took to process a batch");
+        pipes.forEach(pipe -> writeHistogram(builder, "message_pipe_processing_seconds", PIPE_LABEL, pipe.getName(),
+                pipe.getMeters().getProcessingLatency(), MICROS_PER_SECOND));
+        writeHeader(builder, "message_pipe_end_to_end_seconds", "histogram", "The time from putting a message to the client acknowledging it");
+        pipes.forEach(pipe -> writeHistogram(builder, "message_pipe_end_to_end_seconds", PIPE_LABEL, pipe.getName(),
+                pipe.getMeters().getEndToEndLatency(), MICROS_PER_SECOND));
+    }
+
+    private void writeClients(StringBuilder builder) {
+        Map<String, ClientMeters> allMeters = ClientMeters.getAllMeters();
+        writeHeader(builder, "message_pipe_client_messages_total", "counter", "The messages sent to the client");
+        allMeters.forEach((clientId, meters) -> {
+            String labels = label(CLIENT_LABEL, clientId);
+            builder.append("message_pipe_client_messages_total{").append(labels).append(",result=\"success\"} ")
+                    .append(meters.getSuccessCount()).append('\n');
+            builder.append("message_pipe_client_messages_total{").append(labels).append(",result=\"failure\"} ")
+                    .append(meters.getFailureCount()).append('\n');
+        });
+        writeHeader(builder, "message_pipe_client_latency_seconds", "histogram", "The round trip time of the batches sent to the client");
+        allMeters.forEach((clientId, meters) -> writeHistogram(builder, "message_pipe_client_latency_seconds",
+                CLIENT_LABEL, clientId, meters.getLatency(), MICROS_PER_SECOND));
+        if (serviceDiscovery == null) {
+            return;
+        }
+        Collection<ClientInformation> clients = serviceDiscovery.getAllClients();
+        writeHeader(builder, "message_pipe_client_up", "gauge", "Whether the client is online");
+        clients.forEach(client -> writeSample(builder, "message_pipe_client_up", CLIENT_LABEL, client.getClientId(),
+                ClientStatus.ON_LINE == client.getStatus() ? 1 : 0));
+        writeHeader(builder, "message_pipe_client_pending_batches", "gauge", "The batches pending in the client reported by heartbeats");
+        clients.forEach(client -> {
+            ClientLoad load = client.getLoad();
+            if (load != null) {
+                writeSample(builder, "message_pipe_client_pending_batches", CLIENT_LABEL, client.getClientId(),
+                        load.getPendingBatches());
+            }
+        });
+    }
+
+    private static void writeHeader(StringBuilder builder, String name, String type, String help) {
+        builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void writeSample(StringBuilder builder, String name, String labelName, String labelValue, double value) {
+        builder.append(name).append('{').append(label(labelName, labelValue)).append("} ");
+        appendValue(builder, value);
+        builder.append('\n');
+    }
+
+    /**
+     * Write the histogram with the power of two buckets
+     * <p>
+     * The "+Inf" bucket and the count are the last cumulative bucket of the same read,
+     * so the buckets never exceed them
+     *
+     * @param divisor The divisor converting the recorded values to the exported unit
+     */
+    private static void writeHistogram(StringBuilder builder, String name, String labelName, String labelValue,
+                                       LogLinearHistogram histogram, double divisor) {
+        String labels = label(labelName, labelValue);
+        long[] cumulativeCounts = histogram.getPowerOfTwoCounts();
+        for (int i = 0; i < cumulativeCounts.length; i++) {
+            builder.append(name).append("_bucket{").append(labels).append(",le=\"");
+            appendValue(builder, ((1L << i) - 1) / divisor);
+            builder.append("\"} ").append(cumulativeCounts[i]).append('\n');
+        }
+        // Not the histogram count, a value recorded concurrently may be counted there but not in the buckets yet
+        long count = cumulativeCounts[cumulativeCounts.length - 1];
+        builder.append(name).append("_bucket{").append(labels).append(",le=\"+Inf\"} ").append(count).append('\n');
+        builder.append(name).append("_sum{").append(labels).append("} ");
+        appendValue(builder, histogram.getSum() / divisor);
+        builder.append('\n');
+        builder.append(name).append("_count{").append(labels).append("} ").append(count).append('\n');
+    }
+
+    private static void appendValue(StringBuilder builder, double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            builder.append((long) value);
+        } else {
+            builder.append(value);
+        }
+    }
+
+    private static String label(String name, String value) {
+        String escaped = value == null ? "" : value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        return name + "=\"" + escaped + "\"";
+    }
+}
@@ -1,20 +1,24 @@
 package org.minbox.framework.message.pipe.server.service;
 
 import io.grpc.Server;
-import io.grpc.ServerBuilder;
 import io.grpc.stub.StreamObserver;
 import lombok.extern.slf4j.Slf4j;
 import org.minbox.framework.message.pipe.core.ClientStatus;
+import org.minbox.framework.message.pipe.core.channel.GrpcChannelFactory;
+import org.minbox.framework.message.pipe.core.codec.WireCodecs;
+import org.minbox.framework.message.pipe.core.compress.Compressors;
+import org.minbox.framework.message.pipe.core.codec.WireMessages;
 import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
 import org.minbox.framework.message.pipe.core.grpc.ClientServiceGrpc;
 import org.minbox.framework.message.pipe.core.grpc.proto.ClientHeartBeatRequest;
 import org.minbox.framework.message.pipe.core.grpc.proto.ClientRegisterRequest;
 import org.minbox.framework.message.pipe.core.grpc.proto.ClientResponse;
 import org.minbox.framework.message.pipe.core.information.ClientInformation;
+import org.minbox.framework.message.pipe.core.information.ClientLoad;
 import org.minbox.framework.message.pipe.core.transport.ClientHeartBeatResponseBody;
 import org.minbox.framework.message.pipe.core.transport.ClientRegisterResponseBody;
 import org.minbox.framework.message.pipe.core.transport.MessageResponseStatus;
-import org.minbox.framework.message.pipe.core.untis.JsonUtils;
+import org.minbox.framework.message.pipe.core.transport.ProtocolVersion;
 import org.minbox.framework.message.pipe.core.untis.StringUtils;
 import org.minbox.framework.message.pipe.server.MessagePipe;
 import org.minbox.framework.message.pipe.server.config.ServerConfiguration;
@@ -24,9 +28,9 @@ import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
 /**
  * The {@link MessagePipe} server application
@@ -38,10 +42,16 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class GRpcServerApplicationService extends ClientServiceGrpc.ClientServiceImplBase
         implements InitializingBean, DisposableBean {
-    private ScheduledExecutorService expiredScheduledExecutor;
     private Server rpcServer;
     private ServerConfiguration configuration;
     private ApplicationEventPublisher applicationEventPublisher;
+    /**
+     * The current heartbeat stream of each client: ClientId -> The stream request observer
+     * <p>
+     * A client reconnected on a new stream replaces its stream,
+     * the later close of the replaced stream does not mark the client offline
+     */
+    private final ConcurrentMap<String, StreamObserver<ClientHeartBeatRequest>> heartbeatStreams = new ConcurrentHashMap<>();
 
     /**
      * Constructs a new GRpcServerApplicationService instance
@@ -55,8 +65,8 @@ public class GRpcServerApplicationService extends ClientServiceGrpc.ClientServic
         }
         this.configuration = configuration;
         this.applicationEventPublisher = applicationEventPublisher;
-        this.rpcServer = ServerBuilder.forPort(this.configuration.getServerPort()).addService(this).build();
-        this.expiredScheduledExecutor = Executors.newScheduledThreadPool(configuration.getExpiredPoolSize());
+        this.rpcServer = GrpcChannelFactory.newServerBuilder(this.configuration.getServerPort(), this.configuration.getChannelSettings())
+                .addService(this).build();
     }
 
     /**
@@ -68,15 +78,22 @@ public class GRpcServerApplicationService extends ClientServiceGrpc.ClientServic
     @Override
     public void register(ClientRegisterRequest request, StreamObserver<ClientResponse> responseObserver) {
         ClientRegisterResponseBody responseBody = new ClientRegisterResponseBody();
+        String wireCodec = WireCodecs.JSON;
         try {
             if (StringUtils.isEmpty(request.getAddress()) || StringUtils.isEmpty(request.getMessagePipeName()) ||
                     (request.getPort() <= 0 || request.getPort() > 65535)) {
                 throw new MessagePipeException("The client information verification fails and the registration cannot be completed.");
             }
-            log.info("Registering client, IP: {}, Port: {}, pipeNames: {}",
-                    request.getAddress(), request.getPort(), request.getMessagePipeName());
+            int protocolVersion = ProtocolVersion.negotiate(request.getProtocolVersion());
+            wireCodec = WireCodecs.negotiate(configuration.getWireCodecPreferences(), request.getSupportedCodecsList());
+            log.info("Registering client, IP: {}, Port: {}, pipeNames: {}, protocolVersion: {}, wireCodec: {}",
+                    request.getAddress(), request.getPort(), request.getMessagePipeName(), protocolVersion, wireCodec);
             ClientInformation client =
                     ClientInformation.valueOf(request.getAddress(), request.getPort(), request.getMessagePipeName());
+            client.setProtocolVersion(protocolVersion);
+            client.setWireCodec(wireCodec);
+            client.setSupportedCompressions(request.getSupportedCompressionsList().stream()
+                    .filter(Compressors::isSupported).collect(Collectors.toList()));
             String clientId = client.getClientId();
             responseBody.setClientId(clientId);
 
@@ -87,8 +104,10 @@ public class GRpcServerApplicationService extends ClientServiceGrpc.ClientServic
             responseBody.setStatus(MessageResponseStatus.ERROR);
             log.error("Register client failed.", e);
         }
-        String responseBodyJson = JsonUtils.objectToJson(responseBody);
-        ClientResponse response = ClientResponse.newBuilder().setBody(responseBodyJson).build();
+        // The register response body is always json, the negotiated codec is responded by the "codec" field
+        ClientResponse response = WireMessages.toClientResponse(responseBody, WireCodecs.JSON).toBuilder()
+                .setCodec(wireCodec)
+                .build();
         responseObserver.onNext(response);
         responseObserver.onCompleted();
     }
@@ -101,6 +120,55 @@ public class GRpcServerApplicationService extends ClientServiceGrpc.ClientServic
      */
     @Override
     public void heartbeat(ClientHeartBeatRequest request, StreamObserver<ClientResponse> responseObserver) {
+        responseObserver.onNext(this.handleHeartBeat(request));
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * The persistent heartbeat stream of a client
+     * <p>
+     * Each heartbeat is handled and responded as {@link #heartbeat},
+     * once the stream is broken or completed, the client is marked offline immediately
+     * instead of waiting for the expiration
+     *
+     * @param responseObserver stream response
+     * @return The heartbeat request observer
+     */
+    @Override
+    public StreamObserver<ClientHeartBeatRequest> heartbeatStream(StreamObserver<ClientResponse> responseObserver) {
+        return new StreamObserver<ClientHeartBeatRequest>() {
+            private volatile ClientInformation client;
+
+            @Override
+            public void onNext(ClientHeartBeatRequest request) {
+                if (client == null && !StringUtils.isEmpty(request.getAddress())) {
+                    client = ClientInformation.valueOf(request.getAddress(), request.getPort(), null);
+                    heartbeatStreams.put(client.getClientId(), this);
+                    log.info("The heartbeat stream of client: {} is opened.", client.getClientId());
+                }
+                responseObserver.onNext(handleHeartBeat(request));
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                disconnect(client, this, t.getMessage());
+            }
+
+            @Override
+            public void onCompleted() {
+                disconnect(client, this, "completed");
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    /**
+     * Handle a heartbeat of the client
+     *
+     * @param request client heartbeat check request {@link ClientHeartBeatRequest}
+     * @return The heartbeat response
+     */
+    private ClientResponse handleHeartBeat(ClientHeartBeatRequest request) {
         ClientHeartBeatResponseBody responseBody = new ClientHeartBeatResponseBody();
         try {
             if (StringUtils.isEmpty(request.getAddress()) ||
@@ -109,6 +177,12 @@ public class GRpcServerApplicationService extends ClientServiceGrpc.ClientServic
                         "and the heartbeat check is ignored this time.");
             }
             ClientInformation client = ClientInformation.valueOf(request.getAddress(), request.getPort(), null);
+            if (request.hasCredits()) {
+                client.setCredits(request.getCredits());
+            }
+            if (request.hasLoad()) {
+                client.setLoad(ClientLoad.fromReport(request.getLoad()));
+            }
             Long currentTime = System.currentTimeMillis();
             client.setLastReportTime(currentTime);
             client.setOnlineTime(currentTime);
@@ -121,10 +195,35 @@ public class GRpcServerApplicationService extends ClientServiceGrpc.ClientServic
             responseBody.setStatus(MessageResponseStatus.ERROR);
             log.error("Heartbeat check failed.", e);
         }
-        String responseBodyJson = JsonUtils.objectToJson(responseBody);
-        ClientResponse response = ClientResponse.newBuilder().setBody(responseBodyJson).build();
-        responseObserver.onNext(response);
-        responseObserver.onCompleted();
+        String wireCodec = WireCodecs.isSupported(request.getCodec()) ? request.getCodec() : WireCodecs.JSON;
+        return WireMessages.toClientResponse(responseBody, wireCodec);
+    }
+
+    /**
+     * Publish the disconnection of the client whose heartbeat stream is closed
+     *
+     * <p>
+     * The close of a stream replaced by the reconnected client is ignored
+     *
+     * @param client The client of the heartbeat stream, null if no heartbeat is received
+     * @param stream The closed stream request observer
+     * @param reason The closed reason
+     */
+    private void disconnect(ClientInformation client, StreamObserver<ClientHeartBeatRequest> stream, String reason) {
+        if (client == null) {
+            return;
+        }
+        if (!heartbeatStreams.remove(client.getClientId(), stream)) {
+            log.debug("The replaced heartbeat stream of client: {} is closed, reason: {}.", client.getClientId(), reason);
+            return;
+        }
+        log.warn("The heartbeat stream of client: {} is closed, reason: {}.", client.getClientId(), reason);
+        try {
+            ServiceEvent serviceEvent = new ServiceEvent(this, ServiceEventType.DISCONNECT, List.of(client));
+            applicationEventPublisher.publishEvent(serviceEvent);
+        } catch (Exception e) {
+            log.error("Publish the disconnection of client: " + client.getClientId() + " failed.", e);
+        }
     }
 
     /**
@@ -142,22 +241,6 @@ public class GRpcServerApplicationService extends ClientServiceGrpc.ClientServic
         }).start();
     }
 
-    /**
-     * Start eliminate expired client
-     * <p>
-     * If the client's last heartbeat time is greater than the timeout threshold,
-     * the update status is performed
-     */
-    private void startEliminateExpiredClient() {
-        this.expiredScheduledExecutor.scheduleAtFixedRate(() -> {
-            // Publish expired event
-            ServiceEvent serviceEvent = new ServiceEvent(this, ServiceEventType.EXPIRE);
-            applicationEventPublisher.publishEvent(serviceEvent);
-        }, 10, configuration.getCheckClientExpiredIntervalSeconds(), TimeUnit.SECONDS);
-        log.info("Eliminate expired client thread starting，interval：{}，interval timeunit：{}.",
-                configuration.getCheckClientExpiredIntervalSeconds(), TimeUnit.SECONDS);
-    }
-
     /**
      * Shutdown Grpc {@link Server}
      */
@@ -181,13 +264,10 @@ public class GRpcServerApplicationService extends ClientServiceGrpc.ClientServic
     @Override
     public void destroy() throws Exception {
         this.shutdownServerApplication();
-        this.expiredScheduledExecutor.shutdown();
     }
 
     @Override
     public void afterPropertiesSet() throws Exception {
         this.startup();
-        this.startEliminateExpiredClient();
-        log.info("MessagePipe ClientExpiredExecutor successfully started.");
     }
 }
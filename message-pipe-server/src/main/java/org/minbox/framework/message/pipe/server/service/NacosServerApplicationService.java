@@ -7,7 +7,11 @@ import com.alibaba.nacos.api.naming.listener.NamingEvent;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import lombok.extern.slf4j.Slf4j;
 import org.minbox.framework.message.pipe.core.PipeConstants;
+import org.minbox.framework.message.pipe.core.codec.WireCodecs;
+import org.minbox.framework.message.pipe.core.compress.Compressors;
 import org.minbox.framework.message.pipe.core.information.ClientInformation;
+import org.minbox.framework.message.pipe.core.information.ClientLoad;
+import org.minbox.framework.message.pipe.core.transport.ProtocolVersion;
 import org.minbox.framework.message.pipe.server.config.ServerConfiguration;
 import org.minbox.framework.message.pipe.server.service.ServiceEvent;
 import org.minbox.framework.message.pipe.server.service.ServiceEventType;
@@ -17,7 +21,11 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.util.ObjectUtils;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -45,7 +53,10 @@ public class NacosServerApplicationService implements InitializingBean, Disposab
     private final ServerConfiguration serverConfiguration;
     private ApplicationEventPublisher applicationEventPublisher;
     private final ScheduledExecutorService heartbeatRefresher;
-    private final ScheduledExecutorService expiredScheduledExecutor;
+    /**
+     * The members of the last client list reset, only accessed by the nacos notifier thread
+     */
+    private Map<String, Map<String, String>> members = Collections.emptyMap();
 
     /**
      * Constructs a new NacosServerApplicationService instance
@@ -57,27 +68,78 @@ public class NacosServerApplicationService implements InitializingBean, Disposab
         this.namingService = namingService;
         this.serverConfiguration = serverConfiguration;
         this.heartbeatRefresher = Executors.newScheduledThreadPool(1);
-        this.expiredScheduledExecutor = Executors.newScheduledThreadPool(serverConfiguration.getExpiredPoolSize());
     }
 
+    /**
+     * Handle the change of client instances
+     * <p>
+     * The client list is reset only when the members change,
+     * the change of the load metadata alone is handled as a heartbeat of the registered clients
+     *
+     * @param event The nacos {@link Event}
+     */
     @Override
     public void onEvent(Event event) {
         if (!(event instanceof NamingEvent)) {
             return;
         }
         NamingEvent namingEvent = (NamingEvent) event;
-        // Publish ServiceChangeEvent
-        List<Instance> instances = namingEvent.getInstances();
-        List<ClientInformation> clients = instances.stream()
+        List<Instance> instances = namingEvent.getInstances().stream()
                 .filter(instance -> instance.getMetadata().containsKey(PipeConstants.PIPE_NAMES_METADATA_KEY))
-                .map(instance -> ClientInformation.valueOf(instance.getIp(), instance.getPort(),
-                        instance.getMetadata().get(PipeConstants.PIPE_NAMES_METADATA_KEY)))
                 .collect(Collectors.toList());
-
-        ServiceEvent serviceEvent = new ServiceEvent(this, ServiceEventType.RESET_INSTANCE, clients);
+        List<ClientInformation> clients = instances.stream().map(this::toClientInformation).collect(Collectors.toList());
+        Map<String, Map<String, String>> members = this.toMembers(instances);
+        ServiceEventType eventType = ServiceEventType.RESET_INSTANCE;
+        if (members.equals(this.members) && !clients.isEmpty()) {
+            eventType = ServiceEventType.HEART_BEAT;
+        }
+        this.members = members;
+        // Publish ServiceChangeEvent
+        ServiceEvent serviceEvent = new ServiceEvent(this, eventType, clients);
         applicationEventPublisher.publishEvent(serviceEvent);
     }
 
+    /**
+     * Get the members of client instances
+     *
+     * @param instances The nacos {@link Instance} list
+     * @return The registration metadata without the load of each client: ip:port -> Metadata
+     */
+    private Map<String, Map<String, String>> toMembers(List<Instance> instances) {
+        Map<String, Map<String, String>> members = new HashMap<>();
+        for (Instance instance : instances) {
+            Map<String, String> metadata = new HashMap<>(instance.getMetadata());
+            metadata.remove(PipeConstants.CLIENT_LOAD_METADATA_KEY);
+            members.put(instance.toInetAddr(), metadata);
+        }
+        return members;
+    }
+
+    /**
+     * Convert nacos {@link Instance} to {@link ClientInformation}
+     *
+     * @param instance The nacos {@link Instance}
+     * @return The {@link ClientInformation} instance
+     */
+    private ClientInformation toClientInformation(Instance instance) {
+        Map<String, String> metadata = instance.getMetadata();
+        ClientInformation client = ClientInformation.valueOf(instance.getIp(), instance.getPort(),
+                metadata.get(PipeConstants.PIPE_NAMES_METADATA_KEY));
+        client.setProtocolVersion(ProtocolVersion.negotiate(metadata.get(PipeConstants.PROTOCOL_VERSION_METADATA_KEY)));
+        String supportedCodecs = metadata.get(PipeConstants.SUPPORTED_CODECS_METADATA_KEY);
+        if (!ObjectUtils.isEmpty(supportedCodecs)) {
+            client.setWireCodec(WireCodecs.negotiate(serverConfiguration.getWireCodecPreferences(),
+                    Arrays.asList(supportedCodecs.split(PipeConstants.PIPE_NAME_SPLIT))));
+        }
+        String supportedCompressions = metadata.get(PipeConstants.SUPPORTED_COMPRESSIONS_METADATA_KEY);
+        if (!ObjectUtils.isEmpty(supportedCompressions)) {
+            client.setSupportedCompressions(Arrays.stream(supportedCompressions.split(PipeConstants.PIPE_NAME_SPLIT))
+                    .filter(Compressors::isSupported).collect(Collectors.toList()));
+        }
+        client.setLoad(ClientLoad.parseMetadataValue(metadata.get(PipeConstants.CLIENT_LOAD_METADATA_KEY)));
+        return client;
+    }
+
     @Override
     public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
         this.applicationEventPublisher = applicationEventPublisher;
@@ -89,9 +151,6 @@ public class NacosServerApplicationService implements InitializingBean, Disposab
         if (this.heartbeatRefresher != null) {
             this.heartbeatRefresher.shutdown();
         }
-        if (this.expiredScheduledExecutor != null) {
-            this.expiredScheduledExecutor.shutdown();
-        }
     }
 
     @Override
@@ -104,8 +163,7 @@ public class NacosServerApplicationService implements InitializingBean, Disposab
                 if (!ObjectUtils.isEmpty(instances)) {
                     List<ClientInformation> clients = instances.stream()
                             .filter(instance -> instance.getMetadata().containsKey(PipeConstants.PIPE_NAMES_METADATA_KEY))
-                            .map(instance -> ClientInformation.valueOf(instance.getIp(), instance.getPort(),
-                                    instance.getMetadata().get(PipeConstants.PIPE_NAMES_METADATA_KEY)))
+                            .map(this::toClientInformation)
                             .collect(Collectors.toList());
                     if (!ObjectUtils.isEmpty(clients)) {
                         ServiceEvent serviceEvent = new ServiceEvent(this, ServiceEventType.HEART_BEAT, clients);
@@ -116,22 +174,5 @@ public class NacosServerApplicationService implements InitializingBean, Disposab
                 // Ignore errors
             }
         }, DEFAULT_HEARTBEAT_REFRESH_INITIAL_DELAY, DEFAULT_HEARTBEAT_REFRESH_PERIOD, TimeUnit.SECONDS);
-        this.startEliminateExpiredClient();
-    }
-
-    /**
-     * Start eliminate expired client
-     * <p>
-     * If the client's last heartbeat time is greater than the timeout threshold,
-     * the update status is performed
-     */
-    private void startEliminateExpiredClient() {
-        this.expiredScheduledExecutor.scheduleAtFixedRate(() -> {
-            // Publish expired event
-            ServiceEvent serviceEvent = new ServiceEvent(this, ServiceEventType.EXPIRE);
-            applicationEventPublisher.publishEvent(serviceEvent);
-        }, 10, serverConfiguration.getCheckClientExpiredIntervalSeconds(), TimeUnit.SECONDS);
-        log.info("Eliminate expired client thread starting，interval：{}，interval timeunit：{}.",
-                serverConfiguration.getCheckClientExpiredIntervalSeconds(), TimeUnit.SECONDS);
     }
-}
\ No newline at end of file
+}
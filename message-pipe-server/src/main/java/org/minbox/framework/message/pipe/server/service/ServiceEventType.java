@@ -21,5 +21,9 @@ public enum ServiceEventType {
     /**
      * client expired
      */
-    EXPIRE
+    EXPIRE,
+    /**
+     * The client is disconnected, e.g. the heartbeat stream is broken
+     */
+    DISCONNECT
 }
@@ -0,0 +1,172 @@
+package org.minbox.framework.message.pipe.server.service.discovery;
+
+import lombok.extern.slf4j.Slf4j;
+import org.minbox.framework.message.pipe.core.thread.MessagePipeThreadFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * The hashed timing wheel expiring the clients
+ * <p>
+ * Each client is linked into the bucket of its deadline tick, re-arming on a heartbeat moves it to another bucket in O(1).
+ * The wheel covers the whole expiration threshold, so every client in the bucket of the current tick is expired,
+ * a tick costs O(expired) instead of scanning all clients
+ *
+ * @author 恒宇少年
+ * @see ClientServiceDiscovery
+ */
+@Slf4j
+final class ClientExpiryWheel {
+    private static final String THREAD_NAME_PREFIX = "client-expiry-wheel";
+    private static final int MAX_WHEEL_SIZE = 1 << 20;
+    private final long tickMillis;
+    private final Node[] buckets;
+    private final int mask;
+    /**
+     * The armed clients: ClientId -> Node
+     */
+    private final Map<String, Node> nodes = new HashMap<>();
+    private final Consumer<List<String>> expiredHandler;
+    private final ScheduledExecutorService ticker;
+    /**
+     * The last processed tick, the ticks are counted from the epoch
+     */
+    private long currentTick;
+
+    /**
+     * Create and start the wheel
+     *
+     * @param tickMillis      The tick duration, the precision of the expiration
+     * @param thresholdMillis The maximum time from arming to the deadline
+     * @param expiredHandler  The handler of the expired client ids, called on the ticker thread
+     */
+    ClientExpiryWheel(long tickMillis, long thresholdMillis, Consumer<List<String>> expiredHandler) {
+        this.tickMillis = Math.max(1, tickMillis);
+        // The smallest power of two covering the threshold
+        int thresholdTicks = (int) Math.min(MAX_WHEEL_SIZE, thresholdMillis / this.tickMillis + 2);
+        int wheelSize = Integer.highestOneBit(thresholdTicks * 2 - 1);
+        this.buckets = new Node[wheelSize];
+        this.mask = wheelSize - 1;
+        this.expiredHandler = expiredHandler;
+        this.currentTick = System.currentTimeMillis() / this.tickMillis;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(new MessagePipeThreadFactory(THREAD_NAME_PREFIX));
+        this.ticker.scheduleAtFixedRate(this::tick, this.tickMillis, this.tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Arm or re-arm the deadline of the client
+     *
+     * @param clientId       The client id
+     * @param deadlineMillis The deadline of {@link System#currentTimeMillis()}
+     */
+    synchronized void arm(String clientId, long deadlineMillis) {
+        Node node = nodes.computeIfAbsent(clientId, Node::new);
+        this.unlink(node);
+        node.deadlineTick = Math.max(currentTick + 1, (deadlineMillis + tickMillis - 1) / tickMillis);
+        this.link(node);
+    }
+
+    /**
+     * Stop tracking the client
+     *
+     * @param clientId The client id
+     */
+    synchronized void cancel(String clientId) {
+        Node node = nodes.remove(clientId);
+        if (node != null) {
+            this.unlink(node);
+        }
+    }
+
+    /**
+     * Stop the ticker
+     */
+    void stop() {
+        ticker.shutdownNow();
+    }
+
+    private void tick() {
+        try {
+            List<String> expired = this.advance(System.currentTimeMillis() / tickMillis);
+            if (!expired.isEmpty()) {
+                expiredHandler.accept(expired);
+            }
+        } catch (Exception e) {
+            log.error("Expire the clients failed.", e);
+        }
+    }
+
+    /**
+     * Process the buckets up to the tick
+     *
+     * @param tick The current tick
+     * @return The expired client ids
+     */
+    private synchronized List<String> advance(long tick) {
+        List<String> expired = new ArrayList<>();
+        while (currentTick < tick) {
+            currentTick++;
+            Node node = buckets[(int) (currentTick & mask)];
+            while (node != null) {
+                Node next = node.next;
+                // Only later than the current tick if the ticker lagged behind a whole revolution
+                if (node.deadlineTick <= currentTick) {
+                    this.unlink(node);
+                    nodes.remove(node.clientId);
+                    expired.add(node.clientId);
+                }
+                node = next;
+            }
+        }
+        return expired;
+    }
+
+    private void link(Node node) {
+        int index = (int) (node.deadlineTick & mask);
+        node.bucket = index;
+        node.next = buckets[index];
+        if (node.next != null) {
+            node.next.prev = node;
+        }
+        buckets[index] = node;
+    }
+
+    private void unlink(Node node) {
+        if (node.bucket < 0) {
+            return;
+        }
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            buckets[node.bucket] = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        node.bucket = -1;
+    }
+
+    /**
+     * The armed client linked in a bucket
+     */
+    private static class Node {
+        private final String clientId;
+        private long deadlineTick;
+        private int bucket = -1;
+        private Node prev;
+        private Node next;
+
+        Node(String clientId) {
+            this.clientId = clientId;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package org.minbox.framework.message.pipe.server.service.discovery;
+
+import org.minbox.framework.message.pipe.core.ClientStatus;
+import org.minbox.framework.message.pipe.core.information.ClientInformation;
+import org.minbox.framework.message.pipe.core.pattern.PipeNamePatternIndex;
+import org.minbox.framework.message.pipe.server.lb.ClientSelectionTable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The immutable client routing table
+ * <p>
+ * A new table is built by {@link ClientServiceDiscovery} on every membership event
+ * (register, reset, online, offline) and published through a single volatile reference,
+ * so that readers never lock and never see a partially updated registry.
+ * A status change replaces the {@link ClientInformation} with a copy, the clients and the status
+ * seen through a table never change. Only the last report time and the load reported by heartbeats
+ * are updated in place on the current client, they are volatile and not part of the snapshot.
+ * The healthy {@link ClientSelectionTable} of each pipe is computed lazily and memoized in the table
+ *
+ * @author 恒宇少年
+ */
+final class ClientRoutingTable {
+    /**
+     * The empty routing table, there are no registered clients
+     */
+    static final ClientRoutingTable EMPTY = new ClientRoutingTable(0, Collections.emptyMap(), Collections.emptyMap());
+    /**
+     * The version of this table
+     */
+    private final long version;
+    /**
+     * All clients: ClientId -> ClientInformation
+     */
+    private final Map<String, ClientInformation> clients;
+    /**
+     * Clients bound to the pipe name pattern: PipeNamePattern -> ClientIds
+     */
+    private final Map<String, Set<String>> pipeClients;
+    /**
+     * The precompiled index of {@link #pipeClients}
+     */
+    private final PipeNamePatternIndex<Set<String>> pipeClientIndex;
+    /**
+     * Healthy client selection table of each pipe: PipeName -> ClientSelectionTable
+     */
+    private final ConcurrentMap<String, ClientSelectionTable> selectionTables = new ConcurrentHashMap<>();
+
+    private ClientRoutingTable(long version, Map<String, ClientInformation> clients, Map<String, Set<String>> pipeClients) {
+        this(version, clients, pipeClients, new PipeNamePatternIndex<>(pipeClients));
+    }
+
+    private ClientRoutingTable(long version, Map<String, ClientInformation> clients, Map<String, Set<String>> pipeClients,
+                               PipeNamePatternIndex<Set<String>> pipeClientIndex) {
+        this.version = version;
+        this.clients = clients;
+        this.pipeClients = pipeClients;
+        this.pipeClientIndex = pipeClientIndex;
+    }
+
+    /**
+     * Get the version of this table
+     *
+     * @return The table version
+     */
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Get the client by id
+     *
+     * @param clientId The client id
+     * @return The {@link ClientInformation}, null if not registered
+     */
+    ClientInformation getClient(String clientId) {
+        return clients.get(clientId);
+    }
+
+    /**
+     * Get all registered clients
+     *
+     * @return The read-only client collection
+     */
+    Collection<ClientInformation> getClients() {
+        return clients.values();
+    }
+
+    /**
+     * Get the ids of clients bound to the pattern matching the pipe name
+     *
+     * @param pipeName The specific pipe name
+     * @return The read-only client id set, null if there is no matching pattern
+     */
+    Set<String> matchClientIds(String pipeName) {
+        return pipeClientIndex.match(pipeName);
+    }
+
+    /**
+     * Get the healthy client selection table of the pipe
+     *
+     * @param pipeName The specific pipe name
+     * @return The memoized {@link ClientSelectionTable}
+     */
+    ClientSelectionTable getSelectionTable(String pipeName) {
+        ClientSelectionTable table = selectionTables.get(pipeName);
+        if (table == null) {
+            table = selectionTables.computeIfAbsent(pipeName, this::buildSelectionTable);
+        }
+        return table;
+    }
+
+    private ClientSelectionTable buildSelectionTable(String pipeName) {
+        Set<String> clientIds = this.matchClientIds(pipeName);
+        if (clientIds == null || clientIds.isEmpty()) {
+            return ClientSelectionTable.of(version, null);
+        }
+        List<ClientInformation> healthClients = new ArrayList<>(clientIds.size());
+        clientIds.forEach(clientId -> {
+            ClientInformation client = clients.get(clientId);
+            if (client != null && ClientStatus.ON_LINE == client.getStatus()) {
+                healthClients.add(client);
+            }
+        });
+        return ClientSelectionTable.of(version, healthClients);
+    }
+
+    /**
+     * Create a new table with the clients registered
+     * <p>
+     * The registered client with the same id is replaced
+     *
+     * @param registerClients The registered clients
+     * @return The new {@link ClientRoutingTable}
+     */
+    ClientRoutingTable withClients(Collection<ClientInformation> registerClients) {
+        Map<String, ClientInformation> newClients = new LinkedHashMap<>(clients);
+        Map<String, Set<String>> newPipeClients = new LinkedHashMap<>(pipeClients);
+        registerClients.forEach(information -> {
+            newClients.put(information.getClientId(), information);
+            String[] bindingPipeNames = information.getBindingPipeNames();
+            if (bindingPipeNames != null) {
+                for (String pipeName : bindingPipeNames) {
+                    Set<String> clientIds = new LinkedHashSet<>(newPipeClients.getOrDefault(pipeName, Collections.emptySet()));
+                    clientIds.add(information.getClientId());
+                    newPipeClients.put(pipeName, Collections.unmodifiableSet(clientIds));
+                }
+            }
+        });
+        return new ClientRoutingTable(version + 1, Collections.unmodifiableMap(newClients),
+                Collections.unmodifiableMap(newPipeClients));
+    }
+
+    /**
+     * Create a new table with the status of clients changed
+     * <p>
+     * The changed clients are copied, the memoized selection tables are discarded,
+     * the pattern index is shared because the bindings have not changed
+     *
+     * @param clientIds The ids of the registered clients to change
+     * @param status    The new status
+     * @return The new {@link ClientRoutingTable}
+     */
+    ClientRoutingTable withStatus(Collection<String> clientIds, ClientStatus status) {
+        Map<String, ClientInformation> newClients = new LinkedHashMap<>(clients);
+        clientIds.forEach(clientId -> {
+            ClientInformation client = newClients.get(clientId);
+            if (client != null) {
+                newClients.put(clientId, client.withStatus(status));
+            }
+        });
+        return new ClientRoutingTable(version + 1, Collections.unmodifiableMap(newClients), pipeClients, pipeClientIndex);
+    }
+
+    /**
+     * Create a new empty table with the next version
+     *
+     * @return The new {@link ClientRoutingTable}
+     */
+    ClientRoutingTable reset() {
+        return new ClientRoutingTable(version + 1, Collections.emptyMap(), Collections.emptyMap());
+    }
+}
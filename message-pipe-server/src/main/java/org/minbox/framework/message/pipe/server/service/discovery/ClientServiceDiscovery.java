@@ -4,53 +4,60 @@ import lombok.extern.slf4j.Slf4j;
 import org.minbox.framework.message.pipe.core.ClientStatus;
 import org.minbox.framework.message.pipe.core.exception.MessagePipeException;
 import org.minbox.framework.message.pipe.core.information.ClientInformation;
+import org.minbox.framework.message.pipe.core.pattern.PipeNamePatternIndex;
 import org.minbox.framework.message.pipe.core.untis.JsonUtils;
-import org.minbox.framework.message.pipe.core.untis.RegexUtils;
 import org.minbox.framework.message.pipe.server.MessagePipe;
 import org.minbox.framework.message.pipe.server.config.MessagePipeConfiguration;
 import org.minbox.framework.message.pipe.server.config.ServerConfiguration;
+import org.minbox.framework.message.pipe.server.lb.ClientSelectionTable;
+import org.minbox.framework.message.pipe.server.manager.ClientCircuitBreaker;
+import org.minbox.framework.message.pipe.server.manager.ClientCredits;
+import org.minbox.framework.message.pipe.server.metrics.ClientMeters;
 import org.minbox.framework.message.pipe.server.service.ServiceEvent;
 import org.minbox.framework.message.pipe.server.service.ServiceEventType;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
 import org.springframework.util.ObjectUtils;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 /**
  * The client service discovery
  * <p>
- * Provide client service list query, update and other processing
+ * Provide client service list query, update and other processing.
+ * The events are handled before the other listeners,
+ * so the pipes woken by the same event see the updated client status.
+ * The deadline of each client is re-armed on the {@link ClientExpiryWheel} by the heartbeats,
+ * only the clients whose deadline passed are expired
  *
  * @author 恒宇少年
  */
 @Slf4j
-public class ClientServiceDiscovery implements ServiceDiscovery, ApplicationListener<ServiceEvent> {
+public class ClientServiceDiscovery implements ServiceDiscovery, ApplicationListener<ServiceEvent>, Ordered,
+        DisposableBean {
     /**
      * The bean name of {@link ClientServiceDiscovery}
      */
     public static final String BEAN_NAME = "clientServiceDiscovery";
     private static final int NO_HEALTH_CLIENT_COUNT = 0;
     /**
-     * There is a list of all clients
-     */
-    private static final ConcurrentMap<String, ClientInformation> CLIENTS = new ConcurrentHashMap<>();
-    /**
-     * List of clients bound to the message pipeline
+     * The current client routing table
      * <p>
-     * The key of this set is the name of the message channel bound to the client
+     * All clients, the clients bound to the message pipelines and the healthy client selection tables,
+     * replaced as a whole on every membership event, readers only dereference this field
      */
-    private static final ConcurrentMap<String, Set<String>> PIPE_CLIENTS = new ConcurrentHashMap<>();
-    
+    private static volatile ClientRoutingTable ROUTING_TABLE = ClientRoutingTable.EMPTY;
     /**
-     * Cache for regex lookup results: PipeName -> ClientIds
+     * The lock of publishing a new {@link #ROUTING_TABLE}
      */
-    private static final ConcurrentMap<String, Set<String>> PIPE_CLIENT_CACHE = new ConcurrentHashMap<>();
+    private static final Object ROUTING_TABLE_LOCK = new Object();
 
     private final MessagePipeConfiguration configuration;
     private final ServerConfiguration serverConfiguration;
+    private final ClientExpiryWheel expiryWheel;
 
     /**
      * Constructs a new ClientServiceDiscovery instance
@@ -61,6 +68,8 @@ public class ClientServiceDiscovery implements ServiceDiscovery, ApplicationList
     public ClientServiceDiscovery(MessagePipeConfiguration configuration, ServerConfiguration serverConfiguration) {
         this.configuration = configuration;
         this.serverConfiguration = serverConfiguration;
+        this.expiryWheel = new ClientExpiryWheel(serverConfiguration.getClientExpiryTickMillis(),
+                this.getExpiredThresholdMillis(), this::handingExpired);
     }
 
     /**
@@ -72,50 +81,61 @@ public class ClientServiceDiscovery implements ServiceDiscovery, ApplicationList
      */
     @Override
     public ClientInformation lookup(String pipeNamePattern) throws MessagePipeException {
-        List<ClientInformation> clients = new ArrayList<>();
-        Set<String> clientIds = regexGetClientIds(pipeNamePattern);
-        if (!ObjectUtils.isEmpty(clientIds)) {
-            clientIds.forEach(clientId -> {
-                ClientInformation client = CLIENTS.get(clientId);
-                if (ClientStatus.ON_LINE == client.getStatus()) {
-                    clients.add(client);
-                }
-            });
-        }
-        if (!ObjectUtils.isEmpty(clients)) {
-            return configuration.getLoadBalanceStrategy().lookup(clients);
+        ClientSelectionTable table = this.getSelectionTable(pipeNamePattern);
+        if (!table.isEmpty()) {
+            return configuration.getLoadBalanceStrategy().lookup(table);
         }
         return null;
     }
 
     @Override
     public boolean checkHaveHealthClient(String pipeNamePattern) throws MessagePipeException {
-        Set<String> clientIds = regexGetClientIds(pipeNamePattern);
-        if (ObjectUtils.isEmpty(clientIds)) {
-            return false;
-        }
-        return clientIds.stream().anyMatch(clientId -> CLIENTS.containsKey(clientId) &&
-                ClientStatus.ON_LINE == CLIENTS.get(clientId).getStatus());
+        return !this.getSelectionTable(pipeNamePattern).isEmpty();
     }
 
     @Override
     public void exclude(String clientId) {
-        if (!ObjectUtils.isEmpty(clientId) && CLIENTS.containsKey(clientId)) {
-            ClientInformation client = CLIENTS.get(clientId);
-            if (ClientStatus.ON_LINE == client.getStatus()) {
-                client.setStatus(ClientStatus.OFF_LINE);
+        if (ObjectUtils.isEmpty(clientId)) {
+            return;
+        }
+        synchronized (ROUTING_TABLE_LOCK) {
+            ClientInformation client = ROUTING_TABLE.getClient(clientId);
+            if (client != null && ClientStatus.ON_LINE == client.getStatus()) {
+                ROUTING_TABLE = ROUTING_TABLE.withStatus(Collections.singleton(clientId), ClientStatus.OFF_LINE);
                 log.warn("Client {} has been excluded (marked offline) due to communication failure.", clientId);
             }
         }
     }
 
+    @Override
+    public void include(String clientId) {
+        if (ObjectUtils.isEmpty(clientId)) {
+            return;
+        }
+        synchronized (ROUTING_TABLE_LOCK) {
+            ClientInformation client = ROUTING_TABLE.getClient(clientId);
+            if (client != null && ClientStatus.OFF_LINE == client.getStatus()) {
+                client.setLastReportTime(System.currentTimeMillis());
+                this.armExpiry(client);
+                ROUTING_TABLE = ROUTING_TABLE.withStatus(Collections.singleton(clientId), ClientStatus.ON_LINE);
+                log.info("Client {} has been included (marked online) due to the connection recovered.", clientId);
+            }
+        }
+    }
+
+    @Override
+    public ClientInformation getClient(String clientId) {
+        return ObjectUtils.isEmpty(clientId) ? null : ROUTING_TABLE.getClient(clientId);
+    }
+
     @Override
     public List<ClientInformation> getClients(String pipeName) {
         List<ClientInformation> clientList = new ArrayList<>();
-        Set<String> clientIds = regexGetClientIds(pipeName);
+        ClientRoutingTable routingTable = ROUTING_TABLE;
+        Set<String> clientIds = routingTable.matchClientIds(pipeName);
         if (!ObjectUtils.isEmpty(clientIds)) {
             clientIds.forEach(clientId -> {
-                ClientInformation client = CLIENTS.get(clientId);
+                ClientInformation client = routingTable.getClient(clientId);
                 if (client != null) {
                     clientList.add(client);
                 }
@@ -126,28 +146,33 @@ public class ClientServiceDiscovery implements ServiceDiscovery, ApplicationList
 
     @Override
     public List<ClientInformation> getAllClients() {
-        return new ArrayList<>(CLIENTS.values());
+        return new ArrayList<>(ROUTING_TABLE.getClients());
+    }
+
+    /**
+     * Get the healthy client selection table of the pipe
+     * <p>
+     * The table is memoized in the current {@link ClientRoutingTable},
+     * it is built only once after each membership event
+     *
+     * @param pipeName The {@link MessagePipe} specific name
+     * @return The {@link ClientSelectionTable} instance
+     */
+    protected ClientSelectionTable getSelectionTable(String pipeName) {
+        return ROUTING_TABLE.getSelectionTable(pipeName);
     }
 
     /**
      * Use regular expressions to obtain ClientIds
+     * <p>
+     * Match from the precompiled pattern index of the current {@link ClientRoutingTable}
      *
      * @param pipeName The {@link MessagePipe} specific name
-     * @return The {@link MessagePipe} binding clientIds
+     * @return The {@link MessagePipe} binding clientIds, read-only
      */
     protected Set<String> regexGetClientIds(String pipeName) {
-        if (PIPE_CLIENT_CACHE.containsKey(pipeName)) {
-            return PIPE_CLIENT_CACHE.get(pipeName);
-        }
-        for (String pipeNamePattern : PIPE_CLIENTS.keySet()) {
-            // PipeName when the client is registered，May be a regular expression
-            if (RegexUtils.isMatch(pipeNamePattern, pipeName)) {
-                Set<String> clientIds = PIPE_CLIENTS.get(pipeNamePattern);
-                PIPE_CLIENT_CACHE.put(pipeName, clientIds);
-                return clientIds;
-            }
-        }
-        return null;
+        // PipeName when the client is registered，May be a regular expression
+        return ROUTING_TABLE.matchClientIds(pipeName);
     }
 
     /**
@@ -174,9 +199,22 @@ public class ClientServiceDiscovery implements ServiceDiscovery, ApplicationList
             case EXPIRE:
                 this.handingExpired();
                 break;
+            case DISCONNECT:
+                this.handingDisconnect(clients);
+                break;
         }
     }
 
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public void destroy() {
+        expiryWheel.stop();
+    }
+
     /**
      * Register a service
      * <p>
@@ -186,27 +224,48 @@ public class ClientServiceDiscovery implements ServiceDiscovery, ApplicationList
      * @param information The client information
      */
     protected void registerService(ClientInformation information) {
-        information.setStatus(ClientStatus.ON_LINE);
-        if (information.getOnlineTime() <= 0) {
-            information.setOnlineTime(System.currentTimeMillis());
-        }
-        if (information.getLastReportTime() <= 0) {
-            information.setLastReportTime(System.currentTimeMillis());
+        this.registerServices(Collections.singletonList(information));
+    }
+
+    /**
+     * Register the services and publish a new {@link ClientRoutingTable}
+     *
+     * @param clients The client information list
+     */
+    private void registerServices(List<ClientInformation> clients) {
+        synchronized (ROUTING_TABLE_LOCK) {
+            this.publishRegistered(ROUTING_TABLE, clients);
         }
-        CLIENTS.put(information.getClientId(), information);
-        String[] bindingPipeNames = information.getBindingPipeNames();
-        if (!ObjectUtils.isEmpty(bindingPipeNames)) {
-            for (String pipeName : bindingPipeNames) {
-                Set<String> pipeBindClientIds = PIPE_CLIENTS.get(pipeName);
-                pipeBindClientIds = Optional.ofNullable(pipeBindClientIds).orElse(new HashSet<>());
-                pipeBindClientIds.add(information.getClientId());
-                PIPE_CLIENTS.put(pipeName, pipeBindClientIds);
-                log.info("Client, Pipe: {}, IP: {}, Port: {}, registration is successful.",
-                        pipeName, information.getAddress(), information.getPort());
+    }
+
+    /**
+     * Build a new {@link ClientRoutingTable} with the clients registered and publish it
+     *
+     * @param routingTable The base {@link ClientRoutingTable}
+     * @param clients      The client information list
+     */
+    private void publishRegistered(ClientRoutingTable routingTable, List<ClientInformation> clients) {
+        long currentTime = System.currentTimeMillis();
+        clients.forEach(information -> {
+            information.setStatus(ClientStatus.ON_LINE);
+            if (information.getOnlineTime() <= 0) {
+                information.setOnlineTime(currentTime);
             }
-            // Clear cache on new registration to ensure fresh lookups
-            PIPE_CLIENT_CACHE.clear();
-        }
+            if (information.getLastReportTime() <= 0) {
+                information.setLastReportTime(currentTime);
+            }
+            this.armExpiry(information);
+        });
+        ROUTING_TABLE = routingTable.withClients(clients);
+        clients.forEach(information -> {
+            String[] bindingPipeNames = information.getBindingPipeNames();
+            if (!ObjectUtils.isEmpty(bindingPipeNames)) {
+                for (String pipeName : bindingPipeNames) {
+                    log.info("Client, Pipe: {}, IP: {}, Port: {}, registration is successful.",
+                            pipeName, information.getAddress(), information.getPort());
+                }
+            }
+        });
     }
 
     /**
@@ -216,28 +275,118 @@ public class ClientServiceDiscovery implements ServiceDiscovery, ApplicationList
      * @see ServiceEventType#RESET_INSTANCE
      */
     protected void handingResetInstances(List<ClientInformation> clients) {
-        CLIENTS.clear();
-        PIPE_CLIENTS.clear();
-        PIPE_CLIENT_CACHE.clear();
-        clients.forEach(this::registerService);
+        synchronized (ROUTING_TABLE_LOCK) {
+            ClientRoutingTable previousTable = ROUTING_TABLE;
+            this.publishRegistered(previousTable.reset(), clients);
+            previousTable.getClients().forEach(client -> {
+                if (ROUTING_TABLE.getClient(client.getClientId()) == null) {
+                    this.releaseClient(client.getClientId());
+                }
+            });
+        }
         log.info("Client collection, reset instance list is complete.");
     }
 
+    /**
+     * Release the per-client state of the client that left the routing table
+     * <p>
+     * The meters, credits and circuit breaker are kept per client id,
+     * they are removed so that neither the memory nor the exported series grow with every client ever connected.
+     * The expiration deadline is cancelled as well
+     *
+     * @param clientId The removed client id
+     */
+    private void releaseClient(String clientId) {
+        expiryWheel.cancel(clientId);
+        ClientMeters.removeMeters(clientId);
+        ClientCredits.removeCredits(clientId);
+        ClientCircuitBreaker.removeBreaker(clientId);
+        log.debug("Client: {} is removed from the routing table, its state is released.", clientId);
+    }
+
+    /**
+     * Mark the disconnected clients offline immediately, without waiting for the expiration
+     * <p>
+     * The expiration deadline is cancelled, the next heartbeat arms it again
+     *
+     * @param clients The disconnected clients
+     */
+    protected void handingDisconnect(List<ClientInformation> clients) {
+        clients.forEach(client -> {
+            synchronized (ROUTING_TABLE_LOCK) {
+                ClientInformation cacheClient = ROUTING_TABLE.getClient(client.getClientId());
+                if (cacheClient != null && ClientStatus.ON_LINE == cacheClient.getStatus()) {
+                    ROUTING_TABLE = ROUTING_TABLE.withStatus(Collections.singleton(client.getClientId()), ClientStatus.OFF_LINE);
+                    expiryWheel.cancel(client.getClientId());
+                    log.warn("MessagePipe Client: {}, status updated to offline via disconnection.", client.getClientId());
+                }
+            }
+        });
+    }
+
+    /**
+     * Dealing with the expiration of the clients whose deadline passed on the {@link ClientExpiryWheel}
+     * <p>
+     * The client is checked again, it may have been removed or reported after the deadline was taken
+     *
+     * @param clientIds The expired client ids
+     */
+    protected void handingExpired(List<String> clientIds) {
+        synchronized (ROUTING_TABLE_LOCK) {
+            long currentTime = System.currentTimeMillis();
+            List<String> expiredClientIds = new ArrayList<>();
+            for (String clientId : clientIds) {
+                ClientInformation client = ROUTING_TABLE.getClient(clientId);
+                if (client == null || ClientStatus.ON_LINE != client.getStatus()) {
+                    continue;
+                }
+                if (currentTime - client.getLastReportTime() < this.getExpiredThresholdMillis()) {
+                    this.armExpiry(client);
+                    continue;
+                }
+                expiredClientIds.add(clientId);
+                log.warn("MessagePipe Client：{}，status updated to offline.", clientId);
+            }
+            if (!expiredClientIds.isEmpty()) {
+                ROUTING_TABLE = ROUTING_TABLE.withStatus(expiredClientIds, ClientStatus.OFF_LINE);
+            }
+        }
+    }
+
+    /**
+     * Arm the expiration deadline of the client from its last report time
+     *
+     * @param client The {@link ClientInformation}
+     */
+    private void armExpiry(ClientInformation client) {
+        expiryWheel.arm(client.getClientId(), client.getLastReportTime() + this.getExpiredThresholdMillis());
+    }
+
+    private long getExpiredThresholdMillis() {
+        return TimeUnit.SECONDS.toMillis(serverConfiguration.getExpiredExcludeThresholdSeconds());
+    }
+
     /**
      * Dealing with client expiration
+     * <p>
+     * Scan all clients, only used when an {@link ServiceEventType#EXPIRE} event is published explicitly
      */
     protected void handingExpired() {
-        if (!ObjectUtils.isEmpty(CLIENTS)) {
-            Long currentTime = System.currentTimeMillis();
-            CLIENTS.values().forEach(client -> {
-                String clientId = client.getClientId();
+        synchronized (ROUTING_TABLE_LOCK) {
+            ClientRoutingTable routingTable = ROUTING_TABLE;
+            long currentTime = System.currentTimeMillis();
+            List<String> expiredClientIds = new ArrayList<>();
+            for (ClientInformation client : routingTable.getClients()) {
                 long intervalSeconds = (currentTime - client.getLastReportTime()) / 1000;
                 if (intervalSeconds > serverConfiguration.getExpiredExcludeThresholdSeconds()
                         && ClientStatus.ON_LINE.equals(client.getStatus())) {
-                    client.setStatus(ClientStatus.OFF_LINE);
-                    log.warn("MessagePipe Client：{}，status updated to offline.", clientId);
+                    expiredClientIds.add(client.getClientId());
+                    log.warn("MessagePipe Client：{}，status updated to offline.", client.getClientId());
                 }
-            });
+            }
+            if (!expiredClientIds.isEmpty()) {
+                ROUTING_TABLE = routingTable.withStatus(expiredClientIds, ClientStatus.OFF_LINE);
+            }
         }
     }
 
@@ -247,27 +396,38 @@ public class ClientServiceDiscovery implements ServiceDiscovery, ApplicationList
      * @param clients List of clients waiting to be registered
      */
     protected void handingRegister(List<ClientInformation> clients) {
-        clients.forEach(this::registerService);
+        this.registerServices(clients);
     }
 
     /**
      * Update the last heartbeat time of the client
      * <p>
-     * When receiving the heartbeat, if the client is not registered, perform registration
+     * The last report time and the load are updated on the current client under the routing table lock,
+     * so a concurrent status change never copies a stale report.
+     * The offline client is published online again with a copy
      *
      * @param clients List of clients waiting to update their heartbeat time
+     * @throws MessagePipeException If the client is not registered
      */
     protected void handingHeartBeat(List<ClientInformation> clients) {
-        Long currentTime = System.currentTimeMillis();
+        long currentTime = System.currentTimeMillis();
         clients.forEach(client -> {
             log.debug("Receiving client: {}, heartbeat sent.", client.getClientId());
-            ClientInformation cacheClient = CLIENTS.get(client.getClientId());
-            if (ObjectUtils.isEmpty(cacheClient)) {
-                throw new MessagePipeException("Client " + client.getClientId() + " is not registered.");
-            } else {
+            synchronized (ROUTING_TABLE_LOCK) {
+                ClientInformation cacheClient = ROUTING_TABLE.getClient(client.getClientId());
+                if (ObjectUtils.isEmpty(cacheClient)) {
+                    throw new MessagePipeException("Client " + client.getClientId() + " is not registered.");
+                }
                 cacheClient.setLastReportTime(currentTime);
+                this.armExpiry(cacheClient);
+                if (client.getLoad() != null) {
+                    cacheClient.setLoad(client.getLoad());
+                }
+                if (client.getCredits() != null) {
+                    ClientCredits.getCredits(client.getClientId()).advertise(client.getCredits());
+                }
                 if (ClientStatus.OFF_LINE == cacheClient.getStatus()) {
-                    cacheClient.setStatus(ClientStatus.ON_LINE);
+                    ROUTING_TABLE = ROUTING_TABLE.withStatus(Collections.singleton(client.getClientId()), ClientStatus.ON_LINE);
                     log.info("MessagePipe Client: {}, status updated to online via heartbeat.", client.getClientId());
                 }
             }
@@ -37,6 +37,21 @@ public interface ServiceDiscovery {
      */
     void exclude(String clientId);
 
+    /**
+     * Include an excluded client again (e.g., the connection is recovered)
+     *
+     * @param clientId The client ID to include
+     */
+    void include(String clientId);
+
+    /**
+     * Get a registered client
+     *
+     * @param clientId The client ID
+     * @return The {@link ClientInformation}, null if not registered
+     */
+    ClientInformation getClient(String clientId);
+
     /**
      * Get all clients bound to a specific pipe
      *
@@ -0,0 +1,122 @@
+package org.minbox.framework.message.pipe.server.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+import org.minbox.framework.message.pipe.core.Message;
+import org.minbox.framework.message.pipe.core.compress.Compressor;
+import org.minbox.framework.message.pipe.core.compress.Compressors;
+import org.minbox.framework.message.pipe.server.config.MessagePipeConfiguration;
+import org.redisson.client.codec.Codec;
+import org.redisson.codec.JsonJacksonCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Check the compressed entries of {@link CompressionCodec} and the entries written without compression
+ *
+ * @author 恒宇少年
+ */
+class CompressionCodecTest {
+    private static final byte[] MAGIC = {0x00, 'M', 'P', 'L'};
+    private static final byte[] LEGACY_MAGIC = {0x00, 'M', 'P', 'Z'};
+    private final Codec delegate = new JsonJacksonCodec();
+    private final MessagePipeConfiguration.Compression compression =
+            new MessagePipeConfiguration.Compression().setType(Compressors.GZIP).setThresholdBytes(256);
+    private final CompressionCodec codec = new CompressionCodec(delegate, compression);
+
+    @Test
+    void keepValueBelowThreshold() throws IOException {
+        Message message = newMessage(16);
+        byte[] encoded = encode(codec, message);
+        assertArrayEquals(encode(delegate, message), encoded);
+        assertMessageEquals(message, (Message) decode(codec, encoded));
+    }
+
+    @Test
+    void compressValueWithUncompressedLength() throws IOException {
+        Message message = newMessage(4096);
+        byte[] uncompressed = encode(delegate, message);
+        byte[] encoded = encode(codec, message);
+        assertArrayEquals(MAGIC, Arrays.copyOf(encoded, MAGIC.length));
+        assertEquals(compression.getCompressor().getId(), encoded[MAGIC.length]);
+        assertEquals(uncompressed.length, ByteBuffer.wrap(encoded, MAGIC.length + 1, 4).getInt());
+        assertTrue(encoded.length < uncompressed.length);
+
+        assertMessageEquals(message, (Message) decode(codec, encoded));
+    }
+
+    @Test
+    void compressMapValues() throws IOException {
+        Message message = newMessage(4096);
+        ByteBuf buf = codec.getMapValueEncoder().encode(message);
+        try {
+            assertEquals(MAGIC[3], buf.getByte(buf.readerIndex() + 3));
+            assertMessageEquals(message, (Message) codec.getMapValueDecoder().decode(buf, null));
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Test
+    void readLegacyHeader() throws IOException {
+        Message message = newMessage(4096);
+        Compressor compressor = compression.getCompressor();
+        byte[] compressed = compressor.compress(encode(delegate, message));
+        byte[] entry = ByteBuffer.allocate(LEGACY_MAGIC.length + 1 + compressed.length)
+                .put(LEGACY_MAGIC).put(compressor.getId()).put(compressed).array();
+
+        assertMessageEquals(message, (Message) decode(codec, entry));
+    }
+
+    @Test
+    void readUncompressedEntries() throws IOException {
+        Message message = newMessage(4096);
+        assertMessageEquals(message, (Message) decode(codec, encode(delegate, message)));
+    }
+
+    @Test
+    void disabledCompression() throws IOException {
+        CompressionCodec disabled = new CompressionCodec(delegate, new MessagePipeConfiguration.Compression());
+        Message message = newMessage(4096);
+        assertArrayEquals(encode(delegate, message), encode(disabled, message));
+    }
+
+    private static Message newMessage(int bodyBytes) {
+        StringBuilder body = new StringBuilder(bodyBytes);
+        for (int i = 0; i < bodyBytes; i++) {
+            body.append((char) ('a' + i % 26));
+        }
+        Message message = new Message(body.toString().getBytes(StandardCharsets.UTF_8));
+        message.getMetadata().put("tenant", "tenant-1");
+        return message;
+    }
+
+    private static void assertMessageEquals(Message expected, Message actual) {
+        assertEquals(expected.getMessageId(), actual.getMessageId());
+        assertArrayEquals(expected.getBody(), actual.getBody());
+        assertEquals(expected.getMetadata(), actual.getMetadata());
+    }
+
+    private static Object decode(Codec codec, byte[] encoded) throws IOException {
+        return codec.getValueDecoder().decode(Unpooled.wrappedBuffer(encoded), null);
+    }
+
+    private static byte[] encode(Codec codec, Object value) throws IOException {
+        ByteBuf buf = codec.getValueEncoder().encode(value);
+        try {
+            byte[] bytes = new byte[buf.readableBytes()];
+            buf.readBytes(bytes);
+            return bytes;
+        } finally {
+            buf.release();
+        }
+    }
+}
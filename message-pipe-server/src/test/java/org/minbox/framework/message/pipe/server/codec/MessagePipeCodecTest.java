@@ -0,0 +1,153 @@
+package org.minbox.framework.message.pipe.server.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+import org.minbox.framework.message.pipe.core.Message;
+import org.minbox.framework.message.pipe.core.transport.MessageResponseStatus;
+import org.minbox.framework.message.pipe.server.manager.DeadLetterRecord;
+import org.minbox.framework.message.pipe.server.manager.MessageRetryRecord;
+import org.redisson.client.codec.Codec;
+import org.redisson.codec.JsonJacksonCodec;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Round trip the records through {@link MessagePipeCodec} and read the entries of the json codec
+ *
+ * @author 恒宇少年
+ */
+class MessagePipeCodecTest {
+    private final MessagePipeCodec codec = new MessagePipeCodec();
+
+    @Test
+    void messageRoundTrip() throws IOException {
+        Message message = newMessage("UTF-8");
+        byte[] encoded = encode(codec, message);
+        assertEquals((byte) 0xB1, encoded[0]);
+        assertEquals('M', encoded[1]);
+
+        assertMessageEquals(message, (Message) decode(codec, encoded));
+    }
+
+    @Test
+    void messageWithCustomEncodingAndNullBody() throws IOException {
+        Message custom = newMessage("Shift_JIS");
+        assertMessageEquals(custom, (Message) decode(codec, encode(codec, custom)));
+
+        Message empty = new Message("id-1", null, null);
+        Message decoded = (Message) decode(codec, encode(codec, empty));
+        assertEquals("id-1", decoded.getMessageId());
+        assertNull(decoded.getBody());
+        assertNull(decoded.getBodyEncoding());
+        assertEquals(0, decoded.getMetadata().size());
+    }
+
+    @Test
+    void retryRecordRoundTrip() throws IOException {
+        Message message = newMessage("UTF-8");
+        MessageRetryRecord record = MessageRetryRecord.of(message.getMessageId(), message)
+                .setRetryCount(2)
+                .setMaxRetries(5)
+                .setFirstFailureTime(1700000000000L)
+                .setLastRetryTime(1700000001000L)
+                .setLastStatus(MessageResponseStatus.ERROR);
+
+        MessageRetryRecord decoded = (MessageRetryRecord) decode(codec, encode(codec, record));
+        assertEquals(record.getMessageId(), decoded.getMessageId());
+        assertEquals(2, decoded.getRetryCount());
+        assertEquals(5, decoded.getMaxRetries());
+        assertEquals(1700000000000L, decoded.getFirstFailureTime());
+        assertEquals(1700000001000L, decoded.getLastRetryTime());
+        assertEquals(MessageResponseStatus.ERROR, decoded.getLastStatus());
+        assertMessageEquals(message, decoded.getMessage());
+    }
+
+    @Test
+    void deadLetterRecordRoundTrip() throws IOException {
+        Message message = newMessage("UTF-8");
+        DeadLetterRecord record = DeadLetterRecord.of(message, "Max retries exceeded", 3).setFailureTime(1700000002000L);
+
+        DeadLetterRecord decoded = (DeadLetterRecord) decode(codec, encode(codec, record));
+        assertEquals("Max retries exceeded", decoded.getFailureReason());
+        assertEquals(3, decoded.getRetryAttempts());
+        assertEquals(1700000002000L, decoded.getFailureTime());
+        assertMessageEquals(message, decoded.getMessage());
+    }
+
+    @Test
+    void readJsonCodecEntries() throws IOException {
+        JsonJacksonCodec jsonCodec = new JsonJacksonCodec();
+        Message message = newMessage("UTF-8");
+        // The json codec does not write the null values
+        message.getMetadata().remove("missing");
+        assertMessageEquals(message, (Message) decode(codec, encode(jsonCodec, message)));
+
+        DeadLetterRecord record = DeadLetterRecord.of(message, "Max retries exceeded", 3);
+        DeadLetterRecord decoded = (DeadLetterRecord) decode(codec, encode(jsonCodec, record));
+        assertEquals(3, decoded.getRetryAttempts());
+        assertMessageEquals(message, decoded.getMessage());
+    }
+
+    @Test
+    void delegateOtherValuesToJsonCodec() throws IOException {
+        Map<String, Object> value = new HashMap<>();
+        value.put("key", "value");
+        byte[] encoded = encode(codec, value);
+        assertArrayEquals(encode(new JsonJacksonCodec(), value), encoded);
+        assertEquals(value, decode(codec, encoded));
+    }
+
+    @Test
+    void rejectNewerVersion() {
+        byte[] entry = {(byte) 0xB1, 'M', 2, 1};
+        assertThrows(IOException.class, () -> decode(codec, entry));
+    }
+
+    private static Message newMessage(String bodyEncoding) {
+        Message message = new Message("message-1", "message body".getBytes(StandardCharsets.UTF_8), bodyEncoding);
+        Map<String, Object> metadata = message.getMetadata();
+        metadata.put("tenant", "tenant-1");
+        metadata.put("priority", 7);
+        metadata.put("enqueueTime", 1700000000000L);
+        metadata.put("negative", -1L);
+        metadata.put("retryable", true);
+        metadata.put("ordered", false);
+        metadata.put("ratio", 0.5D);
+        metadata.put("missing", null);
+        metadata.put("tags", new ArrayList<>(Arrays.asList("a", "b")));
+        return message;
+    }
+
+    private static void assertMessageEquals(Message expected, Message actual) {
+        assertEquals(expected.getMessageId(), actual.getMessageId());
+        assertEquals(expected.getBodyEncoding(), actual.getBodyEncoding());
+        assertArrayEquals(expected.getBody(), actual.getBody());
+        assertEquals(expected.getMetadata(), actual.getMetadata());
+    }
+
+    private static Object decode(Codec codec, byte[] encoded) throws IOException {
+        return codec.getValueDecoder().decode(Unpooled.wrappedBuffer(encoded), null);
+    }
+
+    private static byte[] encode(Codec codec, Object value) throws IOException {
+        ByteBuf buf = codec.getValueEncoder().encode(value);
+        try {
+            byte[] bytes = new byte[buf.readableBytes()];
+            buf.readBytes(bytes);
+            return bytes;
+        } finally {
+            buf.release();
+        }
+    }
+}
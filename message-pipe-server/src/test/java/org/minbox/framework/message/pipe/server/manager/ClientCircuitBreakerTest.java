@@ -0,0 +1,117 @@
+package org.minbox.framework.message.pipe.server.manager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.minbox.framework.message.pipe.server.config.MessagePipeConfiguration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Check the state transitions of {@link ClientCircuitBreaker}
+ *
+ * @author 恒宇少年
+ */
+class ClientCircuitBreakerTest {
+    private static final String CLIENT_ID = "127.0.0.1::5201";
+    private final MessagePipeConfiguration.CircuitBreaker settings = new MessagePipeConfiguration.CircuitBreaker()
+            .setWindowSize(4)
+            .setMinimumCalls(4)
+            .setFailureRateThreshold(50)
+            .setOpenDurationMillis(100)
+            .setHalfOpenProbes(2);
+
+    @AfterEach
+    void removeBreaker() {
+        ClientCircuitBreaker.removeBreaker(CLIENT_ID);
+    }
+
+    @Test
+    void openAtFailureRate() {
+        ClientCircuitBreaker breaker = ClientCircuitBreaker.getBreaker(CLIENT_ID, settings);
+        this.record(breaker, false, false, true);
+        // Below the minimum calls
+        assertEquals(ClientCircuitBreaker.State.CLOSED, breaker.getState());
+        this.record(breaker, true);
+
+        assertEquals(ClientCircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(ClientCircuitBreaker.Permission.REJECTED, breaker.acquire());
+        assertTrue(breaker.getRemainingOpenMillis() > 0);
+    }
+
+    @Test
+    void slideWindow() {
+        ClientCircuitBreaker breaker = ClientCircuitBreaker.getBreaker(CLIENT_ID, settings);
+        // The oldest failure leaves the window: 1 of 4 failed
+        this.record(breaker, true, false, false, false, false, true);
+        assertEquals(ClientCircuitBreaker.State.CLOSED, breaker.getState());
+        this.record(breaker, true);
+
+        assertEquals(ClientCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void closeAfterSuccessfulProbes() throws InterruptedException {
+        ClientCircuitBreaker breaker = this.open();
+        Thread.sleep(settings.getOpenDurationMillis() + 20);
+
+        ClientCircuitBreaker.Permission probe = breaker.acquire();
+        assertEquals(ClientCircuitBreaker.Permission.PROBE, probe);
+        assertEquals(ClientCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        // Only one probe at a time
+        assertEquals(ClientCircuitBreaker.Permission.REJECTED, breaker.acquire());
+        breaker.onSuccess(probe);
+        assertEquals(ClientCircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        probe = breaker.acquire();
+        assertEquals(ClientCircuitBreaker.Permission.PROBE, probe);
+        breaker.onSuccess(probe);
+        assertEquals(ClientCircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(ClientCircuitBreaker.Permission.BATCH, breaker.acquire());
+        assertEquals(0, breaker.getRemainingOpenMillis());
+        // The window is cleared when closed
+        this.record(breaker, true, true, true);
+        assertEquals(ClientCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void reopenAfterFailedProbe() throws InterruptedException {
+        ClientCircuitBreaker breaker = this.open();
+        Thread.sleep(settings.getOpenDurationMillis() + 20);
+
+        ClientCircuitBreaker.Permission probe = breaker.acquire();
+        breaker.onFailure(probe);
+
+        assertEquals(ClientCircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(ClientCircuitBreaker.Permission.REJECTED, breaker.acquire());
+    }
+
+    @Test
+    void shareBreakerPerClient() {
+        ClientCircuitBreaker breaker = ClientCircuitBreaker.getBreaker(CLIENT_ID, settings);
+        assertSame(breaker, ClientCircuitBreaker.getBreaker(CLIENT_ID, settings));
+
+        ClientCircuitBreaker.removeBreaker(CLIENT_ID);
+        assertNotSame(breaker, ClientCircuitBreaker.getBreaker(CLIENT_ID, settings));
+    }
+
+    private ClientCircuitBreaker open() {
+        ClientCircuitBreaker breaker = ClientCircuitBreaker.getBreaker(CLIENT_ID, settings);
+        this.record(breaker, true, true, true, true);
+        assertEquals(ClientCircuitBreaker.State.OPEN, breaker.getState());
+        return breaker;
+    }
+
+    private void record(ClientCircuitBreaker breaker, boolean... failures) {
+        for (boolean failure : failures) {
+            ClientCircuitBreaker.Permission permission = breaker.acquire();
+            if (failure) {
+                breaker.onFailure(permission);
+            } else {
+                breaker.onSuccess(permission);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.minbox.framework.message.pipe.server.manager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Check the advertised credits of {@link ClientCredits}
+ *
+ * @author 恒宇少年
+ */
+class ClientCreditsTest {
+    private static final String CLIENT_ID = "127.0.0.1::5201";
+    private static final long EXPIRE_MILLIS = 60000;
+
+    @AfterEach
+    void removeCredits() {
+        ClientCredits.removeCredits(CLIENT_ID);
+    }
+
+    @Test
+    void grantRequestedIfNotAdvertised() {
+        ClientCredits credits = ClientCredits.getCredits(CLIENT_ID);
+        assertEquals(-1, credits.getAvailable());
+        assertEquals(100, credits.acquire(100, EXPIRE_MILLIS));
+        credits.release(100);
+        assertEquals(-1, credits.getAvailable());
+    }
+
+    @Test
+    void grantAdvertisedCredits() {
+        ClientCredits credits = ClientCredits.getCredits(CLIENT_ID);
+        credits.advertise(150);
+
+        assertEquals(100, credits.acquire(100, EXPIRE_MILLIS));
+        assertEquals(50, credits.acquire(100, EXPIRE_MILLIS));
+        assertEquals(0, credits.acquire(100, EXPIRE_MILLIS));
+        credits.release(30);
+        assertEquals(30, credits.getAvailable());
+        // The advertisement replaces the credits
+        credits.advertise(10);
+        assertEquals(10, credits.getAvailable());
+        credits.advertise(-5);
+        assertEquals(0, credits.getAvailable());
+    }
+
+    @Test
+    void ignoreExpiredOrDisabledCredits() throws InterruptedException {
+        ClientCredits credits = ClientCredits.getCredits(CLIENT_ID);
+        credits.advertise(0);
+        assertEquals(100, credits.acquire(100, 0));
+
+        Thread.sleep(20);
+        assertEquals(100, credits.acquire(100, 10));
+        assertEquals(0, credits.acquire(100, EXPIRE_MILLIS));
+    }
+
+    @Test
+    void shareCreditsPerClient() {
+        ClientCredits credits = ClientCredits.getCredits(CLIENT_ID);
+        assertSame(credits, ClientCredits.getCredits(CLIENT_ID));
+
+        ClientCredits.removeCredits(CLIENT_ID);
+        assertNotSame(credits, ClientCredits.getCredits(CLIENT_ID));
+    }
+}
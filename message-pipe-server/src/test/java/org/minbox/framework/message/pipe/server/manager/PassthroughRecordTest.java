@@ -0,0 +1,105 @@
+package org.minbox.framework.message.pipe.server.manager;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+import org.minbox.framework.message.pipe.core.Message;
+import org.minbox.framework.message.pipe.core.transport.MessageResponseStatus;
+import org.minbox.framework.message.pipe.server.codec.CompressionCodec;
+import org.minbox.framework.message.pipe.server.codec.MessagePipeCodec;
+import org.minbox.framework.message.pipe.server.codec.PassthroughMessage;
+import org.minbox.framework.message.pipe.server.codec.PipeMessageCodec;
+import org.minbox.framework.message.pipe.server.config.MessagePipeConfiguration;
+import org.redisson.client.codec.Codec;
+import org.redisson.codec.JsonJacksonCodec;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Round trip the retry and dead letter records of the messages read from a passthrough queue
+ *
+ * @author 恒宇少年
+ */
+class PassthroughRecordTest {
+    private final MessagePipeConfiguration.Compression compression = new MessagePipeConfiguration.Compression();
+
+    @Test
+    void retryRecordRoundTripWithJsonCodec() throws IOException {
+        this.assertRetryRecordRoundTrip(new JsonJacksonCodec());
+    }
+
+    @Test
+    void retryRecordRoundTripWithMessagePipeCodec() throws IOException {
+        this.assertRetryRecordRoundTrip(new MessagePipeCodec());
+    }
+
+    @Test
+    void deadLetterRecordRoundTrip() throws IOException {
+        Codec storageCodec = new JsonJacksonCodec();
+        PassthroughMessage passthrough = this.readPassthrough(storageCodec, newMessage());
+        DeadLetterRecord record = DeadLetterRecord.of(passthrough, MessageResponseStatus.ERROR.toString(), 5);
+
+        DeadLetterRecord decoded = (DeadLetterRecord) roundTrip(storageCodec, record);
+        assertEquals(MessageResponseStatus.ERROR.toString(), decoded.getFailureReason());
+        assertEquals(5, decoded.getRetryAttempts());
+        assertMessageEquals(passthrough, decoded.getMessage());
+    }
+
+    private void assertRetryRecordRoundTrip(Codec configuredCodec) throws IOException {
+        Codec storageCodec = new CompressionCodec(configuredCodec, compression);
+        PipeMessageCodec passthroughCodec = new PipeMessageCodec(storageCodec, compression);
+        PassthroughMessage passthrough = this.readPassthrough(passthroughCodec, newMessage());
+        MessageRetryRecord record = MessageRetryRecord.of(passthrough.getMessageId(), passthrough)
+                .setRetryCount(2)
+                .setLastStatus(MessageResponseStatus.ERROR);
+
+        MessageRetryRecord decoded = (MessageRetryRecord) roundTrip(passthroughCodec, record);
+        assertEquals(passthrough.getMessageId(), decoded.getMessageId());
+        assertEquals(2, decoded.getRetryCount());
+        assertEquals(MessageResponseStatus.ERROR, decoded.getLastStatus());
+        assertMessageEquals(passthrough, decoded.getMessage());
+    }
+
+    private PassthroughMessage readPassthrough(Codec storageCodec, Message message) throws IOException {
+        PipeMessageCodec passthroughCodec = storageCodec instanceof PipeMessageCodec ?
+                (PipeMessageCodec) storageCodec : new PipeMessageCodec(storageCodec, compression);
+        Message read = passthroughCodec.toMessage(encode(passthroughCodec, message));
+        return assertInstanceOf(PassthroughMessage.class, read);
+    }
+
+    private static Message newMessage() {
+        Message message = new Message("passthrough body".getBytes(StandardCharsets.UTF_8));
+        message.getMetadata().put("tenant", "tenant-1");
+        message.getMetadata().put("enqueueTime", 1700000000000L);
+        return message;
+    }
+
+    private static void assertMessageEquals(Message expected, Message actual) {
+        assertSame(Message.class, actual.getClass());
+        assertEquals(expected.getMessageId(), actual.getMessageId());
+        assertEquals(expected.getBodyEncoding(), actual.getBodyEncoding());
+        assertArrayEquals(expected.getBody(), actual.getBody());
+        assertEquals(expected.getMetadata(), actual.getMetadata());
+    }
+
+    private static Object roundTrip(Codec codec, Object value) throws IOException {
+        return codec.getValueDecoder().decode(Unpooled.wrappedBuffer(encode(codec, value)), null);
+    }
+
+    private static byte[] encode(Codec codec, Object value) throws IOException {
+        ByteBuf buf = codec.getValueEncoder().encode(value);
+        try {
+            byte[] bytes = new byte[buf.readableBytes()];
+            buf.readBytes(bytes);
+            return bytes;
+        } finally {
+            buf.release();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package org.minbox.framework.message.pipe.server.manager;
+
+import org.junit.jupiter.api.Test;
+import org.minbox.framework.message.pipe.core.Message;
+import org.minbox.framework.message.pipe.server.config.MessagePipeConfiguration;
+import org.redisson.api.RKeys;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Check the accepted and rejected puts of {@link PutDeduplicator}
+ * <p>
+ * The idempotency keys are kept by an in-memory fake of the redisson script and keys
+ *
+ * @author 恒宇少年
+ */
+class PutDeduplicatorTest {
+    private static final String QUEUE_NAME = "order-pipe.queue";
+    /**
+     * The set idempotency keys: Key -> Window seconds
+     */
+    private final Map<String, String> idempotencyKeys = new HashMap<>();
+    private final MessagePipeConfiguration.Deduplication settings =
+            new MessagePipeConfiguration.Deduplication().setEnabled(true).setWindowSeconds(60);
+    private final PutDeduplicator deduplicator = new PutDeduplicator(newRedissonClient(), QUEUE_NAME, settings);
+
+    @Test
+    void rejectDuplicatesByMessageId() {
+        Message first = newMessage("message-1");
+        Message second = newMessage("message-2");
+
+        assertEquals(Arrays.asList(first, second), deduplicator.acquire(Arrays.asList(first, second)));
+        // The keys expire after the window
+        assertTrue(idempotencyKeys.values().stream().allMatch("60"::equals));
+        assertTrue(idempotencyKeys.containsKey("{" + QUEUE_NAME + "}.idempotency.message-1"));
+
+        Message third = newMessage("message-3");
+        assertEquals(Collections.singletonList(third), deduplicator.acquire(Arrays.asList(first, third, second)));
+        assertEquals(2, deduplicator.getRejectedCount());
+    }
+
+    @Test
+    void rejectDuplicatesByMetadataKey() {
+        settings.setIdempotencyKeyMetadata("orderId");
+        Message first = newMessage("message-1");
+        first.getMetadata().put("orderId", 1001);
+        Message retried = newMessage("message-2");
+        retried.getMetadata().put("orderId", 1001);
+        Message withoutKey = newMessage("message-3");
+
+        assertEquals(Arrays.asList(first, withoutKey), deduplicator.acquire(Arrays.asList(first, retried, withoutKey)));
+        assertTrue(idempotencyKeys.containsKey("{" + QUEUE_NAME + "}.idempotency.1001"));
+        assertTrue(idempotencyKeys.containsKey("{" + QUEUE_NAME + "}.idempotency.message-3"));
+    }
+
+    @Test
+    void acceptAgainAfterRelease() {
+        Message message = newMessage("message-1");
+        deduplicator.acquire(Collections.singletonList(message));
+
+        deduplicator.release(Collections.singletonList(message));
+        assertTrue(idempotencyKeys.isEmpty());
+        assertEquals(Collections.singletonList(message), deduplicator.acquire(Collections.singletonList(message)));
+        assertEquals(0, deduplicator.getRejectedCount());
+    }
+
+    @Test
+    void enabledWithWindow() {
+        assertTrue(deduplicator.isEnabled());
+        settings.setWindowSeconds(0);
+        assertFalse(deduplicator.isEnabled());
+        settings.setWindowSeconds(60).setEnabled(false);
+        assertFalse(deduplicator.isEnabled());
+        assertTrue(deduplicator.acquire(Collections.emptyList()).isEmpty());
+    }
+
+    private static Message newMessage(String messageId) {
+        return new Message(messageId, "body".getBytes(StandardCharsets.UTF_8), "UTF-8");
+    }
+
+    /**
+     * Fake the "set NX" script and the keys deletion of the idempotency keys
+     */
+    @SuppressWarnings("unchecked")
+    private RedissonClient newRedissonClient() {
+        RScript script = proxy(RScript.class, (method, args) -> {
+            if (!"eval".equals(method) || args.length != 6) {
+                throw new UnsupportedOperationException(method);
+            }
+            List<Object> keys = (List<Object>) args[4];
+            String windowSeconds = (String) ((Object[]) args[5])[0];
+            List<Long> acquired = new ArrayList<>(keys.size());
+            for (Object key : keys) {
+                acquired.add(idempotencyKeys.putIfAbsent((String) key, windowSeconds) == null ? 1L : 0L);
+            }
+            return acquired;
+        });
+        RKeys keys = proxy(RKeys.class, (method, args) -> {
+            if (!"delete".equals(method)) {
+                throw new UnsupportedOperationException(method);
+            }
+            return Arrays.stream((String[]) args[0]).filter(key -> idempotencyKeys.remove(key) != null).count();
+        });
+        return proxy(RedissonClient.class, (method, args) -> {
+            if ("getScript".equals(method)) {
+                return script;
+            } else if ("getKeys".equals(method)) {
+                return keys;
+            }
+            throw new UnsupportedOperationException(method);
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, Invocation invocation) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> invocation.invoke(method.getName(), args)));
+    }
+
+    /**
+     * The method invocation of the fake
+     */
+    private interface Invocation {
+        Object invoke(String method, Object[] args);
+    }
+}
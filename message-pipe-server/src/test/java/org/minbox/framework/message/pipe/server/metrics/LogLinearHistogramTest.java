@@ -0,0 +1,86 @@
+package org.minbox.framework.message.pipe.server.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Check the recorded values, percentiles and power of two counts of {@link LogLinearHistogram}
+ *
+ * @author 恒宇少年
+ */
+class LogLinearHistogramTest {
+
+    @Test
+    void emptyHistogram() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        assertEquals(1, histogram.getPowerOfTwoCounts().length);
+        assertEquals(0, histogram.getPowerOfTwoCounts()[0]);
+    }
+
+    @Test
+    void exactSmallValues() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        for (int value = 1; value <= 64; value++) {
+            histogram.record(value);
+        }
+        assertEquals(64, histogram.getCount());
+        assertEquals(64 * 65 / 2, histogram.getSum());
+        assertEquals(64, histogram.getMax());
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(32, histogram.getValueAtPercentile(50));
+        assertEquals(63, histogram.getValueAtPercentile(98));
+        assertEquals(64, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void boundedRelativeError() {
+        for (long value = 64; value < LogLinearHistogram.MAX_VALUE; value = value * 3 / 2 + 7) {
+            LogLinearHistogram histogram = new LogLinearHistogram();
+            histogram.record(value);
+            histogram.record(LogLinearHistogram.MAX_VALUE);
+            long highest = histogram.getValueAtPercentile(50);
+            assertTrue(highest >= value && highest - value <= value / 32, "value: " + value + ", bucket: " + highest);
+        }
+    }
+
+    @Test
+    void clampValues() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(2, histogram.getCount());
+        assertEquals(LogLinearHistogram.MAX_VALUE, histogram.getSum());
+        assertEquals(LogLinearHistogram.MAX_VALUE, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(LogLinearHistogram.MAX_VALUE, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void cumulativePowerOfTwoCounts() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        List<Long> values = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 10000; i++) {
+            long value = (long) Math.pow(2, random.nextDouble() * 30);
+            values.add(value);
+            histogram.record(value);
+        }
+        long[] counts = histogram.getPowerOfTwoCounts();
+        assertTrue((1L << (counts.length - 1)) - 1 >= histogram.getMax());
+        for (int i = 0; i < counts.length; i++) {
+            long boundary = (1L << i) - 1;
+            long expected = values.stream().filter(value -> value <= boundary).count();
+            assertEquals(expected, counts[i], "le: " + boundary);
+        }
+        assertEquals(histogram.getCount(), counts[counts.length - 1]);
+    }
+}
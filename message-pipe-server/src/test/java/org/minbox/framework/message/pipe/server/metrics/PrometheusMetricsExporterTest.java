@@ -0,0 +1,80 @@
+package org.minbox.framework.message.pipe.server.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Check the Prometheus text format of the client metrics
+ *
+ * @author 恒宇少年
+ */
+class PrometheusMetricsExporterTest {
+    private static final String CLIENT_ID = "127.0.0.1::5201 \"test\"";
+    private static final String CLIENT_LABEL = "client=\"127.0.0.1::5201 \\\"test\\\"\"";
+    private final PrometheusMetricsExporter exporter = new PrometheusMetricsExporter(null);
+
+    @AfterEach
+    void removeMeters() {
+        ClientMeters.removeMeters(CLIENT_ID);
+    }
+
+    @Test
+    void writeClientCounters() {
+        ClientMeters.getMeters(CLIENT_ID).recordMessages(10, 2);
+        List<String> lines = this.scrape("message_pipe_client_messages_total{" + CLIENT_LABEL);
+
+        assertEquals(Arrays.asList(
+                "message_pipe_client_messages_total{" + CLIENT_LABEL + ",result=\"success\"} 10",
+                "message_pipe_client_messages_total{" + CLIENT_LABEL + ",result=\"failure\"} 2"), lines);
+    }
+
+    @Test
+    void writeMonotonicHistogram() {
+        ClientMeters meters = ClientMeters.getMeters(CLIENT_ID);
+        for (long millis : new long[]{1, 2, 5, 10, 50, 100, 1000}) {
+            meters.recordLatency(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+        String metric = "message_pipe_client_latency_seconds";
+        List<String> buckets = this.scrape(metric + "_bucket{" + CLIENT_LABEL);
+        assertFalse(buckets.isEmpty());
+
+        long previous = 0;
+        double previousBound = -1;
+        for (String bucket : buckets) {
+            long count = Long.parseLong(bucket.substring(bucket.lastIndexOf(' ') + 1));
+            assertTrue(count >= previous, bucket);
+            previous = count;
+            String bound = bucket.substring(bucket.indexOf("le=\"") + 4, bucket.lastIndexOf('"'));
+            if (!"+Inf".equals(bound)) {
+                assertTrue(Double.parseDouble(bound) > previousBound, bucket);
+                previousBound = Double.parseDouble(bound);
+            }
+        }
+        assertTrue(buckets.get(buckets.size() - 1).contains("le=\"+Inf\"} 7"));
+        assertEquals(Arrays.asList(metric + "_count{" + CLIENT_LABEL + "} 7"), this.scrape(metric + "_count{" + CLIENT_LABEL));
+        assertEquals(Arrays.asList(metric + "_sum{" + CLIENT_LABEL + "} 1.168"), this.scrape(metric + "_sum{" + CLIENT_LABEL));
+    }
+
+    @Test
+    void writeHeaders() {
+        String metrics = exporter.scrape();
+        assertTrue(metrics.contains("# TYPE message_pipe_client_latency_seconds histogram\n"));
+        assertTrue(metrics.contains("# TYPE message_pipe_dropped_messages_total counter\n"));
+        assertTrue(metrics.endsWith("\n"));
+    }
+
+    private List<String> scrape(String prefix) {
+        return Arrays.stream(exporter.scrape().split("\n"))
+                .filter(line -> line.startsWith(prefix))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,75 @@
+package org.minbox.framework.message.pipe.server.service.discovery;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Check the deadlines of {@link ClientExpiryWheel}
+ *
+ * @author 恒宇少年
+ */
+class ClientExpiryWheelTest {
+    private static final long TICK_MILLIS = 10;
+    private static final long THRESHOLD_MILLIS = 1000;
+    private final BlockingQueue<String> expired = new LinkedBlockingQueue<>();
+    private final ClientExpiryWheel wheel = new ClientExpiryWheel(TICK_MILLIS, THRESHOLD_MILLIS, expired::addAll);
+
+    @AfterEach
+    void stop() {
+        wheel.stop();
+    }
+
+    @Test
+    void expireAfterDeadline() throws InterruptedException {
+        long armTime = System.currentTimeMillis();
+        wheel.arm("client-1", armTime + 100);
+
+        assertEquals("client-1", expired.poll(2, TimeUnit.SECONDS));
+        assertNotBeforeDeadline(armTime + 100);
+        // Expired only once
+        assertNull(expired.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void cancelledClientNotExpired() throws InterruptedException {
+        wheel.arm("client-1", System.currentTimeMillis() + 50);
+        wheel.arm("client-2", System.currentTimeMillis() + 50);
+        wheel.cancel("client-1");
+        wheel.cancel("unknown");
+
+        assertEquals("client-2", expired.poll(2, TimeUnit.SECONDS));
+        assertNull(expired.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void rearmMovesDeadline() throws InterruptedException {
+        long armTime = System.currentTimeMillis();
+        wheel.arm("client-1", armTime + 50);
+        wheel.arm("client-1", armTime + 600);
+
+        assertNull(expired.poll(300, TimeUnit.MILLISECONDS));
+        assertEquals("client-1", expired.poll(2, TimeUnit.SECONDS));
+        assertNotBeforeDeadline(armTime + 600);
+    }
+
+    @Test
+    void pastDeadlineExpiresOnNextTick() throws InterruptedException {
+        wheel.arm("client-1", System.currentTimeMillis() - THRESHOLD_MILLIS);
+
+        assertEquals("client-1", expired.poll(2, TimeUnit.SECONDS));
+    }
+
+    private static void assertNotBeforeDeadline(long deadlineMillis) {
+        long now = System.currentTimeMillis();
+        if (now < deadlineMillis) {
+            throw new AssertionError("Expired " + (deadlineMillis - now) + "ms before the deadline.");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.minbox.framework.message.pipe.server.service.discovery;
+
+import org.junit.jupiter.api.Test;
+import org.minbox.framework.message.pipe.core.ClientStatus;
+import org.minbox.framework.message.pipe.core.information.ClientInformation;
+import org.minbox.framework.message.pipe.server.lb.ClientSelectionTable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Check the snapshots of {@link ClientRoutingTable}
+ *
+ * @author 恒宇少年
+ */
+class ClientRoutingTableTest {
+
+    @Test
+    void bindClientsToPatterns() {
+        ClientInformation order = newClient(5201, "order-*");
+        ClientInformation other = newClient(5202, "order-*", "pay-pipe");
+        ClientRoutingTable table = ClientRoutingTable.EMPTY.withClients(Arrays.asList(order, other));
+
+        assertEquals(1, table.getVersion());
+        assertSame(order, table.getClient(order.getClientId()));
+        assertEquals(new LinkedHashSet<>(Arrays.asList(order.getClientId(), other.getClientId())),
+                table.matchClientIds("order-1"));
+        assertEquals(Collections.singleton(other.getClientId()), table.matchClientIds("pay-pipe"));
+        assertNull(table.matchClientIds("unknown"));
+    }
+
+    @Test
+    void selectOnlineClients() {
+        ClientInformation online = newClient(5201, "order-*");
+        ClientInformation offline = newClient(5202, "order-*");
+        offline.setStatus(ClientStatus.OFF_LINE);
+        ClientRoutingTable table = ClientRoutingTable.EMPTY.withClients(Arrays.asList(online, offline));
+
+        ClientSelectionTable selectionTable = table.getSelectionTable("order-1");
+        assertEquals(Collections.singletonList(online), selectionTable.getClients());
+        assertEquals(table.getVersion(), selectionTable.getVersion());
+        assertSame(selectionTable, table.getSelectionTable("order-1"));
+        assertTrue(table.getSelectionTable("unknown").isEmpty());
+    }
+
+    @Test
+    void statusChangeCopiesClients() {
+        ClientInformation client = newClient(5201, "order-*");
+        ClientRoutingTable table = ClientRoutingTable.EMPTY.withClients(Collections.singletonList(client));
+        ClientSelectionTable selectionTable = table.getSelectionTable("order-1");
+
+        ClientRoutingTable offlineTable = table.withStatus(Collections.singleton(client.getClientId()), ClientStatus.OFF_LINE);
+        assertEquals(table.getVersion() + 1, offlineTable.getVersion());
+        // The previous snapshot is not changed
+        assertSame(client, table.getClient(client.getClientId()));
+        assertEquals(ClientStatus.ON_LINE, client.getStatus());
+        assertEquals(1, selectionTable.size());
+
+        ClientInformation offline = offlineTable.getClient(client.getClientId());
+        assertNotSame(client, offline);
+        assertEquals(ClientStatus.OFF_LINE, offline.getStatus());
+        assertEquals(client.getClientId(), offline.getClientId());
+        assertTrue(offlineTable.getSelectionTable("order-1").isEmpty());
+        assertEquals(table.matchClientIds("order-1"), offlineTable.matchClientIds("order-1"));
+    }
+
+    @Test
+    void ignoreStatusOfUnregisteredClients() {
+        ClientRoutingTable table = ClientRoutingTable.EMPTY.withStatus(Collections.singleton("unknown::1"), ClientStatus.ON_LINE);
+        assertNull(table.getClient("unknown::1"));
+        assertTrue(table.getClients().isEmpty());
+    }
+
+    @Test
+    void replaceAndReset() {
+        ClientInformation client = newClient(5201, "order-*");
+        ClientInformation registeredAgain = newClient(5201, "pay-pipe");
+        ClientRoutingTable table = ClientRoutingTable.EMPTY.withClients(Collections.singletonList(client))
+                .withClients(Collections.singletonList(registeredAgain));
+        assertEquals(1, table.getClients().size());
+        assertSame(registeredAgain, table.getClient(client.getClientId()));
+
+        ClientRoutingTable reset = table.reset();
+        assertEquals(table.getVersion() + 1, reset.getVersion());
+        assertTrue(reset.getClients().isEmpty());
+        assertNull(reset.matchClientIds("order-1"));
+    }
+
+    private static ClientInformation newClient(int port, String... bindingPipeNames) {
+        ClientInformation client = new ClientInformation("127.0.0.1", port, bindingPipeNames);
+        client.setStatus(ClientStatus.ON_LINE);
+        return client;
+    }
+}